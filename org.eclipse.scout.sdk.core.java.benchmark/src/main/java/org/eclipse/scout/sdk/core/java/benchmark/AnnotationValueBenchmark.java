@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.java.fixture.AnnotationQueryTestFixture;
+import org.eclipse.scout.sdk.core.java.fixture.ClassWithAnnotationWithArrayValues;
+import org.eclipse.scout.sdk.core.java.fixture.ClassWithAnnotationWithDefaultValues;
+import org.eclipse.scout.sdk.core.java.fixture.ClassWithAnnotationWithSingleValues;
+import org.eclipse.scout.sdk.core.java.model.api.IAnnotatable;
+import org.eclipse.scout.sdk.core.java.model.api.IType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <h3>{@link AnnotationValueBenchmark}</h3>
+ * <p>
+ * Measures the resolution of annotation element values (including synthetic default values) of types, methods and
+ * fields.
+ *
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AnnotationValueBenchmark {
+
+  private static final List<String> TYPE_NAMES = Stream.of(AnnotationQueryTestFixture.class, ClassWithAnnotationWithArrayValues.class, ClassWithAnnotationWithDefaultValues.class, ClassWithAnnotationWithSingleValues.class)
+      .map(Class::getName)
+      .toList();
+
+  @Benchmark
+  public void annotationValuesWarm(JavaEnvironmentState state, Blackhole blackhole) {
+    resolveAnnotationValues(state, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Measurement(iterations = 20)
+  public void annotationValuesCold(ColdJavaEnvironmentState state, Blackhole blackhole) {
+    resolveAnnotationValues(state, blackhole);
+  }
+
+  private static void resolveAnnotationValues(JavaEnvironmentState state, Blackhole blackhole) {
+    var env = state.env();
+    TYPE_NAMES.stream()
+        .map(env::requireType)
+        .flatMap(AnnotationValueBenchmark::annotatables)
+        .flatMap(a -> a.annotations().stream())
+        .flatMap(a -> a.elements().values().stream())
+        .forEach(element -> blackhole.consume(element.value()));
+  }
+
+  private static Stream<IAnnotatable> annotatables(IType type) {
+    return Stream.<Stream<? extends IAnnotatable>> of(Stream.of(type), type.methods().stream(), type.fields().stream())
+        .<IAnnotatable> flatMap(s -> s);
+  }
+}
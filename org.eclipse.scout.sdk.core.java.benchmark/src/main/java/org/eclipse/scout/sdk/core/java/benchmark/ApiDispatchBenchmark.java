@@ -0,0 +1,78 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.sdk.core.java.JavaTypes;
+import org.eclipse.scout.sdk.core.java.apidef.Api;
+import org.eclipse.scout.sdk.core.java.apidef.ApiVersion;
+import org.eclipse.scout.sdk.core.s.java.apidef.IScoutAbstractApi;
+import org.eclipse.scout.sdk.core.s.java.apidef.IScoutApi;
+import org.eclipse.scout.sdk.core.s.java.apidef.Scout10Api;
+import org.eclipse.scout.sdk.core.util.CoreUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <h3>{@link ApiDispatchBenchmark}</h3>
+ * <p>
+ * Measures the overhead of calling a method on a Scout API proxy ({@code scoutApi.AbstractForm().fqn()}) compared to a
+ * direct call of the implementation and to the previous dispatch which looked up and bound the default method on each
+ * call.
+ *
+ * @since 13.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ApiDispatchBenchmark {
+
+  private IScoutApi m_scoutApi;
+  private Scout10Api m_implementation;
+  private Method m_method;
+
+  @Setup
+  public void createApi() throws NoSuchMethodException {
+    m_scoutApi = Api.create(IScoutApi.class, ApiVersion.LATEST);
+    m_implementation = m_scoutApi.requireApi(Scout10Api.class);
+    m_method = Scout10Api.class.getMethod("AbstractForm");
+  }
+
+  @Benchmark
+  public String directCall() {
+    return Scout10Api.ABSTRACT_FORM.fqn();
+  }
+
+  @Benchmark
+  public String proxyCall() {
+    return m_scoutApi.AbstractForm().fqn();
+  }
+
+  @Benchmark
+  public String lookupOnEachCall(Blackhole blackhole) {
+    blackhole.consume(JavaTypes.createMethodIdentifier(m_method));
+    var abstractForm = (IScoutAbstractApi.AbstractForm) CoreUtils.invokeDefaultMethod(m_implementation, m_method, null);
+    return abstractForm.fqn();
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentWithEcj;
+import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentWithEcjBuilder;
+import org.eclipse.scout.sdk.core.java.fixture.ChildClass;
+import org.eclipse.scout.sdk.core.util.Ensure;
+import org.eclipse.scout.sdk.core.util.SdkException;
+
+/**
+ * <h3>{@link BenchmarkEnvironments}</h3>
+ * <p>
+ * Creates the {@link JavaEnvironmentWithEcj} instances used by the benchmarks. The environments are based on the
+ * fixture classes of the Java model tests (module {@code org.eclipse.scout.sdk.core.java.test}) and do not require
+ * any network access.
+ *
+ * @since 13.0
+ */
+public final class BenchmarkEnvironments {
+
+  /**
+   * System property holding the directory containing the fixture sources.
+   */
+  public static final String FIXTURE_DIR_PROPERTY = "org.eclipse.scout.sdk.benchmark.fixtureDir";
+  /**
+   * Default fixture directory relative to the benchmark module.
+   */
+  public static final String DEFAULT_FIXTURE_DIR = "../org.eclipse.scout.sdk.core.java.test/src/test/fixture";
+
+  private BenchmarkEnvironments() {
+  }
+
+  /**
+   * The kind of classpath the environment is based on.
+   */
+  public enum EnvironmentKind {
+    /**
+     * The fixtures are parsed from the Java sources.
+     */
+    SOURCE,
+    /**
+     * The fixtures are read from the compiled class files.
+     */
+    BINARY
+  }
+
+  /**
+   * @return The absolute directory containing the fixture sources.
+   */
+  public static Path fixtureDirectory() {
+    var dir = Paths.get(System.getProperty(FIXTURE_DIR_PROPERTY, DEFAULT_FIXTURE_DIR)).toAbsolutePath().normalize();
+    return Ensure.isDirectory(dir, "Fixture directory '{}' cannot be found. Use system property '{}' to specify its location.", dir, FIXTURE_DIR_PROPERTY);
+  }
+
+  /**
+   * @return The directory or jar containing the compiled fixture classes.
+   */
+  public static Path fixtureClasses() {
+    try {
+      return Paths.get(ChildClass.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+    }
+    catch (URISyntaxException e) {
+      throw new SdkException("Unable to compute location of the fixture classes.", e);
+    }
+  }
+
+  /**
+   * Creates a new {@link JavaEnvironmentWithEcj} of the given kind. The caller is responsible to close it.
+   *
+   * @param kind
+   *          The {@link EnvironmentKind}. Must not be {@code null}.
+   * @return The new environment.
+   */
+  public static JavaEnvironmentWithEcj create(EnvironmentKind kind) {
+    var builder = new BenchmarkEnvironmentBuilder()
+        .withRunningClasspath(false)
+        .withParseMethodBodies(true);
+    if (Ensure.notNull(kind) == EnvironmentKind.SOURCE) {
+      builder.withAbsoluteSourcePath(fixtureDirectory().toString());
+    }
+    else {
+      var classes = fixtureClasses();
+      Ensure.isTrue(Files.exists(classes), "Fixture classes '{}' cannot be found.", classes);
+      builder.withAbsoluteBinaryPath(classes.toString());
+    }
+    return builder.open();
+  }
+
+  private static final class BenchmarkEnvironmentBuilder extends JavaEnvironmentWithEcjBuilder<BenchmarkEnvironmentBuilder> {
+    private JavaEnvironmentWithEcj open() {
+      return build();
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import static java.util.Collections.emptyList;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <h3>{@link BenchmarkRunner}</h3>
+ * <p>
+ * Entry point of the benchmark jar. Runs the benchmarks and writes the results as JSON (by default to
+ * {@code target/jmh-result.json}) so that they can be tracked over time.
+ * <p>
+ * All JMH command line options are supported (e.g. {@code java -jar target/benchmarks.jar FindTypeBenchmark -rff
+ * result.json}). The fixture directory is resolved once and passed to the forked JVMs.
+ *
+ * @since 13.0
+ */
+public final class BenchmarkRunner {
+
+  /**
+   * Default location of the JSON result file.
+   */
+  public static final String DEFAULT_RESULT_FILE = "target/jmh-result.json";
+
+  private BenchmarkRunner() {
+  }
+
+  public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+    var commandLineOptions = new CommandLineOptions(args);
+    var jvmArgs = new ArrayList<>(commandLineOptions.getJvmArgsAppend().orElse(emptyList()));
+    jvmArgs.add("-D" + BenchmarkEnvironments.FIXTURE_DIR_PROPERTY + '=' + BenchmarkEnvironments.fixtureDirectory());
+    var options = new OptionsBuilder()
+        .parent(commandLineOptions)
+        .resultFormat(commandLineOptions.getResultFormat().orElse(ResultFormatType.JSON))
+        .result(commandLineOptions.getResult().orElse(Paths.get(DEFAULT_RESULT_FILE).toAbsolutePath().toString()))
+        .jvmArgsAppend(jvmArgs.toArray(new String[0]))
+        .build();
+    new Runner(options).run();
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * <h3>{@link ColdJavaEnvironmentState}</h3>
+ * <p>
+ * {@link JavaEnvironmentState} which reloads the environment before each invocation. Therefore, all bindings must be
+ * resolved again by the benchmark. Use it together with {@link org.openjdk.jmh.annotations.Mode#SingleShotTime}.
+ *
+ * @since 13.0
+ */
+@State(Scope.Thread)
+public class ColdJavaEnvironmentState extends JavaEnvironmentState {
+
+  @Setup(Level.Invocation)
+  public void discardCompiler() {
+    spi().reload();
+  }
+}
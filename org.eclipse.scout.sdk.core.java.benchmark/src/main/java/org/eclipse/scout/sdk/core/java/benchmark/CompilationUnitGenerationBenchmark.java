@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.sdk.core.builder.ISourceBuilder;
+import org.eclipse.scout.sdk.core.builder.MemorySourceBuilder;
+import org.eclipse.scout.sdk.core.java.generator.compilationunit.CompilationUnitGenerator;
+import org.eclipse.scout.sdk.core.java.generator.compilationunit.ICompilationUnitGenerator;
+import org.eclipse.scout.sdk.core.java.generator.field.FieldGenerator;
+import org.eclipse.scout.sdk.core.java.generator.method.MethodGenerator;
+import org.eclipse.scout.sdk.core.java.generator.type.ITypeGenerator;
+import org.eclipse.scout.sdk.core.java.generator.type.TypeGenerator;
+import org.eclipse.scout.sdk.core.java.model.api.Flags;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h3>{@link CompilationUnitGenerationBenchmark}</h3>
+ * <p>
+ * Measures the creation of the source of a FormData like compilation unit with many inner types. Compares the single
+ * pass generation (imports inserted into a reserved slot) with the generation using a separate buffer for the types
+ * and with the concurrent creation of the members of the FormData (see
+ * {@link org.eclipse.scout.sdk.core.java.generator.type.ITypeGenerator#withParallelMemberRendering()}).
+ *
+ * @since 13.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CompilationUnitGenerationBenchmark {
+
+  @Param("400")
+  public int m_numInnerTypes;
+
+  private ICompilationUnitGenerator<?> m_singlePass;
+  private ICompilationUnitGenerator<?> m_typeBuffer;
+  private ICompilationUnitGenerator<?> m_parallelMembers;
+
+  @Setup
+  public void createGenerators() {
+    m_singlePass = fill(CompilationUnitGenerator.create());
+    m_typeBuffer = fill(new TypeBufferCompilationUnitGenerator());
+    m_parallelMembers = fill(CompilationUnitGenerator.create());
+    m_parallelMembers.types().forEach(ITypeGenerator::withParallelMemberRendering);
+  }
+
+  @Benchmark
+  public StringBuilder singlePass() {
+    return m_singlePass.toJavaSource();
+  }
+
+  @Benchmark
+  public StringBuilder typeBuffer() {
+    return m_typeBuffer.toJavaSource();
+  }
+
+  @Benchmark
+  public StringBuilder parallelMembers() {
+    return m_parallelMembers.toJavaSource();
+  }
+
+  private ICompilationUnitGenerator<?> fill(ICompilationUnitGenerator<?> cu) {
+    var formData = TypeGenerator.create()
+        .withElementName("LargeFormData")
+        .withFlags(Flags.AccPublic)
+        .withSuperClass("org.eclipse.scout.rt.shared.data.form.AbstractFormData");
+    for (var i = 0; i < m_numInnerTypes; i++) {
+      var fieldName = "Field" + i;
+      formData
+          .withMethod(MethodGenerator.create()
+              .withElementName("get" + fieldName)
+              .withFlags(Flags.AccPublic)
+              .withReturnType(fieldName)
+              .withBody(b -> b.returnClause().append("getFieldByClass(").append(fieldName).append(".class)").semicolon()))
+          .withType(TypeGenerator.create()
+              .withElementName(fieldName)
+              .withFlags(Flags.AccPublic | Flags.AccStatic)
+              .withSuperClass("org.eclipse.scout.rt.shared.data.form.fields.AbstractValueFieldData<java.util.List<java.lang.String>>")
+              .withField(FieldGenerator.create()
+                  .withElementName("serialVersionUID")
+                  .withFlags(Flags.AccPrivate | Flags.AccStatic | Flags.AccFinal)
+                  .withDataType("long")
+                  .withValue(b -> b.append("1L"))));
+    }
+    return cu
+        .withPackageName("org.eclipse.scout.sdk.benchmark.shared")
+        .withElementName(formData.elementName().orElseThrow())
+        .withType(formData);
+  }
+
+  private static final class TypeBufferCompilationUnitGenerator extends CompilationUnitGenerator<TypeBufferCompilationUnitGenerator> {
+    @Override
+    protected Optional<MemorySourceBuilder> memorySourceBuilderOf(ISourceBuilder<?> builder) {
+      return Optional.empty(); // always pre-build the types into a separate buffer
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.java.fixture.AnnotationQueryTestFixture;
+import org.eclipse.scout.sdk.core.java.fixture.ChildClass;
+import org.eclipse.scout.sdk.core.java.fixture.ClassWithMembers;
+import org.eclipse.scout.sdk.core.java.fixture.ClassWithTypeParameters;
+import org.eclipse.scout.sdk.core.java.fixture.InterfaceLevel2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <h3>{@link ConcurrentQueryBenchmark}</h3>
+ * <p>
+ * Measures the throughput of warm {@code findType}, {@code methods()} and {@code fields()} queries on one
+ * {@link org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentWithEcj} shared by 1, 2, 4 and 8 threads. The types have
+ * already been resolved during the warmup iterations. If the queries scale, the total throughput grows with the number
+ * of threads (up to the number of available cores).
+ *
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConcurrentQueryBenchmark {
+
+  private static final List<String> TYPE_NAMES = Stream.of(ChildClass.class, ClassWithMembers.class, ClassWithTypeParameters.class, AnnotationQueryTestFixture.class, InterfaceLevel2.class)
+      .map(Class::getName)
+      .toList();
+
+  @Benchmark
+  @Threads(1)
+  public void queries1Thread(SharedJavaEnvironmentState state, Blackhole blackhole) {
+    query(state, blackhole);
+  }
+
+  @Benchmark
+  @Threads(2)
+  public void queries2Threads(SharedJavaEnvironmentState state, Blackhole blackhole) {
+    query(state, blackhole);
+  }
+
+  @Benchmark
+  @Threads(4)
+  public void queries4Threads(SharedJavaEnvironmentState state, Blackhole blackhole) {
+    query(state, blackhole);
+  }
+
+  @Benchmark
+  @Threads(8)
+  public void queries8Threads(SharedJavaEnvironmentState state, Blackhole blackhole) {
+    query(state, blackhole);
+  }
+
+  private static void query(JavaEnvironmentState state, Blackhole blackhole) {
+    var env = state.env();
+    for (var name : TYPE_NAMES) {
+      env.findType(name).ifPresent(type -> {
+        type.methods().stream().forEach(blackhole::consume);
+        type.fields().stream().forEach(blackhole::consume);
+      });
+    }
+  }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.sdk.core.java.benchmark.BenchmarkEnvironments.EnvironmentKind;
+import org.eclipse.scout.sdk.core.java.fixture.ChildClass;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <h3>{@link EnvironmentCreationBenchmark}</h3>
+ * <p>
+ * Measures the creation of a new Java environment including the resolution of a first type (the environment is
+ * initialized lazily).
+ *
+ * @since 13.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EnvironmentCreationBenchmark {
+
+  @Param({"SOURCE", "BINARY"})
+  public EnvironmentKind m_kind;
+
+  @Benchmark
+  public void createEnvironment(Blackhole blackhole) {
+    try (var env = BenchmarkEnvironments.create(m_kind)) {
+      blackhole.consume(env.wrap().requireType(ChildClass.class.getName()));
+    }
+  }
+}
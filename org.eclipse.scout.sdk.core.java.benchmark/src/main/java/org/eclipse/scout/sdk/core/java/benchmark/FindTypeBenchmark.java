@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.java.fixture.AnnotationQueryTestFixture;
+import org.eclipse.scout.sdk.core.java.fixture.ChildClass;
+import org.eclipse.scout.sdk.core.java.fixture.ClassWithMembers;
+import org.eclipse.scout.sdk.core.java.fixture.ClassWithTypeParameters;
+import org.eclipse.scout.sdk.core.java.fixture.InterfaceLevel2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <h3>{@link FindTypeBenchmark}</h3>
+ * <p>
+ * Measures {@code findType} on a cold environment (the compiler has been discarded using a reload before each
+ * invocation) and on a warm environment (the types have already been resolved during the warmup iterations). The
+ * {@code findTypes} benchmarks resolve the same names using the bulk API.
+ *
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class FindTypeBenchmark {
+
+  private static final List<String> TYPE_NAMES = Stream.of(ChildClass.class, ClassWithMembers.class, ClassWithTypeParameters.class, AnnotationQueryTestFixture.class, InterfaceLevel2.class)
+      .map(Class::getName)
+      .toList();
+
+  @Benchmark
+  public void findTypeWarm(JavaEnvironmentState state, Blackhole blackhole) {
+    findTypes(state, blackhole);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Measurement(iterations = 20)
+  public void findTypeCold(ColdJavaEnvironmentState state, Blackhole blackhole) {
+    findTypes(state, blackhole);
+  }
+
+  @Benchmark
+  public void findTypesBulkWarm(JavaEnvironmentState state, Blackhole blackhole) {
+    blackhole.consume(state.spi().findTypes(TYPE_NAMES));
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Measurement(iterations = 20)
+  public void findTypesBulkCold(ColdJavaEnvironmentState state, Blackhole blackhole) {
+    blackhole.consume(state.spi().findTypes(TYPE_NAMES));
+  }
+
+  private static void findTypes(JavaEnvironmentState state, Blackhole blackhole) {
+    var env = state.spi();
+    for (var name : TYPE_NAMES) {
+      blackhole.consume(env.findType(name));
+    }
+  }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import org.eclipse.scout.sdk.core.java.benchmark.BenchmarkEnvironments.EnvironmentKind;
+import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentWithEcj;
+import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * <h3>{@link JavaEnvironmentState}</h3>
+ * <p>
+ * JMH state holding a {@link JavaEnvironmentWithEcj} for the whole trial. The kind of the environment is a benchmark
+ * parameter.
+ *
+ * @since 13.0
+ */
+@State(Scope.Thread)
+public class JavaEnvironmentState {
+
+  @Param({"SOURCE", "BINARY"})
+  public EnvironmentKind m_kind;
+  private JavaEnvironmentWithEcj m_env;
+
+  @Setup(Level.Trial)
+  public void createEnvironment() {
+    m_env = BenchmarkEnvironments.create(m_kind);
+  }
+
+  @TearDown(Level.Trial)
+  public void closeEnvironment() {
+    m_env.close();
+  }
+
+  /**
+   * @return The {@link IJavaEnvironment} of this state.
+   */
+  public IJavaEnvironment env() {
+    return m_env.wrap();
+  }
+
+  /**
+   * @return The underlying {@link JavaEnvironmentWithEcj}.
+   */
+  public JavaEnvironmentWithEcj spi() {
+    return m_env;
+  }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import static java.util.function.Function.identity;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.sdk.core.builder.BuilderContext;
+import org.eclipse.scout.sdk.core.generator.properties.PropertiesGenerator;
+import org.eclipse.scout.sdk.core.generator.properties.PropertiesPatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h3>{@link PropertiesFlushBenchmark}</h3>
+ * <p>
+ * Measures the creation of the new content of a large translation .properties file after a single key has been
+ * changed: complete regeneration using the {@link PropertiesGenerator} compared to patching the changed line only using
+ * the {@link PropertiesPatcher}.
+ *
+ * @since 13.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PropertiesFlushBenchmark {
+
+  private static final String CHANGED_KEY = "Key12345";
+
+  @Param("25000")
+  public int m_numKeys;
+
+  private String m_content;
+  private PropertiesGenerator m_generator;
+
+  @Setup(Level.Trial)
+  public void createContent() {
+    Map<String, String> properties = new HashMap<>(m_numKeys);
+    for (var i = 0; i < m_numKeys; i++) {
+      properties.put("Key" + i, "Text number " + i + " with some umlauts \u00e4\u00f6\u00fc and a longer description.");
+    }
+    m_generator = PropertiesGenerator.create(properties, List.of("# generated"));
+    m_content = m_generator.toSource(identity(), new BuilderContext()).toString();
+    m_generator.properties().put(CHANGED_KEY, "Changed text");
+  }
+
+  @Benchmark
+  public CharSequence fullRegeneration() {
+    return m_generator.toSource(identity(), new BuilderContext());
+  }
+
+  @Benchmark
+  public String patchOneKey() {
+    return PropertiesPatcher.patch(m_content, m_generator.properties(), Set.of(CHANGED_KEY)).orElseThrow();
+  }
+}
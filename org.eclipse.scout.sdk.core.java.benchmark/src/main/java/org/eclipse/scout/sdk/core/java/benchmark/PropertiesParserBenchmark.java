@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import static java.util.function.Function.identity;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.sdk.core.builder.BuilderContext;
+import org.eclipse.scout.sdk.core.generator.properties.PropertiesGenerator;
+import org.eclipse.scout.sdk.core.generator.properties.PropertiesParser;
+import org.eclipse.scout.sdk.core.generator.properties.PropertiesParser.ParsedProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h3>{@link PropertiesParserBenchmark}</h3>
+ * <p>
+ * Measures reading the language files of a translation store: {@link Properties#load(InputStream)} followed by a copy
+ * into a {@link HashMap} (as done by the {@link PropertiesGenerator} before) compared to the {@link PropertiesParser}
+ * reading the same files.
+ *
+ * @since 13.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class PropertiesParserBenchmark {
+
+  @Param("12")
+  public int m_numFiles;
+
+  @Param("5000")
+  public int m_numKeys;
+
+  private List<byte[]> m_files;
+
+  @Setup(Level.Trial)
+  public void createFiles() {
+    m_files = new ArrayList<>(m_numFiles);
+    for (var f = 0; f < m_numFiles; f++) {
+      Map<String, String> properties = new HashMap<>(m_numKeys);
+      for (var i = 0; i < m_numKeys; i++) {
+        properties.put("Key" + i, "Text number " + i + " of language " + f + " with umlauts \u00e4\u00f6\u00fc and a longer description.");
+      }
+      var content = PropertiesGenerator.create(properties, List.of("# generated")).toSource(identity(), new BuilderContext()).toString();
+      m_files.add(content.getBytes(PropertiesGenerator.ENCODING));
+    }
+  }
+
+  @Benchmark
+  public List<Map<String, String>> javaUtilProperties() throws IOException {
+    var result = new ArrayList<Map<String, String>>(m_files.size());
+    for (var file : m_files) {
+      var properties = new Properties();
+      try (var in = new ByteArrayInputStream(file)) {
+        properties.load(in);
+      }
+      var map = new HashMap<String, String>(properties.size());
+      properties.forEach((k, v) -> map.put((String) k, (String) v));
+      result.add(map);
+    }
+    return result;
+  }
+
+  @Benchmark
+  public List<ParsedProperties> propertiesParser() throws IOException {
+    var result = new ArrayList<ParsedProperties>(m_files.size());
+    for (var file : m_files) {
+      try (var in = new ByteArrayInputStream(file)) {
+        result.add(PropertiesParser.parse(in));
+      }
+    }
+    return result;
+  }
+}
@@ -0,0 +1,25 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * <h3>{@link SharedJavaEnvironmentState}</h3>
+ * <p>
+ * {@link JavaEnvironmentState} whose environment is shared by all benchmark threads. Use it together with
+ * {@link org.openjdk.jmh.annotations.Threads} to measure concurrent queries on the same environment.
+ *
+ * @since 13.0
+ */
+@State(Scope.Benchmark)
+public class SharedJavaEnvironmentState extends JavaEnvironmentState {
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.sdk.core.java.benchmark.BenchmarkEnvironments.EnvironmentKind;
+import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentWithEcj;
+import org.eclipse.scout.sdk.core.java.fixture.ClassWithMembers;
+import org.eclipse.scout.sdk.core.java.model.api.IType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <h3>{@link SourceExtractionBenchmark}</h3>
+ * <p>
+ * Measures the extraction of source ranges (type, method bodies, field initializers, javadoc) from a source based
+ * environment.
+ *
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SourceExtractionBenchmark {
+
+  @State(Scope.Thread)
+  public static class SourceEnvironmentState {
+    private JavaEnvironmentWithEcj m_env;
+
+    @Setup(Level.Trial)
+    public void createEnvironment() {
+      m_env = BenchmarkEnvironments.create(EnvironmentKind.SOURCE);
+    }
+
+    @TearDown(Level.Trial)
+    public void closeEnvironment() {
+      m_env.close();
+    }
+
+    private IType type() {
+      return m_env.wrap().requireType(ClassWithMembers.class.getName());
+    }
+  }
+
+  @Benchmark
+  public void typeSource(SourceEnvironmentState state, Blackhole blackhole) {
+    blackhole.consume(state.type().source());
+  }
+
+  @Benchmark
+  public void memberSources(SourceEnvironmentState state, Blackhole blackhole) {
+    var type = state.type();
+    type.methods().stream().forEach(m -> {
+      blackhole.consume(m.sourceOfBody());
+      blackhole.consume(m.javaDoc());
+    });
+    type.fields().stream().forEach(f -> blackhole.consume(f.sourceOfInitializer()));
+  }
+}
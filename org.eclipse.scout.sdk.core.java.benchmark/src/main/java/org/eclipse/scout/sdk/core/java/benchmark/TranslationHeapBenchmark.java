@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.sdk.core.s.nls.ITranslationEntry;
+import org.eclipse.scout.sdk.core.s.nls.ITranslationStore;
+import org.eclipse.scout.sdk.core.s.nls.Language;
+import org.eclipse.scout.sdk.core.s.nls.TranslationEntry;
+import org.eclipse.scout.sdk.core.s.nls.manager.StackedTranslation;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * <h3>{@link TranslationHeapBenchmark}</h3>
+ * <p>
+ * Measures the heap retained by the translations of several stores as held by a
+ * {@link org.eclipse.scout.sdk.core.s.nls.manager.TranslationManager}: the {@link TranslationEntry} and
+ * {@link StackedTranslation} instances compared to the previous layout using a {@link TreeMap} for the texts of each
+ * entry and a {@link HashMap} for the entries of each key.
+ * <p>
+ * The retained bytes are reported as secondary result {@code m_retainedBytes}. The keys and texts are created upfront
+ * and are therefore not part of the result.
+ *
+ * @since 13.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TranslationHeapBenchmark {
+
+  @Param("30000")
+  public int m_numKeys;
+
+  @Param("12")
+  public int m_numLanguages;
+
+  @Param("3")
+  public int m_numStores;
+
+  private List<ITranslationStore> m_stores;
+  private List<Language> m_languages;
+  private String[] m_keys;
+  private String[][] m_texts; // [key][language]
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class RetainedHeap {
+    public long m_retainedBytes;
+  }
+
+  @Setup(Level.Trial)
+  public void createContent() {
+    m_stores = new ArrayList<>(m_numStores);
+    for (var i = 0; i < m_numStores; i++) {
+      m_stores.add(createStore("Store" + i));
+    }
+    m_languages = new ArrayList<>(m_numLanguages);
+    m_languages.add(Language.LANGUAGE_DEFAULT);
+    for (var i = 1; i < m_numLanguages; i++) {
+      m_languages.add(Language.parseThrowingOnError("l" + i));
+    }
+    m_keys = new String[m_numKeys];
+    m_texts = new String[m_numKeys][m_numLanguages];
+    for (var k = 0; k < m_numKeys; k++) {
+      m_keys[k] = "Key" + k;
+      for (var l = 0; l < m_numLanguages; l++) {
+        m_texts[k][l] = "Text " + k + " in language " + l;
+      }
+    }
+  }
+
+  @Benchmark
+  public Object compactLayout(RetainedHeap heap) {
+    var before = usedHeap();
+    var result = new HashMap<String, StackedTranslation>(m_numKeys);
+    for (var k = 0; k < m_numKeys; k++) {
+      var entries = new ArrayList<ITranslationEntry>(m_stores.size());
+      for (var store : m_stores) {
+        var entry = new TranslationEntry(m_keys[k], store);
+        for (var l = 0; l < m_numLanguages; l++) {
+          entry.putText(m_languages.get(l), m_texts[k][l]);
+        }
+        entries.add(entry);
+      }
+      result.put(m_keys[k], new StackedTranslation(entries) {
+      });
+    }
+    heap.m_retainedBytes = usedHeap() - before;
+    return result;
+  }
+
+  @Benchmark
+  public Object previousLayout(RetainedHeap heap) {
+    var before = usedHeap();
+    var result = new HashMap<String, Map<ITranslationStore, Map<Language, String>>>(m_numKeys);
+    for (var k = 0; k < m_numKeys; k++) {
+      Map<ITranslationStore, Map<Language, String>> entries = new HashMap<>();
+      for (var store : m_stores) {
+        var texts = new TreeMap<Language, String>();
+        for (var l = 0; l < m_numLanguages; l++) {
+          texts.put(m_languages.get(l), m_texts[k][l]);
+        }
+        entries.put(store, texts);
+      }
+      result.put(m_keys[k], entries);
+    }
+    heap.m_retainedBytes = usedHeap() - before;
+    return result;
+  }
+
+  private static long usedHeap() {
+    var runtime = Runtime.getRuntime();
+    for (var i = 0; i < 3; i++) {
+      System.gc();
+    }
+    return runtime.totalMemory() - runtime.freeMemory();
+  }
+
+  private static ITranslationStore createStore(String name) {
+    return (ITranslationStore) Proxy.newProxyInstance(TranslationHeapBenchmark.class.getClassLoader(), new Class<?>[]{ITranslationStore.class}, (proxy, method, args) -> {
+      switch (method.getName()) {
+        case "hashCode":
+          return System.identityHashCode(proxy);
+        case "equals":
+          return proxy == args[0];
+        case "toString":
+          return name;
+        default:
+          throw new UnsupportedOperationException(method.getName());
+      }
+    });
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toMap;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.sdk.core.java.JavaTypes;
+import org.eclipse.scout.sdk.core.s.nls.query.MissingTranslationQuery;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationKeysQuery;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatternScanner;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.AbstractTranslationPattern;
+import org.eclipse.scout.sdk.core.s.util.search.FileQueryInput;
+import org.eclipse.scout.sdk.core.typescript.IWebConstants;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <h3>{@link TranslationQueryBenchmark}</h3>
+ * <p>
+ * Measures the translation queries on a synthetic source tree consisting of Java, JavaScript and HTML files. As
+ * reference the patterns are also searched using one regex pass per pattern.
+ *
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TranslationQueryBenchmark {
+
+  @State(Scope.Benchmark)
+  public static class SourceTreeState {
+
+    @Param("3000")
+    public int m_fileCount;
+
+    @Param("200")
+    public int m_linesPerFile;
+
+    private List<SyntheticFile> m_files;
+    private Map<String, List<AbstractTranslationPattern>> m_patterns;
+    private Map<String, TranslationPatternScanner> m_scanners;
+
+    @Setup(Level.Trial)
+    public void createSourceTree() {
+      var module = Paths.get("synthetic", "module");
+      m_files = new ArrayList<>(m_fileCount);
+      for (var i = 0; i < m_fileCount; i++) {
+        switch (i % 3) {
+          case 0:
+            m_files.add(new SyntheticFile(module.resolve("src/main/java/org/example/p" + (i % 50) + "/Type" + i + JavaTypes.JAVA_FILE_SUFFIX), module, javaSource(i)));
+            break;
+          case 1:
+            m_files.add(new SyntheticFile(module.resolve("src/main/js/example/p" + (i % 50) + "/Widget" + i + '.' + IWebConstants.JS_FILE_EXTENSION), module, jsSource(i)));
+            break;
+          default:
+            m_files.add(new SyntheticFile(module.resolve("src/main/resources/templates/p" + (i % 50) + "/Page" + i + '.' + IWebConstants.HTML_FILE_EXTENSION), module, htmlSource(i)));
+            break;
+        }
+      }
+      m_patterns = TranslationPatterns.all().collect(groupingBy(AbstractTranslationPattern::fileExtension));
+      m_scanners = m_patterns.entrySet().stream()
+          .collect(toMap(Entry::getKey, e -> new TranslationPatternScanner(e.getValue())));
+    }
+
+    private String javaSource(int index) {
+      var src = new StringBuilder("package org.example;\n\npublic class Type").append(index).append(" {\n");
+      for (var line = 0; line < m_linesPerFile; line++) {
+        switch (line % 8) {
+          case 0:
+            src.append("  String m_label").append(line).append(" = TEXTS.get(\"Label").append(line).append("\");\n");
+            break;
+          case 1:
+            src.append("  String m_title").append(line).append(" = TEXTS.get(\"Title\", m_label").append(line - 1).append(");\n");
+            break;
+          default:
+            src.append("  int m_value").append(line).append(" = computeValue(\"value\", ").append(line).append("); // some comment\n");
+            break;
+        }
+      }
+      return src.append("}\n").toString();
+    }
+
+    private String jsSource(int index) {
+      var src = new StringBuilder("import {Widget} from '@eclipse-scout/core';\n\nexport default class Widget").append(index).append(" extends Widget {\n");
+      for (var line = 0; line < m_linesPerFile; line++) {
+        switch (line % 8) {
+          case 0:
+            src.append("  label").append(line).append("() { return this.session.text('Label").append(line).append("'); }\n");
+            break;
+          case 1:
+            src.append("  model").append(line).append(" = {label: '${textKey:Title").append(line).append("}', cssClass: 'title'};\n");
+            break;
+          default:
+            src.append("  value").append(line).append("() { return this._compute(\"value\", `").append(line).append("`); }\n");
+            break;
+        }
+      }
+      return src.append("}\n").toString();
+    }
+
+    private String htmlSource(int index) {
+      var src = new StringBuilder("<!DOCTYPE html>\n<html>\n<head><title>Page").append(index).append("</title></head>\n<body>\n");
+      for (var line = 0; line < m_linesPerFile; line++) {
+        if (line % 8 == 0) {
+          src.append("  <div class=\"label\"><scout:message key=\"Label").append(line).append("\" /></div>\n");
+        }
+        else {
+          src.append("  <div class=\"value\" id=\"value").append(line).append("\">Some value</div>\n");
+        }
+      }
+      return src.append("</body>\n</html>\n").toString();
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class ConstantUsageState {
+
+    @Param("500")
+    public int m_constantCount;
+
+    private SyntheticFile m_file;
+
+    @Setup(Level.Trial)
+    public void createFile() {
+      var src = new StringBuilder("package org.example;\n\npublic class Constants {\n");
+      for (var i = 0; i < m_constantCount; i++) {
+        src.append("  public static final String KEY_").append(i).append(" = \"Key").append(i).append("\";\n");
+      }
+      for (var i = 0; i < m_constantCount; i++) {
+        src.append("  String m_label").append(i).append(" = TEXTS.get(KEY_").append(i).append(");\n");
+      }
+      var module = Paths.get("synthetic", "module");
+      m_file = new SyntheticFile(module.resolve("src/main/java/org/example/Constants" + JavaTypes.JAVA_FILE_SUFFIX), module, src.append("}\n").toString());
+    }
+  }
+
+  @Benchmark
+  public void missingTranslationQuery(SourceTreeState state, Blackhole blackhole) {
+    var query = new MissingTranslationQuery((module, scope) -> List.of());
+    state.m_files.forEach(f -> query.searchIn(f.toInput()));
+    blackhole.consume(query.result().count());
+  }
+
+  /**
+   * Searches a file in which all translation keys are used by constants.
+   */
+  @Benchmark
+  public void missingTranslationQueryWithConstants(ConstantUsageState state, Blackhole blackhole) {
+    var query = new MissingTranslationQuery((module, scope) -> List.of());
+    query.searchIn(state.m_file.toInput());
+    blackhole.consume(query.result().count());
+  }
+
+  @Benchmark
+  public void translationKeysQuery(SourceTreeState state, Blackhole blackhole) {
+    var query = new TranslationKeysQuery();
+    state.m_files.forEach(f -> query.searchIn(f.toInput()));
+    blackhole.consume(query.result().count());
+  }
+
+  /**
+   * Reference: searches each pattern using a separate regex pass over the file content.
+   */
+  @Benchmark
+  public void separateRegexPasses(SourceTreeState state, Blackhole blackhole) {
+    for (var file : state.m_files) {
+      var patterns = state.m_patterns.get(file.toInput().fileExtension());
+      for (var pattern : patterns) {
+        var matcher = pattern.pattern().matcher(file.m_content);
+        while (matcher.find()) {
+          blackhole.consume(matcher.start());
+        }
+      }
+    }
+  }
+
+  @Benchmark
+  public void singlePassScanner(SourceTreeState state, Blackhole blackhole) {
+    for (var file : state.m_files) {
+      var scanner = state.m_scanners.get(file.toInput().fileExtension());
+      scanner.scan(file.m_content, (pattern, match) -> blackhole.consume(match.start()));
+    }
+  }
+
+  private static final class SyntheticFile {
+    private final Path m_file;
+    private final Path m_module;
+    private final String m_content;
+
+    private SyntheticFile(Path file, Path module, String content) {
+      m_file = file;
+      m_module = module;
+      m_content = content;
+    }
+
+    private FileQueryInput toInput() {
+      return new FileQueryInput(m_file, m_module, () -> m_content);
+    }
+  }
+}
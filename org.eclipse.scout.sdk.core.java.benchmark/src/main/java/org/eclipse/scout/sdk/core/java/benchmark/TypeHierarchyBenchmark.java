@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.scout.sdk.core.java.fixture.ChildClass;
+import org.eclipse.scout.sdk.core.java.model.api.IType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * <h3>{@link TypeHierarchyBenchmark}</h3>
+ * <p>
+ * Measures the {@link IType} queries traversing the super type hierarchy (based on the
+ * {@link org.eclipse.scout.sdk.core.java.model.api.spliterator.SuperTypeHierarchySpliterator}) and the inner types.
+ *
+ * @since 13.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TypeHierarchyBenchmark {
+
+  @Benchmark
+  public void superTypes(JavaEnvironmentState state, Blackhole blackhole) {
+    startType(state).superTypes().withSelf(true).stream().forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void methodsWithSuperTypes(JavaEnvironmentState state, Blackhole blackhole) {
+    startType(state).methods().withSuperTypes(true).stream().forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void fieldsWithSuperTypes(JavaEnvironmentState state, Blackhole blackhole) {
+    startType(state).fields().withSuperTypes(true).stream().forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  public void innerTypesRecursive(JavaEnvironmentState state, Blackhole blackhole) {
+    startType(state).innerTypes().withRecursiveInnerTypes(true).stream().forEach(blackhole::consume);
+  }
+
+  @Benchmark
+  @BenchmarkMode(Mode.SingleShotTime)
+  @Measurement(iterations = 20)
+  public void methodsWithSuperTypesCold(ColdJavaEnvironmentState state, Blackhole blackhole) {
+    startType(state).methods().withSuperTypes(true).stream().forEach(blackhole::consume);
+  }
+
+  private static IType startType(JavaEnvironmentState state) {
+    return state.env().requireType(ChildClass.class.getName());
+  }
+}
@@ -0,0 +1,449 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import static org.eclipse.scout.sdk.core.log.SdkLog.onTrace;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
+import org.eclipse.jdt.internal.compiler.util.JRTUtil;
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.util.CoreUtils;
+import org.eclipse.scout.sdk.core.util.Ensure;
+import org.eclipse.scout.sdk.core.util.SdkException;
+
+/**
+ * <h3>{@link BinaryTypeIndex}</h3>
+ * <p>
+ * Persistent index of the packages and types contained in a binary jar file. The index is stored in a cache directory
+ * and is memory-mapped when used. It allows to answer negative {@code isPackage} and {@code findType} lookups of the
+ * compiler without opening and scanning the jar file.
+ * <p>
+ * The index only stores 64-bit hashes of the package and type names. Therefore, a positive answer of
+ * {@link #mayContainPackage(CharSequence)} or {@link #mayContainType(CharSequence)} must still be verified against the
+ * jar while a negative answer is always exact.
+ * <p>
+ * Index files are identified by the path, size and last modification time of the jar file. If one of these changes,
+ * a new index is created.
+ *
+ * @since 13.0
+ */
+public final class BinaryTypeIndex {
+
+  private static final int MAGIC = 0x53_44_4B_49; // "SDKI"
+  private static final int FORMAT_VERSION = 2;
+  private static final int HEADER_SIZE = 2 * Integer.BYTES + 2 * Long.BYTES + 2 * Integer.BYTES;
+  private static final String INDEX_FILE_SUFFIX = ".idx";
+  private static final String VERSIONS_PREFIX = "META-INF/versions/";
+  private static final String CLASS_FILE_SUFFIX = ".class";
+
+  // weak values: the memory mapping of an index is released as soon as no classpath uses it anymore
+  @SuppressWarnings("StaticCollection")
+  private static final Map<String, IndexReference> INDICES = new ConcurrentHashMap<>();
+  private static final ReferenceQueue<BinaryTypeIndex> RELEASED_INDICES = new ReferenceQueue<>();
+  // indices currently created or read by a thread. Other threads requesting the same index wait for the result.
+  @SuppressWarnings("StaticCollection")
+  private static final Map<String, CompletableFuture<BinaryTypeIndex>> LOADING = new ConcurrentHashMap<>();
+
+  private final LongBuffer m_packages;
+  private final LongBuffer m_types;
+
+  private BinaryTypeIndex(LongBuffer packages, LongBuffer types) {
+    m_packages = packages;
+    m_types = types;
+  }
+
+  /**
+   * Gets the {@link BinaryTypeIndex} for the jar file given. If the index does not yet exist in the index directory, it
+   * is created. Indices already used in the running process are shared as long as they are in use.
+   *
+   * @param jar
+   *          The jar file to index. Must not be {@code null}.
+   * @param indexDirectory
+   *          The directory in which the index files are stored. Must not be {@code null}.
+   * @return The {@link BinaryTypeIndex} for the jar or an empty {@link Optional} if the given file cannot be indexed
+   *         (e.g. because it is no readable jar file).
+   */
+  public static Optional<BinaryTypeIndex> of(Path jar, Path indexDirectory) {
+    Ensure.notNull(indexDirectory);
+    if (!isIndexable(jar)) {
+      return Optional.empty();
+    }
+
+    try {
+      var absoluteJar = jar.toAbsolutePath().normalize();
+      var size = Files.size(absoluteJar);
+      var lastModified = Files.getLastModifiedTime(absoluteJar).toMillis();
+      var indexFile = indexDirectory.resolve(fingerprint(absoluteJar, size, lastModified) + INDEX_FILE_SUFFIX);
+      return Optional.of(getOrLoad(indexFile.toString(), () -> load(absoluteJar, indexFile, size, lastModified)));
+    }
+    catch (IOException | SdkException e) {
+      SdkLog.debug("Unable to index jar '{}'. Lookups will not use an index for this file.", jar, onTrace(e));
+      return Optional.empty();
+    }
+  }
+
+  private static BinaryTypeIndex getOrLoad(String key, Supplier<BinaryTypeIndex> loader) {
+    purgeReleasedIndices();
+    var existing = getIfInUse(key);
+    if (existing != null) {
+      return existing;
+    }
+
+    // the jar is scanned outside the lock of the map: a long scan only blocks the callers of the same index
+    var newLoad = new CompletableFuture<BinaryTypeIndex>();
+    var load = LOADING.computeIfAbsent(key, k -> newLoad);
+    if (load != newLoad) {
+      return awaitLoad(load);
+    }
+
+    try {
+      var index = getIfInUse(key); // another thread may have completed the load in the meantime
+      if (index == null) {
+        index = loader.get();
+        INDICES.put(key, new IndexReference(key, index));
+      }
+      newLoad.complete(index);
+      return index;
+    }
+    catch (Throwable e) {
+      newLoad.completeExceptionally(e);
+      throw e;
+    }
+    finally {
+      LOADING.remove(key, newLoad); // after the index has been registered so that it is always found in one of the maps
+    }
+  }
+
+  private static BinaryTypeIndex getIfInUse(String key) {
+    var ref = INDICES.get(key);
+    return ref == null ? null : ref.get();
+  }
+
+  private static BinaryTypeIndex awaitLoad(CompletableFuture<BinaryTypeIndex> load) {
+    try {
+      return load.join();
+    }
+    catch (CompletionException e) {
+      var cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw e;
+    }
+  }
+
+  private static void purgeReleasedIndices() {
+    Reference<? extends BinaryTypeIndex> released;
+    while ((released = RELEASED_INDICES.poll()) != null) {
+      var ref = (IndexReference) released;
+      INDICES.remove(ref.m_key, ref);
+    }
+  }
+
+  /**
+   * @param jar
+   *          The file to check.
+   * @return {@code true} if the given {@link Path} points to a jar or zip file which can be indexed.
+   */
+  public static boolean isIndexable(Path jar) {
+    if (jar == null || !Files.isRegularFile(jar) || !Files.isReadable(jar)) {
+      return false;
+    }
+    var fileName = jar.getFileName().toString();
+    if (JRTUtil.JRT_FS_JAR.equals(fileName)) {
+      return false;
+    }
+    var extension = CoreUtils.extensionOf(fileName);
+    return "jar".equals(extension) || "zip".equals(extension);
+  }
+
+  /**
+   * Removes all indices from the in-memory cache of the running process. The index files on the disk are not
+   * affected.
+   */
+  public static void clearCache() {
+    INDICES.clear();
+  }
+
+  /**
+   * @param qualifiedPackageName
+   *          The package name with '/' as delimiter (e.g. {@code java/util}).
+   * @return {@code false} if the jar does certainly not contain the given package. {@code true} if the jar may contain
+   *         the package.
+   */
+  public boolean mayContainPackage(CharSequence qualifiedPackageName) {
+    return contains(m_packages, hash(qualifiedPackageName));
+  }
+
+  /**
+   * @param qualifiedBinaryFileName
+   *          The binary type name with '/' as delimiter and an optional {@code .class} suffix (e.g.
+   *          {@code java/util/Map$Entry.class}).
+   * @return {@code false} if the jar does certainly not contain the given type. {@code true} if the jar may contain the
+   *         type.
+   */
+  public boolean mayContainType(CharSequence qualifiedBinaryFileName) {
+    return contains(m_types, hash(withoutClassSuffix(qualifiedBinaryFileName)));
+  }
+
+  /**
+   * Executes the type lookup given if the jar may contain the type.
+   *
+   * @param qualifiedBinaryFileName
+   *          The binary type name (see {@link #mayContainType(CharSequence)}).
+   * @param lookup
+   *          The lookup in the jar file.
+   * @return The result of the lookup or {@code null} if the jar does certainly not contain the type.
+   */
+  <T> T ifMayContainType(CharSequence qualifiedBinaryFileName, Supplier<T> lookup) {
+    if (!mayContainType(qualifiedBinaryFileName)) {
+      return null;
+    }
+    return lookup.get();
+  }
+
+  /**
+   * Executes the package lookup given if the jar may contain the package.
+   *
+   * @param qualifiedPackageName
+   *          The package name (see {@link #mayContainPackage(CharSequence)}).
+   * @param lookup
+   *          The lookup in the jar file.
+   * @return The result of the lookup or {@code null} if the jar does certainly not contain the package.
+   */
+  <T> T ifMayContainPackage(CharSequence qualifiedPackageName, Supplier<T> lookup) {
+    if (!mayContainPackage(qualifiedPackageName)) {
+      return null;
+    }
+    return lookup.get();
+  }
+
+  /**
+   * Creates a new {@link Classpath} for the jar given which uses this index to skip lookups that cannot succeed.
+   *
+   * @param jar
+   *          The jar file this index belongs to. Must not be {@code null}.
+   * @param release
+   *          The Java release to use for multi-release jars or {@code null}.
+   * @return The new {@link Classpath}.
+   */
+  public Classpath newClasspath(Path jar, String release) {
+    if (release == null) {
+      return new ClasspathJarWithIndex(jar.toFile(), this);
+    }
+    return new ClasspathMultiReleaseJarWithIndex(jar.toFile(), release, this);
+  }
+
+  static long hash(CharSequence s) {
+    // 64-bit FNV-1a
+    var h = 0xcbf29ce484222325L;
+    for (var i = 0; i < s.length(); i++) {
+      h ^= s.charAt(i);
+      h *= 0x100000001b3L;
+    }
+    return h;
+  }
+
+  private static CharSequence withoutClassSuffix(CharSequence qualifiedBinaryFileName) {
+    var len = qualifiedBinaryFileName.length();
+    if (len > CLASS_FILE_SUFFIX.length() && qualifiedBinaryFileName.toString().endsWith(CLASS_FILE_SUFFIX)) {
+      return qualifiedBinaryFileName.subSequence(0, len - CLASS_FILE_SUFFIX.length());
+    }
+    return qualifiedBinaryFileName;
+  }
+
+  private static boolean contains(LongBuffer sortedHashes, long key) {
+    var low = 0;
+    var high = sortedHashes.limit() - 1;
+    while (low <= high) {
+      var mid = (low + high) >>> 1;
+      var midVal = sortedHashes.get(mid);
+      if (midVal < key) {
+        low = mid + 1;
+      }
+      else if (midVal > key) {
+        high = mid - 1;
+      }
+      else {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String fingerprint(Path jar, long size, long lastModified) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      digest.update(jar.toString().getBytes(StandardCharsets.UTF_8));
+      digest.update(ByteBuffer.allocate(2 * Long.BYTES).putLong(size).putLong(lastModified).array());
+      var hash = digest.digest();
+      var result = new StringBuilder(hash.length * 2);
+      for (var b : hash) {
+        result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return result.toString();
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new SdkException(e);
+    }
+  }
+
+  private static BinaryTypeIndex load(Path jar, Path indexFile, long size, long lastModified) {
+    try {
+      if (!Files.isRegularFile(indexFile)) {
+        write(jar, indexFile, size, lastModified);
+      }
+      var index = map(indexFile, size, lastModified);
+      if (index != null) {
+        return index;
+      }
+
+      // outdated or corrupt index file
+      write(jar, indexFile, size, lastModified);
+      return Ensure.notNull(map(indexFile, size, lastModified), "Index file '{}' for jar '{}' is not valid.", indexFile, jar);
+    }
+    catch (IOException e) {
+      throw new SdkException("Unable to create index for '{}'.", jar, e);
+    }
+  }
+
+  private static BinaryTypeIndex map(Path indexFile, long size, long lastModified) throws IOException {
+    try (var channel = FileChannel.open(indexFile, StandardOpenOption.READ)) {
+      var fileSize = channel.size();
+      if (fileSize < HEADER_SIZE || fileSize > Integer.MAX_VALUE) {
+        return null;
+      }
+      var buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize); // the mapping remains valid after the channel is closed
+      if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION || buffer.getLong() != size || buffer.getLong() != lastModified) {
+        return null;
+      }
+      var numPackages = buffer.getInt();
+      var numTypes = buffer.getInt();
+      if (numPackages < 0 || numTypes < 0 || fileSize != HEADER_SIZE + ((long) numPackages + numTypes) * Long.BYTES) {
+        return null;
+      }
+      // the sizes fit into an int because the file size does
+      var packagesSize = (int) ((long) numPackages * Long.BYTES);
+      var typesSize = (int) ((long) numTypes * Long.BYTES);
+      var packages = buffer.slice(HEADER_SIZE, packagesSize).asLongBuffer();
+      var types = buffer.slice(HEADER_SIZE + packagesSize, typesSize).asLongBuffer();
+      return new BinaryTypeIndex(packages, types);
+    }
+  }
+
+  private static void write(Path jar, Path indexFile, long size, long lastModified) throws IOException {
+    Set<String> packages = new HashSet<>();
+    Set<String> types = new HashSet<>();
+    packages.add(""); // the compiler considers the default package to exist in every jar
+    try (var zip = new ZipFile(jar.toFile())) {
+      var entries = zip.entries();
+      while (entries.hasMoreElements()) {
+        // like the compiler, all directories are packages (also the ones containing resources only)
+        var rawName = entries.nextElement().getName();
+        var name = withoutVersionPrefix(rawName);
+        addParentPackages(rawName, packages);
+        addParentPackages(name, packages);
+        if (name.endsWith(CLASS_FILE_SUFFIX)) {
+          types.add(name.substring(0, name.length() - CLASS_FILE_SUFFIX.length()));
+        }
+      }
+    }
+
+    var packageHashes = toSortedHashes(packages);
+    var typeHashes = toSortedHashes(types);
+
+    Files.createDirectories(indexFile.getParent());
+    var tmp = Files.createTempFile(indexFile.getParent(), indexFile.getFileName().toString(), ".tmp");
+    try {
+      try (var out = new DataOutputStream(Files.newOutputStream(tmp))) {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeLong(size);
+        out.writeLong(lastModified);
+        out.writeInt(packageHashes.length);
+        out.writeInt(typeHashes.length);
+        for (var h : packageHashes) {
+          out.writeLong(h);
+        }
+        for (var h : typeHashes) {
+          out.writeLong(h);
+        }
+      }
+      Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    finally {
+      Files.deleteIfExists(tmp);
+    }
+  }
+
+  private static void addParentPackages(String entryName, Set<String> packages) {
+    var lastSlash = entryName.lastIndexOf('/');
+    while (lastSlash > 0) {
+      if (!packages.add(entryName.substring(0, lastSlash))) {
+        return; // parents already registered
+      }
+      lastSlash = entryName.lastIndexOf('/', lastSlash - 1);
+    }
+  }
+
+  private static String withoutVersionPrefix(String entryName) {
+    if (!entryName.startsWith(VERSIONS_PREFIX)) {
+      return entryName;
+    }
+    var versionEnd = entryName.indexOf('/', VERSIONS_PREFIX.length());
+    if (versionEnd < 0) {
+      return entryName;
+    }
+    return entryName.substring(versionEnd + 1);
+  }
+
+  private static long[] toSortedHashes(Set<String> names) {
+    var result = names.stream()
+        .mapToLong(BinaryTypeIndex::hash)
+        .toArray();
+    Arrays.sort(result);
+    return result;
+  }
+
+  private static final class IndexReference extends WeakReference<BinaryTypeIndex> {
+    private final String m_key;
+
+    private IndexReference(String key, BinaryTypeIndex index) {
+      super(index, RELEASED_INDICES);
+      m_key = key;
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import static java.util.Collections.unmodifiableList;
+import static org.eclipse.scout.sdk.core.log.SdkLog.onTrace;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.util.CompositeObject;
+
+/**
+ * <h3>{@link BootClasspathCache}</h3>
+ * <p>
+ * Process wide cache of the boot classpath {@link Classpath} entries of a JRE. All environments using the same JRE
+ * share the same boot classpath instances. The entries are reference counted and reset as soon as the last user
+ * releases them.
+ *
+ * @since 13.0
+ */
+public final class BootClasspathCache {
+
+  @SuppressWarnings("StaticCollection")
+  private static final Map<CompositeObject, SharedBootClasspath> ENTRIES = new HashMap<>(); // all access is synchronized
+
+  private BootClasspathCache() {
+  }
+
+  /**
+   * Gets the shared boot classpath for the JRE given and increments its reference count. Each call to this method must
+   * be followed by exactly one call to {@link #release(JreInfo, List)} once the classpath is no longer used.
+   *
+   * @param jre
+   *          The {@link JreInfo} for which the boot classpath should be returned. Must not be {@code null}.
+   * @param factory
+   *          Creates the boot classpath if it is not yet cached. Must not be {@code null}.
+   * @return The shared boot classpath.
+   */
+  public static List<Classpath> acquire(JreInfo jre, Function<JreInfo, List<Classpath>> factory) {
+    synchronized (ENTRIES) {
+      var entry = ENTRIES.computeIfAbsent(keyOf(jre), k -> new SharedBootClasspath(prepare(factory.apply(jre))));
+      entry.m_refCount++;
+      return entry.m_classpath;
+    }
+  }
+
+  /**
+   * Releases a boot classpath previously obtained by {@link #acquire(JreInfo, Function)}. If it is no longer used by
+   * anyone, all its entries are reset.
+   *
+   * @param jre
+   *          The {@link JreInfo} the boot classpath belongs to. Must not be {@code null}.
+   * @param classpath
+   *          The boot classpath to release. Must not be {@code null}.
+   */
+  public static void release(JreInfo jre, List<Classpath> classpath) {
+    synchronized (ENTRIES) {
+      var key = keyOf(jre);
+      var entry = ENTRIES.get(key);
+      if (entry == null || entry.m_classpath != classpath) {
+        return; // has already been released
+      }
+      entry.m_refCount--;
+      if (entry.m_refCount > 0) {
+        return;
+      }
+      ENTRIES.remove(key);
+    }
+    classpath.forEach(Classpath::reset);
+  }
+
+  /**
+   * @param jre
+   *          The {@link JreInfo} to check. Must not be {@code null}.
+   * @return The number of users currently holding the boot classpath of the JRE given.
+   */
+  public static int referenceCount(JreInfo jre) {
+    synchronized (ENTRIES) {
+      var entry = ENTRIES.get(keyOf(jre));
+      if (entry == null) {
+        return 0;
+      }
+      return entry.m_refCount;
+    }
+  }
+
+  private static CompositeObject keyOf(JreInfo jre) {
+    return new CompositeObject(jre.jreHome(), jre.version());
+  }
+
+  private static List<Classpath> prepare(List<Classpath> classpath) {
+    // initialize the entries before they are published to other environments.
+    // This ensures lazily computed caches (e.g. the package cache of the jars) are completely built before they are accessed concurrently using different environment locks.
+    for (var cp : classpath) {
+      try {
+        cp.initialize();
+        cp.isPackage("java/lang", null);
+      }
+      catch (IOException e) {
+        SdkLog.debug("Unable to initialize boot classpath entry '{}'.", cp.getPath(), onTrace(e));
+      }
+    }
+    return unmodifiableList(classpath);
+  }
+
+  private static final class SharedBootClasspath {
+    private final List<Classpath> m_classpath;
+    private int m_refCount;
+
+    private SharedBootClasspath(List<Classpath> classpath) {
+      m_classpath = classpath;
+    }
+  }
+}
@@ -9,16 +9,19 @@
  */
 package org.eclipse.scout.sdk.core.java.ecj;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.eclipse.jdt.internal.compiler.batch.FileSystem;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
@@ -41,8 +44,13 @@ public class ClasspathBuilder {
   private final List<Classpath> m_full;
   private final List<Classpath> m_bootClasspath;
   private final Collection<Classpath> m_classpath;
+  private final Map<ClasspathEntry, Classpath> m_classpathByEntry;
+  private final Map<ClasspathEntry, ArchiveState> m_archiveStates;
   private final Set<ClasspathEntry> m_entries;
   private final JreInfo m_jreInfo;
+  private final Path m_binaryTypeIndexDirectory;
+  private final AtomicBoolean m_bootClasspathReleased;
+  private final String m_release;
 
   /**
    * @param jreHome
@@ -52,14 +60,33 @@ public class ClasspathBuilder {
    *          The runtime classpath entries.
    */
   protected ClasspathBuilder(Path jreHome, Collection<? extends ClasspathEntry> paths) {
+    this(jreHome, paths, null);
+  }
+
+  /**
+   * @param jreHome
+   *          The absolute path to the JRE (not JDK!) root. Based on this path the bootstrap classpath will be
+   *          constructed. May be {@code null}. Then the running JRE is used.
+   * @param paths
+   *          The runtime classpath entries.
+   * @param binaryTypeIndexDirectory
+   *          The directory in which the {@link BinaryTypeIndex} files for the binary jars of the user classpath are
+   *          stored. May be {@code null}. Then no index is used.
+   */
+  protected ClasspathBuilder(Path jreHome, Collection<? extends ClasspathEntry> paths, Path binaryTypeIndexDirectory) {
     var javaHome = Optional.ofNullable(jreHome).orElseGet(JreInfo::runningJavaHome).normalize();
     m_jreInfo = JRE_INFOS.computeIfAbsent(javaHome, JreInfo::new);
+    m_binaryTypeIndexDirectory = binaryTypeIndexDirectory;
+    var version = m_jreInfo.version();
+    m_release = JreInfo.VERSION_1_8.equals(version) ? null : version; // multi release JARs are not supported before Java 9.
 
-    var classpath = toClasspath(paths);
-    m_entries = classpath.keySet();
-    m_classpath = classpath.values();
+    m_archiveStates = new ConcurrentHashMap<>();
+    m_classpathByEntry = toClasspath(paths);
+    m_entries = m_classpathByEntry.keySet();
+    m_classpath = m_classpathByEntry.values();
 
-    m_bootClasspath = createBootClasspathFor(m_jreInfo);
+    m_bootClasspath = BootClasspathCache.acquire(m_jreInfo, ClasspathBuilder::createBootClasspathFor);
+    m_bootClasspathReleased = new AtomicBoolean();
 
     List<Classpath> fullCp = new ArrayList<>(m_classpath.size() + m_bootClasspath.size());
     fullCp.addAll(m_classpath);
@@ -75,12 +102,22 @@ public class ClasspathBuilder {
   }
 
   /**
-   * @return The boot classpath for the JRE associated with this builder.
+   * @return The boot classpath for the JRE associated with this builder. The boot classpath is shared with all other
+   *         builders using the same JRE (see {@link BootClasspathCache}).
    */
   public List<Classpath> bootClasspath() {
     return m_bootClasspath;
   }
 
+  /**
+   * Releases the shared boot classpath of this builder. Subsequent calls have no effect.
+   */
+  public void releaseBootClasspath() {
+    if (m_bootClasspathReleased.compareAndSet(false, true)) {
+      BootClasspathCache.release(m_jreInfo, m_bootClasspath);
+    }
+  }
+
   /**
    * @return The user classpath associated with this builder.
    */
@@ -102,6 +139,13 @@ public class ClasspathBuilder {
     return m_jreInfo;
   }
 
+  /**
+   * @return The directory in which the {@link BinaryTypeIndex} files are stored or {@code null} if no index is used.
+   */
+  public Path binaryTypeIndexDirectory() {
+    return m_binaryTypeIndexDirectory;
+  }
+
   private static List<Classpath> createBootClasspathFor(JreInfo jre) {
     List<Classpath> result = new ArrayList<>();
     var jreHome = jre.jreHome();
@@ -123,19 +167,55 @@ public class ClasspathBuilder {
     return result;
   }
 
-  private Map<ClasspathEntry, Classpath> toClasspath(Collection<? extends ClasspathEntry> paths) {
-    Map<ClasspathEntry, Classpath> result = new LinkedHashMap<>(paths.size());
-    var version = jreInfo().version();
-    if (JreInfo.VERSION_1_8.equals(version)) {
-      version = null; // multi release JARs are not supported before Java 9.
+  /**
+   * Replaces the archive entries of the user classpath whose file size or last modification time changed since they
+   * have been opened (e.g. an updated SNAPSHOT jar) with new entries reading the current content of the archive. The
+   * new entries are already initialized. The replaced entries are not modified and must be reset by the caller.
+   * Archives which cannot be opened anymore are kept as they are.
+   *
+   * @return A {@link Map} with the replaced entries as key and the new entries as value. Is empty if no archive
+   *         changed.
+   */
+  public synchronized Map<Classpath, Classpath> reopenChangedArchives() {
+    Map<Classpath, Classpath> replaced = new IdentityHashMap<>();
+    for (var entry : m_classpathByEntry.entrySet()) {
+      var cpe = entry.getKey();
+      var state = m_archiveStates.get(cpe);
+      if (state == null || state.equals(ArchiveState.of(cpe.path()))) {
+        continue; // not an archive or not changed
+      }
+
+      var newClasspath = toClasspath(cpe);
+      if (newClasspath == null) {
+        SdkLog.warning("Archive '{}' changed but cannot be read anymore. The previous content is used.", cpe.path());
+        continue;
+      }
+      try {
+        newClasspath.initialize();
+      }
+      catch (IOException e) {
+        SdkLog.warning("Unable to reopen changed archive '{}'. The previous content is used.", cpe.path(), e);
+        continue;
+      }
+      SdkLog.debug("Archive '{}' changed and has been reopened.", cpe.path());
+      replaced.put(entry.getValue(), newClasspath);
+      entry.setValue(newClasspath);
     }
 
+    if (!replaced.isEmpty()) {
+      m_full.replaceAll(cp -> replaced.getOrDefault(cp, cp));
+    }
+    return replaced;
+  }
+
+  private Map<ClasspathEntry, Classpath> toClasspath(Collection<? extends ClasspathEntry> paths) {
+    Map<ClasspathEntry, Classpath> result = new LinkedHashMap<>(paths.size());
     for (ClasspathEntry cpe : paths) {
       if (result.containsKey(cpe)) {
         continue; // skip duplicates. using the first of all duplicates on the cp
       }
 
-      var classpath = toClasspath(cpe.path(), cpe.mode() == ClasspathSpi.MODE_SOURCE, cpe.encoding(), version);
+      var classpath = toClasspath(cpe);
       if (classpath != null) {
         result.put(cpe, classpath);
       }
@@ -143,6 +223,34 @@ public class ClasspathBuilder {
     return result;
   }
 
+  private Classpath toClasspath(ClasspathEntry cpe) {
+    var path = cpe.path();
+    if (Files.isRegularFile(path)) {
+      // remember the state before the archive is opened so that a change while opening is detected on the next reopen
+      var state = ArchiveState.of(path);
+      if (state != null) {
+        m_archiveStates.put(cpe, state);
+      }
+    }
+
+    var isSourceOnly = cpe.mode() == ClasspathSpi.MODE_SOURCE;
+    var classpath = isSourceOnly ? null : toIndexedClasspath(path, m_release);
+    if (classpath == null) {
+      classpath = toClasspath(path, isSourceOnly, cpe.encoding(), m_release);
+    }
+    return classpath;
+  }
+
+  private Classpath toIndexedClasspath(Path jar, String release) {
+    var indexDirectory = binaryTypeIndexDirectory();
+    if (indexDirectory == null) {
+      return null;
+    }
+    return BinaryTypeIndex.of(jar, indexDirectory)
+        .map(index -> index.newClasspath(jar, release))
+        .orElse(null);
+  }
+
   private static void appendBinClasspathToEnd(Collection<Classpath> collector, Path f) {
     appendClasspathToEnd(collector, f, false, null);
   }
@@ -165,4 +273,16 @@ public class ClasspathBuilder {
     }
     return FileSystem.getClasspath(f.toString(), encoding, isSourceOnly, null, null, null, release);
   }
+
+  private record ArchiveState(long size, long lastModified) {
+    private static ArchiveState of(Path archive) {
+      try {
+        return new ArchiveState(Files.size(archive), Files.getLastModifiedTime(archive).toMillis());
+      }
+      catch (IOException e) {
+        SdkLog.debug("Unable to read the state of archive '{}'.", archive, e);
+        return null;
+      }
+    }
+  }
 }
@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import java.io.File;
+
+import org.eclipse.jdt.internal.compiler.batch.ClasspathMultiReleaseJar;
+import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
+
+/**
+ * <h3>{@link ClasspathMultiReleaseJarWithIndex}</h3>
+ * <p>
+ * A multi-release jar classpath entry which uses a {@link BinaryTypeIndex} to answer negative package and type lookups without
+ * accessing the jar file. The filtering is implemented by the {@link BinaryTypeIndex} and shared with
+ * {@link ClasspathJarWithIndex}.
+ *
+ * @since 13.0
+ */
+public class ClasspathMultiReleaseJarWithIndex extends ClasspathMultiReleaseJar {
+
+  private final BinaryTypeIndex m_index;
+
+  protected ClasspathMultiReleaseJarWithIndex(File file, String release, BinaryTypeIndex index) {
+    super(file, true, null, null, release);
+    m_index = index;
+  }
+
+  @Override
+  public NameEnvironmentAnswer findClass(char[] typeName, String qualifiedPackageName, String moduleName, String qualifiedBinaryFileName, boolean asBinaryOnly) {
+    return m_index.ifMayContainType(qualifiedBinaryFileName, () -> super.findClass(typeName, qualifiedPackageName, moduleName, qualifiedBinaryFileName, asBinaryOnly));
+  }
+
+  @Override
+  public boolean isPackage(String qualifiedPackageName, String moduleName) {
+    return m_index.mayContainPackage(qualifiedPackageName) && super.isPackage(qualifiedPackageName, moduleName);
+  }
+
+  @Override
+  public boolean hasCompilationUnit(String qualifiedPackageName, String moduleName) {
+    return m_index.mayContainPackage(qualifiedPackageName) && super.hasCompilationUnit(qualifiedPackageName, moduleName);
+  }
+
+  @Override
+  public char[][] getModulesDeclaringPackage(String qualifiedPackageName, String moduleName) {
+    return m_index.ifMayContainPackage(qualifiedPackageName, () -> super.getModulesDeclaringPackage(qualifiedPackageName, moduleName));
+  }
+
+  public BinaryTypeIndex index() {
+    return m_index;
+  }
+}
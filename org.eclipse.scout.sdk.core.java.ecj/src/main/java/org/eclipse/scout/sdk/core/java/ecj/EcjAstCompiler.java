@@ -15,11 +15,13 @@ import static org.eclipse.jdt.internal.compiler.DefaultErrorHandlingPolicies.pro
 
 import java.io.PrintWriter;
 import java.io.Writer;
+import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.CRC32C;
 import java.util.logging.Level;
 
 import org.eclipse.jdt.core.compiler.CategorizedProblem;
@@ -40,11 +42,12 @@ import org.eclipse.jdt.internal.compiler.problem.DefaultProblem;
 import org.eclipse.jdt.internal.compiler.problem.DefaultProblemFactory;
 import org.eclipse.jdt.internal.compiler.problem.ProblemSeverities;
 import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.util.SdkException;
 
 public class EcjAstCompiler extends org.eclipse.jdt.internal.compiler.Compiler {
 
   private static final Level VERBOSE_LOG_LEVEL = Level.FINER;
-  private final Map<CompilationUnitDeclaration, ICompilationUnit> m_sources = new HashMap<>();
+  private final Map<CompilationUnitDeclaration, ParsedSource> m_sources = new HashMap<>();
   private final Object m_lock;
 
   protected EcjAstCompiler(INameEnvironment nameEnv, CompilerOptions opts, Object lock) {
@@ -83,10 +86,24 @@ public class EcjAstCompiler extends org.eclipse.jdt.internal.compiler.Compiler {
   @Override
   protected synchronized void addCompilationUnit(ICompilationUnit sourceUnit, CompilationUnitDeclaration parsedUnit) {
     super.addCompilationUnit(sourceUnit, parsedUnit);
-    m_sources.put(parsedUnit, sourceUnit);
+    m_sources.put(parsedUnit, new ParsedSource(sourceUnit, parsedUnit.sourceEnd + 1, parser.scanner.source));
   }
 
   public synchronized ICompilationUnit getSource(CompilationUnitDeclaration decl) {
+    var parsedSource = getParsedSource(decl);
+    if (parsedSource == null) {
+      return null;
+    }
+    return parsedSource.unit();
+  }
+
+  /**
+   * @param decl
+   *          The {@link CompilationUnitDeclaration} created by this compiler.
+   * @return The {@link ParsedSource} of the given declaration or {@code null} if it has not been parsed by this compiler.
+   * @since 13.0
+   */
+  public synchronized ParsedSource getParsedSource(CompilationUnitDeclaration decl) {
     return m_sources.get(decl);
   }
 
@@ -136,6 +153,90 @@ public class EcjAstCompiler extends org.eclipse.jdt.internal.compiler.Compiler {
     }
   }
 
+  /**
+   * <h3>{@link ParsedSource}</h3>
+   * <p>
+   * Describes the source a {@link CompilationUnitDeclaration} has been parsed from. All source positions of the
+   * declaration refer to this source. The content itself is not kept (it is held by the {@link SourceCache} of the
+   * environment only). Whenever it is read again from the {@link ICompilationUnit}, it is only accepted if it is still
+   * the same as the parsed one (same length and 64-bit checksum).
+   *
+   * @since 13.0
+   */
+  public static final class ParsedSource {
+
+    private final ICompilationUnit m_unit;
+    private final int m_length;
+    private final Long m_checksum;
+
+    /**
+     * @param unit
+     *          The {@link ICompilationUnit} that has been parsed. Must not be {@code null}.
+     * @param length
+     *          The length of the parsed source.
+     * @param source
+     *          The parsed source. Is ignored if {@code null} or if its length differs. Then the source can only be
+     *          validated by its length.
+     */
+    ParsedSource(ICompilationUnit unit, int length, char[] source) {
+      m_unit = unit;
+      m_length = length;
+      if (source != null && source.length == length) {
+        m_checksum = checksum(source);
+      }
+      else {
+        m_checksum = null;
+      }
+    }
+
+    /**
+     * @return The {@link ICompilationUnit} that has been parsed.
+     */
+    public ICompilationUnit unit() {
+      return m_unit;
+    }
+
+    /**
+     * Reads the source from the {@link ICompilationUnit}.
+     *
+     * @return The parsed source or {@code null} if the compilation unit has no content.
+     * @throws SdkException
+     *           if the compilation unit has been modified since it has been parsed. Then the source positions of the
+     *           declaration no longer match and the Java environment must be reloaded.
+     */
+    public char[] read() {
+      var src = m_unit.getContents();
+      if (src != null && !isSameAs(src)) {
+        throw new SdkException("Source of '{}' has been modified since it has been parsed. The Java environment must be reloaded.", String.valueOf(m_unit.getFileName()));
+      }
+      return src;
+    }
+
+    /**
+     * @param src
+     *          The source to compare.
+     * @return {@code true} if the given source has the same length and checksum as the parsed one.
+     */
+    public boolean isSameAs(char[] src) {
+      if (src == null || src.length != m_length) {
+        return false;
+      }
+      return m_checksum == null || m_checksum == checksum(src);
+    }
+
+    /**
+     * @return A 64-bit checksum of the given source: the CRC-32C of its characters in the upper and
+     *         {@link Arrays#hashCode(char[])} in the lower 32 bits.
+     */
+    static long checksum(char[] src) {
+      var bytes = ByteBuffer.allocate(src.length * Character.BYTES);
+      bytes.asCharBuffer().put(src);
+      var crc = new CRC32C();
+      crc.update(bytes);
+      return crc.getValue() << Integer.SIZE | Integer.toUnsignedLong(Arrays.hashCode(src));
+    }
+  }
+
   static final class CollectingProblemFactory extends DefaultProblemFactory {
 
     @Override
@@ -9,15 +9,23 @@
  */
 package org.eclipse.scout.sdk.core.java.ecj;
 
+import java.nio.CharBuffer;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.eclipse.jdt.core.compiler.CharOperation;
+import org.eclipse.jdt.internal.compiler.batch.ClasspathDirectory;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.env.ICompilationUnit;
 import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.lookup.ModuleBinding;
+import org.eclipse.scout.sdk.core.util.NegativeLookupCache;
 
 /**
  * <h3>{@link FileSystemWithOverride}</h3>
+ * <p>
+ * Types and packages which cannot be found on the classpath are remembered in bounded negative caches. These caches are
+ * cleared when the classpath is refreshed (see {@link #refreshClasspath()}).
  *
  * @since 7.0.100
  */
@@ -26,12 +34,18 @@ public class FileSystemWithOverride extends FileSystem {
   private final JreInfo m_jreInfo;
   private final CompilationUnitOverrideSupport m_overrideSupport;
   private final Set<ClasspathEntry> m_cpEntries;
+  private final ClasspathBuilder m_classpathBuilder;
+  private final NegativeLookupCache<CharBuffer> m_missingTypes;
+  private final NegativeLookupCache<CharBuffer> m_missingPackages;
 
   protected FileSystemWithOverride(ClasspathBuilder cp) {
     super(cp.fullClasspath().toArray(new Classpath[0]), null, false);
+    m_classpathBuilder = cp;
     m_jreInfo = cp.jreInfo();
     m_cpEntries = cp.userClasspathEntries();
     m_overrideSupport = new CompilationUnitOverrideSupport();
+    m_missingTypes = new NegativeLookupCache<>();
+    m_missingPackages = new NegativeLookupCache<>();
   }
 
   private NameEnvironmentAnswer searchInOverrideSupport(char[] typeName, char[][] packageName) {
@@ -65,31 +79,58 @@ public class FileSystemWithOverride extends FileSystem {
 
   @Override
   public NameEnvironmentAnswer findType(char[][] compoundName, char[] moduleName) {
-    if (!hasModule(moduleName)) {
-      var answer = searchInOverrideSupport(compoundName);
-      if (answer != null) {
-        return answer;
-      }
+    if (hasModule(moduleName) || compoundName == null || compoundName.length < 1) {
+      return super.findType(compoundName, moduleName);
     }
-    return super.findType(compoundName, moduleName);
+    var answer = searchInOverrideSupport(compoundName);
+    if (answer != null) {
+      return answer;
+    }
+    var typeName = compoundName[compoundName.length - 1];
+    var packageName = CharOperation.subarray(compoundName, 0, compoundName.length - 1);
+    return findTypeOnClasspath(typeName, packageName, () -> super.findType(compoundName, moduleName));
   }
 
   @Override
   public NameEnvironmentAnswer findType(char[] typeName, char[][] packageName, char[] moduleName) {
-    if (!hasModule(moduleName)) {
-      var answer = searchInOverrideSupport(typeName, packageName);
-      if (answer != null) {
-        return answer;
-      }
+    if (hasModule(moduleName)) {
+      return super.findType(typeName, packageName, moduleName);
+    }
+    var answer = searchInOverrideSupport(typeName, packageName);
+    if (answer != null) {
+      return answer;
+    }
+    return findTypeOnClasspath(typeName, packageName, () -> super.findType(typeName, packageName, moduleName));
+  }
+
+  private NameEnvironmentAnswer findTypeOnClasspath(char[] typeName, char[][] packageName, Supplier<NameEnvironmentAnswer> lookup) {
+    var fqnWithSlash = CharBuffer.wrap(CharOperation.concatWith(packageName, typeName, '/'));
+    if (m_missingTypes.contains(fqnWithSlash)) {
+      return null;
+    }
+    var answer = lookup.get();
+    if (answer == null) {
+      m_missingTypes.add(fqnWithSlash);
     }
-    return super.findType(typeName, packageName, moduleName);
+    return answer;
   }
 
   @Override
   public boolean isPackage(char[][] compoundName, char[] packageName) {
     var fqnWithSlash = CharOperation.concatWith(compoundName, packageName, '/');
-    return overrideSupport().containsPackage(fqnWithSlash)
-        || super.isPackage(compoundName, packageName);
+    if (overrideSupport().containsPackage(fqnWithSlash)) {
+      return true;
+    }
+
+    var key = CharBuffer.wrap(fqnWithSlash);
+    if (m_missingPackages.contains(key)) {
+      return false;
+    }
+    var isPackage = super.isPackage(compoundName, packageName);
+    if (!isPackage) {
+      m_missingPackages.add(key);
+    }
+    return isPackage;
   }
 
   @Override
@@ -112,6 +153,40 @@ public class FileSystemWithOverride extends FileSystem {
     return m_overrideSupport;
   }
 
+  /**
+   * Registers the given compilation unit override and removes its type and packages from the negative caches.
+   *
+   * @param cu
+   *          The override. Must not be {@code null}.
+   * @return {@code true} if there was a previous override which has been updated with this call.
+   * @see CompilationUnitOverrideSupport#addCompilationUnit(ICompilationUnit)
+   */
+  public boolean addCompilationUnitOverride(ICompilationUnit cu) {
+    var updated = overrideSupport().addCompilationUnit(cu);
+    var packageName = cu.getPackageName();
+    m_missingTypes.remove(CharBuffer.wrap(CharOperation.concatWith(packageName, cu.getMainTypeName(), '/')));
+    if (packageName != null) {
+      for (var i = 1; i <= packageName.length; i++) {
+        m_missingPackages.remove(CharBuffer.wrap(CharOperation.concatWith(CharOperation.subarray(packageName, 0, i), '/')));
+      }
+    }
+    return updated;
+  }
+
+  /**
+   * @return The cache of the types which could not be found on the classpath (in the form {@code a/b/MyClass}).
+   */
+  public NegativeLookupCache<CharBuffer> missingTypeCache() {
+    return m_missingTypes;
+  }
+
+  /**
+   * @return The cache of the packages which could not be found on the classpath (in the form {@code a/b/c}).
+   */
+  public NegativeLookupCache<CharBuffer> missingPackageCache() {
+    return m_missingPackages;
+  }
+
   public Set<? extends ClasspathEntry> classpath() {
     return m_cpEntries;
   }
@@ -120,10 +195,60 @@ public class FileSystemWithOverride extends FileSystem {
     return m_jreInfo;
   }
 
+  /**
+   * Refreshes the classpath so that changes are detected on the next lookup: The directory based entries are reset,
+   * changed archives are reopened (see {@link #reopenChangedArchives()}) and the negative caches are cleared. Unchanged
+   * archive entries and the compilation unit overrides are kept.
+   */
+  public void refreshClasspath() {
+    resetDirectoryClasspath();
+    reopenChangedArchives();
+    m_missingTypes.clear();
+    m_missingPackages.clear();
+  }
+
+  /**
+   * Resets all directory based entries of the user classpath (source and binary folders) so that changes in these
+   * folders are detected on the next lookup. Archive entries are kept as they are.
+   */
+  public void resetDirectoryClasspath() {
+    m_classpathBuilder.userClasspath().stream()
+        .filter(ClasspathDirectory.class::isInstance)
+        .forEach(Classpath::reset);
+  }
+
+  /**
+   * Reopens the archive entries of the user classpath whose file size or last modification time changed since they have
+   * been opened so that e.g. updated SNAPSHOT jars are read again. The previous entries are closed. The negative caches
+   * are not modified.
+   *
+   * @return {@code true} if at least one archive has been reopened.
+   * @see ClasspathBuilder#reopenChangedArchives()
+   */
+  public boolean reopenChangedArchives() {
+    var replaced = m_classpathBuilder.reopenChangedArchives();
+    if (replaced.isEmpty()) {
+      return false;
+    }
+
+    for (var i = 0; i < classpaths.length; i++) {
+      var newClasspath = replaced.get(classpaths[i]);
+      if (newClasspath != null) {
+        classpaths[i] = newClasspath;
+      }
+    }
+    replaced.keySet().forEach(Classpath::reset);
+    return true;
+  }
+
   @Override
   public void cleanup() {
+    // do not call super.cleanup() as it would reset all classpath entries including the boot classpath which is shared with other environments
+    m_classpathBuilder.userClasspath().forEach(Classpath::reset);
+    m_classpathBuilder.releaseBootClasspath();
     m_overrideSupport.clear();
+    m_missingTypes.clear();
+    m_missingPackages.clear();
     m_cpEntries.clear();
-    super.cleanup();
   }
 }
@@ -12,6 +12,7 @@ package org.eclipse.scout.sdk.core.java.ecj;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
+import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.scout.sdk.core.java.ecj.SpiWithEcjUtils.bindingToType;
 import static org.eclipse.scout.sdk.core.java.ecj.SpiWithEcjUtils.sourceMethodOf;
@@ -32,6 +33,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.StringTokenizer;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.eclipse.jdt.core.compiler.CharOperation;
@@ -73,6 +75,7 @@ import org.eclipse.scout.sdk.core.log.SdkLog;
 import org.eclipse.scout.sdk.core.util.CompositeObject;
 import org.eclipse.scout.sdk.core.util.Ensure;
 import org.eclipse.scout.sdk.core.util.FinalValue;
+import org.eclipse.scout.sdk.core.util.SdkException;
 import org.eclipse.scout.sdk.core.util.SourceRange;
 import org.eclipse.scout.sdk.core.util.Strings;
 
@@ -87,29 +90,52 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
   private final Path m_javaHome;
   private final CompilerOptions m_options; // may be null
   private final Collection<? extends ClasspathEntry> m_rawClassPath;
+  private final Path m_binaryTypeIndexDirectory; // may be null
 
   // caches
   private final Map<Object, JavaElementSpi> m_elements; // all except TypeSpi. Types are stored in super class
   private final Map<ReferenceBinding, Map<String, ElementValuePair>> m_evpCache; // cache for annotation elements
   private final Map<TypeBinding, Map<String, MemberValuePair>> m_mvpCache; // cache for annotation elements
-  private final Map<CharBuffer /* file path */, char[] /* source contents */> m_sourceCache; // cache for file source
+  private final SourceCache m_sourceCache; // cache for file source
   private FinalValue<FileSystemWithOverride> m_fs;
   private FinalValue<EcjAstCompiler> m_compiler;
   private FinalValue<List<ClasspathSpi>> m_classpath;
-  private FileSystemWithOverride m_oldFsDuringReload;
 
   // state
   private volatile boolean m_initialized;
 
   protected JavaEnvironmentWithEcj(Path javaHome, Collection<? extends ClasspathEntry> classpath, CompilerOptions options) {
+    this(javaHome, classpath, options, null);
+  }
+
+  protected JavaEnvironmentWithEcj(Path javaHome, Collection<? extends ClasspathEntry> classpath, CompilerOptions options, Path binaryTypeIndexDirectory) {
+    this(javaHome, classpath, options, binaryTypeIndexDirectory, null);
+  }
+
+  /**
+   * @param javaHome
+   *          The JRE (not JDK!) home. May be {@code null}. Then the running Java home is used.
+   * @param classpath
+   *          The classpath entries.
+   * @param options
+   *          The compiler options. May be {@code null}. Then the defaults are used.
+   * @param binaryTypeIndexDirectory
+   *          The directory in which {@link BinaryTypeIndex} files for the binary jars of the classpath are stored. May
+   *          be {@code null}. Then no index is used.
+   * @param sourceCache
+   *          The {@link SourceCache} holding the sources of the compilation units. May be {@code null}. Then a cache
+   *          with default settings is used.
+   */
+  protected JavaEnvironmentWithEcj(Path javaHome, Collection<? extends ClasspathEntry> classpath, CompilerOptions options, Path binaryTypeIndexDirectory, SourceCache sourceCache) {
     m_javaHome = javaHome;
     m_options = options;
     m_rawClassPath = withoutNullElements(classpath);
+    m_binaryTypeIndexDirectory = binaryTypeIndexDirectory;
 
     m_elements = new ConcurrentHashMap<>();
     m_evpCache = new ConcurrentHashMap<>();
     m_mvpCache = new ConcurrentHashMap<>();
-    m_sourceCache = new HashMap<>(); // normal map is ok: all access is synchronized
+    m_sourceCache = sourceCache == null ? new SourceCache() : sourceCache;
     m_fs = new FinalValue<>();
     m_compiler = new FinalValue<>();
     m_classpath = new FinalValue<>();
@@ -135,8 +161,53 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
     return resolveAsArray(desc);
   }
 
+  @Override
+  protected Map<String, TypeSpi> doFindTypes(Collection<String> fqns) {
+    assertInitialized();
+    // group the names by package so that all types of a package are looked up consecutively
+    Map<String, List<String>> namesByPackage = fqns.stream()
+        .collect(groupingBy(JavaEnvironmentWithEcj::packageOf, LinkedHashMap::new, toList()));
+    Map<String, TypeBinding> primaryTypes = new HashMap<>(); // primary types shared by several names (inner types, arrays) are only looked up once
+    Map<String, TypeSpi> result = new HashMap<>(fqns.size());
+    for (var names : namesByPackage.values()) {
+      for (var fqn : names) {
+        var desc = TypeNameDescriptor.of(fqn);
+        var primaryTypeName = desc.getPrimaryTypeName();
+        TypeBinding primaryType;
+        if (primaryTypes.containsKey(primaryTypeName)) {
+          primaryType = primaryTypes.get(primaryTypeName);
+        }
+        else {
+          primaryType = lookupTypeBinding(primaryTypeName);
+          primaryTypes.put(primaryTypeName, primaryType);
+        }
+        if (primaryType == null) {
+          continue; // not found
+        }
+        if (desc.getArrayDimension() > 0) {
+          result.put(fqn, resolveAsArray(desc));
+        }
+        else {
+          result.put(fqn, resolveAsType(desc, primaryType));
+        }
+      }
+    }
+    return result;
+  }
+
+  protected static String packageOf(String fqn) {
+    var lastDot = fqn.lastIndexOf(JavaTypes.C_DOT);
+    if (lastDot < 0) {
+      return "";
+    }
+    return fqn.substring(0, lastDot);
+  }
+
   protected TypeSpi resolveAsType(TypeNameDescriptor desc) {
-    var binding = lookupTypeBinding(desc.getPrimaryTypeName());
+    return resolveAsType(desc, lookupTypeBinding(desc.getPrimaryTypeName()));
+  }
+
+  protected TypeSpi resolveAsType(TypeNameDescriptor desc, TypeBinding binding) {
     if (binding == null) {
       return null;
     }
@@ -233,16 +304,37 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
     return m_javaHome;
   }
 
-  @Override
-  protected void onReloadStart() {
-    runPreservingOverrides(this, this, this::doReloadStart);
+  /**
+   * @return The directory in which {@link BinaryTypeIndex} files for the binary jars of the classpath are stored. May
+   *         be {@code null} if no index is used.
+   */
+  public Path binaryTypeIndexDirectory() {
+    return m_binaryTypeIndexDirectory;
   }
 
-  private void doReloadStart() {
-    // backup old FS so that it can be closed after reload
-    m_oldFsDuringReload = m_fs.get();
-    clear(false); // old FS is still used during reload (to find new SPIs). Do not close it here already.
-    m_initialized = true;
+  /**
+   * @return The {@link SourceCache} holding the sources of the compilation units of this environment. Can be used to
+   *         monitor the cache efficiency.
+   */
+  public SourceCache sourceCache() {
+    return m_sourceCache;
+  }
+
+  @Override
+  protected void onReloadStart() {
+    synchronized (lock()) {
+      var fs = m_fs.opt();
+      clear(false);
+      // The name environment survives the reload: its unchanged archive entries stay open including their package caches
+      // and the compilation unit overrides are kept. The directory based entries and the negative caches are refreshed as
+      // they may have changed, archives are only reopened if their size or timestamp changed (e.g. an updated SNAPSHOT jar).
+      // The compiler is always rebuilt because the bindings of the lookup environment cannot be unbound individually.
+      fs.ifPresent(nameEnv -> {
+        nameEnv.refreshClasspath();
+        m_fs.set(nameEnv);
+      });
+      m_initialized = true;
+    }
   }
 
   protected boolean isInitialized() {
@@ -282,16 +374,6 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
     m_classpath = new FinalValue<>();
   }
 
-  @Override
-  protected void onReloadEnd() {
-    super.onReloadEnd();
-    var oldFs = m_oldFsDuringReload;
-    if (oldFs != null) {
-      oldFs.cleanup();
-      m_oldFsDuringReload = null;
-    }
-  }
-
   /**
    * Executes the specified {@link Runnable} ensuring that the overridden compilation units of the source environment
    * are also available in the destination environment after the runnable has been executed.
@@ -317,9 +399,9 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
         return;
       }
 
-      var overrideSupport = dest.getNameEnvironment().overrideSupport();
+      var nameEnvironment = dest.getNameEnvironment();
       for (var cu : units) {
-        overrideSupport.addCompilationUnit(cu);
+        nameEnvironment.addCompilationUnitOverride(cu);
       }
     }
   }
@@ -346,14 +428,14 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
 
     var cu = new StringBasedCompilationUnitWithEcj(cuInfo, src, null /* ModuleBinding.UNNAMED */);
     synchronized (lock()) {
-      var reloadRequired = getNameEnvironment().overrideSupport().addCompilationUnit(cu);
+      getNameEnvironment().addCompilationUnitOverride(cu);
 
       var fqn = cu.getFullyQualifiedName();
       removeTypeFromCache(fqn);// clear cache info for this element
-      if (!reloadRequired && isInitialized()) {
-        // if not used in name-env: also check in compiler
-        reloadRequired = isLoadedInCompiler(fqn, src);
-      }
+
+      // A reload is only necessary if the compilation unit has already been bound by the compiler.
+      // Otherwise, no other binding can depend on it and the override is picked up on the next lookup (even if an older override has been replaced).
+      var reloadRequired = isInitialized() && isLoadedInCompiler(fqn, src);
 
       // ensure the package of the new override CU exists. It may be in the lookupEnv cache as 'notExisting' from a call before where it really did not exist.
       if (!Strings.isEmpty(cuInfo.packageName()) && isInitialized()) {
@@ -361,14 +443,39 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
       }
 
       if (reloadRequired) {
-        m_sourceCache.keySet().removeIf(cuFileName -> CharOperation.endsWith(cuFileName.array(), cu.getFileName()));
+        m_sourceCache.removeIf(cuFileName -> CharOperation.endsWith(cuFileName.array(), cu.getFileName()));
       }
 
       return reloadRequired;
     }
   }
 
+  /**
+   * Removes all compilation unit overrides registered in this environment (see
+   * {@link #registerCompilationUnitOverride(char[], CompilationUnitInfo)}). Afterwards the compilation units are read
+   * from the classpath again.
+   *
+   * @return {@code true} if overrides have been removed. In that case the environment must be reloaded so that no
+   *         binding of a removed override remains.
+   * @since 13.0
+   */
+  public boolean removeCompilationUnitOverrides() {
+    synchronized (lock()) {
+      var overrides = m_fs.opt()
+          .map(FileSystemWithOverride::overrideSupport)
+          .orElse(null);
+      if (overrides == null || overrides.size() < 1) {
+        return false;
+      }
+      overrides.clear();
+      return true;
+    }
+  }
+
   private boolean isLoadedInCompiler(String fqn, char[] src) {
+    if (!m_compiler.isSet()) {
+      return false; // no compiler yet: nothing can be bound
+    }
     var cachedType = findExistingBindingFor(fqn);
     if (cachedType == null) {
       return false; // has not yet been used. no reload required.
@@ -376,8 +483,8 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
 
     if (cachedType instanceof SourceTypeBinding) {
       var decl = ((SourceTypeBinding) cachedType).scope.compilationUnitScope().referenceContext;
-      var existing = getSource(decl);
-      return !Arrays.equals(existing, src); // only reload if source is different
+      var parsedSource = getCompiler().getParsedSource(decl);
+      return parsedSource == null || !parsedSource.isSameAs(src); // only reload if the parsed source is different
     }
     return true;
   }
@@ -423,15 +530,23 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
     return new SourceRange(CharBuffer.wrap(src, start, end - start + 1), start);
   }
 
+  /**
+   * @param decl
+   *          The declaration to get the source for.
+   * @return The source the declaration has been parsed from or {@code null} if it is not available.
+   * @throws SdkException
+   *           if the source has been modified since it has been parsed and the parsed source is no longer available.
+   */
   @SuppressWarnings("squid:S1168")
   protected char[] getSource(CompilationUnitDeclaration decl) {
     synchronized (lock()) {
-      var sourceUnit = getCompiler().getSource(decl);
-      if (sourceUnit == null) {
+      var parsedSource = getCompiler().getParsedSource(decl);
+      if (parsedSource == null) {
         return null;
       }
 
-      return m_sourceCache.computeIfAbsent(CharBuffer.wrap(sourceUnit.getFileName()), k -> sourceUnit.getContents());
+      // a source evicted from the cache is read again. ParsedSource ensures it is still the one the AST positions refer to.
+      return m_sourceCache.computeIfAbsent(CharBuffer.wrap(parsedSource.unit().getFileName()), parsedSource::read);
     }
   }
 
@@ -442,7 +557,7 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
   private FileSystemWithOverride buildNameEnvironment() {
     // classpath registers a system-wide file system but does not handle the fact that it might already have been created.
     // see org.eclipse.jdt.internal.compiler.batch.ClasspathMultiReleaseJar.initialize
-    var cp = new ClasspathBuilder(javaHome(), m_rawClassPath);
+    var cp = new ClasspathBuilder(javaHome(), m_rawClassPath, binaryTypeIndexDirectory());
     while (true) {
       try {
         // optimistic creation without locking
@@ -468,178 +583,137 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
         .toList());
   }
 
-  public VoidTypeWithEcj createVoidType() {
+  /**
+   * Gets the {@link JavaElementSpi} registered for the given key or creates and registers a new one using the factory
+   * given.
+   * <p>
+   * Elements which have already been materialized are returned without acquiring the {@link #lock()}. Only the creation
+   * of new elements is serialized because it may access the (not thread safe) ECJ lookup environment.
+   *
+   * @param key
+   *          The cache key of the element. Must not be {@code null}.
+   * @param factory
+   *          The factory to create a new element if none exists for the key yet. Must not be {@code null}.
+   * @return The existing or newly created element.
+   */
+  @SuppressWarnings("unchecked")
+  protected <T extends JavaElementSpi> T computeElementIfAbsent(Object key, Function<Object, T> factory) {
     assertInitialized();
+    var existing = m_elements.get(key); // fast check without synchronizing
+    if (existing != null) {
+      return (T) existing;
+    }
     synchronized (lock()) {
-      return (VoidTypeWithEcj) m_elements.computeIfAbsent(VoidTypeWithEcj.class, k -> new VoidTypeWithEcj(this));
+      return (T) m_elements.computeIfAbsent(key, factory);
     }
   }
 
+  public VoidTypeWithEcj createVoidType() {
+    return computeElementIfAbsent(VoidTypeWithEcj.class, k -> new VoidTypeWithEcj(this));
+  }
+
   public WildcardOnlyTypeWithEcj createWildcardOnlyType() {
-    assertInitialized();
-    synchronized (lock()) {
-      return (WildcardOnlyTypeWithEcj) m_elements.computeIfAbsent(WildcardOnlyTypeWithEcj.class, k -> new WildcardOnlyTypeWithEcj(this));
-    }
+    return computeElementIfAbsent(WildcardOnlyTypeWithEcj.class, k -> new WildcardOnlyTypeWithEcj(this));
   }
 
   public BindingAnnotationWithEcj createBindingAnnotation(AnnotatableSpi owner, AnnotationBinding binding) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding, owner); // binding may be shared amongst different owners if it is a marker annotation. Therefore, include the owner in the key.
-      return (BindingAnnotationWithEcj) m_elements.computeIfAbsent(key, k -> new BindingAnnotationWithEcj(this, owner, binding));
-    }
+    var key = new SameCompositeObject(binding, owner); // binding may be shared amongst different owners if it is a marker annotation. Therefore, include the owner in the key.
+    return computeElementIfAbsent(key, k -> new BindingAnnotationWithEcj(this, owner, binding));
   }
 
   public BindingAnnotationElementWithEcj createBindingAnnotationValue(AnnotationSpi owner, ElementValuePair bindingPair, boolean syntheticDefaultValue) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(owner, bindingPair);
-      return (BindingAnnotationElementWithEcj) m_elements.computeIfAbsent(key, k -> new BindingAnnotationElementWithEcj(this, owner, bindingPair, syntheticDefaultValue));
-    }
+    var key = new SameCompositeObject(owner, bindingPair);
+    return computeElementIfAbsent(key, k -> new BindingAnnotationElementWithEcj(this, owner, bindingPair, syntheticDefaultValue));
   }
 
   public NullAnnotationElementWithEcj createNullAnnotationValue(AnnotationSpi owner, String name, boolean syntheticDefaultValue) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(NullAnnotationElementWithEcj.class, owner, name);
-      return (NullAnnotationElementWithEcj) m_elements.computeIfAbsent(key, k -> new NullAnnotationElementWithEcj(this, owner, name, syntheticDefaultValue));
-    }
+    var key = new SameCompositeObject(NullAnnotationElementWithEcj.class, owner, name);
+    return computeElementIfAbsent(key, k -> new NullAnnotationElementWithEcj(this, owner, name, syntheticDefaultValue));
   }
 
   public BindingArrayTypeWithEcj createBindingArrayType(ArrayBinding binding, boolean isWildcard, Supplier<ArrayBinding> newElementLookupStrategy) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding, isWildcard);
-      return (BindingArrayTypeWithEcj) m_elements.computeIfAbsent(key, k -> new BindingArrayTypeWithEcj(this, binding, isWildcard, newElementLookupStrategy));
-    }
+    var key = new SameCompositeObject(binding, isWildcard);
+    return computeElementIfAbsent(key, k -> new BindingArrayTypeWithEcj(this, binding, isWildcard, newElementLookupStrategy));
   }
 
   public BindingBaseTypeWithEcj createBindingBaseType(BaseTypeBinding binding) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding);
-      return (BindingBaseTypeWithEcj) m_elements.computeIfAbsent(key, k -> new BindingBaseTypeWithEcj(this, binding));
-    }
+    var key = new SameCompositeObject(binding);
+    return computeElementIfAbsent(key, k -> new BindingBaseTypeWithEcj(this, binding));
   }
 
   public BindingFieldWithEcj createBindingField(AbstractTypeWithEcj declaringType, FieldBinding binding) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding);
-      return (BindingFieldWithEcj) m_elements.computeIfAbsent(key, k -> new BindingFieldWithEcj(this, declaringType, binding));
-    }
+    var key = new SameCompositeObject(binding);
+    return computeElementIfAbsent(key, k -> new BindingFieldWithEcj(this, declaringType, binding));
   }
 
   public BindingMethodWithEcj createBindingMethod(BindingTypeWithEcj declaringType, MethodBinding binding) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding);
-      return (BindingMethodWithEcj) m_elements.computeIfAbsent(key, k -> new BindingMethodWithEcj(this, declaringType, binding));
-    }
+    var key = new SameCompositeObject(binding);
+    return computeElementIfAbsent(key, k -> new BindingMethodWithEcj(this, declaringType, binding));
   }
 
   public BindingMethodParameterWithEcj createBindingMethodParameter(BindingMethodWithEcj declaringMethod, TypeBinding binding, char[] name, int flags, int index) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(BindingMethodParameterWithEcj.class, declaringMethod, binding, index);
-      return (BindingMethodParameterWithEcj) m_elements.computeIfAbsent(key, k -> new BindingMethodParameterWithEcj(this, declaringMethod, binding, name, flags, index));
-    }
+    var key = new SameCompositeObject(BindingMethodParameterWithEcj.class, declaringMethod, binding, index);
+    return computeElementIfAbsent(key, k -> new BindingMethodParameterWithEcj(this, declaringMethod, binding, name, flags, index));
   }
 
   public BindingTypeWithEcj createBindingType(ReferenceBinding binding, TypeSpi declaringType, boolean isWildcard, Supplier<? extends ReferenceBinding> newElementLookupStrategy) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding, isWildcard);
-      return (BindingTypeWithEcj) m_elements.computeIfAbsent(key, k -> new BindingTypeWithEcj(this, binding, declaringType, isWildcard, newElementLookupStrategy));
-    }
+    var key = new SameCompositeObject(binding, isWildcard);
+    return computeElementIfAbsent(key, k -> new BindingTypeWithEcj(this, binding, declaringType, isWildcard, newElementLookupStrategy));
   }
 
   public BindingTypeParameterWithEcj createBindingTypeParameter(AbstractMemberWithEcj<?> declaringMember, TypeVariableBinding binding, int index) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(declaringMember, binding, index);
-      return (BindingTypeParameterWithEcj) m_elements.computeIfAbsent(key, k -> new BindingTypeParameterWithEcj(this, declaringMember, binding, index));
-    }
+    var key = new SameCompositeObject(declaringMember, binding, index);
+    return computeElementIfAbsent(key, k -> new BindingTypeParameterWithEcj(this, declaringMember, binding, index));
   }
 
   public DeclarationAnnotationWithEcj createDeclarationAnnotation(AnnotatableSpi owner, Annotation astNode) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationAnnotationWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationAnnotationWithEcj(this, owner, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return computeElementIfAbsent(key, k -> new DeclarationAnnotationWithEcj(this, owner, astNode));
   }
 
   public DeclarationAnnotationElementWithEcj createDeclarationAnnotationValue(AnnotationSpi declaringAnnotation, MemberValuePair astNode, boolean syntheticDefaultValue) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationAnnotationElementWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationAnnotationElementWithEcj(this, declaringAnnotation, astNode, syntheticDefaultValue));
-    }
+    var key = new SameCompositeObject(astNode);
+    return computeElementIfAbsent(key, k -> new DeclarationAnnotationElementWithEcj(this, declaringAnnotation, astNode, syntheticDefaultValue));
   }
 
   public DeclarationCompilationUnitWithEcj createDeclarationCompilationUnit(CompilationUnitDeclaration astNode) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationCompilationUnitWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationCompilationUnitWithEcj(this, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return computeElementIfAbsent(key, k -> new DeclarationCompilationUnitWithEcj(this, astNode));
   }
 
   public DeclarationFieldWithEcj createDeclarationField(DeclarationTypeWithEcj declaringType, FieldDeclaration astNode) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationFieldWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationFieldWithEcj(this, declaringType, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return computeElementIfAbsent(key, k -> new DeclarationFieldWithEcj(this, declaringType, astNode));
   }
 
   public DeclarationImportWithEcj createDeclarationImport(DeclarationCompilationUnitWithEcj owner, ImportReference astNode) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationImportWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationImportWithEcj(this, owner, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return computeElementIfAbsent(key, k -> new DeclarationImportWithEcj(this, owner, astNode));
   }
 
   public DeclarationMethodWithEcj createDeclarationMethod(DeclarationTypeWithEcj declaringType, AbstractMethodDeclaration astNode) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationMethodWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationMethodWithEcj(this, declaringType, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return computeElementIfAbsent(key, k -> new DeclarationMethodWithEcj(this, declaringType, astNode));
   }
 
   public DeclarationMethodParameterWithEcj createDeclarationMethodParameter(DeclarationMethodWithEcj declaringMethod, Argument astNode, int index) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationMethodParameterWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationMethodParameterWithEcj(this, declaringMethod, astNode, index));
-    }
+    var key = new SameCompositeObject(astNode);
+    return computeElementIfAbsent(key, k -> new DeclarationMethodParameterWithEcj(this, declaringMethod, astNode, index));
   }
 
   public DeclarationTypeWithEcj createDeclarationType(CompilationUnitSpi cu, DeclarationTypeWithEcj declaringType, TypeDeclaration astNode) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationTypeWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationTypeWithEcj(this, cu, declaringType, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return computeElementIfAbsent(key, k -> new DeclarationTypeWithEcj(this, cu, declaringType, astNode));
   }
 
   public DeclarationTypeParameterWithEcj createDeclarationTypeParameter(AbstractMemberWithEcj<?> declaringMember, TypeParameter astNode, int index) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationTypeParameterWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationTypeParameterWithEcj(this, declaringMember, astNode, index));
-    }
+    var key = new SameCompositeObject(astNode);
+    return computeElementIfAbsent(key, k -> new DeclarationTypeParameterWithEcj(this, declaringMember, astNode, index));
   }
 
   public PackageWithEcj createPackage(String name) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new CompositeObject(PackageWithEcj.class, name);
-      return (PackageWithEcj) m_elements.computeIfAbsent(key, k -> new PackageWithEcj(this, name));
-    }
+    var key = new CompositeObject(PackageWithEcj.class, name);
+    return computeElementIfAbsent(key, k -> new PackageWithEcj(this, name));
   }
 
   public PackageWithEcj createDefaultPackage() {
@@ -652,11 +726,8 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
   }
 
   public SyntheticCompilationUnitWithEcj createSyntheticCompilationUnit(BindingTypeWithEcj mainType) {
-    assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(SyntheticCompilationUnitWithEcj.class, mainType);
-      return (SyntheticCompilationUnitWithEcj) m_elements.computeIfAbsent(key, k -> new SyntheticCompilationUnitWithEcj(this, mainType));
-    }
+    var key = new SameCompositeObject(SyntheticCompilationUnitWithEcj.class, mainType);
+    return computeElementIfAbsent(key, k -> new SyntheticCompilationUnitWithEcj(this, mainType));
   }
 
   /**
@@ -665,6 +736,10 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
    */
   public Map<String, ElementValuePair> getBindingAnnotationSyntheticDefaultValues(ReferenceBinding annotationType) {
     assertInitialized();
+    var existing = m_evpCache.get(annotationType); // fast check without synchronizing
+    if (existing != null) {
+      return existing;
+    }
     synchronized (lock()) {
       return m_evpCache.computeIfAbsent(annotationType, JavaEnvironmentWithEcj::computeBindingAnnotationSyntheticDefaultValues);
     }
@@ -695,6 +770,10 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
 
   public Map<String, MemberValuePair> getDeclarationAnnotationSyntheticDefaultValues(TypeBinding typeBinding) {
     assertInitialized();
+    var existing = m_mvpCache.get(typeBinding); // fast check without synchronizing
+    if (existing != null) {
+      return existing;
+    }
     synchronized (lock()) {
       return m_mvpCache.computeIfAbsent(typeBinding, JavaEnvironmentWithEcj::computeDeclarationAnnotationSyntheticDefaultValues);
     }
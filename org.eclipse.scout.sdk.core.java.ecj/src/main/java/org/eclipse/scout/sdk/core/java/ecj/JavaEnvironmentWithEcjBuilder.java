@@ -52,6 +52,9 @@ public class JavaEnvironmentWithEcjBuilder<T extends JavaEnvironmentWithEcjBuild
   private final List<ClasspathEntry> m_paths = new ArrayList<>();
 
   private Path m_javaHome;
+  private Path m_binaryTypeIndexDirectory;
+  private long m_sourceCacheLimit = SourceCache.DEFAULT_MAX_CHARS;
+  private boolean m_softSourceCache;
   private boolean m_parseMethodBodies;
   private boolean m_includeRunningClasspath = true;
   private boolean m_includeSources = true;
@@ -116,6 +119,68 @@ public class JavaEnvironmentWithEcjBuilder<T extends JavaEnvironmentWithEcjBuild
     return thisInstance();
   }
 
+  /**
+   * @return The directory in which the {@link BinaryTypeIndex} files are stored or {@code null} if no index is used.
+   */
+  public Path binaryTypeIndexDirectory() {
+    return m_binaryTypeIndexDirectory;
+  }
+
+  /**
+   * Specifies a directory in which a persistent {@link BinaryTypeIndex} for each binary jar of the classpath is stored.
+   * The index allows to answer lookups for packages and types which do not exist in a jar without accessing the jar.
+   * Default is {@code null} (no index).
+   *
+   * @param indexDirectory
+   *          The directory in which the index files are stored or {@code null} if no index should be used.
+   * @return this
+   */
+  public T withBinaryTypeIndex(Path indexDirectory) {
+    m_binaryTypeIndexDirectory = indexDirectory;
+    return thisInstance();
+  }
+
+  /**
+   * @return The maximum number of characters of all sources kept in the {@link SourceCache} of the environment.
+   */
+  public long sourceCacheLimit() {
+    return m_sourceCacheLimit;
+  }
+
+  /**
+   * Specifies the maximum number of characters of all sources kept in the {@link SourceCache} of the environment. If
+   * the limit is exceeded, the least recently used sources are removed. Default is
+   * {@link SourceCache#DEFAULT_MAX_CHARS}.
+   *
+   * @param maxChars
+   *          The maximum number of characters. Must be > 0.
+   * @return this
+   */
+  public T withSourceCacheLimit(long maxChars) {
+    m_sourceCacheLimit = maxChars;
+    return thisInstance();
+  }
+
+  /**
+   * @return {@code true} if the sources in the {@link SourceCache} are softly referenced.
+   */
+  public boolean isSoftSourceCache() {
+    return m_softSourceCache;
+  }
+
+  /**
+   * Specifies if the sources in the {@link SourceCache} of the environment should be softly referenced. Then they may
+   * be reclaimed by the garbage collector if memory is low. Default is {@code false}.
+   *
+   * @param softReferences
+   *          {@code true} to use soft references.
+   * @return this
+   */
+  public T withSoftSourceCache(boolean softReferences) {
+    m_softSourceCache = softReferences;
+    return thisInstance();
+  }
+
   /**
    * Exclude all classpath that match the specified regular expression.
    *
@@ -436,9 +501,8 @@ public class JavaEnvironmentWithEcjBuilder<T extends JavaEnvironmentWithEcjBuild
     return build(javaHome(), sort(allEntries), opts);
   }
 
-  @SuppressWarnings("MethodMayBeStatic")
   protected JavaEnvironmentWithEcj build(Path javaHome, Collection<? extends ClasspathEntry> classpath, CompilerOptions options) {
-    return new JavaEnvironmentWithEcj(javaHome, classpath, options);
+    return new JavaEnvironmentWithEcj(javaHome, classpath, options, binaryTypeIndexDirectory(), new SourceCache(sourceCacheLimit(), isSoftSourceCache()));
   }
 
   /**
@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import java.lang.ref.SoftReference;
+import java.nio.CharBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link SourceCache}</h3>
+ * <p>
+ * Cache for the source contents of compilation units of a {@link JavaEnvironmentWithEcj}. The cache is bounded by the
+ * total number of characters of all cached sources. If the limit is exceeded, the least recently used sources are
+ * removed. Optionally the sources are only softly referenced so that they can be reclaimed by the garbage collector if
+ * memory is low.
+ * <p>
+ * Sources removed from the cache are computed again on the next access. It is up to the supplier to ensure that a
+ * source read again is still the same (see {@link EcjAstCompiler.ParsedSource}).
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 13.0
+ */
+public class SourceCache {
+
+  /**
+   * The default maximum number of characters in the cache (16M characters which corresponds to about 32 MB).
+   */
+  public static final long DEFAULT_MAX_CHARS = 16L * 1024 * 1024;
+
+  private final long m_maxChars;
+  private final boolean m_softReferences;
+  private final Map<CharBuffer /* file path */, SourceEntry> m_entries; // all access is synchronized
+  private long m_chars;
+  private long m_hits;
+  private long m_misses;
+  private long m_evictedChars;
+
+  /**
+   * Creates a cache with {@link #DEFAULT_MAX_CHARS} holding the sources using strong references.
+   */
+  public SourceCache() {
+    this(DEFAULT_MAX_CHARS, false);
+  }
+
+  /**
+   * @param maxChars
+   *          The maximum number of characters of all sources in the cache. Must be > 0.
+   * @param softReferences
+   *          {@code true} if the sources should be softly referenced. Then the sources may be reclaimed by the garbage
+   *          collector before the limit is reached.
+   */
+  public SourceCache(long maxChars, boolean softReferences) {
+    Ensure.isTrue(maxChars > 0, "Invalid maximum source cache size: {}.", maxChars);
+    m_maxChars = maxChars;
+    m_softReferences = softReferences;
+    m_entries = new LinkedHashMap<>(16, 0.75f, true);
+  }
+
+  /**
+   * Gets the source for the given file. If it is not cached, it is computed using the given {@link Supplier} and added
+   * to the cache.
+   *
+   * @param fileName
+   *          The path of the file. Must not be {@code null}.
+   * @param sourceSupplier
+   *          Computes the source if it is not cached. Must not be {@code null}.
+   * @return The source or {@code null} if the supplier returns {@code null}.
+   */
+  public synchronized char[] computeIfAbsent(CharBuffer fileName, Supplier<char[]> sourceSupplier) {
+    var entry = m_entries.get(fileName);
+    if (entry != null) {
+      var src = entry.get();
+      if (src != null) {
+        m_hits++;
+        return src;
+      }
+      remove(fileName); // reclaimed by the garbage collector
+    }
+
+    m_misses++;
+    var src = sourceSupplier.get();
+    if (src == null || src.length > m_maxChars) {
+      return src; // too large to be cached
+    }
+    m_entries.put(fileName, new SourceEntry(src, m_softReferences));
+    m_chars += src.length;
+    evictIfRequired();
+    return src;
+  }
+
+  private void evictIfRequired() {
+    var iterator = m_entries.values().iterator();
+    while (m_chars > m_maxChars && iterator.hasNext()) {
+      var eldest = iterator.next();
+      iterator.remove();
+      m_chars -= eldest.m_length;
+      m_evictedChars += eldest.m_length;
+    }
+  }
+
+  private void remove(CharBuffer fileName) {
+    var removed = m_entries.remove(fileName);
+    if (removed != null) {
+      m_chars -= removed.m_length;
+    }
+  }
+
+  /**
+   * Removes all sources whose file path matches the given filter.
+   *
+   * @param filter
+   *          The {@link Predicate} returning {@code true} for the file paths to remove. Must not be {@code null}.
+   */
+  public synchronized void removeIf(Predicate<? super CharBuffer> filter) {
+    var iterator = m_entries.entrySet().iterator();
+    while (iterator.hasNext()) {
+      var entry = iterator.next();
+      if (filter.test(entry.getKey())) {
+        iterator.remove();
+        m_chars -= entry.getValue().m_length;
+      }
+    }
+  }
+
+  /**
+   * Removes all sources from the cache. The statistics are kept.
+   */
+  public synchronized void clear() {
+    m_entries.clear();
+    m_chars = 0;
+  }
+
+  /**
+   * @return The number of sources in the cache.
+   */
+  public synchronized int size() {
+    return m_entries.size();
+  }
+
+  /**
+   * @return The number of characters of all sources in the cache (including the ones that may already have been
+   *         reclaimed by the garbage collector).
+   */
+  public synchronized long chars() {
+    return m_chars;
+  }
+
+  /**
+   * @return The maximum number of characters of all sources in the cache.
+   */
+  public long maxChars() {
+    return m_maxChars;
+  }
+
+  /**
+   * @return {@code true} if the sources are softly referenced.
+   */
+  public boolean isSoftReferences() {
+    return m_softReferences;
+  }
+
+  /**
+   * @return The number of source requests that could be answered from the cache.
+   */
+  public synchronized long hitCount() {
+    return m_hits;
+  }
+
+  /**
+   * @return The number of source requests that had to read the source.
+   */
+  public synchronized long missCount() {
+    return m_misses;
+  }
+
+  /**
+   * @return The number of characters removed from the cache because the limit was exceeded.
+   */
+  public synchronized long evictedChars() {
+    return m_evictedChars;
+  }
+
+  /**
+   * @return The number of bytes removed from the cache because the limit was exceeded.
+   */
+  public long evictedBytes() {
+    return evictedChars() * Character.BYTES;
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " [size=" + size() + ", chars=" + chars() + ", hits=" + hitCount() + ", misses=" + missCount() + ", evictedBytes=" + evictedBytes() + ']';
+  }
+
+  private static final class SourceEntry {
+    private final Object m_source; // char[] or SoftReference<char[]>
+    private final int m_length;
+
+    private SourceEntry(char[] source, boolean softReference) {
+      m_source = softReference ? new SoftReference<>(source) : source;
+      m_length = source.length;
+    }
+
+    @SuppressWarnings("unchecked")
+    private char[] get() {
+      if (m_source instanceof SoftReference) {
+        return ((SoftReference<char[]>) m_source).get();
+      }
+      return (char[]) m_source;
+    }
+  }
+}
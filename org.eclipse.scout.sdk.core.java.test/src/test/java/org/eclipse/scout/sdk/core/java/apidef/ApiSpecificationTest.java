@@ -17,11 +17,14 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+
 import org.eclipse.scout.sdk.core.java.fixture.apidef.ICustomApi;
 import org.eclipse.scout.sdk.core.java.fixture.apidef.IJavaApi;
 import org.eclipse.scout.sdk.core.java.fixture.apidef.Java11Api;
 import org.eclipse.scout.sdk.core.java.fixture.apidef.Java13Api;
 import org.eclipse.scout.sdk.core.java.fixture.apidef.Java8Api;
+import org.eclipse.scout.sdk.core.util.SdkException;
 import org.junit.jupiter.api.Test;
 
 public class ApiSpecificationTest {
@@ -116,6 +119,20 @@ public class ApiSpecificationTest {
     assertThrows(IllegalArgumentException.class, () -> testApi.requireApi(TestApi3.class).someOtherFunction());
   }
 
+  @Test
+  public void testMethodsWithArguments() {
+    var spec = ApiSpecification.create(asList(ArgumentsApi1.class, ArgumentsApi2.class), ApiVersion.LATEST);
+    assertNotNull(spec);
+    var api = spec.requireApi(IArgumentsApi.class);
+    for (var i = 0; i < 3; i++) { // the second and subsequent calls use the resolved dispatch
+      assertEquals(5, api.add(2, 3));
+      assertEquals("x:2:a,b", api.join("x", 2, "a", "b"));
+      assertEquals("x:0:", api.join("x", 0));
+      var exception = assertThrows(SdkException.class, api::checked);
+      assertEquals(IOException.class, exception.getCause().getClass());
+    }
+  }
+
   protected static IJavaApi createFixtureApiDefinition(int... version) {
     var spec = ApiSpecification.create(asList(Java8Api.class, Java11Api.class, Java13Api.class), new ApiVersion(version));
     assertNotNull(spec);
@@ -174,4 +191,33 @@ public class ApiSpecificationTest {
       return "someFunction4";
     }
   }
+
+  public interface IArgumentsApi extends IApiSpecification {
+    int add(int a, int b);
+
+    String join(String prefix, int count, String... parts);
+
+    void checked() throws IOException;
+  }
+
+  @MaxApiLevel(1)
+  public interface ArgumentsApi1 extends IArgumentsApi {
+    @Override
+    default int add(int a, int b) {
+      return a + b;
+    }
+
+    @Override
+    default void checked() throws IOException {
+      throw new IOException();
+    }
+  }
+
+  @MaxApiLevel(2)
+  public interface ArgumentsApi2 extends IArgumentsApi {
+    @Override
+    default String join(String prefix, int count, String... parts) {
+      return prefix + ':' + count + ':' + String.join(",", parts);
+    }
+  }
 }
@@ -10,7 +10,12 @@
 package org.eclipse.scout.sdk.core.java.apidef;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentFactories.EmptyJavaEnvironmentFactory;
 import org.eclipse.scout.sdk.core.java.fixture.apidef.IJavaApi;
@@ -50,6 +55,52 @@ public class ApiTest {
     assertNotNull(dump.get(TestClass.TEST_CLASS_FQN));
   }
 
+  @Test
+  public void testVersionAndApiAreCachedInEnvironment(IJavaEnvironment env) {
+    var versionCalls = new AtomicInteger();
+    Api.registerProvider(IJavaApi.class, new JavaApiProvider() {
+      @Override
+      public Optional<ApiVersion> version(IJavaEnvironment context) {
+        versionCalls.incrementAndGet();
+        return super.version(context);
+      }
+    });
+    try {
+      var version = Api.version(IJavaApi.class, env).orElseThrow(); // the registration of the provider invalidated the cache
+      assertEquals(version, Api.version(IJavaApi.class, env).orElseThrow());
+      assertSame(Api.create(IJavaApi.class, env).orElseThrow(), env.requireApi(IJavaApi.class));
+      assertEquals(1, versionCalls.get());
+
+      env.reload(); // invalidates the cache
+      assertEquals(version, Api.version(IJavaApi.class, env).orElseThrow());
+      assertEquals(2, versionCalls.get());
+    }
+    finally {
+      Api.registerProvider(IJavaApi.class, new JavaApiProvider());
+    }
+  }
+
+  @Test
+  public void testProviderChangeInvalidatesEnvironmentCache(IJavaEnvironment env) {
+    var version = Api.version(IJavaApi.class, env).orElseThrow();
+    var api = env.requireApi(IJavaApi.class);
+    try {
+      Api.registerProvider(IJavaApi.class, new JavaApiProvider() {
+        @Override
+        public Optional<ApiVersion> version(IJavaEnvironment context) {
+          return Optional.empty();
+        }
+      });
+      assertFalse(Api.version(IJavaApi.class, env).isPresent()); // no reload required
+      assertFalse(env.api(IJavaApi.class).isPresent());
+    }
+    finally {
+      Api.registerProvider(IJavaApi.class, new JavaApiProvider());
+    }
+    assertEquals(version, Api.version(IJavaApi.class, env).orElseThrow());
+    assertEquals(api.getClass(), env.requireApi(IJavaApi.class).getClass());
+  }
+
   @AfterAll
   public static void cleanup() {
     Api.unregisterProvider(IJavaApi.class);
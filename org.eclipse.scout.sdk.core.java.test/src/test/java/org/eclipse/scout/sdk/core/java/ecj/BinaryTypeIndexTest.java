@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.jar.JarOutputStream;
+import java.util.zip.ZipEntry;
+
+import org.eclipse.scout.sdk.core.java.model.spi.ClasspathSpi;
+import org.eclipse.scout.sdk.core.util.CoreUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>{@link BinaryTypeIndexTest}</h3>
+ *
+ * @since 13.0
+ */
+public class BinaryTypeIndexTest {
+
+  @Test
+  public void testIndexContent() throws IOException {
+    var dir = Files.createTempDirectory("binaryTypeIndexTest");
+    try {
+      var jar = createJar(dir.resolve("test.jar"), "a/b/C.class", "a/b/C$Inner.class", "a/d/E.class", "META-INF/versions/11/x/y/Z.class", "a/b/readme.txt", "res/images/logo.png", "empty/");
+      var indexDir = dir.resolve("index");
+
+      var index = BinaryTypeIndex.of(jar, indexDir).orElseThrow();
+      assertIndexContent(index);
+      assertSame(index, BinaryTypeIndex.of(jar, indexDir).orElseThrow()); // shared while in use
+
+      try (var indexFiles = Files.list(indexDir)) {
+        assertEquals(1, indexFiles.count());
+      }
+
+      // read the index file from the disk
+      BinaryTypeIndex.clearCache();
+      assertIndexContent(BinaryTypeIndex.of(jar, indexDir).orElseThrow());
+    }
+    finally {
+      BinaryTypeIndex.clearCache();
+      CoreUtils.deleteDirectory(dir);
+    }
+  }
+
+  @Test
+  public void testConcurrentLoad() throws Exception {
+    var dir = Files.createTempDirectory("binaryTypeIndexTest");
+    var executor = Executors.newFixedThreadPool(8);
+    try {
+      var jar = createJar(dir.resolve("test.jar"), "a/b/C.class");
+      var indexDir = dir.resolve("index");
+      var start = new CountDownLatch(1);
+      Collection<Future<BinaryTypeIndex>> futures = new ArrayList<>();
+      for (var i = 0; i < 32; i++) {
+        futures.add(executor.submit(() -> {
+          start.await();
+          return BinaryTypeIndex.of(jar, indexDir).orElseThrow();
+        }));
+      }
+      start.countDown();
+
+      var index = BinaryTypeIndex.of(jar, indexDir).orElseThrow();
+      for (var future : futures) {
+        assertSame(index, future.get()); // all callers share the same index
+      }
+      assertTrue(index.mayContainType("a/b/C.class"));
+    }
+    finally {
+      executor.shutdownNow();
+      BinaryTypeIndex.clearCache();
+      CoreUtils.deleteDirectory(dir);
+    }
+  }
+
+  @Test
+  public void testNotIndexable() throws IOException {
+    var dir = Files.createTempDirectory("binaryTypeIndexTest");
+    try {
+      var txt = Files.writeString(dir.resolve("test.txt"), "test");
+      assertFalse(BinaryTypeIndex.isIndexable(null));
+      assertFalse(BinaryTypeIndex.isIndexable(dir));
+      assertFalse(BinaryTypeIndex.isIndexable(txt));
+      assertTrue(BinaryTypeIndex.of(txt, dir.resolve("index")).isEmpty());
+    }
+    finally {
+      CoreUtils.deleteDirectory(dir);
+    }
+  }
+
+  @Test
+  public void testClasspathBuilderWithIndex() throws IOException {
+    var dir = Files.createTempDirectory("binaryTypeIndexTest");
+    try {
+      var jar = createJar(dir.resolve("test.jar"), "a/b/C.class");
+      var builder = new ClasspathBuilder(null, List.of(new ClasspathEntry(jar, ClasspathSpi.MODE_BINARY, null)), dir.resolve("index"));
+      var classpath = builder.userClasspath().iterator().next();
+      assertInstanceOf(ClasspathMultiReleaseJarWithIndex.class, classpath);
+      assertNotNull(((ClasspathMultiReleaseJarWithIndex) classpath).index());
+      assertFalse(classpath.isPackage("x/y", null));
+      assertNull(classpath.findClass("Z".toCharArray(), "x/y", null, "x/y/Z.class", false));
+    }
+    finally {
+      BinaryTypeIndex.clearCache();
+      CoreUtils.deleteDirectory(dir);
+    }
+  }
+
+  @Test
+  public void testReopenChangedArchives() throws IOException {
+    var dir = Files.createTempDirectory("binaryTypeIndexTest");
+    try {
+      var jar = createJar(dir.resolve("test.jar"), "a/b/C.class");
+      var builder = new ClasspathBuilder(null, List.of(new ClasspathEntry(jar, ClasspathSpi.MODE_BINARY, null)), dir.resolve("index"));
+      var classpath = builder.userClasspath().iterator().next();
+      assertTrue(builder.reopenChangedArchives().isEmpty());
+      assertFalse(classpath.isPackage("x/y", null));
+
+      createJar(jar, "a/b/C.class", "x/y/Z.class"); // e.g. an updated SNAPSHOT
+      Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+      var replaced = builder.reopenChangedArchives();
+      assertEquals(1, replaced.size());
+      var newClasspath = replaced.get(classpath);
+      assertSame(newClasspath, builder.userClasspath().iterator().next());
+      assertTrue(builder.fullClasspath().contains(newClasspath));
+      assertFalse(builder.fullClasspath().contains(classpath));
+      assertTrue(newClasspath.isPackage("x/y", null));
+      classpath.reset();
+
+      assertTrue(builder.reopenChangedArchives().isEmpty());
+      newClasspath.reset();
+    }
+    finally {
+      BinaryTypeIndex.clearCache();
+      CoreUtils.deleteDirectory(dir);
+    }
+  }
+
+  private static void assertIndexContent(BinaryTypeIndex index) {
+    assertTrue(index.mayContainPackage("a"));
+    assertTrue(index.mayContainPackage("a/b"));
+    assertTrue(index.mayContainPackage("a/d"));
+    assertTrue(index.mayContainPackage("x/y"));
+    assertFalse(index.mayContainPackage("a/c"));
+
+    // like the compiler: directories containing resources only and the default package are packages as well
+    assertTrue(index.mayContainPackage(""));
+    assertTrue(index.mayContainPackage("META-INF"));
+    assertTrue(index.mayContainPackage("META-INF/versions/11/x/y"));
+    assertTrue(index.mayContainPackage("res/images"));
+    assertTrue(index.mayContainPackage("empty"));
+    assertFalse(index.mayContainPackage("res/images/logo.png"));
+
+    assertTrue(index.mayContainType("a/b/C"));
+    assertTrue(index.mayContainType("a/b/C.class"));
+    assertTrue(index.mayContainType("a/b/C$Inner.class"));
+    assertTrue(index.mayContainType("x/y/Z.class"));
+    assertFalse(index.mayContainType("a/b/D.class"));
+    assertFalse(index.mayContainType("a/b/readme"));
+  }
+
+  private static Path createJar(Path file, String... entries) throws IOException {
+    try (var out = new JarOutputStream(Files.newOutputStream(file))) {
+      for (var entry : entries) {
+        out.putNextEntry(new ZipEntry(entry));
+        out.write(new byte[]{0});
+        out.closeEntry();
+      }
+    }
+    return file;
+  }
+}
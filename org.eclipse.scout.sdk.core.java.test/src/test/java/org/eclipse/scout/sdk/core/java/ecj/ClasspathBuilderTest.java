@@ -12,6 +12,8 @@ package org.eclipse.scout.sdk.core.java.ecj;
 import static java.util.stream.Collectors.toList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.nio.file.Paths;
 import java.util.Collection;
@@ -38,6 +40,25 @@ public class ClasspathBuilderTest {
     assertValid(new ClasspathBuilder(Util.getJavaHome().toPath(), createFixtureEntries()));
   }
 
+  @Test
+  public void testBootClasspathIsShared() {
+    var a = new ClasspathBuilder(null, createFixtureEntries());
+    var b = new ClasspathBuilder(Util.getJavaHome().toPath(), createFixtureEntries());
+    try {
+      assertSame(a.bootClasspath(), b.bootClasspath());
+      var refCount = BootClasspathCache.referenceCount(a.jreInfo());
+      assertTrue(refCount >= 2);
+
+      a.releaseBootClasspath();
+      a.releaseBootClasspath(); // releasing twice has no effect
+      assertEquals(refCount - 1, BootClasspathCache.referenceCount(a.jreInfo()));
+    }
+    finally {
+      a.releaseBootClasspath();
+      b.releaseBootClasspath();
+    }
+  }
+
   private static Collection<? extends ClasspathEntry> createFixtureEntries() {
     var numDuplicates = 2;
     //noinspection AccessOfSystemProperties
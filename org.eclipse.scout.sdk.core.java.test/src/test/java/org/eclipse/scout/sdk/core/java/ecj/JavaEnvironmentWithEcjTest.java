@@ -9,29 +9,51 @@
  */
 package org.eclipse.scout.sdk.core.java.ecj;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
 
 import java.nio.CharBuffer;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.internal.compiler.ast.MemberValuePair;
 import org.eclipse.jdt.internal.compiler.lookup.ElementValuePair;
 import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
 import org.eclipse.jdt.internal.compiler.lookup.TypeBinding;
 import org.eclipse.scout.sdk.core.java.JavaTypes;
+import org.eclipse.scout.sdk.core.java.ecj.EcjAstCompiler.ParsedSource;
+import org.eclipse.scout.sdk.core.java.fixture.AnnotationQueryTestFixture;
+import org.eclipse.scout.sdk.core.java.fixture.ChildClass;
+import org.eclipse.scout.sdk.core.java.fixture.ClassWithAnnotationWithArrayValues;
+import org.eclipse.scout.sdk.core.java.fixture.ClassWithMembers;
+import org.eclipse.scout.sdk.core.java.fixture.ClassWithTypeParameters;
 import org.eclipse.scout.sdk.core.java.model.CompilationUnitInfo;
+import org.eclipse.scout.sdk.core.java.model.api.IAnnotatable;
+import org.eclipse.scout.sdk.core.java.model.api.IJavaElement;
 import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
+import org.eclipse.scout.sdk.core.java.model.api.IType;
 import org.eclipse.scout.sdk.core.java.model.spi.ClasspathSpi;
 import org.eclipse.scout.sdk.core.java.model.spi.JavaElementSpi;
 import org.eclipse.scout.sdk.core.java.testing.FixtureHelper.CoreJavaEnvironmentBinaryOnlyFactory;
+import org.eclipse.scout.sdk.core.java.testing.FixtureHelper.CoreJavaEnvironmentWithSourceFactory;
 import org.eclipse.scout.sdk.core.util.FinalValue;
+import org.eclipse.scout.sdk.core.util.SdkException;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -64,6 +86,156 @@ public class JavaEnvironmentWithEcjTest {
     assertTrue(closedEnv.isInitialized());
   }
 
+  /**
+   * Tests that many threads can concurrently query the same environment without deadlocks and that all threads get the
+   * same (shared) SPI instances.
+   */
+  @Test
+  public void testConcurrentQueries() {
+    var threadCount = 8;
+    var fqns = Stream.of(ChildClass.class, ClassWithMembers.class, ClassWithTypeParameters.class, AnnotationQueryTestFixture.class, ClassWithAnnotationWithArrayValues.class)
+        .map(Class::getName)
+        .toList();
+
+    new CoreJavaEnvironmentWithSourceFactory().accept(env -> assertTimeoutPreemptively(Duration.ofMinutes(2), () -> {
+      var executor = Executors.newFixedThreadPool(threadCount);
+      try {
+        Callable<List<JavaElementSpi>> task = () -> fqns.stream()
+            .flatMap(fqn -> visitAll(env.requireType(fqn)))
+            .map(IJavaElement::unwrap)
+            .toList();
+        var futures = new ArrayList<Future<List<JavaElementSpi>>>(threadCount);
+        for (var i = 0; i < threadCount; i++) {
+          futures.add(executor.submit(task));
+        }
+
+        var reference = futures.get(0).get();
+        assertFalse(reference.isEmpty());
+        for (var future : futures) {
+          var result = future.get();
+          assertEquals(reference.size(), result.size());
+          for (var i = 0; i < reference.size(); i++) {
+            assertSame(reference.get(i), result.get(i));
+          }
+        }
+      }
+      finally {
+        executor.shutdownNow();
+      }
+    }));
+  }
+
+  /**
+   * Tests that the name environment (including its compilation unit overrides) survives a reload and that replacing
+   * an override which has not been bound yet does not require a reload.
+   */
+  @Test
+  public void testReloadKeepsNameEnvironment() {
+    new CoreJavaEnvironmentWithSourceFactory().accept(env -> {
+      var ecjEnv = (JavaEnvironmentWithEcj) env.unwrap();
+      var pck = "org.test";
+      var fileName = "ReloadTest" + JavaTypes.JAVA_FILE_SUFFIX;
+      var unbound = new CompilationUnitInfo(null, pck, "Unbound" + JavaTypes.JAVA_FILE_SUFFIX);
+      assertFalse(ecjEnv.registerCompilationUnitOverride("package org.test; public class Unbound {}".toCharArray(), unbound));
+      assertFalse(ecjEnv.registerCompilationUnitOverride("package org.test; public class Unbound {int a;}".toCharArray(), unbound));
+
+      assertFalse(env.registerCompilationUnitOverride("package org.test; public class ReloadTest {}", pck, fileName));
+      var type = env.requireType(pck + ".ReloadTest");
+      assertFalse(type.fields().existsAny());
+      var nameEnvironment = ecjEnv.getNameEnvironment();
+
+      assertTrue(env.registerCompilationUnitOverride("package org.test; public class ReloadTest {int a;}", pck, fileName));
+      env.reload();
+      assertSame(nameEnvironment, ecjEnv.getNameEnvironment());
+      assertTrue(type.fields().withName("a").existsAny());
+      assertTrue(env.requireType(pck + ".Unbound").fields().withName("a").existsAny());
+    });
+  }
+
+  @Test
+  public void testSourceCacheIsBounded() {
+    var fixtures = Stream.of(ChildClass.class, ClassWithMembers.class, ClassWithTypeParameters.class)
+        .map(Class::getName)
+        .toList();
+    var builder = new CoreJavaEnvironmentWithSourceFactory().get().withSourceCacheLimit(1);
+    builder.accept(env -> {
+      var sourceCache = ((JavaEnvironmentWithEcj) env.unwrap()).sourceCache();
+      assertEquals(1, sourceCache.maxChars());
+      for (var fqn : fixtures) {
+        assertTrue(env.requireType(fqn).source().isPresent());
+      }
+      assertEquals(0, sourceCache.size()); // all sources are larger than the limit
+    });
+
+    new CoreJavaEnvironmentWithSourceFactory().accept(env -> {
+      var sourceCache = ((JavaEnvironmentWithEcj) env.unwrap()).sourceCache();
+      var type = env.requireType(ChildClass.class.getName());
+      var src = type.requireCompilationUnit().source().orElseThrow().asCharSequence().toString();
+      assertEquals(src, type.requireCompilationUnit().source().orElseThrow().asCharSequence().toString());
+      assertTrue(sourceCache.hitCount() > 0);
+      assertTrue(sourceCache.chars() > 0);
+    });
+  }
+
+  @Test
+  public void testSourceCacheEviction() {
+    var cache = new SourceCache(10, false);
+    assertArrayEquals("12345".toCharArray(), cache.computeIfAbsent(CharBuffer.wrap("a"), "12345"::toCharArray));
+    cache.computeIfAbsent(CharBuffer.wrap("b"), "12345"::toCharArray);
+    cache.computeIfAbsent(CharBuffer.wrap("a"), () -> fail("must be cached")); // a is now the most recently used
+    cache.computeIfAbsent(CharBuffer.wrap("c"), "123"::toCharArray);
+    assertEquals(2, cache.size());
+    assertEquals(8, cache.chars());
+    assertEquals(10, cache.evictedBytes());
+    assertEquals(1, cache.hitCount());
+    assertEquals(3, cache.missCount());
+    assertNull(cache.computeIfAbsent(CharBuffer.wrap("d"), () -> null));
+
+    cache.removeIf(k -> k.toString().equals("a"));
+    assertEquals(3, cache.chars());
+    cache.clear();
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testParsedSource() {
+    var unit = new StringBasedCompilationUnitWithEcj(new CompilationUnitInfo(null, "a.b", "Test" + JavaTypes.JAVA_FILE_SUFFIX), "class Test {}".toCharArray(), null);
+    var parsed = "class Test{ }".toCharArray(); // the unit has been modified after it has been parsed
+    var withSource = new ParsedSource(unit, parsed.length, parsed);
+    assertTrue(withSource.isSameAs("class Test{ }".toCharArray()));
+    assertFalse(withSource.isSameAs(unit.getContents())); // same length but other content
+    assertThrows(SdkException.class, withSource::read); // the positions of the AST refer to the parsed source
+
+    var unchanged = new ParsedSource(unit, parsed.length, unit.getContents());
+    assertArrayEquals(unit.getContents(), unchanged.read());
+
+    var lengthOnly = new ParsedSource(unit, parsed.length, null);
+    assertArrayEquals(unit.getContents(), lengthOnly.read());
+    assertThrows(SdkException.class, () -> new ParsedSource(unit, parsed.length + 1, null).read());
+    assertFalse(lengthOnly.isSameAs(null));
+  }
+
+  private static Stream<IJavaElement> visitAll(IType type) {
+    var members = Stream.<Stream<? extends IJavaElement>> of(
+        type.methods().withSuperTypes(true).stream().flatMap(m -> Stream.<IJavaElement> concat(Stream.of(m), m.parameters().stream())),
+        type.fields().withSuperTypes(true).stream(),
+        type.innerTypes().withRecursiveInnerTypes(true).stream(),
+        type.superTypes().stream(),
+        type.typeParameters())
+        .<IJavaElement> flatMap(s -> s);
+    return Stream.concat(Stream.of(type), members)
+        .flatMap(JavaEnvironmentWithEcjTest::withAnnotations);
+  }
+
+  private static Stream<IJavaElement> withAnnotations(IJavaElement element) {
+    if (!(element instanceof IAnnotatable annotatable)) {
+      return Stream.of(element);
+    }
+    var annotations = annotatable.annotations().stream()
+        .flatMap(a -> Stream.<IJavaElement> concat(Stream.of(a), a.elements().values().stream()));
+    return Stream.concat(Stream.of(element), annotations);
+  }
+
   private static JavaEnvironmentWithEcj createClosedJavaEnvironment() {
     var holder = new AtomicReference<IJavaEnvironment>();
     new CoreJavaEnvironmentBinaryOnlyFactory().accept(holder::set);
@@ -75,7 +247,7 @@ public class JavaEnvironmentWithEcjTest {
     assertEquals(0, JavaEnvironmentWithEcjTest.<Map<Object, JavaElementSpi>> fieldValue(candidate, "m_elements").size());
     assertEquals(0, JavaEnvironmentWithEcjTest.<Map<ReferenceBinding, Map<String, ElementValuePair>>> fieldValue(candidate, "m_evpCache").size());
     assertEquals(0, JavaEnvironmentWithEcjTest.<Map<TypeBinding, Map<String, MemberValuePair>>> fieldValue(candidate, "m_mvpCache").size());
-    assertEquals(0, JavaEnvironmentWithEcjTest.<Map<CharBuffer, char[]>> fieldValue(candidate, "m_sourceCache").size());
+    assertEquals(0, candidate.sourceCache().size());
     assertFalse(JavaEnvironmentWithEcjTest.<Collection<? extends ClasspathEntry>> fieldValue(candidate, "m_rawClassPath").isEmpty()); // classpath is preserved so that the environment can be reinitialized
     assertFalse(JavaEnvironmentWithEcjTest.<FinalValue<EcjAstCompiler>> fieldValue(candidate, "m_compiler").isSet());
     assertFalse(JavaEnvironmentWithEcjTest.<FinalValue<List<ClasspathSpi>>> fieldValue(candidate, "m_classpath").isSet());
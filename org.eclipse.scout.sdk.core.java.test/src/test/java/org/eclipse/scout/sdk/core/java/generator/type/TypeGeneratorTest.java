@@ -26,6 +26,8 @@ import org.eclipse.scout.sdk.core.java.builder.JavaBuilderContext;
 import org.eclipse.scout.sdk.core.java.builder.comment.IJavaElementCommentBuilder;
 import org.eclipse.scout.sdk.core.java.fixture.InterfaceWithTypeParam;
 import org.eclipse.scout.sdk.core.java.generator.annotation.AnnotationGenerator;
+import org.eclipse.scout.sdk.core.java.generator.compilationunit.CompilationUnitGenerator;
+import org.eclipse.scout.sdk.core.java.generator.compilationunit.ICompilationUnitGenerator;
 import org.eclipse.scout.sdk.core.java.generator.field.FieldGenerator;
 import org.eclipse.scout.sdk.core.java.generator.field.IFieldGenerator;
 import org.eclipse.scout.sdk.core.java.generator.method.IMethodGenerator;
@@ -264,6 +266,103 @@ public class TypeGeneratorTest {
     assertEquals(2, result.requireCompilationUnit().imports().count());
   }
 
+  @Test
+  public void testParallelMemberRendering() {
+    var sequential = createLargeCompilationUnit(false).toJavaSource().toString();
+    var parallel = createLargeCompilationUnit(true).toJavaSource().toString();
+    assertEquals(sequential, parallel);
+    assertTrue(parallel.contains("import java.util.List;"));
+    assertTrue(parallel.contains("private java.awt.List m_field1;"));
+  }
+
+  @Test
+  public void testParallelNestedTypeRendering() {
+    var sequential = createNestedCompilationUnit(false).toJavaSource().toString();
+    var parallel = createNestedCompilationUnit(true).toJavaSource().toString();
+    assertEquals(sequential, parallel);
+    assertTrue(parallel.contains("public class Date"));
+    assertTrue(parallel.contains("java.util.Date"));
+  }
+
+  protected static ICompilationUnitGenerator<?> createNestedCompilationUnit(boolean parallel) {
+    return CompilationUnitGenerator.create()
+        .withPackageName("a.b.c")
+        .withElementName("NestedType")
+        .withType(createNestedType("NestedType", 3, parallel));
+  }
+
+  protected static ITypeGenerator<?> createNestedType(String name, int depth, boolean parallel) {
+    var type = TypeGenerator.create()
+        .asPublic()
+        .withElementName(name);
+    if (parallel) {
+      type.withParallelMemberRendering();
+    }
+    for (var i = 0; i < 4; i++) {
+      var dataType = (i + depth) % 2 == 0 ? List.class.getName() + "<java.lang.String>" : "java.awt.List";
+      type
+          .withField(FieldGenerator.create()
+              .asPrivate()
+              .withDataType(dataType)
+              .withElementName("m_field" + i))
+          .withMethod(MethodGenerator.create()
+              .asPublic()
+              .withReturnType(i % 2 == 0 ? "java.util.Date" : "java.sql.Date")
+              .withElementName("getDate" + i)
+              .withBody(b -> b.returnClause().nullLiteral().semicolon()));
+      if (depth > 0) {
+        // a nested type named 'Date' changes how the references to java.util.Date are created in its scope
+        var nestedName = i == 1 ? "Date" : name + "Level" + depth + "Item" + i;
+        type.withType(createNestedType(nestedName, depth - 1, parallel));
+      }
+    }
+    return type;
+  }
+
+  protected static ICompilationUnitGenerator<?> createLargeCompilationUnit(boolean parallel) {
+    var type = TypeGenerator.create()
+        .asPublic()
+        .withElementName("LargeType")
+        .withSuperClass(AbstractMap.class.getName() + "<java.lang.String, java.lang.Object>");
+    for (var i = 0; i < 60; i++) {
+      // alternating data types with the same simple name: the imports depend on the member order
+      var dataType = i % 2 == 0 ? List.class.getName() + "<java.lang.String>" : "java.awt.List";
+      var fieldName = "m_field" + i;
+      var inner = TypeGenerator.create()
+          .asPublic()
+          .asStatic()
+          .withElementName("Inner" + i)
+          .withInterface(Serializable.class.getName())
+          .withField(FieldGenerator.createSerialVersionUid())
+          .withMethod(MethodGenerator.create()
+              .asPublic()
+              .withReturnType(i % 3 == 0 ? "java.sql.Date" : "java.util.Date")
+              .withElementName("getDate")
+              .withBody(b -> b.returnClause().nullLiteral().semicolon()));
+      if (parallel) {
+        inner.withParallelMemberRendering();
+      }
+      type
+          .withField(FieldGenerator.create()
+              .asPrivate()
+              .withDataType(dataType)
+              .withElementName(fieldName))
+          .withMethod(MethodGenerator.create()
+              .asPublic()
+              .withReturnType(dataType)
+              .withElementName("getField" + i)
+              .withBody(b -> b.returnClause().append(fieldName).semicolon()))
+          .withType(inner);
+    }
+    if (parallel) {
+      type.withParallelMemberRendering();
+    }
+    return CompilationUnitGenerator.create()
+        .withPackageName("a.b.c")
+        .withElementName("LargeType")
+        .withType(type);
+  }
+
   protected static void assertMethodOrder(int expectedOrder, IMethodGenerator<?, ?> generator) {
     var insertionOrder = INSERTION_ORDER.getAndIncrement();
     assertMemberOrder(expectedOrder, SortedMemberEntry.METHOD_ORDER, insertionOrder, SortedMemberEntry.defaultMethodOrder(generator, insertionOrder));
@@ -0,0 +1,91 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.imports;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>{@link ForkedImportCollectorTest}</h3>
+ *
+ * @since 13.0
+ */
+public class ForkedImportCollectorTest {
+
+  @Test
+  public void testMerge() {
+    var root = new ImportCollector();
+    var collector = new CompilationUnitScopedImportCollector(root, "a.b.c");
+    var fork1 = ForkedImportCollector.fork(collector).orElseThrow();
+    var fork2 = ForkedImportCollector.fork(collector).orElseThrow();
+
+    assertEquals("List", fork1.createImportValidator().useReference("java.util.List"));
+    assertEquals("List", fork2.createImportValidator().useReference("java.awt.List"));
+    assertEquals("Other", fork2.createImportValidator().useReference("a.b.c.Other")); // scope of the forked collector
+    assertEquals(0, root.getImports().count()); // the forks do not modify the root
+
+    assertTrue(fork1.merge());
+    assertFalse(fork2.merge()); // java.awt.List would be qualified now
+    assertEquals(singletonList("import java.util.List;"), toStringList(collector.createImportDeclarations()));
+    assertEquals("java.awt.List", new ImportValidator(collector).useReference("java.awt.List"));
+  }
+
+  @Test
+  public void testMergeIndependentImports() {
+    var root = new ImportCollector();
+    var fork1 = ForkedImportCollector.fork(root).orElseThrow();
+    var fork2 = ForkedImportCollector.fork(root).orElseThrow();
+    fork1.createImportValidator().useReference("java.util.List");
+    fork2.createImportValidator().useReference("java.util.Map<java.lang.String, java.util.List<java.lang.Long>>");
+
+    assertTrue(fork2.merge());
+    assertTrue(fork1.merge());
+    assertEquals(List.of("import java.util.List;", "import java.util.Map;"), toStringList(root.createImportDeclarations()));
+  }
+
+  @Test
+  public void testNestedFork() {
+    var root = new ImportCollector();
+    var fork = ForkedImportCollector.fork(root).orElseThrow();
+    var nested = ForkedImportCollector.fork(new WrappedImportCollector(fork)).orElseThrow();
+    assertEquals("List", nested.createImportValidator().useReference("java.util.List"));
+    assertEquals("List", fork.createImportValidator().useReference("java.awt.List"));
+    assertFalse(nested.merge()); // the nested fork is merged into its parent fork and not into the root
+
+    var nested2 = ForkedImportCollector.fork(new WrappedImportCollector(fork)).orElseThrow();
+    assertEquals("java.util.List", nested2.createImportValidator().useReference("java.util.List"));
+    assertTrue(nested2.merge());
+    assertEquals(0, root.getImports().count());
+    assertTrue(fork.merge());
+    assertEquals(singletonList("import java.awt.List;"), toStringList(root.createImportDeclarations()));
+  }
+
+  @Test
+  public void testCanFork() {
+    var root = new ImportCollector();
+    assertTrue(ForkedImportCollector.canFork(new WrappedImportCollector(new CompilationUnitScopedImportCollector(root, "a.b.c"))));
+    assertFalse(ForkedImportCollector.canFork(new WrappedImportCollector(null)));
+    assertFalse(ForkedImportCollector.fork(new WrappedImportCollector(null)).isPresent());
+  }
+
+  protected static List<String> toStringList(Stream<StringBuilder> b) {
+    return b
+        .map(StringBuilder::toString)
+        .collect(toList());
+  }
+}
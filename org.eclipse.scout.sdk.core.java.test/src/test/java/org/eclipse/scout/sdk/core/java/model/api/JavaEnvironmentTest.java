@@ -12,12 +12,16 @@ package org.eclipse.scout.sdk.core.java.model.api;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 
 import org.eclipse.scout.sdk.core.java.JavaTypes;
 import org.eclipse.scout.sdk.core.java.fixture.ChildClass;
+import org.eclipse.scout.sdk.core.java.model.spi.AbstractJavaEnvironment;
 import org.eclipse.scout.sdk.core.java.testing.FixtureHelper.CoreJavaEnvironmentBinaryOnlyFactory;
 import org.eclipse.scout.sdk.core.java.testing.FixtureHelper.CoreJavaEnvironmentWithSourceFactory;
 import org.eclipse.scout.sdk.core.java.testing.context.ExtendWithJavaEnvironmentFactory;
@@ -85,6 +89,37 @@ public class JavaEnvironmentTest {
     assertEquals(Set.class.getName(), javaUtilSetWithArgs.name());
   }
 
+  @Test
+  public void testFindTypes(IJavaEnvironment env) {
+    var cached = env.requireType(ChildClass.class.getName());
+    var notExisting = "org.eclipse.scout.test.NotExisting";
+    var names = List.of(JavaTypes._int, notExisting, "org.eclipse.scout.sdk.core.java.fixture.BaseClass$InnerClass2", String.class.getName() + "[]", ChildClass.class.getName(), notExisting);
+
+    var types = env.findTypes(names);
+    assertEquals(List.of(JavaTypes._int, "org.eclipse.scout.sdk.core.java.fixture.BaseClass$InnerClass2", String.class.getName() + "[]", ChildClass.class.getName()), new ArrayList<>(types.keySet()));
+    assertSame(cached, types.get(ChildClass.class.getName()));
+    types.forEach((name, type) -> assertSame(env.requireType(name), type));
+    assertFalse(env.findType(notExisting).isPresent());
+    assertTrue(env.findTypes(List.of()).isEmpty());
+  }
+
+  @Test
+  public void testMissingTypeIsFoundAfterOverride(IJavaEnvironment env) {
+    var packageName = "org.eclipse.scout.test";
+    var fqn = packageName + ".MissingType";
+    var missingTypes = ((AbstractJavaEnvironment) env.unwrap()).missingTypeCache();
+    assertFalse(env.findType(fqn).isPresent());
+    assertFalse(env.findType(fqn + "$Inner").isPresent());
+    var hits = missingTypes.hitCount();
+    assertFalse(env.findType(fqn).isPresent());
+    assertEquals(hits + 1, missingTypes.hitCount());
+
+    assertFalse(env.registerCompilationUnitOverride("package " + packageName + "; public class MissingType { public static class Inner {} }", packageName, "MissingType" + JavaTypes.JAVA_FILE_SUFFIX));
+    assertTrue(env.findType(fqn).isPresent());
+    assertTrue(env.findType(fqn + "$Inner").isPresent());
+    assertFalse(missingTypes.contains(fqn));
+  }
+
   @Test
   public void testReloadOfSourceType(IJavaEnvironment env) {
     testReloadOfType(env);
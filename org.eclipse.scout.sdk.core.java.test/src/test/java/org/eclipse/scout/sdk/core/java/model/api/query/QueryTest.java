@@ -140,6 +140,18 @@ public class QueryTest {
     assertEquals(1, abstractBaseClass.methods().withSuperTypes(true).withName("close").stream().count());
   }
 
+  @Test
+  public void testParallelQuery(IJavaEnvironment env) {
+    var childClass = env.requireType(ChildClass.class.getName());
+    assertEquals(childClass.methods().withSuperTypes(true).stream().toList(), childClass.methods().withSuperTypes(true).withParallel(true).stream().toList());
+    assertEquals(childClass.fields().withSuperTypes(true).stream().toList(), childClass.fields().withSuperTypes(true).withParallel(true).stream().toList());
+    assertEquals(1, childClass.methods().withSuperClasses(true).withParallel(true).withName("method2InBaseClass").stream().count());
+
+    var abc = env.requireType(AbstractBaseClass.class.getName());
+    assertEquals(abc.innerTypes().withRecursiveInnerTypes(true).stream().toList(), abc.innerTypes().withRecursiveInnerTypes(true).withParallel(true).stream().toList());
+    assertEquals("InnerOne", abc.innerTypes().withRecursiveInnerTypes(true).withParallel(true).first().orElseThrow().elementName());
+  }
+
   @Test
   public void testAnnotationQuery(IJavaEnvironment env) {
     var acc = env.requireType(AbstractChildClass.class.getName());
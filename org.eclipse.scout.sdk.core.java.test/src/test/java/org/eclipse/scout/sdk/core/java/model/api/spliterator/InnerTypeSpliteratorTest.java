@@ -9,9 +9,11 @@
  */
 package org.eclipse.scout.sdk.core.java.model.api.spliterator;
 
+import static java.util.stream.Collectors.joining;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 
 import org.eclipse.scout.sdk.core.java.JavaTypes;
 import org.eclipse.scout.sdk.core.java.fixture.AbstractBaseClass;
@@ -56,6 +58,24 @@ public class InnerTypeSpliteratorTest {
     assertEquals("InnerOne,Leaf,Leaf2,InnerTwo,Leaf3,Leaf4", traverse(ts));
   }
 
+  @Test
+  public void testSplitRecursive(IJavaEnvironment env) {
+    var abc = env.requireType(AbstractBaseClass.class.getName());
+    Spliterator<IType> ts = new InnerTypeSpliterator(abc, true);
+    var split = ts.trySplit();
+    assertEquals("InnerOne,Leaf", traverse(split));
+    assertEquals("Leaf2,InnerTwo,Leaf3,Leaf4", traverse(ts));
+  }
+
+  @Test
+  public void testParallelRecursive(IJavaEnvironment env) {
+    var abc = env.requireType(AbstractBaseClass.class.getName());
+    var names = StreamSupport.stream(new InnerTypeSpliterator(abc, true), true)
+        .map(IType::elementName)
+        .collect(joining(","));
+    assertEquals("InnerOne,Leaf,Leaf2,InnerTwo,Leaf3,Leaf4", names);
+  }
+
   static String traverse(Spliterator<IType> ts) {
     var b = new StringBuilder();
     //noinspection StatementWithEmptyBody
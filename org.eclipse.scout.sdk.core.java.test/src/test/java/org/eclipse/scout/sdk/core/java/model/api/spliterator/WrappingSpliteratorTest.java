@@ -50,13 +50,13 @@ public class WrappingSpliteratorTest {
 
     var ref = new AtomicReference<String>();
     assertTrue(orig.tryAdvance(t -> ref.set(t.elementName())));
-    assertEquals("0", ref.get());
+    assertEquals("1", ref.get());
     assertFalse(orig.tryAdvance(t -> {
     }));
     assertNull(orig.trySplit());
 
     assertTrue(split.tryAdvance(t -> ref.set(t.elementName())));
-    assertEquals("1", ref.get());
+    assertEquals("0", ref.get());
     assertFalse(split.tryAdvance(t -> {
     }));
     assertNull(split.trySplit());
@@ -19,10 +19,11 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.EnumMap;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -34,14 +35,17 @@ import org.eclipse.scout.sdk.core.util.SdkException;
 
 /**
  * Main access class for obtaining {@link IApiSpecification} instances.
+ * <p>
+ * The versions and APIs found in an {@link IJavaEnvironment} are cached in the environment (see
+ * {@link IJavaEnvironment#apiVersion(Class)} and {@link IJavaEnvironment#api(Class)}).
  */
-@SuppressWarnings("SynchronizationOnStaticField")
 public final class Api {
 
   @SuppressWarnings("StaticCollection")
-  private static final Map<Class<? extends IApiSpecification>, IApiProvider> REGISTRY = new HashMap<>();
+  private static final Map<Class<? extends IApiSpecification>, IApiProvider> REGISTRY = new ConcurrentHashMap<>();
   @SuppressWarnings("StaticCollection")
-  private static final Map<Entry<Class<? extends IApiSpecification>, ApiVersion>, IApiSpecification> API_CACHE = new HashMap<>();
+  private static final Map<Entry<Class<? extends IApiSpecification>, ApiVersion>, IApiSpecification> API_CACHE = new ConcurrentHashMap<>();
+  private static final AtomicLong PROVIDER_GENERATION = new AtomicLong();
 
   private Api() {
   }
@@ -80,9 +84,7 @@ public final class Api {
   public static IApiProvider getProvider(Class<? extends IApiSpecification> apiDefinition) {
     Ensure.notNull(apiDefinition);
     ensureInitialized(apiDefinition);
-    synchronized (REGISTRY) {
-      return Ensure.notNull(REGISTRY.get(apiDefinition), "No provider for API class '{}' found.", apiDefinition);
-    }
+    return Ensure.notNull(REGISTRY.get(apiDefinition), "No provider for API class '{}' found.", apiDefinition);
   }
 
   /**
@@ -96,10 +98,10 @@ public final class Api {
    *         for that class which was replaced.
    */
   public static boolean registerProvider(Class<? extends IApiSpecification> apiDefinition, IApiProvider provider) {
-    synchronized (REGISTRY) {
-      removeCachedApisOf(apiDefinition);
-      return REGISTRY.put(Ensure.notNull(apiDefinition), Ensure.notNull(provider)) != null;
-    }
+    var replaced = REGISTRY.put(Ensure.notNull(apiDefinition), Ensure.notNull(provider)) != null;
+    removeCachedApisOf(apiDefinition);
+    PROVIDER_GENERATION.incrementAndGet(); // after the registry has been changed
+    return replaced;
   }
 
   /**
@@ -110,10 +112,25 @@ public final class Api {
    * @return {@code true} if a mapping was removed, {@code false} if there was already no mapping for this class.
    */
   public static boolean unregisterProvider(Class<? extends IApiSpecification> apiDefinition) {
-    synchronized (REGISTRY) {
-      removeCachedApisOf(apiDefinition);
-      return REGISTRY.remove(apiDefinition) != null;
+    if (apiDefinition == null) {
+      return false;
     }
+    var removed = REGISTRY.remove(apiDefinition) != null;
+    removeCachedApisOf(apiDefinition);
+    PROVIDER_GENERATION.incrementAndGet(); // after the registry has been changed
+    return removed;
+  }
+
+  /**
+   * Gets the current generation of the provider registry. The generation changes whenever an {@link IApiProvider} is
+   * registered or unregistered. {@link IJavaEnvironment}s use it to discard the versions and APIs they have cached
+   * using the providers of an older generation.
+   *
+   * @return The current generation of the provider registry.
+   * @since 13.0
+   */
+  public static long providerGeneration() {
+    return PROVIDER_GENERATION.get();
   }
 
   static void removeCachedApisOf(Class<? extends IApiSpecification> apiDefinition) {
@@ -171,6 +188,8 @@ public final class Api {
 
   /**
    * Gets the {@link ApiVersion version} of the given API in the context of the given {@link IJavaEnvironment}.
+   * <p>
+   * The version is cached in the {@link IJavaEnvironment} until it is reloaded.
    *
    * @param api
    *          The API definition for which the version should be returned. Must not be {@code null}.
@@ -182,7 +201,26 @@ public final class Api {
    *           if the API type is {@code null} or no {@link IApiProvider} could be found for that type
    */
   public static Optional<ApiVersion> version(Class<? extends IApiSpecification> api, IJavaEnvironment context) {
-    return Optional.ofNullable(context).flatMap(ctx -> getProvider(api).version(ctx));
+    Ensure.notNull(api);
+    return Optional.ofNullable(context).flatMap(ctx -> ctx.apiVersion(api));
+  }
+
+  /**
+   * Computes the {@link ApiVersion version} of the given API in the context of the given {@link IJavaEnvironment}
+   * without using the cache of the environment.
+   *
+   * @param api
+   *          The API definition for which the version should be returned. Must not be {@code null}.
+   * @param context
+   *          The {@link IJavaEnvironment} in which the API should be searched. Must not be {@code null}.
+   * @return The {@link ApiVersion} of the given API in the context of the given {@link IJavaEnvironment} or an empty
+   *         {@link Optional} if the API could not be found in the context.
+   * @throws IllegalArgumentException
+   *           if the API type is {@code null} or no {@link IApiProvider} could be found for that type
+   * @see #version(Class, IJavaEnvironment)
+   */
+  public static Optional<ApiVersion> computeVersion(Class<? extends IApiSpecification> api, IJavaEnvironment context) {
+    return getProvider(api).version(Ensure.notNull(context));
   }
 
   /**
@@ -208,6 +246,8 @@ public final class Api {
   /**
    * Creates an API instance of the given type having the version as found in the context of the given
    * {@link IJavaEnvironment}.
+   * <p>
+   * The API is cached in the {@link IJavaEnvironment} until it is reloaded.
    *
    * @param api
    *          The API definition type to return. Must not be {@code null}.
@@ -222,8 +262,8 @@ public final class Api {
    *           found in the context is not supported (version found in the context is too old).
    */
   public static <API extends IApiSpecification> Optional<API> create(Class<API> api, IJavaEnvironment context) {
-    return version(api, context)
-        .map(version -> create(api, version));
+    Ensure.notNull(api);
+    return Optional.ofNullable(context).flatMap(ctx -> ctx.api(api));
   }
 
   /**
@@ -242,11 +282,9 @@ public final class Api {
    *           is not supported (version found in the context is too old).
    */
   public static <API extends IApiSpecification> API create(Class<API> api, ApiVersion version) {
-    Entry<Class<? extends IApiSpecification>, ApiVersion> key = new SimpleImmutableEntry<>(api, version);
-    synchronized (REGISTRY) {
-      var definition = API_CACHE.computeIfAbsent(key, Api::doCreateApi);
-      return api.cast(definition);
-    }
+    Entry<Class<? extends IApiSpecification>, ApiVersion> key = new SimpleImmutableEntry<>(Ensure.notNull(api), version);
+    var definition = API_CACHE.computeIfAbsent(key, Api::doCreateApi);
+    return api.cast(definition);
   }
 
   static IApiSpecification doCreateApi(Entry<Class<? extends IApiSpecification>, ApiVersion> entry) {
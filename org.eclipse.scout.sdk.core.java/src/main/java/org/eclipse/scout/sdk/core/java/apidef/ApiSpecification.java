@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.sdk.core.java.apidef;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
@@ -29,12 +31,16 @@ import org.eclipse.scout.sdk.core.log.MessageFormatter;
 import org.eclipse.scout.sdk.core.util.CoreUtils;
 import org.eclipse.scout.sdk.core.util.Ensure;
 import org.eclipse.scout.sdk.core.util.FinalValue;
+import org.eclipse.scout.sdk.core.util.SdkException;
 
 public class ApiSpecification implements InvocationHandler, IApiSpecification {
 
+  private static final MethodType DISPATCH_TYPE = MethodType.methodType(Object.class, Object[].class);
+
   private final FinalValue<ApiVersion> m_level;
   private final Map<Class<? extends IApiSpecification>, Optional<?>> m_apiCache;
   private final Map<String, Entry<Method, ApiSpecification>> m_methods; // flattened over the full chain of api specs (for performance reasons)
+  private final Map<Method, MethodHandle> m_dispatchTable; // resolved implementation by called interface method
 
   private final Class<? extends IApiSpecification> m_interface; // api spec interface
   private final FinalValue<IApiSpecification> m_implementation; // api spec implementation (proxy)
@@ -48,6 +54,7 @@ public class ApiSpecification implements InvocationHandler, IApiSpecification {
     m_level = new FinalValue<>();
     m_apiCache = new ConcurrentHashMap<>();
     m_methods = new HashMap<>();
+    m_dispatchTable = new ConcurrentHashMap<>();
   }
 
   static IApiSpecification create(Collection<Class<? extends IApiSpecification>> apiClasses, ApiVersion version) {
@@ -133,13 +140,39 @@ public class ApiSpecification implements InvocationHandler, IApiSpecification {
   }
 
   protected Object invokeIfcMethod(Method methodTemplate, Object[] args) {
-    var methodIdToFind = JavaTypes.createMethodIdentifier(methodTemplate);
-    var methodSpec = m_methods.get(methodIdToFind);
+    var handle = m_dispatchTable.computeIfAbsent(methodTemplate, this::resolveIfcMethod);
+    try {
+      return (Object) handle.invokeExact(args);
+    }
+    catch (RuntimeException | Error e) {
+      throw e;
+    }
+    catch (Throwable e) {
+      throw new SdkException("Exception calling api method '{}'.", methodTemplate, e);
+    }
+  }
+
+  /**
+   * Resolves the implementation of the given interface method once so that subsequent calls do not need to look up the
+   * method again.
+   *
+   * @param methodTemplate
+   *          The interface method called on the proxy.
+   * @return A {@link MethodHandle} of type {@code (Object[])Object} calling the default method implementing the method
+   *         given on the api specification it belongs to. The arguments are passed as array (may be {@code null} if the
+   *         method has no parameters).
+   */
+  protected MethodHandle resolveIfcMethod(Method methodTemplate) {
+    var methodSpec = m_methods.get(JavaTypes.createMethodIdentifier(methodTemplate));
     if (methodSpec == null) {
       throw Ensure.newFail("Pure virtual function call: {}", methodTemplate);
     }
-    var spec = methodSpec.getValue();
-    return CoreUtils.invokeDefaultMethod(spec.apiImplementation(), methodSpec.getKey(), args);
+    var method = methodSpec.getKey();
+    return CoreUtils.defaultMethodHandle(method)
+        .bindTo(methodSpec.getValue().apiImplementation())
+        .asFixedArity()
+        .asSpreader(Object[].class, method.getParameterCount())
+        .asType(DISPATCH_TYPE);
   }
 
   protected static void mergeMethodsIntoCache(ApiSpecification spec) {
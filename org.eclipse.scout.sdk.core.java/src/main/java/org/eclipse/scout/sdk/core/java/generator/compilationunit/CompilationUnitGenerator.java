@@ -25,8 +25,11 @@ import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.builder.IBuilderContext;
 import org.eclipse.scout.sdk.core.builder.ISourceBuilder;
+import org.eclipse.scout.sdk.core.builder.MemorySourceBuilder;
+import org.eclipse.scout.sdk.core.builder.SourceBuilderWrapper;
 import org.eclipse.scout.sdk.core.generator.ISourceGenerator;
 import org.eclipse.scout.sdk.core.java.JavaTypes;
+import org.eclipse.scout.sdk.core.java.builder.IJavaBuilderContext;
 import org.eclipse.scout.sdk.core.java.builder.IJavaSourceBuilder;
 import org.eclipse.scout.sdk.core.java.builder.comment.CommentBuilder;
 import org.eclipse.scout.sdk.core.java.builder.comment.ICommentBuilder;
@@ -139,25 +142,65 @@ public class CompilationUnitGenerator<TYPE extends ICompilationUnitGenerator<TYP
   protected void buildCompilationUnit(IJavaSourceBuilder<?> builder) {
     super.build(builder);
 
-    var typeSource = buildTypeSource(builder.context()); // pre-build type source so that all imports are defined
-    var nl = builder.context().lineDelimiter();
+    var context = builder.context();
+    var nl = context.lineDelimiter();
+    builder.append(getPackage()
+        .filter(pck -> pck.elementName(context).isPresent())
+        .map(pck -> b -> b.append(pck).nl().nl())); // only add newlines if a package is available
+
+    var memoryBuilder = memorySourceBuilderOf(builder);
+    if (memoryBuilder.isPresent()) {
+      // single pass: build the types directly into the target and insert the imports afterwards (as soon as they are known)
+      var importSlot = memoryBuilder.orElseThrow().reserveSlot();
+      builder.append(typesGenerator(context));
+      importSlot.fill(buildImportDeclarations(context));
+    }
+    else {
+      var typeSource = buildTypeSource(context); // pre-build type source so that all imports are defined
+      builder
+          .append(buildImportDeclarations(context))
+          .append(typeSource);
+    }
 
     builder
-        .append(getPackage()
-            .filter(pck -> pck.elementName(builder.context()).isPresent())
-            .map(pck -> b -> b.append(pck).nl().nl())) // only add newlines if a package is available
-        .append(builder.context().validator().importCollector().createImportDeclarations().map(ISourceGenerator::raw), null, nl, nl)
-        .append(typeSource)
         .nl()
         .append(footers()
             .map(b -> b.generalize(CommentBuilder::create)), nl, nl, null);
   }
 
-  protected StringBuilder buildTypeSource(IBuilderContext context) {
-    var typeGenerator = (ISourceGenerator<ISourceBuilder<?>>) builder -> builder.append(
+  /**
+   * @param builder
+   *          The {@link ISourceBuilder} to search in.
+   * @return The {@link MemorySourceBuilder} the given {@link ISourceBuilder} finally writes to (directly or through
+   *         {@link SourceBuilderWrapper}s). If empty, the types are pre-built into a separate buffer (see
+   *         {@link #buildTypeSource(IBuilderContext)}).
+   */
+  protected Optional<MemorySourceBuilder> memorySourceBuilderOf(ISourceBuilder<?> builder) {
+    var candidate = builder;
+    while (candidate instanceof SourceBuilderWrapper<?> wrapper) {
+      candidate = wrapper.inner();
+    }
+    if (candidate instanceof MemorySourceBuilder memoryBuilder) {
+      return Optional.of(memoryBuilder);
+    }
+    return Optional.empty();
+  }
+
+  protected StringBuilder buildImportDeclarations(IJavaBuilderContext context) {
+    var nl = context.lineDelimiter();
+    var importsGenerator = (ISourceGenerator<ISourceBuilder<?>>) builder -> builder.append(
+        context.validator().importCollector().createImportDeclarations().map(ISourceGenerator::raw), null, nl, nl);
+    return importsGenerator.toSource(identity(), context);
+  }
+
+  protected ISourceGenerator<ISourceBuilder<?>> typesGenerator(IBuilderContext context) {
+    return builder -> builder.append(
         m_types.stream().sorted().map(SortedMemberEntry::generator),
         context.lineDelimiter(), context.lineDelimiter() + context.lineDelimiter(), null);
-    return typeGenerator.toSource(identity(), context);
+  }
+
+  protected StringBuilder buildTypeSource(IBuilderContext context) {
+    return typesGenerator(context).toSource(identity(), context);
   }
 
   @Override
@@ -29,6 +29,7 @@ import org.eclipse.scout.sdk.core.java.generator.method.MethodOverrideGenerator;
 import org.eclipse.scout.sdk.core.java.generator.methodparam.MethodParameterGenerator;
 import org.eclipse.scout.sdk.core.java.generator.typeparam.ITypeParameterGenerator;
 import org.eclipse.scout.sdk.core.java.generator.typeparam.TypeParameterGenerator;
+import org.eclipse.scout.sdk.core.java.imports.ForkedImportCollector;
 import org.eclipse.scout.sdk.core.java.model.api.IJavaElement;
 import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
 import org.eclipse.scout.sdk.core.java.model.api.IMethod;
@@ -570,4 +571,39 @@ public interface ITypeGenerator<TYPE extends ITypeGenerator<TYPE>> extends IMemb
    * @see #withAllMethodsImplemented(IWorkingCopyTransformer)
    */
   boolean isWithAllMethodsImplemented();
+
+  /**
+   * Instructs this {@link ITypeGenerator} to create the source of its members (fields, methods and nested types)
+   * concurrently. The created source is the same as if the members are created one after the other. This may speed up
+   * the creation of very large types (e.g. a FormData with hundreds of nested types).
+   * <p>
+   * Each member is created into a separate buffer using an own {@link IJavaBuilderContext}. This context contains a
+   * copy of the properties and an import collector that is merged into the one of the surrounding compilation unit
+   * afterwards (see {@link ForkedImportCollector}). If a member would resolve its imports differently because of a
+   * member created before, it is created again in sequence. Therefore, the members must not depend on each other (e.g.
+   * on a property of the {@link IJavaBuilderContext} that is set by another member).
+   * <p>
+   * If the import collector of the {@link IJavaBuilderContext} cannot be forked, the members are created in sequence.
+   *
+   * @return This generator.
+   * @since 13.0
+   */
+  TYPE withParallelMemberRendering();
+
+  /**
+   * Instructs this {@link ITypeGenerator} to create the source of its members one after the other. This is the
+   * default.
+   *
+   * @return This generator.
+   * @since 13.0
+   */
+  TYPE withoutParallelMemberRendering();
+
+  /**
+   * @return {@code true} if this {@link ITypeGenerator} creates the source of its members concurrently. {@code false}
+   *         otherwise.
+   * @see #withParallelMemberRendering()
+   * @since 13.0
+   */
+  boolean isWithParallelMemberRendering();
 }
@@ -563,6 +563,23 @@ public class PrimaryTypeGenerator<TYPE extends PrimaryTypeGenerator<TYPE>> imple
     return primaryType().isWithAllMethodsImplemented();
   }
 
+  @Override
+  public TYPE withParallelMemberRendering() {
+    primaryType().withParallelMemberRendering();
+    return thisInstance();
+  }
+
+  @Override
+  public TYPE withoutParallelMemberRendering() {
+    primaryType().withoutParallelMemberRendering();
+    return thisInstance();
+  }
+
+  @Override
+  public boolean isWithParallelMemberRendering() {
+    return primaryType().isWithParallelMemberRendering();
+  }
+
   @Override
   public TYPE withImport(CharSequence name) {
     compilationUnit().withImport(name);
@@ -27,16 +27,21 @@ import static org.eclipse.scout.sdk.core.java.transformer.IWorkingCopyTransforme
 import static org.eclipse.scout.sdk.core.util.Ensure.newFail;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.builder.ISourceBuilder;
+import org.eclipse.scout.sdk.core.builder.MemorySourceBuilder;
+import org.eclipse.scout.sdk.core.generator.ISourceGenerator;
 import org.eclipse.scout.sdk.core.java.JavaTypes;
 import org.eclipse.scout.sdk.core.java.apidef.ApiFunction;
 import org.eclipse.scout.sdk.core.java.apidef.IApiSpecification;
@@ -59,16 +64,21 @@ import org.eclipse.scout.sdk.core.java.generator.methodparam.IMethodParameterGen
 import org.eclipse.scout.sdk.core.java.generator.methodparam.MethodParameterGenerator;
 import org.eclipse.scout.sdk.core.java.generator.typeparam.ITypeParameterGenerator;
 import org.eclipse.scout.sdk.core.java.imports.EnclosingTypeScopedImportCollector;
+import org.eclipse.scout.sdk.core.java.imports.ForkedImportCollector;
+import org.eclipse.scout.sdk.core.java.imports.IImportValidator;
 import org.eclipse.scout.sdk.core.java.model.api.Flags;
 import org.eclipse.scout.sdk.core.java.model.api.ICompilationUnit;
+import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
 import org.eclipse.scout.sdk.core.java.model.api.IMethod;
 import org.eclipse.scout.sdk.core.java.model.api.IMethodParameter;
 import org.eclipse.scout.sdk.core.java.model.api.IType;
 import org.eclipse.scout.sdk.core.java.transformer.DefaultWorkingCopyTransformer;
 import org.eclipse.scout.sdk.core.java.transformer.IWorkingCopyTransformer;
 import org.eclipse.scout.sdk.core.java.transformer.SimpleWorkingCopyTransformerBuilder;
+import org.eclipse.scout.sdk.core.log.SdkLog;
 import org.eclipse.scout.sdk.core.util.Ensure;
 import org.eclipse.scout.sdk.core.util.FinalValue;
+import org.eclipse.scout.sdk.core.util.PropertySupport;
 import org.eclipse.scout.sdk.core.util.Strings;
 
 /**
@@ -91,6 +101,7 @@ public class TypeGenerator<TYPE extends ITypeGenerator<TYPE>> extends AbstractMe
   private boolean m_addAllNecessaryMethods;
   private IWorkingCopyTransformer m_unimplementedMethodsTransformer;
   private Function<IMethodGenerator<?, ?>, Object[]> m_unimplementedMethodSortOrderProvider;
+  private boolean m_parallelMemberRendering;
 
   protected TypeGenerator() {
     m_typeParameters = new ArrayList<>();
@@ -247,11 +258,82 @@ public class TypeGenerator<TYPE extends ITypeGenerator<TYPE>> extends AbstractMe
       methods().forEach(m -> m.withFlags(Flags.AccInterface).withoutFlags(Flags.AccPublic));
     }
 
-    builder.append(
-        Stream.concat(m_members.stream(), buildUnimplementedMethods(builder.context()))
-            .sorted()
-            .map(SortedMemberEntry::generator),
-        null, builder.context().lineDelimiter(), null);
+    var members = Stream.concat(m_members.stream(), buildUnimplementedMethods(builder.context()))
+        .sorted()
+        .map(SortedMemberEntry::generator);
+    var lineDelimiter = builder.context().lineDelimiter();
+    if (isWithParallelMemberRendering()) {
+      builder.append(buildMembersInParallel(members.collect(toList()), builder.context()), null, lineDelimiter, null);
+    }
+    else {
+      builder.append(members, null, lineDelimiter, null);
+    }
+  }
+
+  /**
+   * Creates the source of the given members concurrently. Each member is created into its own buffer using a
+   * {@link ForkedImportCollector} and a copy of the properties of the given context.
+   * <p>
+   * The copy contains the properties as they would be if the members were created in sequence: a nested type removes
+   * its hierarchy type from the properties when it has been built (see {@link #build(IJavaSourceBuilder)}). Therefore,
+   * the members following a nested type get a copy without the hierarchy type. Other modifications of the properties by
+   * a member are not visible to the other members.
+   *
+   * @param members
+   *          The sorted members to create.
+   * @param context
+   *          The {@link IJavaBuilderContext} of this type.
+   * @return A {@link Stream} with a generator for each member (in the same order). When executed in order, each
+   *         generator merges the imports of its member and appends the created source. If the imports of a member
+   *         cannot be merged, the member is created again.
+   */
+  protected Stream<ISourceGenerator<ISourceBuilder<?>>> buildMembersInParallel(List<IMemberGenerator<?>> members, IJavaBuilderContext context) {
+    if (members.size() < 2 || !ForkedImportCollector.canFork(context.validator().importCollector())) {
+      return members.stream().map(m -> m);
+    }
+
+    var firstTypeIndex = IntStream.range(0, members.size())
+        .filter(i -> members.get(i) instanceof ITypeGenerator<?>)
+        .findFirst()
+        .orElse(members.size());
+    var properties = context.properties().getPropertiesMap();
+    Map<String, Object> propertiesAfterType = new HashMap<>(properties);
+    propertiesAfterType.remove(HIERARCHY_TYPE_KEY);
+    return IntStream.range(0, members.size())
+        .parallel()
+        .mapToObj(i -> buildMember(members.get(i), context, i > firstTypeIndex ? propertiesAfterType : properties))
+        .collect(toList())
+        .stream();
+  }
+
+  protected static ISourceGenerator<ISourceBuilder<?>> buildMember(IMemberGenerator<?> member, IJavaBuilderContext context, Map<String, Object> properties) {
+    ISourceGenerator<ISourceBuilder<?>> inSequence = builder -> {
+      if (!properties.containsKey(HIERARCHY_TYPE_KEY)) {
+        // the previous nested types have been built concurrently and could not remove their hierarchy type
+        context.properties().setProperty(HIERARCHY_TYPE_KEY, null);
+      }
+      member.generate(builder);
+    };
+
+    var fork = ForkedImportCollector.fork(context.validator().importCollector()).orElseThrow();
+    var memberProperties = new PropertySupport(properties.size());
+    properties.forEach(memberProperties::setProperty);
+    var memberSource = MemorySourceBuilder.create(new P_MemberBuilderContext(context, memberProperties, fork.createImportValidator()));
+    try {
+      member.generate(memberSource);
+    }
+    catch (RuntimeException e) {
+      SdkLog.debug("Unable to create member '{}' concurrently. Member will be created in sequence.", member.elementName().orElse(null), e);
+      return inSequence;
+    }
+    return builder -> {
+      if (fork.merge()) {
+        builder.append(memberSource.source());
+      }
+      else {
+        inSequence.generate(builder);
+      }
+    };
   }
 
   protected Stream<SortedMemberEntry> buildUnimplementedMethods(IJavaBuilderContext context) {
@@ -543,6 +625,23 @@ public class TypeGenerator<TYPE extends ITypeGenerator<TYPE>> extends AbstractMe
     return m_addAllNecessaryMethods;
   }
 
+  @Override
+  public TYPE withParallelMemberRendering() {
+    m_parallelMemberRendering = true;
+    return thisInstance();
+  }
+
+  @Override
+  public TYPE withoutParallelMemberRendering() {
+    m_parallelMemberRendering = false;
+    return thisInstance();
+  }
+
+  @Override
+  public boolean isWithParallelMemberRendering() {
+    return m_parallelMemberRendering;
+  }
+
   @Override
   public TYPE withType(ITypeGenerator<?> generator, Object... sortObject) {
     Ensure.isFalse(generator instanceof ICompilationUnitGenerator<?>,
@@ -663,4 +762,50 @@ public class TypeGenerator<TYPE extends ITypeGenerator<TYPE>> extends AbstractMe
       return abstractMethodIds.values().stream();
     }
   }
+
+  /**
+   * {@link IJavaBuilderContext} of a member created concurrently. It is a copy of the context of the type with its own
+   * properties and import validator. All other calls are delegated to the original context.
+   */
+  private static final class P_MemberBuilderContext implements IJavaBuilderContext {
+    private final IJavaBuilderContext m_original;
+    private final PropertySupport m_properties;
+    private final IImportValidator m_validator;
+
+    private P_MemberBuilderContext(IJavaBuilderContext original, PropertySupport properties, IImportValidator validator) {
+      m_original = original;
+      m_properties = properties;
+      m_validator = validator;
+    }
+
+    @Override
+    public String lineDelimiter() {
+      return m_original.lineDelimiter();
+    }
+
+    @Override
+    public PropertySupport properties() {
+      return m_properties;
+    }
+
+    @Override
+    public Optional<IJavaEnvironment> environment() {
+      return m_original.environment();
+    }
+
+    @Override
+    public IImportValidator validator() {
+      return m_validator;
+    }
+
+    @Override
+    public <A extends IApiSpecification> Optional<A> api(Class<A> apiDefinition) {
+      return m_original.api(apiDefinition);
+    }
+
+    @Override
+    public <A extends IApiSpecification> A requireApi(Class<A> apiDefinition) {
+      return m_original.requireApi(apiDefinition);
+    }
+  }
 }
@@ -9,9 +9,9 @@
  */
 package org.eclipse.scout.sdk.core.java.imports;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.java.JavaTypes;
@@ -24,7 +24,7 @@ import org.eclipse.scout.sdk.core.util.Strings;
  */
 public class CompilationUnitScopedImportCollector extends WrappedImportCollector {
   private final String m_packageName;
-  private final Map<String/* simpleName */, Boolean /* exists in own package*/> m_existsInSamePackageCache = new HashMap<>();
+  private final Map<String/* simpleName */, Boolean /* exists in own package*/> m_existsInSamePackageCache = new ConcurrentHashMap<>(); // may be used by several member generators at the same time (see ITypeGenerator#withParallelMemberRendering())
 
   public CompilationUnitScopedImportCollector(IImportCollector inner, String packageName) {
     this(inner, packageName, null);
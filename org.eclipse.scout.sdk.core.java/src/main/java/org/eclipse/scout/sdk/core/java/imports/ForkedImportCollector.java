@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.imports;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link ForkedImportCollector}</h3>
+ * <p>
+ * An {@link IImportCollector} that allows resolving imports independent of other sources created at the same time and
+ * merging the result into the original collector afterwards.
+ * <p>
+ * The scope queries ({@link #checkCurrentScope(TypeReferenceDescriptor)}, {@link #getQualifier()}) are delegated to the
+ * wrapped collector. All imports are registered in a private overlay (see {@link ImportCollector#createOverlay()}) of
+ * the imports of the wrapped collector instead. These are held by the {@link ImportCollector} at the root of the
+ * wrapped collector or by the closest {@link ForkedImportCollector} if the wrapped collector is itself based on a fork.
+ * Each type reference resolved by the {@link IImportValidator} of this fork (see {@link #createImportValidator()}) is
+ * recorded together with its result so that it can be resolved again against the root collector by {@link #merge()}.
+ * The merge only succeeds if all references are resolved to the same result as in this fork. In that case the source
+ * created using this fork is the same as if it had been created using the wrapped collector directly.
+ * <p>
+ * A fork is intended to be used by a single thread. Several forks of the same collector may be used concurrently as
+ * long as the wrapped collector is not modified in the meantime.
+ *
+ * @since 13.0
+ */
+public class ForkedImportCollector extends WrappedImportCollector {
+
+  private final IImportCollector m_parent;
+  private final List<RecordedAccess> m_accesses;
+  private IImportCollector m_imports;
+  private boolean m_recording;
+  private boolean m_resolving;
+  private boolean m_mergeable;
+
+  protected ForkedImportCollector(IImportCollector inner, IImportCollector parent) {
+    super(inner);
+    m_parent = parent;
+    m_imports = importsOf(parent).createOverlay();
+    m_accesses = new ArrayList<>();
+    m_recording = true;
+    m_mergeable = true;
+  }
+
+  /**
+   * Creates a new {@link ForkedImportCollector} for the given {@link IImportCollector}.
+   *
+   * @param collector
+   *          The {@link IImportCollector} to fork. Must not be {@code null}.
+   * @return The fork or an empty {@link Optional} if the given collector does not support forks (see
+   *         {@link #canFork(IImportCollector)}).
+   */
+  public static Optional<ForkedImportCollector> fork(IImportCollector collector) {
+    return parentOf(collector).map(parent -> new ForkedImportCollector(collector, parent));
+  }
+
+  /**
+   * @param collector
+   *          The {@link IImportCollector} to check. Must not be {@code null}.
+   * @return {@code true} if the imports of the given collector are held by an {@link ImportCollector} or a
+   *         {@link ForkedImportCollector} (which may be wrapped by {@link WrappedImportCollector}s).
+   */
+  public static boolean canFork(IImportCollector collector) {
+    return parentOf(collector).isPresent();
+  }
+
+  protected static Optional<IImportCollector> parentOf(IImportCollector collector) {
+    var current = Ensure.notNull(collector);
+    while (current instanceof WrappedImportCollector wrapper && !(current instanceof ForkedImportCollector)) {
+      current = wrapper.inner();
+    }
+    if (current instanceof ImportCollector || current instanceof ForkedImportCollector) {
+      return Optional.of(current);
+    }
+    return Optional.empty();
+  }
+
+  protected static ImportCollector importsOf(IImportCollector parent) {
+    if (parent instanceof ForkedImportCollector fork) {
+      return importsOf(fork.m_imports);
+    }
+    return (ImportCollector) parent;
+  }
+
+  /**
+   * @return A new {@link IImportValidator} using this fork. Only type references resolved by such a validator can be
+   *         merged.
+   */
+  public IImportValidator createImportValidator() {
+    return new ForkedImportValidator(this);
+  }
+
+  /**
+   * Resolves all type references and imports used by this fork again against the collector holding the imports of the
+   * forked {@link IImportCollector} (the root collector).
+   * <p>
+   * The root collector is only modified if all references are resolved to the same result as they were in this fork.
+   * This is the case if the collector has not been modified since the fork was created or if the modifications do not
+   * affect the references used by this fork (e.g. if the same imports were added).
+   * <p>
+   * This method must be called after the source has been created and while no other thread modifies the root collector.
+   *
+   * @return {@code true} if the imports have been merged. {@code false} if the root collector has been changed in a way
+   *         that this fork would have resolved the references differently. In that case the root collector is not
+   *         modified and the source created using this fork must be discarded.
+   */
+  public boolean merge() {
+    if (!m_mergeable) {
+      return false;
+    }
+    m_recording = false;
+    if (!replay(importsOf(m_parent).createOverlay())) {
+      return false;
+    }
+    replay(m_parent);
+    return true;
+  }
+
+  protected boolean replay(IImportCollector target) {
+    m_imports = target;
+    var validator = new ImportValidator(this);
+    for (var access : m_accesses) {
+      if (!Objects.equals(access.m_function.apply(validator), access.m_result)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  protected void record(Function<ImportValidator, String> access, String result) {
+    if (m_recording) {
+      m_accesses.add(new RecordedAccess(access, result));
+    }
+  }
+
+  protected String recordDirectAccess(Function<IImportCollector, String> access) {
+    var result = access.apply(m_imports);
+    if (!m_resolving) {
+      // accesses during a type reference resolution are not recorded because the resolution is recorded as a whole
+      record(v -> access.apply(m_imports), result);
+    }
+    return result;
+  }
+
+  @Override
+  public void addStaticImport(CharSequence fqn) {
+    var name = fqn.toString();
+    recordDirectAccess(c -> {
+      c.addStaticImport(name);
+      return null;
+    });
+  }
+
+  @Override
+  public void addImport(CharSequence fqn) {
+    var name = fqn.toString();
+    recordDirectAccess(c -> {
+      c.addImport(name);
+      return null;
+    });
+  }
+
+  @Override
+  public void reserveElement(TypeReferenceDescriptor candidate) {
+    recordDirectAccess(c -> {
+      c.reserveElement(candidate);
+      return null;
+    });
+  }
+
+  @Override
+  public String registerElement(TypeReferenceDescriptor candidate) {
+    return recordDirectAccess(c -> c.registerElement(candidate));
+  }
+
+  @Override
+  public String checkExistingImports(TypeReferenceDescriptor candidate) {
+    return recordDirectAccess(c -> c.checkExistingImports(candidate));
+  }
+
+  @Override
+  public Stream<StringBuilder> createImportDeclarations() {
+    return createImportDeclarations(true);
+  }
+
+  @Override
+  public Stream<StringBuilder> createImportDeclarations(boolean includeExisting) {
+    m_mergeable = false; // the result depends on all imports of the root collector
+    return m_imports.createImportDeclarations(includeExisting);
+  }
+
+  @Override
+  public Stream<StringBuilder> getStaticImports() {
+    m_mergeable = false;
+    return m_imports.getStaticImports();
+  }
+
+  @Override
+  public Stream<StringBuilder> getImports() {
+    m_mergeable = false;
+    return m_imports.getImports();
+  }
+
+  private static final class RecordedAccess {
+    private final Function<ImportValidator, String> m_function;
+    private final String m_result;
+
+    private RecordedAccess(Function<ImportValidator, String> function, String result) {
+      m_function = function;
+      m_result = result;
+    }
+  }
+
+  /**
+   * {@link ImportValidator} that records each resolved type reference in its {@link ForkedImportCollector}.
+   */
+  private static final class ForkedImportValidator extends ImportValidator {
+    private final ForkedImportCollector m_fork;
+
+    private ForkedImportValidator(ForkedImportCollector fork) {
+      super(fork);
+      m_fork = fork;
+    }
+
+    @Override
+    protected CharSequence handleTypeReference(CharSequence fqn, int typeArgDepth) {
+      CharSequence result;
+      m_fork.m_resolving = true;
+      try {
+        result = super.handleTypeReference(fqn, typeArgDepth);
+      }
+      finally {
+        m_fork.m_resolving = false;
+      }
+
+      var collector = importCollector(); // the scope in which the reference has been resolved
+      var name = fqn.toString();
+      m_fork.record(v -> {
+        v.setImportCollector(collector);
+        return v.handleTypeReference(name, typeArgDepth).toString();
+      }, result.toString());
+      return result;
+    }
+  }
+}
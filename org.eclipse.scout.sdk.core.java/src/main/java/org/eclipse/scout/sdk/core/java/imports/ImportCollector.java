@@ -27,15 +27,51 @@ import org.eclipse.scout.sdk.core.util.Strings;
 
 public class ImportCollector implements IImportCollector {
   private final IJavaBuilderContext m_context;
+  private final ImportCollector m_base; // imports visible in this collector as long as they are not replaced. may be null.
   private final Map<String/* simpleName */, ImportElement> m_imports = new HashMap<>();
   private final Map<String/* simpleName */, ImportElement> m_staticImports = new HashMap<>();
 
   public ImportCollector() {
-    this(null);
+    this((IJavaBuilderContext) null);
   }
 
   public ImportCollector(IJavaBuilderContext context) {
+    this(context, null);
+  }
+
+  protected ImportCollector(IJavaBuilderContext context, ImportCollector base) {
     m_context = context;
+    m_base = base;
+  }
+
+  /**
+   * Creates a new {@link ImportCollector} based on this instance. All imports of this instance are visible in the new
+   * collector, but modifications of the new collector do not affect this instance. The imports are not copied.
+   * Therefore, this instance must not be modified as long as the new collector is in use.
+   *
+   * @return A new {@link ImportCollector} with the same context and imports as this instance.
+   * @since 13.0
+   */
+  public ImportCollector createOverlay() {
+    return new ImportCollector(m_context, this);
+  }
+
+  private ImportElement importElement(String simpleName) {
+    var element = m_imports.get(simpleName);
+    if (element == null && m_base != null) {
+      return m_base.importElement(simpleName);
+    }
+    return element;
+  }
+
+  private Map<String, ImportElement> importElements(boolean isStatic) {
+    var own = isStatic ? m_staticImports : m_imports;
+    if (m_base == null) {
+      return own;
+    }
+    var all = new HashMap<>(m_base.importElements(isStatic));
+    all.putAll(own);
+    return all;
   }
 
   protected static Stream<StringBuilder> getImports(Collection<ImportElement> imports) {
@@ -106,12 +142,17 @@ public class ImportCollector implements IImportCollector {
   }
 
   protected String registerElementInternal(TypeReferenceDescriptor candidate, boolean markAsUsed) {
-    var elem = m_imports.get(candidate.getSimpleName());
+    var elem = importElement(candidate.getSimpleName());
     if (elem == null) {
       m_imports.put(candidate.getSimpleName(), new ImportElement(false, candidate.getQualifier(), candidate.getSimpleName(), markAsUsed, false));
     }
-    else {
-      elem.m_used = markAsUsed || elem.m_used;
+    else if (markAsUsed && !elem.m_used) {
+      if (m_imports.get(candidate.getSimpleName()) != elem) {
+        // element of the base collector: must not be modified
+        elem = new ImportElement(elem);
+        m_imports.put(candidate.getSimpleName(), elem);
+      }
+      elem.m_used = true;
     }
     return candidate.getSimpleName();
   }
@@ -123,7 +164,7 @@ public class ImportCollector implements IImportCollector {
       return candidate.getSimpleName();
     }
 
-    var existingElem = m_imports.get(candidate.getSimpleName());
+    var existingElem = importElement(candidate.getSimpleName());
     if (existingElem != null && Objects.equals(existingElem.m_packageName, candidate.getQualifier())) {
       // already used with same package -> simple name possible
       if (existingElem.m_used) {
@@ -169,12 +210,12 @@ public class ImportCollector implements IImportCollector {
 
   @Override
   public Stream<StringBuilder> getImports() {
-    return getImports(m_imports.values());
+    return getImports(importElements(false).values());
   }
 
   @Override
   public Stream<StringBuilder> getStaticImports() {
-    return getImports(m_staticImports.values());
+    return getImports(importElements(true).values());
   }
 
   @Override
@@ -184,7 +225,7 @@ public class ImportCollector implements IImportCollector {
 
   @Override
   public Stream<StringBuilder> createImportDeclarations(boolean includeExisting) {
-    return organizeImports(m_staticImports.values(), m_imports.values(), includeExisting);
+    return organizeImports(importElements(true).values(), importElements(false).values(), includeExisting);
   }
 
   private static final class ImportElement {
@@ -205,6 +246,15 @@ public class ImportCollector implements IImportCollector {
       m_group = calculateGroup(isStatic, packageName);
     }
 
+    private ImportElement(ImportElement original) {
+      m_static = original.m_static;
+      m_packageName = original.m_packageName;
+      m_simpleName = original.m_simpleName;
+      m_used = original.m_used;
+      m_fromExisting = original.m_fromExisting;
+      m_group = original.m_group;
+    }
+
     private static int calculateGroup(boolean isStaticImport, String packageName) {
       int factor;
       if (isStaticImport) {
@@ -27,6 +27,14 @@ public class WrappedImportCollector implements IImportCollector {
     m_inner = inner;
   }
 
+  /**
+   * @return The wrapped {@link IImportCollector}.
+   * @since 13.0
+   */
+  public IImportCollector inner() {
+    return m_inner;
+  }
+
   @Override
   public Optional<IJavaBuilderContext> getContext() {
     return m_inner.getContext();
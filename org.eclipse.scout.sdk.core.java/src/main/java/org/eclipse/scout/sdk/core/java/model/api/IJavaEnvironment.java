@@ -10,13 +10,16 @@
 package org.eclipse.scout.sdk.core.java.model.api;
 
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.java.JavaTypes;
 import org.eclipse.scout.sdk.core.java.apidef.Api;
+import org.eclipse.scout.sdk.core.java.apidef.ApiVersion;
 import org.eclipse.scout.sdk.core.java.apidef.IApiProvider;
 import org.eclipse.scout.sdk.core.java.apidef.IApiSpecification;
 import org.eclipse.scout.sdk.core.java.apidef.ITypeNameSupplier;
@@ -58,6 +61,20 @@ public interface IJavaEnvironment {
    */
   Optional<IType> findType(String fqn);
 
+  /**
+   * Tries to find all {@link IType}s with the given names.<br>
+   * The result is the same as calling {@link #findType(String)} for each name. But as all names are resolved at once,
+   * this method is faster if many types need to be resolved.
+   *
+   * @param fqns
+   *          The fully qualified names of the {@link IType}s to find. See {@link #findType(String)} for details. Must
+   *          not be {@code null}.
+   * @return A {@link Map} holding the {@link IType}s found by fully qualified name (in the order of the names given).
+   *         Names that could not be found are not part of the {@link Map}.
+   * @see #findType(String)
+   */
+  Map<String, IType> findTypes(Collection<String> fqns);
+
   /**
    * Tries to find the {@link IType} with the given name.<br>
    * For more details see {@link #findType(String)}.
@@ -337,6 +354,22 @@ public interface IJavaEnvironment {
    */
   <A extends IApiSpecification> Optional<A> api(Class<A> apiDefinition);
 
+  /**
+   * Gets the {@link ApiVersion version} of the given API in this {@link IJavaEnvironment}.
+   * <p>
+   * The version is cached until this {@link IJavaEnvironment} is reloaded (see {@link #reload()}).
+   *
+   * @param apiDefinition
+   *          The API whose version should be returned. Must not be {@code null}.
+   * @return The {@link ApiVersion} of the given API or an empty {@link Optional} if the API could not be found in this
+   *         {@link IJavaEnvironment}.
+   * @throws IllegalArgumentException
+   *           if the given API class is {@code null} or not registered (see
+   *           {@link Api#registerProvider(Class, IApiProvider)}).
+   * @since 13.0
+   */
+  Optional<ApiVersion> apiVersion(Class<? extends IApiSpecification> apiDefinition);
+
   /**
    * Gets the given API from this {@link IJavaEnvironment}.
    * 
@@ -17,6 +17,7 @@ import static org.eclipse.scout.sdk.core.util.Strings.toCharArray;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,6 +29,7 @@ import java.util.stream.Stream;
 import org.eclipse.scout.sdk.core.java.ISourceFolders;
 import org.eclipse.scout.sdk.core.java.apidef.Api;
 import org.eclipse.scout.sdk.core.java.apidef.ApiFunction;
+import org.eclipse.scout.sdk.core.java.apidef.ApiVersion;
 import org.eclipse.scout.sdk.core.java.apidef.IApiSpecification;
 import org.eclipse.scout.sdk.core.java.apidef.ITypeNameSupplier;
 import org.eclipse.scout.sdk.core.java.model.CompilationUnitInfo;
@@ -53,12 +55,12 @@ import org.eclipse.scout.sdk.core.util.Strings;
 public class JavaEnvironmentImplementor implements IJavaEnvironment {
   private final JavaEnvironmentSpi m_spi;
   private FinalValue<List<IClasspathEntry>> m_sourceFoldersSorted;
-  private final Map<Class<? extends IApiSpecification>, Optional<? extends IApiSpecification>> m_apiCache;
+  private volatile P_ApiCaches m_apiCaches;
 
   public JavaEnvironmentImplementor(JavaEnvironmentSpi spi) {
     m_spi = spi;
     m_sourceFoldersSorted = new FinalValue<>();
-    m_apiCache = new ConcurrentHashMap<>();
+    m_apiCaches = new P_ApiCaches(Api.providerGeneration());
   }
 
   @Override
@@ -72,6 +74,14 @@ public class JavaEnvironmentImplementor implements IJavaEnvironment {
         .map(TypeSpi::wrap);
   }
 
+  @Override
+  public Map<String, IType> findTypes(Collection<String> fqns) {
+    var types = m_spi.findTypes(Ensure.notNull(fqns));
+    Map<String, IType> result = new LinkedHashMap<>(types.size());
+    types.forEach((fqn, spi) -> result.put(fqn, spi.wrap()));
+    return result;
+  }
+
   @Override
   public <A extends IApiSpecification> Optional<IType> findTypeFrom(Class<A> apiDefinition, Function<A, ITypeNameSupplier> nameSupplier) {
     return new ApiFunction<>(apiDefinition, nameSupplier)
@@ -173,7 +183,7 @@ public class JavaEnvironmentImplementor implements IJavaEnvironment {
   @SuppressWarnings("unchecked")
   public <A extends IApiSpecification> Optional<A> api(Class<A> apiDefinition) {
     var key = apiDefinition == null ? (Class<A>) IApiSpecification.class : apiDefinition;
-    var api = m_apiCache.computeIfAbsent(key, this::createApi);
+    var api = apiCaches().apis().computeIfAbsent(key, this::createApi);
     return (Optional<A>) api; // is empty in case the apiDefinition class is null or the API could not be found in this environment.
   }
 
@@ -186,7 +196,27 @@ public class JavaEnvironmentImplementor implements IJavaEnvironment {
     if (apiDefinition == IApiSpecification.class) {
       return Optional.empty();
     }
-    return Api.create(apiDefinition, this);
+    return apiVersion(apiDefinition)
+        .map(version -> Api.create(apiDefinition, version));
+  }
+
+  @Override
+  public Optional<ApiVersion> apiVersion(Class<? extends IApiSpecification> apiDefinition) {
+    return apiCaches().versions().computeIfAbsent(Ensure.notNull(apiDefinition), api -> Api.computeVersion(api, this));
+  }
+
+  /**
+   * @return The API caches for the current generation of the {@link Api} provider registry. If a provider has been
+   *         registered or unregistered since the caches have been created, new empty caches are returned.
+   */
+  private P_ApiCaches apiCaches() {
+    var generation = Api.providerGeneration(); // read before the providers are used to compute the cached values
+    var caches = m_apiCaches;
+    if (caches.generation() != generation) {
+      caches = new P_ApiCaches(generation);
+      m_apiCaches = caches;
+    }
+    return caches;
   }
 
   @Override
@@ -226,7 +256,7 @@ public class JavaEnvironmentImplementor implements IJavaEnvironment {
 
   public void spiChanged() {
     m_sourceFoldersSorted = new FinalValue<>();
-    m_apiCache.clear();
+    m_apiCaches = new P_ApiCaches(Api.providerGeneration());
   }
 
   protected static int priorityOfSourceFolder(IClasspathEntry sf) {
@@ -281,4 +311,28 @@ public class JavaEnvironmentImplementor implements IJavaEnvironment {
       return m_pos;
     }
   }
+
+  private static final class P_ApiCaches {
+    private final long m_generation;
+    private final Map<Class<? extends IApiSpecification>, Optional<ApiVersion>> m_versions;
+    private final Map<Class<? extends IApiSpecification>, Optional<? extends IApiSpecification>> m_apis;
+
+    private P_ApiCaches(long generation) {
+      m_generation = generation;
+      m_versions = new ConcurrentHashMap<>();
+      m_apis = new ConcurrentHashMap<>();
+    }
+
+    private long generation() {
+      return m_generation;
+    }
+
+    private Map<Class<? extends IApiSpecification>, Optional<ApiVersion>> versions() {
+      return m_versions;
+    }
+
+    private Map<Class<? extends IApiSpecification>, Optional<? extends IApiSpecification>> apis() {
+      return m_apis;
+    }
+  }
 }
@@ -35,6 +35,7 @@ public abstract class AbstractInnerTypeQuery<T extends AbstractInnerTypeQuery<T>
   private final T m_thisInstance;
 
   private boolean m_includeRecursiveInnerTypes;
+  private boolean m_parallel;
   private ApiFunction<?, ITypeNameSupplier> m_name;
   private ApiFunction<?, ITypeNameSupplier> m_simpleName;
   private ApiFunction<?, ITypeNameSupplier> m_instanceOf;
@@ -68,6 +69,25 @@ public abstract class AbstractInnerTypeQuery<T extends AbstractInnerTypeQuery<T>
     return m_includeRecursiveInnerTypes;
   }
 
+  /**
+   * Specify if the {@link IType}s should be searched in parallel. This may be faster for large types or deep
+   * hierarchies if expensive operations are performed on the resulting {@link Stream}. The order of
+   * the results is the same as for a sequential search.<br>
+   * Default is {@code false}.
+   *
+   * @param b
+   *          Set to {@code true} to create a parallel {@link Stream}.
+   * @return this
+   */
+  public T withParallel(boolean b) {
+    m_parallel = b;
+    return m_thisInstance;
+  }
+
+  protected boolean isParallel() {
+    return m_parallel;
+  }
+
   /**
    * Limit the {@link IType}s to the ones having at least all the given flags.<br>
    * Default is no filtering.
@@ -262,6 +282,6 @@ public abstract class AbstractInnerTypeQuery<T extends AbstractInnerTypeQuery<T>
 
   @Override
   protected Stream<IType> createStream() {
-    return StreamSupport.stream(new InnerTypeSpliterator(getInnerTypeSpliterator(), isIncludeRecursiveInnerTypes()), false);
+    return StreamSupport.stream(new InnerTypeSpliterator(getInnerTypeSpliterator(), isIncludeRecursiveInnerTypes()), isParallel());
   }
 }
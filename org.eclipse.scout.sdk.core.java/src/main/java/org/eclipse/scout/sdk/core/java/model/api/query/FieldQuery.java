@@ -31,6 +31,7 @@ public class FieldQuery extends AbstractQuery<IField> implements Predicate<IFiel
 
   private boolean m_includeSuperClasses;
   private boolean m_includeSuperInterfaces;
+  private boolean m_parallel;
 
   private String m_name;
   private int m_flags = -1;
@@ -89,6 +90,25 @@ public class FieldQuery extends AbstractQuery<IField> implements Predicate<IFiel
     return m_includeSuperInterfaces;
   }
 
+  /**
+   * Specify if the {@link IField}s should be searched in parallel. This may be faster for large types or deep
+   * hierarchies if expensive operations are performed on the resulting {@link Stream}. The order of
+   * the results is the same as for a sequential search.<br>
+   * Default is {@code false}.
+   *
+   * @param b
+   *          Set to {@code true} to create a parallel {@link Stream}.
+   * @return this
+   */
+  public FieldQuery withParallel(boolean b) {
+    m_parallel = b;
+    return this;
+  }
+
+  protected boolean isParallel() {
+    return m_parallel;
+  }
+
   /**
    * Limit the {@link IField}s to the ones having at least all the given flags.
    *
@@ -147,6 +167,7 @@ public class FieldQuery extends AbstractQuery<IField> implements Predicate<IFiel
         .withSuperClasses(isIncludeSuperClasses())
         .withSuperInterfaces(isIncludeSuperInterfaces())
         .withStartType(true)
+        .withParallel(isParallel())
         .build(getType(), FieldQuery::getFieldsSpliterator)
         .filter(this);
   }
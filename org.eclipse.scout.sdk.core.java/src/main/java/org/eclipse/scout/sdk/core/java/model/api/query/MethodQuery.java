@@ -43,6 +43,7 @@ public class MethodQuery extends AbstractQuery<IMethod> implements Predicate<IMe
   private final IType m_type;
   private boolean m_includeSuperClasses;
   private boolean m_includeSuperInterfaces;
+  private boolean m_parallel;
   private String m_methodId;
 
   // used in this predicate
@@ -174,6 +175,25 @@ public class MethodQuery extends AbstractQuery<IMethod> implements Predicate<IMe
     return m_includeSuperInterfaces;
   }
 
+  /**
+   * Specify if the {@link IMethod}s should be searched in parallel. This may be faster for large types or deep
+   * hierarchies if expensive operations are performed on the resulting {@link Stream}. The order of
+   * the results is the same as for a sequential search.<br>
+   * Default is {@code false}.
+   *
+   * @param b
+   *          Set to {@code true} to create a parallel {@link Stream}.
+   * @return this
+   */
+  public MethodQuery withParallel(boolean b) {
+    m_parallel = b;
+    return this;
+  }
+
+  protected boolean isParallel() {
+    return m_parallel;
+  }
+
   /**
    * Limit the {@link IMethod}s to the given name (see {@link IMethod#elementName()}).
    *
@@ -260,6 +280,7 @@ public class MethodQuery extends AbstractQuery<IMethod> implements Predicate<IMe
         .withSuperClasses(isIncludeSuperClasses())
         .withSuperInterfaces(isIncludeSuperInterfaces())
         .withStartType(true)
+        .withParallel(isParallel())
         .build(getType(), level -> findMatchingMethods(level, getMethodIdentifier()))
         .filter(this);
   }
@@ -57,7 +57,15 @@ public class HierarchicalSpliterator<ELEMENT> implements Spliterator<ELEMENT> {
 
   @Override
   public Spliterator<ELEMENT> trySplit() {
-    return null; // no split support needed
+    var currentLevel = m_levelSpliterator;
+    if (currentLevel == null) {
+      return null;
+    }
+    if (!isOneLevel() && moveToNextType()) {
+      // hand out the remaining elements of the current level and continue with the next level of the hierarchy
+      return currentLevel;
+    }
+    return currentLevel.trySplit();
   }
 
   @Override
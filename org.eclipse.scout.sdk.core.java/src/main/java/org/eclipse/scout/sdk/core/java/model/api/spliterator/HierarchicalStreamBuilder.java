@@ -27,6 +27,7 @@ public class HierarchicalStreamBuilder<ELEMENT> {
   private boolean m_includeSuperClasses;
   private boolean m_includeSuperInterfaces;
   private boolean m_includeStartType;
+  private boolean m_parallel;
 
   protected boolean isIncludeSuperClasses() {
     return m_includeSuperClasses;
@@ -55,7 +56,16 @@ public class HierarchicalStreamBuilder<ELEMENT> {
     return this;
   }
 
+  protected boolean isParallel() {
+    return m_parallel;
+  }
+
+  public HierarchicalStreamBuilder<ELEMENT> withParallel(boolean parallel) {
+    m_parallel = parallel;
+    return this;
+  }
+
   public Stream<ELEMENT> build(IType startType, Function<IType, Spliterator<ELEMENT>> levelSpliteratorProvider) {
-    return StreamSupport.stream(new HierarchicalSpliterator<>(Ensure.notNull(startType), isIncludeSuperClasses(), isIncludeSuperInterfaces(), isIncludeStartType(), Ensure.notNull(levelSpliteratorProvider)), false);
+    return StreamSupport.stream(new HierarchicalSpliterator<>(Ensure.notNull(startType), isIncludeSuperClasses(), isIncludeSuperInterfaces(), isIncludeStartType(), Ensure.notNull(levelSpliteratorProvider)), isParallel());
   }
 }
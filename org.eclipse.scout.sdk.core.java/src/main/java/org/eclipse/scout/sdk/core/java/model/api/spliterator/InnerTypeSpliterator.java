@@ -10,8 +10,11 @@
 package org.eclipse.scout.sdk.core.java.model.api.spliterator;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 
 import org.eclipse.scout.sdk.core.java.model.api.IType;
@@ -85,7 +88,26 @@ public class InnerTypeSpliterator implements Spliterator<IType> {
 
   @Override
   public Spliterator<IType> trySplit() {
-    return null; // no split support needed
+    if (!isIncludeInnerTypesRecursive()) {
+      var split = m_innerTypes.trySplit();
+      if (split == null) {
+        return null;
+      }
+      return new InnerTypeSpliterator(split, false);
+    }
+
+    // Hand out the remaining types of the current level. Their inner types are still visited by this instance (breadth first).
+    // Therefore, the encounter order is the same as for a sequential traversal.
+    Collection<IType> level = new ArrayList<>();
+    do {
+      m_innerTypes.forEachRemaining(level::add);
+    }
+    while (level.isEmpty() && tryMoveToNextInnerType());
+    if (level.isEmpty()) {
+      return null;
+    }
+    m_dek.addAll(level);
+    return Spliterators.spliterator(level.toArray(), SuperHierarchySpliterator.DEFAULT_CHARACTERISTICS);
   }
 
   @Override
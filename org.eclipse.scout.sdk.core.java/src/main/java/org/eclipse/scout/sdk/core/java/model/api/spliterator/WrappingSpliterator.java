@@ -83,10 +83,10 @@ public class WrappingSpliterator<T extends IJavaElement> implements Spliterator<
     if (split < 1) {
       return null;
     }
-    var firstForSplit = m_pos + split;
-    Spliterator<T> result = new WrappingSpliterator<>(m_spiList, firstForSplit, m_end);
-    m_end = firstForSplit;
-    return result;
+    // the prefix is returned so that the encounter order is preserved
+    var start = m_pos;
+    m_pos += split;
+    return new WrappingSpliterator<>(m_spiList, start, m_pos);
   }
 
   @Override
@@ -14,15 +14,20 @@ import static java.util.stream.Collectors.groupingBy;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.scout.sdk.core.java.JavaTypes;
 import org.eclipse.scout.sdk.core.java.model.api.IJavaElement;
 import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
 import org.eclipse.scout.sdk.core.java.model.api.IType;
 import org.eclipse.scout.sdk.core.java.model.api.internal.AbstractJavaElementImplementor;
 import org.eclipse.scout.sdk.core.java.model.api.internal.JavaEnvironmentImplementor;
+import org.eclipse.scout.sdk.core.util.NegativeLookupCache;
+import org.eclipse.scout.sdk.core.util.Strings;
 
 /**
  * <h3>{@link AbstractJavaEnvironment}</h3>
@@ -34,14 +39,16 @@ public abstract class AbstractJavaEnvironment implements JavaEnvironmentSpi {
   private static final Object NULL_OBJECT = new Object();
 
   private final AtomicInteger m_hashSeq;
-  private final Map<String, Object> m_typeCache;
+  private final Map<String, TypeSpi> m_typeCache;
+  private final NegativeLookupCache<String> m_missingTypes;
   private final JavaEnvironmentImplementor m_api;
   private final Object m_instanceLock;
   private final Map<AbstractJavaElementImplementor<JavaElementSpi>, Object> m_detachedApis;
 
   protected AbstractJavaEnvironment() {
     m_instanceLock = new Object();
-    m_typeCache = new HashMap<>();
+    m_typeCache = new ConcurrentHashMap<>(); // concurrent map so that the fast path in findType can read without lock
+    m_missingTypes = new NegativeLookupCache<>();
     m_detachedApis = new WeakHashMap<>();
     //noinspection ThisEscapedInObjectConstruction
     m_api = new JavaEnvironmentImplementor(this);
@@ -59,10 +66,14 @@ public abstract class AbstractJavaEnvironment implements JavaEnvironmentSpi {
 
   @Override
   public TypeSpi findType(String fqn) {
-    var elem = m_typeCache.get(fqn); // fast check without synchronizing
+    var elem = getCached(fqn); // fast check without synchronizing
     if (elem == null) {
       synchronized (lock()) {
-        elem = m_typeCache.computeIfAbsent(fqn, this::doFindTypeInternal);
+        elem = m_typeCache.get(fqn);
+        if (elem == null) {
+          // no computeIfAbsent here: the lookup may find other types recursively which must not modify the map during computation
+          elem = putCached(fqn, doFindType(fqn));
+        }
       }
     }
     if (elem == NULL_OBJECT) {
@@ -71,14 +82,85 @@ public abstract class AbstractJavaEnvironment implements JavaEnvironmentSpi {
     return (TypeSpi) elem;
   }
 
-  private Object doFindTypeInternal(String fqn) {
-    var result = doFindType(fqn);
-    if (result == null) {
-      return NULL_OBJECT;
+  @Override
+  public Map<String, TypeSpi> findTypes(Collection<String> fqns) {
+    Map<String, Object> elements = new HashMap<>(fqns.size());
+    Collection<String> notCached = new ArrayList<>();
+    for (var fqn : fqns) {
+      if (!Strings.hasText(fqn) || elements.containsKey(fqn)) {
+        continue;
+      }
+      var elem = getCached(fqn); // fast check without synchronizing
+      if (elem == null) {
+        notCached.add(fqn);
+      }
+      elements.put(fqn, elem);
+    }
+
+    if (!notCached.isEmpty()) {
+      synchronized (lock()) {
+        // resolve all remaining names using a single lock acquisition
+        Collection<String> toResolve = new ArrayList<>(notCached.size());
+        for (var fqn : notCached) {
+          var elem = m_typeCache.get(fqn);
+          if (elem == null) {
+            toResolve.add(fqn);
+          }
+          else {
+            elements.put(fqn, elem);
+          }
+        }
+        if (!toResolve.isEmpty()) {
+          var found = doFindTypes(toResolve);
+          for (var fqn : toResolve) {
+            elements.put(fqn, putCached(fqn, found.get(fqn)));
+          }
+        }
+      }
+    }
+
+    Map<String, TypeSpi> result = new LinkedHashMap<>(elements.size());
+    for (var fqn : fqns) {
+      var elem = elements.get(fqn);
+      if (elem != null && elem != NULL_OBJECT) {
+        result.put(fqn, (TypeSpi) elem);
+      }
     }
     return result;
   }
 
+  /**
+   * @return The cached {@link TypeSpi}, {@link #NULL_OBJECT} if the type is known to not exist or {@code null} if the
+   *         name has not been looked up yet.
+   */
+  private Object getCached(String fqn) {
+    var type = m_typeCache.get(fqn);
+    if (type != null) {
+      return type;
+    }
+    if (m_missingTypes.contains(fqn)) {
+      return NULL_OBJECT;
+    }
+    return null;
+  }
+
+  private Object putCached(String fqn, TypeSpi type) {
+    if (type == null) {
+      m_missingTypes.add(fqn);
+      return NULL_OBJECT;
+    }
+    m_typeCache.put(fqn, type);
+    return type;
+  }
+
+  /**
+   * @return The bounded cache holding the names of the types which could not be found in this environment. Can be used
+   *         to monitor the hit rate of the negative lookups.
+   */
+  public NegativeLookupCache<String> missingTypeCache() {
+    return m_missingTypes;
+  }
+
   /**
    * Performs a search for the given fqn
    *
@@ -88,6 +170,25 @@ public abstract class AbstractJavaEnvironment implements JavaEnvironmentSpi {
    */
   protected abstract TypeSpi doFindType(String fqn);
 
+  /**
+   * Performs a search for all fqns given. The caller already holds the {@link #lock()}.
+   * <p>
+   * The default implementation calls {@link #doFindType(String)} for each name. Subclasses may override to resolve the
+   * names more efficiently.
+   *
+   * @param fqns
+   *          The fully qualified type names. Each name is only present once.
+   * @return A {@link Map} holding the {@link TypeSpi}s found by fully qualified name. Names that could not be found may
+   *         be missing or mapped to {@code null}.
+   */
+  protected Map<String, TypeSpi> doFindTypes(Collection<String> fqns) {
+    Map<String, TypeSpi> result = new HashMap<>(fqns.size());
+    for (var fqn : fqns) {
+      result.put(fqn, doFindType(fqn));
+    }
+    return result;
+  }
+
   /**
    * @return All {@link JavaElementSpi}s (except {@link IType}s which are stored in the subclass). Maybe a live list.
    */
@@ -96,6 +197,7 @@ public abstract class AbstractJavaEnvironment implements JavaEnvironmentSpi {
   protected void cleanup() {
     synchronized (lock()) { // ensure instance lock is acquired because the clear of the map uses its own lock as well which might lead to deadlocks
       m_typeCache.clear();
+      m_missingTypes.clear();
       m_api.spiChanged();
     }
   }
@@ -107,10 +209,30 @@ public abstract class AbstractJavaEnvironment implements JavaEnvironmentSpi {
   protected void onReloadEnd() {
   }
 
-  protected Object removeTypeFromCache(String fqn) {
+  /**
+   * Removes the type with given name from the cache. The type is no longer known to be missing. This includes its
+   * inner types and array types.
+   *
+   * @param fqn
+   *          The fully qualified name of the type.
+   * @return The {@link TypeSpi} that has been removed or {@code null}.
+   */
+  protected TypeSpi removeTypeFromCache(String fqn) {
+    m_missingTypes.removeIf(missing -> isSameOrNestedTypeName(missing, fqn));
     return m_typeCache.remove(fqn);
   }
 
+  private static boolean isSameOrNestedTypeName(String candidate, String fqn) {
+    if (!candidate.startsWith(fqn)) {
+      return false;
+    }
+    if (candidate.length() == fqn.length()) {
+      return true;
+    }
+    var next = candidate.charAt(fqn.length());
+    return next == JavaTypes.C_DOLLAR || next == '[';
+  }
+
   /**
    * @return The instance to used for java environment wide locking. Must never be {@code null}.
    */
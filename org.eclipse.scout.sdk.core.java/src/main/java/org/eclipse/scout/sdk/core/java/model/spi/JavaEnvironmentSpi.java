@@ -9,7 +9,9 @@
  */
 package org.eclipse.scout.sdk.core.java.model.spi;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 import org.eclipse.scout.sdk.core.java.JavaTypes;
 import org.eclipse.scout.sdk.core.java.model.CompilationUnitInfo;
@@ -42,6 +44,18 @@ public interface JavaEnvironmentSpi {
    */
   TypeSpi findType(String fqn);
 
+  /**
+   * Tries to find all {@link TypeSpi}s with the given names in the receiver {@link JavaEnvironmentSpi} (classpath).
+   * <p>
+   * The result is the same as calling {@link #findType(String)} for each name but all names are resolved at once.
+   *
+   * @param fqns
+   *          The fully qualified names of the {@link TypeSpi}s to find. See {@link #findType(String)} for details.
+   * @return A {@link Map} holding the {@link TypeSpi}s found by fully qualified name (in the order of the names given).
+   *         Names that could not be found are not part of the {@link Map}.
+   */
+  Map<String, TypeSpi> findTypes(Collection<String> fqns);
+
   void reload();
 
   /**
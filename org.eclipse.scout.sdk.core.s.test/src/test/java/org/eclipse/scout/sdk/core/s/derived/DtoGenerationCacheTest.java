@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.derived;
+
+import static org.eclipse.scout.sdk.core.s.derived.DtoGenerationCache.fingerprintOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>{@link DtoGenerationCacheTest}</h3>
+ *
+ * @since 13.0
+ */
+public class DtoGenerationCacheTest {
+
+  @Test
+  public void testUpToDate() {
+    var cache = new DtoGenerationCache();
+    assertFalse(cache.isUpToDate("a.b.TestFormData", "1"));
+
+    cache.put("a.b.TestFormData", "1");
+    assertTrue(cache.isUpToDate("a.b.TestFormData", "1"));
+    assertFalse(cache.isUpToDate("a.b.TestFormData", "2"));
+    assertFalse(cache.isUpToDate("a.b.OtherFormData", "1"));
+    assertEquals(1, cache.size());
+    assertEquals(1, cache.hitCount());
+    assertEquals(3, cache.missCount());
+    assertEquals(0.25, cache.hitRate());
+
+    assertTrue(cache.remove("a.b.TestFormData"));
+    assertFalse(cache.remove("a.b.TestFormData"));
+    assertFalse(cache.remove(null));
+    assertFalse(cache.isUpToDate("a.b.TestFormData", "1"));
+
+    cache.put("a.b.TestFormData", "1");
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(4, cache.missCount()); // statistics are kept
+
+    cache.resetStatistics();
+    assertEquals(0, cache.hitCount());
+    assertEquals(0, cache.missCount());
+    assertEquals(0.0, cache.hitRate());
+  }
+
+  @Test
+  public void testFingerprint() {
+    assertEquals(fingerprintOf(List.of("a", "bc")), fingerprintOf(List.of("a", new StringBuilder("bc"))));
+    assertNotEquals(fingerprintOf(List.of("a", "bc")), fingerprintOf(List.of("ab", "c")));
+    assertNotEquals(fingerprintOf(List.of("a", "bc")), fingerprintOf(List.of("bc", "a")));
+    assertEquals(64, fingerprintOf(List.of()).length());
+  }
+}
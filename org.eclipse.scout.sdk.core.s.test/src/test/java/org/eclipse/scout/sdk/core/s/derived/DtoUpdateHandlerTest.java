@@ -12,13 +12,26 @@ package org.eclipse.scout.sdk.core.s.derived;
 import static org.eclipse.scout.sdk.core.s.derived.DtoUpdateHandler.findDataAnnotationForFormData;
 import static org.eclipse.scout.sdk.core.s.derived.DtoUpdateHandler.findDataAnnotationForPageData;
 import static org.eclipse.scout.sdk.core.s.derived.DtoUpdateHandler.findDataAnnotationForRowData;
+import static org.eclipse.scout.sdk.core.s.derived.DtoUpdateHandler.fingerprintOf;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Optional;
+
+import org.eclipse.scout.sdk.core.java.model.api.IClasspathEntry;
 import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
+import org.eclipse.scout.sdk.core.java.model.api.IType;
 import org.eclipse.scout.sdk.core.java.testing.context.ExtendWithJavaEnvironmentFactory;
+import org.eclipse.scout.sdk.core.s.environment.IEnvironment;
+import org.eclipse.scout.sdk.core.s.environment.IFuture;
+import org.eclipse.scout.sdk.core.s.environment.NullProgress;
+import org.eclipse.scout.sdk.core.s.java.annotation.FormDataAnnotationDescriptor;
 import org.eclipse.scout.sdk.core.s.java.apidef.IScoutApi;
 import org.eclipse.scout.sdk.core.s.testing.ScoutFixtureHelper.ScoutClientJavaEnvironmentFactory;
+import org.eclipse.scout.sdk.core.s.testing.context.ExtendWithTestingEnvironment;
+import org.eclipse.scout.sdk.core.s.testing.context.TestingEnvironment;
 import org.junit.jupiter.api.Test;
 
 import formdata.client.extensions.MultiColumnExtension;
@@ -68,4 +81,58 @@ public class DtoUpdateHandlerTest {
     assertFalse(findDataAnnotationForRowData(env.requireType(PageWithoutTableExtension.class.getName()), scoutApi).isPresent());
   }
 
+  @Test
+  public void testFingerprint(IJavaEnvironment env) {
+    var sourceFolder = env.primarySourceFolder().orElseThrow();
+    var listBoxForm = env.requireType(ListBoxForm.class.getName());
+    var formData = FormDataAnnotationDescriptor.of(listBoxForm).getFormDataType();
+    var fingerprint = fingerprintOf(listBoxForm, formData, null, sourceFolder);
+    assertEquals(fingerprint, fingerprintOf(listBoxForm, formData, null, sourceFolder));
+    assertNotEquals(fingerprint, fingerprintOf(env.requireType(BaseTablePage.class.getName()), formData, null, sourceFolder));
+
+    // a changed model source results in a new fingerprint
+    var changedSource = listBoxForm.requireCompilationUnit().source().orElseThrow().asCharSequence() + "\n// changed\n";
+    env.registerCompilationUnitOverride(changedSource, ListBoxForm.class.getPackage().getName(), ListBoxForm.class.getSimpleName() + ".java");
+    env.reload();
+    var changedForm = env.requireType(ListBoxForm.class.getName());
+    var changedFingerprint = fingerprintOf(changedForm, formData, null, sourceFolder);
+    assertNotEquals(fingerprint, changedFingerprint);
+
+    // a changed DTO (e.g. modified by hand) results in a new fingerprint
+    var changedDtoSource = formData.requireCompilationUnit().source().orElseThrow().asCharSequence() + "\n// changed\n";
+    env.registerCompilationUnitOverride(changedDtoSource, formData.qualifier(), formData.elementName() + ".java");
+    env.reload();
+    assertNotEquals(changedFingerprint, fingerprintOf(env.requireType(ListBoxForm.class.getName()), env.requireType(formData.name()), null, sourceFolder));
+  }
+
+  @Test
+  @ExtendWithTestingEnvironment(primary = @ExtendWithJavaEnvironmentFactory(ScoutClientJavaEnvironmentFactory.class))
+  public void testUpToDateAfterWrite(TestingEnvironment env) {
+    var input = new IDerivedResourceInput() {
+      @Override
+      public Optional<IType> getSourceType(IEnvironment e) {
+        return env.primaryEnvironment().findType(ListBoxForm.class.getName()); // the environment is reloaded by the write
+      }
+
+      @Override
+      public Optional<IClasspathEntry> getSourceFolderOf(IType t, IEnvironment e) {
+        return env.primaryEnvironment().primarySourceFolder();
+      }
+    };
+    var cache = new DtoGenerationCache();
+
+    // first run: the DTO is generated and written
+    var firstRun = new DtoUpdateHandler(input, cache).apply(env, new NullProgress());
+    assertEquals(1, firstRun.size());
+    firstRun.forEach(IFuture::result);
+    assertEquals(0, cache.hitCount());
+    assertEquals(1, cache.missCount());
+    assertEquals(1, cache.size());
+
+    // second run: the fingerprint of the written DTO is registered. Nothing is generated.
+    assertTrue(new DtoUpdateHandler(input, cache).apply(env, new NullProgress()).isEmpty());
+    assertEquals(1, cache.hitCount());
+    assertEquals(1, cache.missCount());
+  }
+
 }
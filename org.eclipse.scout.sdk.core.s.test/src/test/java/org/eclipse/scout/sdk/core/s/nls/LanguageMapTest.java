@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.junit.jupiter.api.Test;
+
+public class LanguageMapTest {
+
+  private static final Language EN = Language.parseThrowingOnError("en");
+  private static final Language DE = Language.parseThrowingOnError("de");
+  private static final Language FR = Language.parseThrowingOnError("fr");
+  private static final Language DE_CH = Language.parseThrowingOnError("de_CH");
+
+  @Test
+  public void testSameAsTreeMap() {
+    var map = new LanguageMap<String>();
+    var expected = new TreeMap<Language, String>();
+    for (var lang : List.of(FR, Language.LANGUAGE_DEFAULT, DE_CH, EN, DE)) {
+      assertEquals(expected.put(lang, lang.displayName()), map.put(lang, lang.displayName()));
+    }
+    assertEquals(expected.put(EN, "changed"), map.put(EN, "changed"));
+    assertEquals(expected, map);
+    assertEquals(map, expected);
+    assertEquals(expected.hashCode(), map.hashCode());
+    assertEquals(new ArrayList<>(expected.keySet()), new ArrayList<>(map.keySet())); // same order
+    assertEquals(expected.get(Language.parseThrowingOnError("de")), map.get(Language.parseThrowingOnError("de"))); // other instance
+    assertNull(map.get("en"));
+
+    assertEquals(expected.remove(DE_CH), map.remove(DE_CH));
+    assertEquals(expected.remove(DE_CH), map.remove(DE_CH));
+    assertEquals(expected, map);
+    map.entrySet().removeIf(e -> e.getKey() == FR);
+    expected.remove(FR);
+    assertEquals(expected, map);
+    assertFalse(map.containsKey(FR));
+
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertFalse(map.entrySet().iterator().hasNext());
+  }
+
+  @Test
+  public void testCopy() {
+    var template = Map.of(EN, "en", DE, "de");
+    var map = new LanguageMap<>(template);
+    assertEquals(template, map);
+
+    var copy = new LanguageMap<>(map);
+    copy.put(EN, "changed");
+    assertEquals("en", map.get(EN));
+    assertEquals("changed", copy.get(EN));
+  }
+
+  @Test
+  public void testSharedLanguages() {
+    var a = new LanguageMap<String>();
+    a.put(EN, "a");
+    a.put(DE, "a");
+    var b = new LanguageMap<String>();
+    b.put(DE, "b");
+    b.put(EN, "b");
+    assertSame(LanguageMap.share(new Language[]{EN, DE}), LanguageMap.share(new Language[]{EN, DE}));
+    assertEquals(List.of(EN, DE), new ArrayList<>(a.keySet()));
+    assertEquals(List.of(EN, DE), new ArrayList<>(b.keySet()));
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import org.eclipse.scout.sdk.core.s.environment.IProgress;
+import org.eclipse.scout.sdk.core.s.environment.NullProgress;
+import org.junit.jupiter.api.Test;
+
+public class TranslationLoadExecutorTest {
+
+  @Test
+  public void testResultOrder() {
+    var items = IntStream.range(0, 50).boxed().collect(toList());
+    var progress = new CountingProgress();
+    var result = TranslationLoadExecutor.map(items, (i, p) -> i * 2, progress, 3);
+    assertEquals(items.stream().map(i -> i * 2).collect(toList()), result);
+    assertEquals(50 * 3, progress.m_ticks.get());
+  }
+
+  @Test
+  public void testConcurrentExecution() {
+    if (TranslationLoadExecutor.MAX_PARALLELISM < 2) {
+      return;
+    }
+    var latch = new CountDownLatch(2);
+    var result = TranslationLoadExecutor.map(List.of("a", "b"), (item, p) -> {
+      latch.countDown();
+      try {
+        return latch.await(10, TimeUnit.SECONDS); // only succeeds if both items are processed at the same time
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      }
+    }, new NullProgress(), 1);
+    assertEquals(List.of(true, true), result);
+  }
+
+  @Test
+  public void testNested() {
+    var outer = IntStream.range(0, 4).boxed().collect(toList());
+    var inner = IntStream.range(0, 20).boxed().collect(toList());
+    var result = TranslationLoadExecutor.map(outer, (o, p) -> TranslationLoadExecutor.map(inner, (i, p2) -> o * 100 + i, p, 1).stream().mapToInt(Integer::intValue).sum(), new NullProgress(), 1);
+    assertEquals(List.of(190, 2190, 4190, 6190), result);
+  }
+
+  @Test
+  public void testException() {
+    var items = IntStream.range(0, 10).boxed().collect(toList());
+    var exception = assertThrows(IllegalStateException.class, () -> TranslationLoadExecutor.map(items, (i, p) -> {
+      if (i == 5) {
+        throw new IllegalStateException("failed " + i);
+      }
+      return i;
+    }, new NullProgress(), 1));
+    assertTrue(exception.getMessage().contains("failed 5"));
+  }
+
+  @Test
+  public void testCancellationReachesRunningTasks() {
+    var items = IntStream.range(0, 4).boxed().collect(toList());
+    var progress = new CancelableProgress();
+    assertThrows(CancellationException.class, () -> TranslationLoadExecutor.map(items, (i, p) -> {
+      if (i == 0) {
+        progress.m_canceled = true; // e.g. canceled by the user while the tasks are running
+      }
+      var end = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+      while (System.nanoTime() < end) {
+        p.worked(0); // throws as soon as the progress is canceled
+        Thread.onSpinWait();
+      }
+      return i;
+    }, progress, 1));
+  }
+
+  private static final class CancelableProgress extends NullProgress {
+    private volatile boolean m_canceled;
+
+    @Override
+    public IProgress newChild(int work) {
+      worked(0);
+      return this;
+    }
+
+    @Override
+    public IProgress worked(int work) {
+      if (m_canceled) {
+        throw new CancellationException();
+      }
+      return this;
+    }
+  }
+
+  private static final class CountingProgress extends NullProgress {
+    private final AtomicInteger m_ticks = new AtomicInteger();
+
+    @Override
+    public IProgress newChild(int work) {
+      m_ticks.addAndGet(work);
+      return new NullProgress();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls.manager;
+
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TranslationKeyIndexTest {
+
+  @Test
+  public void testPrefix() {
+    var index = createIndex("abc", "AbD", "ab", "b", "a", "abc.def", "ac");
+    assertEquals(List.of("ab", "abc", "abc.def", "AbD"), index.keysWithPrefix("AB").collect(toList()));
+    assertEquals(List.of("abc", "abc.def"), index.keysWithPrefix("abc").collect(toList()));
+    assertEquals(7, index.keysWithPrefix("").count());
+    assertEquals(0, index.keysWithPrefix("abcd").count());
+    assertEquals(0, index.keysWithPrefix("c").count());
+  }
+
+  @Test
+  public void testContainsIgnoreCase() {
+    var index = createIndex("key", "KEY", "other");
+    assertTrue(index.containsIgnoreCase("Key"));
+    assertTrue(index.containsIgnoreCase("OTHER"));
+    assertFalse(index.containsIgnoreCase("ke"));
+    assertEquals(Set.of("key", "KEY"), index.keysWithPrefix("k").collect(toSet()));
+
+    index.remove("key");
+    assertTrue(index.containsIgnoreCase("key"));
+    index.remove("KEY");
+    assertFalse(index.containsIgnoreCase("key"));
+    index.remove("notExisting");
+    assertEquals(1, index.size());
+
+    index.clear();
+    assertEquals(0, index.size());
+    assertFalse(index.containsIgnoreCase("other"));
+  }
+
+  @Test
+  public void testAddTwice() {
+    var index = createIndex("key", "key");
+    assertEquals(1, index.size());
+    index.remove("key");
+    assertEquals(0, index.keysWithPrefix("k").count());
+  }
+
+  private static TranslationKeyIndex createIndex(String... keys) {
+    var index = new TranslationKeyIndex();
+    for (var key : keys) {
+      index.add(key);
+    }
+    return index;
+  }
+}
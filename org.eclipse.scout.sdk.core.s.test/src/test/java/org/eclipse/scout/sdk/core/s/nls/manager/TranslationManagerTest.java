@@ -223,6 +223,9 @@ public class TranslationManagerTest {
     writeableManager.removeTranslations(null);
     writeableManager.removeTranslations(Stream.of("key1", "", "key2", null, "key5", "not-existing"));
     assertEquals("key3,key4", writeableManager.allTranslations().map(ITranslation::key).sorted().collect(joining(",")));
+    assertEquals("key3,key4", writeableManager.allTranslationsWithPrefix("KEY").map(ITranslation::key).collect(joining(",")));
+    assertEquals("key1", writeableManager.generateNewKey("key1"));
+    assertEquals("Key30", writeableManager.generateNewKey("Key3"));
 
     var managerWithReadOnly = testingManager(env);
     assertThrows(IllegalArgumentException.class, () -> managerWithReadOnly.removeTranslations(Stream.of("key1")));
@@ -313,6 +316,8 @@ public class TranslationManagerTest {
         createStore("b", 200.00d, false, entries01)));
     manager.changeKey(key2, key1);
     assertTrue(manager.translation(key2).isEmpty()); // old key does no longer exist
+    assertEquals(0, manager.allTranslationsWithPrefix(key2).count());
+    assertEquals(1, manager.allTranslationsWithPrefix("KEY").count());
 
     // existing read-only entry and renamed one have been merged to one manager
     assertEquals(Map.of(Language.LANGUAGE_DEFAULT, "text_def_02", en, "text_en"), manager.translation(key1).orElseThrow().texts());
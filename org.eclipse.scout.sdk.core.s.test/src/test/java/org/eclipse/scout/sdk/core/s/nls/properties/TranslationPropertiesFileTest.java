@@ -20,10 +20,15 @@ import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.eclipse.scout.sdk.core.generator.properties.PropertiesGenerator;
 import org.eclipse.scout.sdk.core.java.testing.context.ExtendWithJavaEnvironmentFactory;
+import org.eclipse.scout.sdk.core.s.environment.IEnvironment;
+import org.eclipse.scout.sdk.core.s.environment.IProgress;
 import org.eclipse.scout.sdk.core.s.environment.NullProgress;
 import org.eclipse.scout.sdk.core.s.nls.Language;
 import org.eclipse.scout.sdk.core.s.nls.TranslationStoreSupplierExtension;
@@ -107,4 +112,44 @@ public class TranslationPropertiesFileTest {
     assertFalse(parseLanguageFromFileName(null, "").isPresent());
     assertFalse(parseLanguageFromFileName("prefix_test.properties", "text").isPresent());
   }
+
+  @Test
+  public void testLoadAfterFlushAndExternalRevert() {
+    var content = new AtomicReference<>("a=1\n");
+    var file = new InMemoryTranslationFile(content);
+    assertTrue(file.load(new NullProgress()));
+    file.setTranslation("a", "2");
+    file.flush(null, new NullProgress());
+    assertEquals("a=2\n", content.get());
+
+    content.set("a=1\n"); // reverted outside to the content loaded first
+    assertTrue(file.load(new NullProgress()));
+    assertEquals("1", file.translation("a").orElseThrow());
+    assertFalse(file.load(new NullProgress()));
+  }
+
+  private static final class InMemoryTranslationFile extends AbstractTranslationPropertiesFile {
+
+    private final AtomicReference<String> m_content;
+
+    private InMemoryTranslationFile(AtomicReference<String> content) {
+      super(Language.LANGUAGE_DEFAULT, () -> new ByteArrayInputStream(content.get().getBytes(PropertiesGenerator.ENCODING)));
+      m_content = content;
+    }
+
+    @Override
+    protected void writeEntries(PropertiesGenerator content, IEnvironment env, IProgress progress) {
+      m_content.set(patchedContent(content).orElseThrow());
+    }
+
+    @Override
+    protected Object source() {
+      return null;
+    }
+
+    @Override
+    public boolean isEditable() {
+      return true;
+    }
+  }
 }
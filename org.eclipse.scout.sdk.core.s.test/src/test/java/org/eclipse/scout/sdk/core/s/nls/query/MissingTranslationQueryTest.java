@@ -11,6 +11,7 @@ package org.eclipse.scout.sdk.core.s.nls.query;
 
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.eclipse.scout.sdk.core.s.nls.query.TranslationKeysQueryTest.searchIn;
 import static org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.HtmlScoutMessagePattern.textToNextNewLine;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -165,6 +166,33 @@ public class MissingTranslationQueryTest {
     assertEquals(0, query.result().count());
   }
 
+  @Test
+  public void testWithMultipleConstants() {
+    var existingKey = "key";
+    var query = createQueryWithKeys(new String[]{existingKey});
+    var fileName = "Constants.java";
+    searchIn(query, fileName, "public class Constants {\n"
+        + "  public static final String A = \"" + existingKey + "\";\n"
+        + "  public static final String B = \"missing1\";\n"
+        + "  public static final String C = \"missing2\";\n"
+        + "  String a = TEXTS.get(A);\n"
+        + "  String b = TEXTS.get(B) + TEXTS.get(B);\n"
+        + "  String c = TEXTS.get(C);\n"
+        + "  String d = TEXTS.get(D);\n"
+        + "}");
+    searchIn(query, "Other.java", "TEXTS.get(B)"); // the constant of the other file is not visible
+
+    var result = query.result(Paths.get(fileName));
+    assertEquals(Set.of("missing1", "missing2", "D"), result.stream()
+        .map(FileRange::text)
+        .map(CharSequence::toString)
+        .collect(toSet()));
+    assertEquals(1, result.stream()
+        .filter(r -> r.severity() <= Level.INFO.intValue())
+        .count());
+    assertEquals(1, query.result(Paths.get("Other.java")).size());
+  }
+
   @Test
   public void testTextToNextNewLine() {
     assertEquals("abc", textToNextNewLine("abc\ndd", 0));
@@ -0,0 +1,132 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.AbstractTranslationPattern;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.HtmlScoutMessagePattern;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.JavaTextsGetPattern;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.JsModelTextKeyPattern;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.JsSessionTextPattern;
+import org.eclipse.scout.sdk.core.s.util.search.FileQueryInput;
+import org.eclipse.scout.sdk.core.s.util.search.FileRange;
+import org.junit.jupiter.api.Test;
+
+public class TranslationPatternScannerTest {
+
+  @Test
+  public void testJava() {
+    assertSameAsRegex("public class Test {\n"
+        + "  String a = TEXTS.get(\"key1\");\n"
+        + "  String b = TEXTS.get(\"key2\", arg);\n"
+        + "  String c = TEXTS.get(locale, \"key3\"); // comment TEXTS.get(\"key4\")\n"
+        + "  String d = TEXTS.get(CONSTANT);\n"
+        + "  String e = TEXTS.get (\"notAKey\");\n"
+        + "  String f = TEXTS.getWithFallback(\"notAKey\");\n"
+        + "  String g = TEXTS.get(TEXTS.get(\"key5\"));\n"
+        + "}TEXTS.get(", JavaTextsGetPattern.INSTANCE);
+  }
+
+  @Test
+  public void testJs() {
+    assertSameAsRegex("let a = session.text('key1');\n"
+        + "let b = session.text(\"key2\", 'arg');\n"
+        + "let c = this.session.text(`key3`) + session.text(variable);\n"
+        + "let d = {text: '${textKey:key4}', other: \"${textKey:key5}${textKey:key6}\"};\n"
+        + "let e = session.texts('notAKey') + '${textkey:notAKey}';\n"
+        + "session.text(session.text('key7'))${textKey:", JsSessionTextPattern.INSTANCE, JsModelTextKeyPattern.INSTANCE);
+  }
+
+  @Test
+  public void testHtml() {
+    assertSameAsRegex("<html>\n"
+        + "<scout:message key=\"key1\" />\n"
+        + "<scout:message \t\n key='key2' /><scout:message key=\"key3\"/>\n"
+        + "<scout:message otherkey=\"notAKey\" />\n"
+        + "<scout:message key=notAKey />\n"
+        + "key=\"notAKey\" key=\"key4\"\n"
+        + "</html>", HtmlScoutMessagePattern.INSTANCE);
+  }
+
+  @Test
+  public void testPatternWithoutAnchors() {
+    var pattern = new NoAnchorPattern();
+    assertSameAsRegex("a1 b a22 a333", pattern, JsModelTextKeyPattern.INSTANCE);
+    assertEquals(3, scan("a1 b a22 a333", pattern).size());
+  }
+
+  @Test
+  public void testEmptyContent() {
+    assertTrue(scan("", JavaTextsGetPattern.INSTANCE, JsSessionTextPattern.INSTANCE).isEmpty());
+    assertTrue(new TranslationPatternScanner(List.of()).patterns().isEmpty());
+  }
+
+  @Test
+  public void testEmptyAnchor() {
+    var pattern = new NoAnchorPattern() {
+      @Override
+      public Stream<String> anchors() {
+        return Stream.of("");
+      }
+    };
+    assertThrows(IllegalArgumentException.class, () -> new TranslationPatternScanner(List.of(pattern)));
+  }
+
+  private static void assertSameAsRegex(CharSequence content, AbstractTranslationPattern... patterns) {
+    var expected = new ArrayList<String>();
+    for (var pattern : patterns) {
+      var matcher = pattern.pattern().matcher(content);
+      while (matcher.find()) {
+        expected.add(toString(pattern, matcher));
+      }
+    }
+    assertEquals(expected, scan(content, patterns));
+  }
+
+  private static List<String> scan(CharSequence content, AbstractTranslationPattern... patterns) {
+    var actual = new ArrayList<String>();
+    new TranslationPatternScanner(List.of(patterns)).scan(content, (p, m) -> actual.add(toString(p, m)));
+    return actual;
+  }
+
+  private static String toString(AbstractTranslationPattern pattern, MatchResult match) {
+    return pattern.getClass().getSimpleName() + ':' + match.start() + '-' + match.end() + ':' + match.group();
+  }
+
+  private static class NoAnchorPattern extends AbstractTranslationPattern {
+
+    private static final Pattern REGEX = Pattern.compile("a\\d+");
+
+    @Override
+    public Pattern pattern() {
+      return REGEX;
+    }
+
+    @Override
+    public String fileExtension() {
+      return null;
+    }
+
+    @Override
+    public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.util.search;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.eclipse.scout.sdk.core.s.nls.Translations.DependencyScope;
+import org.eclipse.scout.sdk.core.s.nls.query.MissingTranslationQuery;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationKeysQuery;
+import org.eclipse.scout.sdk.core.util.CoreUtils;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalFileQueryTest {
+
+  private static final Path MODULE = Paths.get("module");
+
+  @Test
+  public void testReuseUnchangedFiles() {
+    var cache = new FileQueryCache("test");
+    var first = search(cache, "\"keyA\"", "'keyB'", "`keyC`");
+    assertEquals(3, first.numExecuted());
+    assertEquals(Set.of("keyA", "keyB", "keyC"), keys(first));
+
+    var second = search(cache, "\"keyA\"", "'keyB2'", "`keyC`");
+    assertEquals(1, second.numExecuted());
+    assertEquals(Set.of("keyA", "keyB2", "keyC"), keys(second));
+    assertEquals(1, second.result(file(0)).size());
+    assertEquals(file(1), second.result(file(1)).iterator().next().file());
+  }
+
+  @Test
+  public void testDependencyFingerprintChanged() {
+    var cache = new FileQueryCache("test");
+    var input = new FileQueryInput(MODULE.resolve("A.java"), MODULE, () -> "TEXTS.get(\"keyA\")");
+
+    var first = new IncrementalFileQuery(missingTranslationQuery(), cache);
+    first.searchIn(input);
+    assertEquals(1, first.numExecuted());
+    assertEquals(Set.of("keyA"), keys(first));
+
+    var second = new IncrementalFileQuery(missingTranslationQuery(), cache);
+    second.searchIn(input);
+    assertEquals(0, second.numExecuted());
+    assertEquals(Set.of("keyA"), keys(second));
+
+    // the key has been created in the meantime
+    var third = new IncrementalFileQuery(missingTranslationQuery("keyA"), cache);
+    third.searchIn(input);
+    assertEquals(1, third.numExecuted());
+    assertEquals(Set.of(), keys(third));
+
+    assertEquals("", new TranslationKeysQuery().dependencyFingerprint(input));
+  }
+
+  @Test
+  public void testStoreAndLoad() throws IOException {
+    var dir = Files.createTempDirectory("incrementalFileQueryTest");
+    try {
+      var cacheFile = dir.resolve("sub/keys.cache");
+      var cache = new FileQueryCache("test");
+      search(cache, "\"keyA\"", "nothing", "`keyC` 'keyD'");
+      cache.store(cacheFile);
+
+      var loaded = FileQueryCache.load(cacheFile, "test");
+      assertEquals(3, loaded.size());
+      var query = search(loaded, "\"keyA\"", "nothing", "`keyC` 'keyD'");
+      assertEquals(0, query.numExecuted());
+      assertEquals(Set.of("keyA", "keyC", "keyD"), keys(query));
+
+      assertEquals(0, FileQueryCache.load(cacheFile, "other").size());
+      assertEquals(0, FileQueryCache.load(dir.resolve("notExisting"), "test").size());
+      Files.writeString(cacheFile, "corrupt");
+      assertEquals(0, FileQueryCache.load(cacheFile, "test").size());
+    }
+    finally {
+      CoreUtils.deleteDirectory(dir);
+    }
+  }
+
+  @Test
+  public void testRemoveFilesNotSearched() {
+    var cache = new FileQueryCache("test");
+    search(cache, "\"keyA\"", "\"keyB\"");
+    assertEquals(2, cache.size());
+
+    var query = new IncrementalFileQuery(new TranslationKeysQuery(), cache);
+    query.searchIn(input(1, "\"keyB\""));
+    query.removeFilesNotSearchedFromCache();
+    assertEquals(1, cache.size());
+    assertEquals(0, query.numExecuted());
+  }
+
+  @Test
+  public void testHashOf() {
+    assertEquals(FileQueryCache.hashOf("abc"), FileQueryCache.hashOf(new StringBuilder("abc")));
+    assertNotEquals(FileQueryCache.hashOf("abc"), FileQueryCache.hashOf("abd"));
+    var large = "x".repeat(10_000);
+    assertNotEquals(FileQueryCache.hashOf(large), FileQueryCache.hashOf(large + 'y'));
+    assertEquals(64, FileQueryCache.hashOf("").length());
+  }
+
+  private static MissingTranslationQuery missingTranslationQuery(String... existingKeys) {
+    return new MissingTranslationQuery((module, scope) -> List.of()) {
+      @Override
+      protected Optional<Set<String>> computeAccessibleKeysForModule(Path modulePath, DependencyScope scope) {
+        return Optional.of(Set.of(existingKeys));
+      }
+    };
+  }
+
+  private static IncrementalFileQuery search(FileQueryCache cache, String... contents) {
+    var query = new IncrementalFileQuery(new TranslationKeysQuery(), cache);
+    for (var i = 0; i < contents.length; i++) {
+      query.searchIn(input(i, contents[i]));
+    }
+    return query;
+  }
+
+  private static Set<String> keys(IFileQueryResult query) {
+    return query.result()
+        .map(m -> m.text().toString())
+        .collect(toSet());
+  }
+
+  private static FileQueryInput input(int index, String content) {
+    return new FileQueryInput(file(index), MODULE, () -> content);
+  }
+
+  private static Path file(int index) {
+    return MODULE.resolve("File" + index + ".js");
+  }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.util.search;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.sdk.core.s.environment.IProgress;
+import org.eclipse.scout.sdk.core.s.environment.NullProgress;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationKeysQuery;
+import org.eclipse.scout.sdk.core.util.CoreUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class WorkspaceWalkerTest {
+
+  private Path m_root;
+  private Path m_moduleA;
+  private Path m_moduleB;
+
+  @BeforeEach
+  public void createWorkspace() throws IOException {
+    m_root = Files.createTempDirectory("workspaceWalkerTest").toRealPath();
+    m_moduleA = m_root.resolve("moduleA");
+    m_moduleB = m_moduleA.resolve("moduleB"); // nested module
+    write(m_moduleA.resolve("src/main/java/a/A.java"), "TEXTS.get(\"keyA\")");
+    write(m_moduleA.resolve("src/main/js/a/A.js"), "session.text('keyJs')");
+    write(m_moduleA.resolve("src/main/resources/a.txt"), "\"keyTxt\"");
+    write(m_moduleA.resolve("target/classes/a/A.java"), "\"keyTarget\"");
+    write(m_moduleA.resolve("node_modules/lib/index.js"), "\"keyNodeModules\"");
+    write(m_moduleA.resolve(".hidden/B.java"), "\"keyHidden\"");
+    write(m_moduleB.resolve("src/main/java/b/B.java"), "TEXTS.get(\"keyB\")");
+    write(m_moduleB.resolve("bin/b/B.java"), "\"keyBin\"");
+  }
+
+  @AfterEach
+  public void deleteWorkspace() throws IOException {
+    CoreUtils.deleteDirectory(m_root);
+  }
+
+  @Test
+  public void testWalk() {
+    var visited = walk(new WorkspaceWalker("test"));
+    assertEquals(Map.of(
+        m_moduleA.resolve("src/main/java/a/A.java"), m_moduleA,
+        m_moduleA.resolve("src/main/js/a/A.js"), m_moduleA,
+        m_moduleA.resolve("src/main/resources/a.txt"), m_moduleA,
+        m_moduleB.resolve("src/main/java/b/B.java"), m_moduleB), visited);
+  }
+
+  @Test
+  public void testWalkWithoutSkipping() {
+    var walker = new WorkspaceWalker("test")
+        .withSkipHiddenPaths(false)
+        .withSkipNodeModules(false)
+        .withSkipOutputLocation(false)
+        .withParallelism(1);
+    assertEquals(8, walk(walker).size());
+  }
+
+  @Test
+  public void testFilters() {
+    var walker = new WorkspaceWalker("test")
+        .withExtensionsAccepted(".JAVA", null, "")
+        .withFilter((path, attrs) -> !path.endsWith("b"));
+    assertEquals(Set.of(m_moduleA.resolve("src/main/java/a/A.java")), walk(walker).keySet());
+  }
+
+  @Test
+  public void testExecuteQuery() {
+    var query = new WorkspaceWalker("test")
+        .withModule(m_moduleA)
+        .withModule(m_moduleB)
+        .withModule(m_root.resolve("notExisting"))
+        .executeQuery(new TranslationKeysQuery(), new NullProgress());
+    assertEquals(Set.of("keyA", "keyJs", "keyB"), query.keysFound().collect(toSet()));
+    assertEquals(m_moduleB, query.result("keyB").findAny().orElseThrow().module());
+  }
+
+  @Test
+  public void testProgressPerModule() {
+    var worked = new AtomicInteger();
+    var progress = new NullProgress() {
+      @Override
+      public IProgress worked(int i) {
+        worked.addAndGet(i);
+        return this;
+      }
+    };
+    new WorkspaceWalker("test")
+        .withModule(m_moduleA)
+        .withModule(m_moduleB)
+        .withModule(m_root.resolve("notExisting"))
+        .walk(f -> {
+        }, progress);
+    assertEquals(3, worked.get());
+  }
+
+  @Test
+  public void testReadContent() throws IOException {
+    var small = m_root.resolve("small.txt");
+    var large = m_root.resolve("large.txt");
+    var largeContent = "\u00e4bc".repeat(256 * 1024);
+    write(small, "\u00e4bc");
+    write(large, largeContent);
+    assertEquals("\u00e4bc", WorkspaceWalker.readContent(small, StandardCharsets.UTF_8).toString());
+    assertEquals(largeContent, WorkspaceWalker.readContent(large, StandardCharsets.UTF_8).toString());
+    assertThrows(IllegalArgumentException.class, () -> new WorkspaceWalker("test").withParallelism(0));
+  }
+
+  private Map<Path, Path> walk(WorkspaceWalker walker) {
+    var visited = new ConcurrentHashMap<Path, Path>();
+    if (walker.modules().isEmpty()) {
+      walker.withModule(m_moduleA).withModule(m_moduleB);
+    }
+    walker.walk(f -> visited.put(f.path(), f.modulePath()), new NullProgress());
+    return visited;
+  }
+
+  private static void write(Path file, String content) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, content);
+  }
+}
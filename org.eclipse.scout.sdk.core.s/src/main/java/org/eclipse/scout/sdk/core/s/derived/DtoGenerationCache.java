@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.derived;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.scout.sdk.core.util.Ensure;
+import org.eclipse.scout.sdk.core.util.SdkException;
+
+/**
+ * <h3>{@link DtoGenerationCache}</h3>
+ * <p>
+ * Remembers the fingerprint of the inputs used to create a DTO (FormData, PageData, RowData). It is used by
+ * {@link DtoUpdateHandler} to skip the generation and the write of a DTO if none of its inputs changed since it has
+ * been written the last time.
+ * <p>
+ * The hits (DTOs which have not been generated again) and misses of {@link #isUpToDate(String, String)} are counted so
+ * that the number of avoided generations can be reported (e.g. after an update of all derived resources).
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 13.0
+ */
+public class DtoGenerationCache {
+
+  private final Map<String, String> m_fingerprints;
+  private final AtomicLong m_hits;
+  private final AtomicLong m_misses;
+
+  public DtoGenerationCache() {
+    m_fingerprints = new ConcurrentHashMap<>();
+    m_hits = new AtomicLong();
+    m_misses = new AtomicLong();
+  }
+
+  /**
+   * Checks if the DTO with given name has already been written for the given fingerprint.
+   *
+   * @param dtoName
+   *          The fully qualified name of the DTO. Must not be {@code null}.
+   * @param fingerprint
+   *          The fingerprint of the current inputs of the DTO. Must not be {@code null}.
+   * @return {@code true} if the DTO has been written using the same fingerprint (a hit). {@code false} otherwise (a
+   *         miss).
+   */
+  public boolean isUpToDate(String dtoName, String fingerprint) {
+    var upToDate = Ensure.notNull(fingerprint).equals(m_fingerprints.get(Ensure.notNull(dtoName)));
+    if (upToDate) {
+      m_hits.incrementAndGet();
+    }
+    else {
+      m_misses.incrementAndGet();
+    }
+    return upToDate;
+  }
+
+  /**
+   * Remembers that the DTO with given name has been written for the given fingerprint.
+   *
+   * @param dtoName
+   *          The fully qualified name of the DTO. Must not be {@code null}.
+   * @param fingerprint
+   *          The fingerprint of the inputs used to create the DTO. Must not be {@code null}.
+   */
+  public void put(String dtoName, String fingerprint) {
+    m_fingerprints.put(Ensure.notNull(dtoName), Ensure.notNull(fingerprint));
+  }
+
+  /**
+   * Removes the fingerprint of the DTO with given name so that it is created again on the next update.
+   *
+   * @param dtoName
+   *          The fully qualified name of the DTO. May be {@code null}.
+   * @return {@code true} if a fingerprint was registered for the DTO.
+   */
+  public boolean remove(String dtoName) {
+    return dtoName != null && m_fingerprints.remove(dtoName) != null;
+  }
+
+  /**
+   * Removes all fingerprints so that all DTOs are created again on the next update. The statistics are kept.
+   */
+  public void clear() {
+    m_fingerprints.clear();
+  }
+
+  /**
+   * @return The number of DTOs for which a fingerprint is registered.
+   */
+  public int size() {
+    return m_fingerprints.size();
+  }
+
+  /**
+   * @return The number of calls to {@link #isUpToDate(String, String)} that found a matching fingerprint. This is the
+   *         number of DTOs that have not been generated again.
+   */
+  public long hitCount() {
+    return m_hits.get();
+  }
+
+  /**
+   * @return The number of calls to {@link #isUpToDate(String, String)} that did not find a matching fingerprint.
+   */
+  public long missCount() {
+    return m_misses.get();
+  }
+
+  /**
+   * @return The ratio of hits to all calls of {@link #isUpToDate(String, String)} (0.0 - 1.0). If there was no call
+   *         yet, 0.0 is returned.
+   */
+  public double hitRate() {
+    var hits = hitCount();
+    var total = hits + missCount();
+    if (total == 0) {
+      return 0.0;
+    }
+    return (double) hits / total;
+  }
+
+  /**
+   * Resets the hit and miss counters.
+   */
+  public void resetStatistics() {
+    m_hits.set(0);
+    m_misses.set(0);
+  }
+
+  /**
+   * Computes a SHA-256 fingerprint of the given parts. The fingerprint changes if the content of any part changes or if
+   * the parts are given in an other order.
+   *
+   * @param parts
+   *          The parts to hash. Must not be {@code null} and must not contain {@code null} elements.
+   * @return The fingerprint as hex {@link String}.
+   */
+  public static String fingerprintOf(Iterable<? extends CharSequence> parts) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      var length = ByteBuffer.allocate(Integer.BYTES);
+      for (var part : parts) {
+        // include the length so that the boundaries of the parts are part of the fingerprint
+        digest.update(length.clear().putInt(part.length()).flip());
+        digest.update(StandardCharsets.UTF_8.encode(CharBuffer.wrap(part)));
+      }
+      var hash = digest.digest();
+      var result = new StringBuilder(hash.length * 2);
+      for (var b : hash) {
+        result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return result.toString();
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new SdkException(e);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " [size=" + size() + ", hits=" + hitCount() + ", misses=" + missCount() + ']';
+  }
+}
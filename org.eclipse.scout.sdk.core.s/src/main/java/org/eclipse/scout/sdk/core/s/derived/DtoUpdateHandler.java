@@ -9,11 +9,34 @@
  */
 package org.eclipse.scout.sdk.core.s.derived;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import org.eclipse.scout.sdk.core.java.generator.compilationunit.ICompilationUnitGenerator;
+import org.eclipse.scout.sdk.core.java.model.api.IAnnotatable;
+import org.eclipse.scout.sdk.core.java.model.api.IArrayMetaValue;
+import org.eclipse.scout.sdk.core.java.model.api.IClasspathEntry;
+import org.eclipse.scout.sdk.core.java.model.api.ICompilationUnit;
+import org.eclipse.scout.sdk.core.java.model.api.IField;
+import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
+import org.eclipse.scout.sdk.core.java.model.api.IMetaValue;
+import org.eclipse.scout.sdk.core.java.model.api.IMethodParameter;
 import org.eclipse.scout.sdk.core.java.model.api.IType;
+import org.eclipse.scout.sdk.core.java.model.api.MetaValueType;
+import org.eclipse.scout.sdk.core.java.model.spi.TypeSpi;
+import org.eclipse.scout.sdk.core.log.SdkLog;
 import org.eclipse.scout.sdk.core.s.dto.DtoGeneratorFactory;
 import org.eclipse.scout.sdk.core.s.environment.IEnvironment;
 import org.eclipse.scout.sdk.core.s.environment.IFuture;
@@ -22,6 +45,7 @@ import org.eclipse.scout.sdk.core.s.java.annotation.DataAnnotationDescriptor;
 import org.eclipse.scout.sdk.core.s.java.annotation.FormDataAnnotationDescriptor;
 import org.eclipse.scout.sdk.core.s.java.apidef.IScoutApi;
 import org.eclipse.scout.sdk.core.s.java.apidef.IScoutInterfaceApi;
+import org.eclipse.scout.sdk.core.util.SourceRange;
 
 /**
  * <h3>{@link DtoUpdateHandler}</h3>
@@ -30,8 +54,26 @@ import org.eclipse.scout.sdk.core.s.java.apidef.IScoutInterfaceApi;
  */
 public class DtoUpdateHandler extends AbstractDerivedResourceHandler {
 
+  private static final Map<TypeSpi, String> BINARY_TYPE_SIGNATURES = Collections.synchronizedMap(new WeakHashMap<>()); // the SPIs are replaced when the environment is reloaded
+
+  private final DtoGenerationCache m_cache;
+
   public DtoUpdateHandler(IDerivedResourceInput input) {
+    this(input, null);
+  }
+
+  /**
+   * @param input
+   *          The {@link IDerivedResourceInput} for which the DTO should be updated. Must not be {@code null}.
+   * @param cache
+   *          The {@link DtoGenerationCache} holding the fingerprints of the DTOs already written. If the
+   *          {@link #fingerprintOf(IType, IType, IType, IClasspathEntry) fingerprint} of the DTO did not change, the DTO
+   *          is neither generated nor written. May be {@code null}. Then the DTO is always generated.
+   * @since 13.0
+   */
+  public DtoUpdateHandler(IDerivedResourceInput input, DtoGenerationCache cache) {
     super(input);
+    m_cache = cache;
   }
 
   @Override
@@ -46,29 +88,320 @@ public class DtoUpdateHandler extends AbstractDerivedResourceHandler {
     var scoutApi = modelType.javaEnvironment().requireApi(IScoutApi.class);
     var formDataAnnotation = findDataAnnotationForFormData(modelType);
     if (formDataAnnotation.isPresent()) {
-      return getInput()
-          .getSourceFolderOf(formDataAnnotation.orElseThrow().getFormDataType(), env)
-          .flatMap(derivedSourceFolder -> DtoGeneratorFactory
-              .createFormDataGenerator(modelType, derivedSourceFolder.javaEnvironment(), formDataAnnotation.orElseThrow())
-              .map(g -> env.writeCompilationUnitAsync(g, derivedSourceFolder, progress)));
+      var annotation = formDataAnnotation.orElseThrow();
+      return writeDerivedType(modelType, annotation.getFormDataType(), annotation.getSuperType(), env, progress,
+          sharedEnv -> DtoGeneratorFactory.createFormDataGenerator(modelType, sharedEnv, annotation));
     }
 
     var pageDataAnnotation = findDataAnnotationForPageData(modelType, scoutApi);
     if (pageDataAnnotation.isPresent()) {
-      return getInput()
-          .getSourceFolderOf(pageDataAnnotation.orElseThrow().getDataType(), env)
-          .flatMap(derivedSourceFolder -> DtoGeneratorFactory
-              .createPageDataGenerator(modelType, derivedSourceFolder.javaEnvironment(), pageDataAnnotation.orElseThrow())
-              .map(g -> env.writeCompilationUnitAsync(g, derivedSourceFolder, progress)));
+      var annotation = pageDataAnnotation.orElseThrow();
+      return writeDerivedType(modelType, annotation.getDataType(), annotation.getSuperDataType().orElse(null), env, progress,
+          sharedEnv -> DtoGeneratorFactory.createPageDataGenerator(modelType, sharedEnv, annotation));
+    }
+
+    return findDataAnnotationForRowData(modelType, scoutApi)
+        .flatMap(annotation -> writeDerivedType(modelType, annotation.getDataType(), annotation.getSuperDataType().orElse(null), env, progress,
+            sharedEnv -> DtoGeneratorFactory.createTableRowDataGenerator(modelType, sharedEnv, annotation)));
+  }
+
+  /**
+   * Generates and writes the DTO unless its fingerprint is registered in the {@link DtoGenerationCache} of this handler.
+   *
+   * @param modelType
+   *          The model {@link IType} the DTO is derived from.
+   * @param dtoType
+   *          The DTO {@link IType} to write.
+   * @param dtoSuperType
+   *          The super class of the DTO or {@code null}.
+   * @param env
+   *          The {@link IEnvironment} to write the DTO.
+   * @param progress
+   *          The {@link IProgress} monitor.
+   * @param generatorFactory
+   *          Creates the generator for the DTO based on the {@link IJavaEnvironment} of the source folder of the DTO.
+   * @return The {@link IFuture} of the write operation or an empty {@link Optional} if nothing is written.
+   * @since 13.0
+   */
+  protected Optional<IFuture<IType>> writeDerivedType(IType modelType, IType dtoType, IType dtoSuperType, IEnvironment env, IProgress progress,
+      Function<IJavaEnvironment, Optional<ICompilationUnitGenerator<?>>> generatorFactory) {
+    var derivedSourceFolder = getInput().getSourceFolderOf(dtoType, env);
+    if (derivedSourceFolder.isEmpty()) {
+      return Optional.empty();
+    }
+
+    var targetFolder = derivedSourceFolder.orElseThrow();
+    if (m_cache == null) {
+      return generatorFactory.apply(targetFolder.javaEnvironment())
+          .map(g -> env.writeCompilationUnitAsync(g, targetFolder, progress));
+    }
+
+    var dtoName = dtoType.name();
+    var inputsFingerprint = inputsFingerprintOf(modelType, dtoType, dtoSuperType, targetFolder);
+    if (m_cache.isUpToDate(dtoName, fingerprintOf(inputsFingerprint, currentSourceOf(dtoName, targetFolder)))) {
+      SdkLog.debug("DTO '{}' is up to date. Skipping generation.", dtoName);
+      return Optional.empty();
+    }
+
+    return generatorFactory.apply(targetFolder.javaEnvironment())
+        .map(g -> {
+          var result = env.writeCompilationUnitAsync(g, targetFolder, progress);
+          // only remember successful writes. Use the written source so that the next update is a hit.
+          result.thenAccept(writtenType -> Optional.ofNullable(writtenType.get())
+              .flatMap(t -> sourceOf(t.primary()))
+              .ifPresent(writtenSource -> m_cache.put(dtoName, fingerprintOf(inputsFingerprint, writtenSource))));
+          return result;
+        });
+  }
+
+  /**
+   * Computes the fingerprint of all inputs that affect the source of a DTO. These are:
+   * <ul>
+   * <li>The API version of the Scout runtime used by the model.</li>
+   * <li>The name and source folder of the DTO.</li>
+   * <li>The current source of the DTO. So that a DTO that has been modified or deleted by someone else is created
+   * again.</li>
+   * <li>The model type, the DTO super class and all their super types (recursively, including the super types of inner
+   * types like templates and abstract fields).</li>
+   * <li>The types referenced by the source types of this hierarchy (e.g. the data types of fields and methods, type
+   * arguments of super types and types used in annotations).</li>
+   * </ul>
+   * Source types contribute the source of their compilation unit, binary types the {@link #signatureOf(IType)
+   * signature} of their members (so that e.g. a library upgrade is detected). Types of the JDK contribute their name
+   * only.
+   * <p>
+   * After a DTO has been written, the fingerprint registered in the cache is built from the written source. Therefore,
+   * the next update is a hit as long as the DTO on disk has not been changed.
+   *
+   * @param modelType
+   *          The model {@link IType}. Must not be {@code null}.
+   * @param dtoType
+   *          The DTO {@link IType}. Must not be {@code null}.
+   * @param dtoSuperType
+   *          The super class of the DTO. May be {@code null}.
+   * @param targetFolder
+   *          The source folder of the DTO. Must not be {@code null}.
+   * @return The fingerprint as hex {@link String}.
+   * @since 13.0
+   */
+  protected static String fingerprintOf(IType modelType, IType dtoType, IType dtoSuperType, IClasspathEntry targetFolder) {
+    return fingerprintOf(inputsFingerprintOf(modelType, dtoType, dtoSuperType, targetFolder), currentSourceOf(dtoType.name(), targetFolder));
+  }
+
+  /**
+   * @param inputsFingerprint
+   *          The fingerprint of the inputs of the DTO as returned by
+   *          {@link #inputsFingerprintOf(IType, IType, IType, IClasspathEntry)}. Must not be {@code null}.
+   * @param dtoSource
+   *          The source of the DTO. An empty {@link CharSequence} if the DTO does not exist. Must not be {@code null}.
+   * @return The fingerprint of the DTO as hex {@link String}.
+   * @since 13.0
+   */
+  protected static String fingerprintOf(String inputsFingerprint, CharSequence dtoSource) {
+    return DtoGenerationCache.fingerprintOf(List.of(inputsFingerprint, dtoSource));
+  }
+
+  /**
+   * Computes the fingerprint of all inputs of the DTO without the source of the DTO itself (see
+   * {@link #fingerprintOf(IType, IType, IType, IClasspathEntry)}).
+   *
+   * @param modelType
+   *          The model {@link IType}. Must not be {@code null}.
+   * @param dtoType
+   *          The DTO {@link IType}. Must not be {@code null}.
+   * @param dtoSuperType
+   *          The super class of the DTO. May be {@code null}.
+   * @param targetFolder
+   *          The source folder of the DTO. Must not be {@code null}.
+   * @return The fingerprint as hex {@link String}.
+   * @since 13.0
+   */
+  protected static String inputsFingerprintOf(IType modelType, IType dtoType, IType dtoSuperType, IClasspathEntry targetFolder) {
+    Map<String, CharSequence> contents = new TreeMap<>(); // sorted by name so that the fingerprint is stable
+    Collection<IType> sourceTypes = new ArrayList<>();
+    Deque<IType> toVisit = new ArrayDeque<>();
+    toVisit.add(modelType.primary());
+    if (dtoSuperType != null) {
+      toVisit.add(dtoSuperType.primary());
+    }
+    while (!toVisit.isEmpty()) {
+      var primary = toVisit.poll();
+      if (contents.containsKey(primary.name())) {
+        continue;
+      }
+      if (isJdkType(primary)) {
+        contents.put(primary.name(), "");
+        continue;
+      }
+
+      var source = sourceOf(primary);
+      contents.put(primary.name(), source.orElseGet(() -> signatureOf(primary)));
+      if (source.isPresent()) {
+        declaredTypes(primary).forEach(sourceTypes::add);
+      }
+      declaredTypes(primary)
+          .flatMap(t -> t.superTypes().stream())
+          .map(IType::primary)
+          .filter(t -> !contents.containsKey(t.name()))
+          .forEach(toVisit::add);
+    }
+
+    // referenced types are not expanded: their super types do not contribute to the DTO
+    sourceTypes.stream()
+        .flatMap(DtoUpdateHandler::referencedTypes)
+        .map(IType::primary)
+        .filter(t -> !contents.containsKey(t.name()))
+        .forEach(t -> contents.put(t.name(), isJdkType(t) ? "" : sourceOf(t).orElseGet(() -> signatureOf(t))));
+
+    Collection<CharSequence> parts = new ArrayList<>(contents.size() * 2 + 3);
+    parts.add(modelType.javaEnvironment().requireApi(IScoutApi.class).maxLevel().toString());
+    parts.add(dtoType.name());
+    parts.add(targetFolder.path().toString());
+    contents.forEach((name, content) -> {
+      parts.add(name);
+      parts.add(content);
+    });
+    return DtoGenerationCache.fingerprintOf(parts);
+  }
+
+  protected static CharSequence currentSourceOf(String dtoName, IClasspathEntry targetFolder) {
+    return targetFolder.javaEnvironment().findType(dtoName)
+        .flatMap(DtoUpdateHandler::sourceOf)
+        .orElse("");
+  }
+
+  protected static Optional<CharSequence> sourceOf(IType primary) {
+    return primary.compilationUnit()
+        .filter(cu -> !cu.isSynthetic())
+        .flatMap(ICompilationUnit::source)
+        .map(SourceRange::asCharSequence);
+  }
+
+  protected static boolean isJdkType(IType type) {
+    return type.name().startsWith("java.");
+  }
+
+  protected static Stream<IType> declaredTypes(IType primary) {
+    return Stream.concat(Stream.of(primary), primary.innerTypes().withRecursiveInnerTypes(true).stream());
+  }
+
+  /**
+   * @param type
+   *          The {@link IType} whose references should be returned. Inner types are not considered.
+   * @return The types referenced in the declaration of the given {@link IType} and of its fields and methods: type
+   *         arguments of the super types, data types of fields, return and parameter types of methods and the types
+   *         used in annotations. Arrays are resolved to their component type and type arguments are included.
+   *         Primitives and type parameters are not part of the result.
+   * @since 13.0
+   */
+  protected static Stream<IType> referencedTypes(IType type) {
+    var superTypeArguments = type.directSuperTypes().flatMap(IType::typeArguments);
+    var fieldTypes = type.fields().stream().map(IField::dataType);
+    var methodTypes = type.methods().stream()
+        .flatMap(m -> Stream.concat(m.returnType().stream(), m.parameters().stream().map(IMethodParameter::dataType)));
+    var annotatables = Stream.<Stream<? extends IAnnotatable>> of(Stream.of(type), type.fields().stream(), type.methods().stream());
+    var annotationTypes = annotatables
+        .<IAnnotatable> flatMap(Function.identity())
+        .flatMap(a -> a.annotations().stream())
+        .flatMap(a -> Stream.concat(Stream.of(a.type()), a.elements().values().stream().flatMap(e -> typesIn(e.value()))));
+    return Stream.of(superTypeArguments, fieldTypes, methodTypes, annotationTypes)
+        .<IType> flatMap(Function.identity())
+        .flatMap(DtoUpdateHandler::componentTypes);
+  }
+
+  protected static Stream<IType> typesIn(IMetaValue value) {
+    if (value.type() == MetaValueType.Type) {
+      return Stream.of(value.as(IType.class));
+    }
+    if (value instanceof IArrayMetaValue array) {
+      return Arrays.stream(array.metaValueArray()).flatMap(DtoUpdateHandler::typesIn);
+    }
+    return Stream.empty();
+  }
+
+  protected static Stream<IType> componentTypes(IType type) {
+    if (type.isWildcardType()) {
+      return Stream.concat(type.superClass().stream(), type.superInterfaces()).flatMap(DtoUpdateHandler::componentTypes);
+    }
+    if (type.isArray()) {
+      return type.leafComponentType().stream().flatMap(DtoUpdateHandler::componentTypes);
     }
+    if (type.isPrimitive() || type.isVoid() || type.isParameterType()) {
+      return Stream.empty();
+    }
+    return Stream.concat(Stream.of(type), type.typeArguments().flatMap(DtoUpdateHandler::componentTypes));
+  }
+
+  /**
+   * Computes the signature of a binary type. It consists of the flags, super types and annotations (including their
+   * values) of the type and its inner types and of the declaration of all their fields and methods.
+   * <p>
+   * As binary types do not change as long as the {@link IJavaEnvironment} is not reloaded, the signature is computed
+   * only once for each {@link TypeSpi}.
+   *
+   * @param binaryType
+   *          The primary {@link IType} whose signature should be computed. Must not be {@code null}.
+   * @return The signature of the given {@link IType}.
+   * @since 13.0
+   */
+  protected static CharSequence signatureOf(IType binaryType) {
+    var spi = binaryType.unwrap();
+    var signature = BINARY_TYPE_SIGNATURES.get(spi);
+    if (signature == null) {
+      signature = computeSignature(binaryType);
+      BINARY_TYPE_SIGNATURES.put(spi, signature);
+    }
+    return signature;
+  }
+
+  private static String computeSignature(IType binaryType) {
+    var signature = new StringBuilder();
+    declaredTypes(binaryType).forEach(t -> {
+      signature.append(t.flags()).append(' ').append(t.reference());
+      t.directSuperTypes().forEach(s -> signature.append(' ').append(s.reference()));
+      appendAnnotations(t, signature);
+
+      t.fields().stream().forEach(f -> {
+        signature.append(f.flags()).append(' ').append(f.dataType().reference()).append(' ').append(f.elementName());
+        f.constantValue().ifPresent(v -> signature.append(" = ").append(valueOf(v)));
+        appendAnnotations(f, signature);
+      });
 
-    var dataAnnotation = findDataAnnotationForRowData(modelType, scoutApi);
-    return dataAnnotation.flatMap(dataAnnotationDescriptor -> getInput()
-        .getSourceFolderOf(dataAnnotationDescriptor.getDataType(), env)
-        .flatMap(derivedSourceFolder -> DtoGeneratorFactory
-            .createTableRowDataGenerator(modelType, derivedSourceFolder.javaEnvironment(), dataAnnotationDescriptor)
-            .map(g -> env.writeCompilationUnitAsync(g, derivedSourceFolder, progress))));
+      t.methods().stream().forEach(m -> {
+        signature.append(m.flags()).append(' ').append(m.returnType().map(IType::reference).orElse("")).append(' ').append(m.identifier(true));
+        m.exceptionTypes().forEach(e -> signature.append(' ').append(e.reference()));
+        appendAnnotations(m, signature);
+      });
+    });
+    return signature.toString();
+  }
+
+  private static void appendAnnotations(IAnnotatable owner, StringBuilder signature) {
+    owner.annotations().stream().forEach(a -> {
+      signature.append(" @").append(a.name());
+      a.elements().forEach((name, element) -> signature.append(' ').append(name).append('=').append(valueOf(element.value())));
+    });
+    signature.append('\n');
+  }
+
+  private static String valueOf(IMetaValue value) {
+    if (value.type() == MetaValueType.Type) {
+      return value.as(IType.class).reference();
+    }
+    if (value instanceof IArrayMetaValue array) {
+      return Arrays.stream(array.metaValueArray())
+          .map(DtoUpdateHandler::valueOf)
+          .collect(Collectors.joining(", ", "{", "}"));
+    }
+    return value.toString();
+  }
 
+  /**
+   * @return The {@link DtoGenerationCache} of this handler or {@code null}.
+   * @since 13.0
+   */
+  public DtoGenerationCache getCache() {
+    return m_cache;
   }
 
   protected static Optional<FormDataAnnotationDescriptor> findDataAnnotationForFormData(IType model) {
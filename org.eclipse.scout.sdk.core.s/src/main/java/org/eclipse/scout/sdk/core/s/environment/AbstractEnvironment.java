@@ -153,10 +153,14 @@ public abstract class AbstractEnvironment implements IEnvironment {
     }
 
     var env = javaEnvironment.wrap();
-    m_createdCompilationUnits.entrySet().stream()
+    var reloadRequired = m_createdCompilationUnits.entrySet().stream()
         .filter(e -> env.classpathContains(e.getKey().targetFile()))
-        .forEach(e -> env.registerCompilationUnitOverride(e.getValue(), e.getKey()));
-    // no need to reload as it must be a new environment
+        .map(e -> env.registerCompilationUnitOverride(e.getValue(), e.getKey()))
+        .reduce(Boolean.FALSE, Boolean::logicalOr);
+    if (reloadRequired) {
+      // the environment may be a reused one which has already bound some of the compilation units
+      env.reload();
+    }
     return javaEnvironment;
   }
 
@@ -0,0 +1,246 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <h3>{@link LanguageMap}</h3>
+ * <p>
+ * Compact {@link Map} with {@link Language} keys sorted by their natural order (like a {@link java.util.TreeMap}).
+ * <p>
+ * The languages and values are stored in two arrays of the size of the map. The array of languages is never modified
+ * but replaced if a language is added or removed. Arrays holding the same languages are shared between all maps (as
+ * usually all translations of a store have the same languages). Therefore, a map only requires the memory for its
+ * value array.
+ * <p>
+ * This class is not thread safe. It is intended for small maps (one entry per language) only as adding or removing a
+ * language is a linear operation.
+ *
+ * @since 13.0
+ */
+public class LanguageMap<V> extends AbstractMap<Language, V> {
+
+  private static final Language[] NO_LANGUAGES = new Language[0];
+  private static final Object[] NO_VALUES = new Object[0];
+  private static final int MAX_SHARED_LANGUAGE_SETS = 4096;
+  @SuppressWarnings("StaticCollection")
+  private static final Map<List<Language>, Language[]> SHARED_LANGUAGE_SETS = new ConcurrentHashMap<>();
+
+  private Language[] m_languages; // sorted. shared: must not be modified!
+  private Object[] m_values;
+  private int m_modCount;
+
+  public LanguageMap() {
+    m_languages = NO_LANGUAGES;
+    m_values = NO_VALUES;
+  }
+
+  /**
+   * @param template
+   *          The mappings to copy. Must not be {@code null}.
+   */
+  public LanguageMap(Map<Language, ? extends V> template) {
+    this();
+    if (template instanceof LanguageMap<?> other) {
+      m_languages = other.m_languages; // already shared
+      m_values = other.m_values.clone();
+      return;
+    }
+    template.forEach(this::put);
+  }
+
+  /**
+   * Returns the shared instance of the languages given.
+   */
+  static Language[] share(Language[] languages) {
+    if (languages.length == 0) {
+      return NO_LANGUAGES;
+    }
+    var key = Arrays.asList(languages);
+    var shared = SHARED_LANGUAGE_SETS.get(key);
+    if (shared != null) {
+      return shared;
+    }
+    if (SHARED_LANGUAGE_SETS.size() >= MAX_SHARED_LANGUAGE_SETS) {
+      return languages; // limit reached: use an own instance
+    }
+    var existing = SHARED_LANGUAGE_SETS.putIfAbsent(key, languages);
+    return existing == null ? languages : existing;
+  }
+
+  private int indexOf(Object key) {
+    if (!(key instanceof Language)) {
+      return -1;
+    }
+    var languages = m_languages;
+    for (var i = 0; i < languages.length; i++) {
+      if (languages[i] == key) {
+        return i; // fast path: languages are usually the same instances
+      }
+    }
+    var index = Arrays.binarySearch(languages, (Language) key);
+    return index < 0 ? -1 : index;
+  }
+
+  @Override
+  public int size() {
+    return m_languages.length;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    var index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    return (V) m_values[index];
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V put(Language key, V value) {
+    var index = indexOf(Objects.requireNonNull(key));
+    if (index >= 0) {
+      var old = (V) m_values[index];
+      m_values[index] = value;
+      return old;
+    }
+
+    var insertionPoint = -(Arrays.binarySearch(m_languages, key) + 1);
+    var size = m_languages.length;
+    var languages = new Language[size + 1];
+    var values = new Object[size + 1];
+    System.arraycopy(m_languages, 0, languages, 0, insertionPoint);
+    System.arraycopy(m_values, 0, values, 0, insertionPoint);
+    languages[insertionPoint] = key;
+    values[insertionPoint] = value;
+    System.arraycopy(m_languages, insertionPoint, languages, insertionPoint + 1, size - insertionPoint);
+    System.arraycopy(m_values, insertionPoint, values, insertionPoint + 1, size - insertionPoint);
+    m_languages = share(languages);
+    m_values = values;
+    m_modCount++;
+    return null;
+  }
+
+  @Override
+  public V remove(Object key) {
+    var index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    return removeAt(index);
+  }
+
+  @SuppressWarnings("unchecked")
+  private V removeAt(int index) {
+    var old = (V) m_values[index];
+    var newSize = m_languages.length - 1;
+    if (newSize == 0) {
+      m_languages = NO_LANGUAGES;
+      m_values = NO_VALUES;
+    }
+    else {
+      var languages = new Language[newSize];
+      var values = new Object[newSize];
+      System.arraycopy(m_languages, 0, languages, 0, index);
+      System.arraycopy(m_values, 0, values, 0, index);
+      System.arraycopy(m_languages, index + 1, languages, index, newSize - index);
+      System.arraycopy(m_values, index + 1, values, index, newSize - index);
+      m_languages = share(languages);
+      m_values = values;
+    }
+    m_modCount++;
+    return old;
+  }
+
+  @Override
+  public void clear() {
+    m_languages = NO_LANGUAGES;
+    m_values = NO_VALUES;
+    m_modCount++;
+  }
+
+  @Override
+  public Set<Entry<Language, V>> entrySet() {
+    return new EntrySet(); // not cached to keep the map small
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<Language, V>> {
+    @Override
+    public Iterator<Entry<Language, V>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return m_languages.length;
+    }
+
+    @Override
+    public void clear() {
+      LanguageMap.this.clear();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Entry<Language, V>> {
+    private int m_next;
+    private int m_expectedModCount = m_modCount;
+    private boolean m_canRemove;
+
+    @Override
+    public boolean hasNext() {
+      return m_next < m_languages.length;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Entry<Language, V> next() {
+      if (m_modCount != m_expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      var index = m_next++;
+      m_canRemove = true;
+      return new SimpleImmutableEntry<>(m_languages[index], (V) m_values[index]);
+    }
+
+    @Override
+    public void remove() {
+      if (!m_canRemove) {
+        throw new IllegalStateException();
+      }
+      if (m_modCount != m_expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      removeAt(--m_next);
+      m_canRemove = false;
+      m_expectedModCount = m_modCount;
+    }
+  }
+}
@@ -18,7 +18,6 @@ import java.util.Locale;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
 import java.util.Optional;
-import java.util.TreeMap;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.util.Ensure;
@@ -36,12 +35,12 @@ public class Translation implements ITranslation {
 
   public Translation(ITranslation template) {
     m_key = Ensure.notNull(template.key());
-    m_texts = new TreeMap<>(template.texts());
+    m_texts = new LanguageMap<>(template instanceof Translation t ? t.textsMap() : template.texts());
   }
 
   public Translation(String key) {
     m_key = Ensure.notNull(key);
-    m_texts = new TreeMap<>();
+    m_texts = new LanguageMap<>();
   }
 
   protected Map<Language, String> textsMap() {
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
+
+import org.eclipse.scout.sdk.core.s.environment.IProgress;
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link TranslationLoadExecutor}</h3>
+ * <p>
+ * Executes the discovery of {@link ITranslationStore}s and the loading of translation files concurrently.
+ * <p>
+ * All tasks share a single {@link ForkJoinPool} with a bounded number of threads. Nested executions (e.g. the files of a
+ * store which is loaded as part of a store discovery) are executed in the same pool without blocking it.
+ * <p>
+ * As {@link IProgress} instances are not thread safe, the calling thread creates a child {@link IProgress} for each task
+ * before the task is submitted. Each child is only used by its task. This way the tasks can report progress and a
+ * cancellation of the calling progress reaches the tasks that are already running.
+ *
+ * @since 13.0
+ */
+public final class TranslationLoadExecutor {
+
+  /**
+   * The maximal number of tasks executed concurrently.
+   */
+  public static final int MAX_PARALLELISM = Math.max(1, Math.min(8, Runtime.getRuntime().availableProcessors()));
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(MAX_PARALLELISM);
+
+  private TranslationLoadExecutor() {
+  }
+
+  /**
+   * Applies the given function to all items concurrently.
+   *
+   * @param items
+   *          The items to process. Must not be {@code null}.
+   * @param function
+   *          The function to apply to each item. It is called from several threads in parallel and must therefore be
+   *          thread safe. The {@link IProgress} passed to the function is a child of the progress given and is only
+   *          used by this call of the function. Must not be {@code null}.
+   * @param progress
+   *          The {@link IProgress} of the calling thread. Must not be {@code null}.
+   * @param ticksByItem
+   *          The number of ticks of the progress given to pass to the child {@link IProgress} of each item.
+   * @return The results of the function in the same order as the items given.
+   */
+  public static <T, R> List<R> map(Collection<? extends T> items, BiFunction<? super T, IProgress, ? extends R> function, IProgress progress, int ticksByItem) {
+    Ensure.notNull(function);
+    Ensure.notNull(progress);
+    var result = new ArrayList<R>(Ensure.notNull(items).size());
+    if (items.size() < 2 || MAX_PARALLELISM < 2) {
+      // nothing to parallelize: execute in the calling thread
+      for (var item : items) {
+        result.add(function.apply(item, progress.newChild(ticksByItem)));
+      }
+      return result;
+    }
+
+    var tasks = new ArrayList<ForkJoinTask<R>>(items.size());
+    try {
+      for (var item : items) {
+        var itemProgress = progress.newChild(ticksByItem); // created in the calling thread. throws if canceled.
+        tasks.add(POOL.submit(() -> function.apply(item, itemProgress)));
+      }
+      for (var task : tasks) {
+        result.add(task.join()); // a task canceled using its progress throws here
+      }
+      return result;
+    }
+    finally {
+      if (result.size() < tasks.size()) {
+        tasks.forEach(task -> task.cancel(true)); // only affects tasks not started yet. running tasks stop on their progress.
+      }
+    }
+  }
+}
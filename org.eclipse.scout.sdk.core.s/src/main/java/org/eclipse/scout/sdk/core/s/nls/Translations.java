@@ -242,8 +242,9 @@ public final class Translations {
   }
 
   /**
-   * Computes all {@link ITranslationStore} instances accessible for the given module.
-   * 
+   * Computes all {@link ITranslationStore} instances accessible for the given module. The scopes and
+   * {@link ITranslationStoreSupplier}s are searched concurrently (see {@link TranslationLoadExecutor}).
+   *
    * @param modulePath
    *          The modulePath for which the stores should be returned. Points to the root folder of the Java/JavaScript
    *          module (the folder that contains the pom.xml/package.json). Must not be {@code null}.
@@ -255,14 +256,15 @@ public final class Translations {
    *          The {@link DependencyScope scopes} to consider when resolving the visible {@link ITranslationStore}
    *          instances. If {@code null}, all scopes are searched.
    * @return All {@link ITranslationStore} instances accessible in the module given according to the requested
-   *         {@link DependencyScope scopes}.
+   *         {@link DependencyScope scopes} ordered by {@link TranslationStoreComparator}.
    */
   public static Stream<ITranslationStore> storesForModule(Path modulePath, IEnvironment env, IProgress progress, DependencyScope... scopes) {
     return combineSameStores(computeStoresForModule(modulePath, env, progress, scopes));
   }
 
   /**
-   * Computes all {@link ITranslationStore} instances accessible for the given module.
+   * Computes all {@link ITranslationStore} instances accessible for the given module. The
+   * {@link ITranslationStoreSupplier}s are searched concurrently (see {@link TranslationLoadExecutor}).
    *
    * @param modulePath
    *          The modulePath for which the stores should be returned. Points to the root folder of the Java/JavaScript
@@ -275,7 +277,7 @@ public final class Translations {
    *          The {@link DependencyScope} to consider when resolving the visible {@link ITranslationStore} instances. If
    *          {@code null}, all scopes are searched.
    * @return All {@link ITranslationStore} instances accessible in the module given according to the requested
-   *         {@link DependencyScope}.
+   *         {@link DependencyScope} ordered by {@link TranslationStoreComparator}.
    */
   public static Stream<ITranslationStore> storesForModule(Path modulePath, IEnvironment env, IProgress progress, DependencyScope scope) {
     return combineSameStores(computeStoresForModule(modulePath, env, progress, scope));
@@ -288,9 +290,11 @@ public final class Translations {
 
     var ticksByScope = 10000;
     progress.init(ticksByScope * scopes.length, "Resolve translation stores for module '{}'.", modulePath);
-    return Arrays.stream(scopes)
+    var scopesToSearch = Arrays.stream(scopes)
         .filter(Objects::nonNull)
-        .flatMap(scope -> computeStoresForModule(modulePath, env, progress.newChild(ticksByScope), scope));
+        .collect(toList());
+    return TranslationLoadExecutor.map(scopesToSearch, (scope, p) -> computeStoresForModule(modulePath, env, p, scope).collect(toList()), progress, ticksByScope).stream()
+        .flatMap(Collection::stream);
   }
 
   static Stream<ITranslationStore> computeStoresForModule(Path modulePath, IEnvironment env, IProgress progress, DependencyScope scope) {
@@ -321,8 +325,8 @@ public final class Translations {
     var ticksBySupplier = 1000;
     var suppliers = storeSuppliers();
     progress.init(suppliers.size() * ticksBySupplier, "Search translation stores for Java module at '{}'.", modulePath);
-    return suppliers.stream()
-        .flatMap(supplier -> supplier.visibleStoresForJavaModule(modulePath, env, progress.newChild(ticksBySupplier)))
+    return TranslationLoadExecutor.map(suppliers, (supplier, p) -> supplier.visibleStoresForJavaModule(modulePath, env, p).collect(toList()), progress, ticksBySupplier).stream()
+        .flatMap(Collection::stream)
         .filter(Translations::isContentAvailable);
   }
 
@@ -348,7 +352,8 @@ public final class Translations {
   static Stream<ITranslationStore> combineSameStores(Stream<ITranslationStore> stores) {
     return stores.collect(toMap(s -> s.service().type().name(), identity(), Translations::mergeStores))
         .values()
-        .stream();
+        .stream()
+        .sorted(TranslationStoreComparator.INSTANCE);
   }
 
   /**
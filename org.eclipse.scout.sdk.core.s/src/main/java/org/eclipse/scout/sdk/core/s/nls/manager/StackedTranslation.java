@@ -10,34 +10,59 @@
 package org.eclipse.scout.sdk.core.s.nls.manager;
 
 import static java.util.Comparator.comparing;
-import static java.util.stream.Collectors.toMap;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.function.Function;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.s.nls.ITranslation;
 import org.eclipse.scout.sdk.core.s.nls.ITranslationEntry;
 import org.eclipse.scout.sdk.core.s.nls.ITranslationStore;
 import org.eclipse.scout.sdk.core.s.nls.Language;
+import org.eclipse.scout.sdk.core.s.nls.LanguageMap;
 import org.eclipse.scout.sdk.core.s.nls.Translation;
 import org.eclipse.scout.sdk.core.s.nls.TranslationStoreComparator;
 import org.eclipse.scout.sdk.core.util.Ensure;
 
 public class StackedTranslation extends Translation implements IStackedTranslation {
 
-  private final Map<ITranslationStore, ITranslationEntry> m_entries; // unsorted
-  private Map<Language, String> m_mergedTexts; // created on first use
-  private Map<Language, ITranslationEntry> m_entriesByLanguage; // created on first use
+  private ITranslationEntry[] m_entries; // one entry per store. unsorted
+  private LanguageMap<String> m_mergedTexts; // created on first use
+  private LanguageMap<ITranslationEntry> m_entriesByLanguage; // created on first use
 
   protected StackedTranslation(List<ITranslationEntry> entries) {
     super(entries.get(0).key()); // element must exist
-    m_entries = entries.stream()
-        .collect(toMap(ITranslationEntry::store, Function.identity(), Ensure::failOnDuplicates));
+    m_entries = entries.toArray(new ITranslationEntry[0]);
+    for (var i = 1; i < m_entries.length; i++) {
+      var index = indexOf(m_entries[i].store());
+      if (index < i) {
+        Ensure.failOnDuplicates(m_entries[index], m_entries[i]);
+      }
+    }
+  }
+
+  private void putEntry(ITranslationEntry entry) {
+    var index = indexOf(entry.store());
+    if (index >= 0) {
+      m_entries[index] = entry;
+      return;
+    }
+    var entries = Arrays.copyOf(m_entries, m_entries.length + 1);
+    entries[m_entries.length] = entry;
+    m_entries = entries;
+  }
+
+  private int indexOf(ITranslationStore store) {
+    for (var i = 0; i < m_entries.length; i++) {
+      if (m_entries[i].store().equals(store)) {
+        return i;
+      }
+    }
+    return -1;
   }
 
   @Override
@@ -56,10 +81,10 @@ public class StackedTranslation extends Translation implements IStackedTranslati
   }
 
   protected void buildCaches() {
-    Map<Language, String> textsMap = new HashMap<>();
-    Map<Language, ITranslationEntry> entryMap = new HashMap<>();
+    var textsMap = new LanguageMap<String>();
+    var entryMap = new LanguageMap<ITranslationEntry>();
 
-    m_entries.values().stream()
+    Arrays.stream(m_entries)
         .sorted(comparing(ITranslationEntry::store, TranslationStoreComparator.INSTANCE).reversed())
         .forEach(entry -> cacheEntry(entry, textsMap, entryMap));
 
@@ -79,7 +104,7 @@ public class StackedTranslation extends Translation implements IStackedTranslati
       return false;
     }
     var order = store.service().order();
-    return m_entries.keySet().stream()
+    return stores()
         .anyMatch(s -> s.service().order() > order);
   }
 
@@ -102,7 +127,8 @@ public class StackedTranslation extends Translation implements IStackedTranslati
 
   @Override
   public Stream<ITranslationStore> stores() {
-    return m_entries.keySet().stream();
+    return Arrays.stream(m_entries)
+        .map(ITranslationEntry::store);
   }
 
   @Override
@@ -119,14 +145,14 @@ public class StackedTranslation extends Translation implements IStackedTranslati
 
   protected void entryAdded(ITranslationEntry newEntry) {
     ensureHasSameKey(newEntry);
-    m_entries.put(newEntry.store(), newEntry);
+    putEntry(newEntry);
     m_mergedTexts = null;
     m_entriesByLanguage = null;
   }
 
   protected void entryUpdated(ITranslationEntry updatedEntry) {
     ensureHasSameKey(updatedEntry);
-    m_entries.put(updatedEntry.store(), updatedEntry);
+    putEntry(updatedEntry);
     m_mergedTexts = null;
     m_entriesByLanguage = null;
   }
@@ -147,11 +173,19 @@ public class StackedTranslation extends Translation implements IStackedTranslati
       return false;
     }
     var that = (StackedTranslation) o;
-    return m_entries.equals(that.m_entries);
+    return entriesByStore().equals(that.entriesByStore());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(super.hashCode(), m_entries);
+    return Objects.hash(super.hashCode(), entriesByStore());
+  }
+
+  private Map<ITranslationStore, ITranslationEntry> entriesByStore() {
+    var result = new HashMap<ITranslationStore, ITranslationEntry>(m_entries.length);
+    for (var entry : m_entries) {
+      result.put(entry.store(), entry);
+    }
+    return result;
   }
 }
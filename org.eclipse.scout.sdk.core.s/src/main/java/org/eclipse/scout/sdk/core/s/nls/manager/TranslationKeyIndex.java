@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls.manager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * <h3>{@link TranslationKeyIndex}</h3>
+ * <p>
+ * Case-insensitive index of the translation keys of a {@link TranslationManager}. Keys are stored case-folded in a
+ * sorted set to find all keys with a given prefix in {@code O(log n + m)} and in a hash map to check if a key exists
+ * (ignoring the case) in constant time.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @since 13.0
+ */
+final class TranslationKeyIndex {
+
+  private final Map<String, List<String>> m_keysByFoldedKey;
+  private final NavigableSet<String> m_sortedFoldedKeys;
+
+  TranslationKeyIndex() {
+    m_keysByFoldedKey = new HashMap<>();
+    m_sortedFoldedKeys = new TreeSet<>();
+  }
+
+  static String fold(String key) {
+    return key.toLowerCase(Locale.ROOT);
+  }
+
+  void add(String key) {
+    var folded = fold(key);
+    var keys = m_keysByFoldedKey.computeIfAbsent(folded, k -> new ArrayList<>(1));
+    if (keys.isEmpty()) {
+      m_sortedFoldedKeys.add(folded);
+    }
+    if (!keys.contains(key)) {
+      keys.add(key);
+    }
+  }
+
+  void remove(String key) {
+    var folded = fold(key);
+    var keys = m_keysByFoldedKey.get(folded);
+    if (keys == null || !keys.remove(key) || !keys.isEmpty()) {
+      return;
+    }
+    m_keysByFoldedKey.remove(folded);
+    m_sortedFoldedKeys.remove(folded);
+  }
+
+  void clear() {
+    m_keysByFoldedKey.clear();
+    m_sortedFoldedKeys.clear();
+  }
+
+  /**
+   * @param key
+   *          The key to search. Must not be {@code null}.
+   * @return {@code true} if a key exists which is equal to the one given ignoring the case.
+   */
+  boolean containsIgnoreCase(String key) {
+    return m_keysByFoldedKey.containsKey(fold(key));
+  }
+
+  /**
+   * @param prefix
+   *          The prefix. Is evaluated case-insensitive. Must not be {@code null}.
+   * @return All keys starting with the given prefix ordered by their case-folded value.
+   */
+  Stream<String> keysWithPrefix(String prefix) {
+    var foldedPrefix = fold(prefix);
+    return m_sortedFoldedKeys.tailSet(foldedPrefix, true).stream()
+        .takeWhile(folded -> folded.startsWith(foldedPrefix))
+        .flatMap(folded -> m_keysByFoldedKey.get(folded).stream());
+  }
+
+  int size() {
+    return m_keysByFoldedKey.values().stream()
+        .mapToInt(List::size)
+        .sum();
+  }
+}
@@ -68,6 +68,7 @@ public class TranslationManager {
 
   private final List<ITranslationStore> m_stores;
   private final Map<String, StackedTranslation> m_translations;
+  private final TranslationKeyIndex m_keyIndex; // case-insensitive index of the keys in m_translations
 
   private final Path m_modulePath; // may be null. Used to reload this manager
   private final DependencyScope[] m_dependencyScopes;
@@ -85,6 +86,8 @@ public class TranslationManager {
     m_stores = new ArrayList<>();
     m_stores.addAll(sortStores(stores));
     m_translations = buildStackedTranslations(m_stores.stream());
+    m_keyIndex = new TranslationKeyIndex();
+    m_translations.keySet().forEach(m_keyIndex::add);
     m_listeners = new EventListenerList();
     m_eventBuffer = new ArrayList<>();
     m_modulePath = modulePath;
@@ -144,8 +147,8 @@ public class TranslationManager {
    * @return A {@link Stream} with all entries with keys starting with specified prefix.
    */
   public Stream<? extends IStackedTranslation> allTranslationsWithPrefix(String prefix) {
-    return allTranslations()
-        .filter(t -> t.key().regionMatches(true, 0, prefix, 0, prefix.length()));
+    return m_keyIndex.keysWithPrefix(prefix)
+        .map(m_translations::get);
   }
 
   /**
@@ -217,8 +220,18 @@ public class TranslationManager {
   }
 
   private boolean containsKeyIgnoreCase(String key) {
-    return m_translations.keySet().stream()
-        .anyMatch(existing -> existing.equalsIgnoreCase(key));
+    return m_keyIndex.containsIgnoreCase(key);
+  }
+
+  protected void putToTranslations(String key, StackedTranslation translation) {
+    m_translations.put(key, translation);
+    m_keyIndex.add(key);
+  }
+
+  protected void removeFromTranslations(String key) {
+    if (m_translations.remove(key) != null) {
+      m_keyIndex.remove(key);
+    }
   }
 
   /**
@@ -358,7 +371,7 @@ public class TranslationManager {
         .map(TranslationManager::toEditableStore)
         .map(store -> store.changeKey(oldKey, newKey))
         .collect(toList());
-    m_translations.remove(oldKey);
+    removeFromTranslations(oldKey);
 
     var existingTranslationWithNewKey = m_translations.get(newKey);
     if (existingTranslationWithNewKey != null) {
@@ -370,7 +383,7 @@ public class TranslationManager {
     }
 
     var newEntry = new StackedTranslation(newEntries);
-    m_translations.put(newKey, newEntry);
+    putToTranslations(newKey, newEntry);
     return createChangeKeyEvent(this, newEntry, oldKey);
   }
 
@@ -409,7 +422,7 @@ public class TranslationManager {
     toRemove.stores()
         .map(TranslationManager::toEditableStore)
         .forEach(store -> store.removeTranslation(key));
-    m_translations.remove(key);
+    removeFromTranslations(key);
     return createRemoveTranslationEvent(this, toRemove);
   }
 
@@ -524,7 +537,7 @@ public class TranslationManager {
 
       if (existingEntry == null) {
         var created = new StackedTranslation(List.of(createdTranslation));
-        m_translations.put(created.key(), created);
+        putToTranslations(created.key(), created);
         result.set(created);
         return createAddTranslationEvent(this, created);
       }
@@ -690,7 +703,8 @@ public class TranslationManager {
 
       // rebuild stacked translation cache
       m_translations.clear();
-      m_translations.putAll(buildStackedTranslations(m_stores.stream()));
+      m_keyIndex.clear();
+      buildStackedTranslations(m_stores.stream()).forEach(this::putToTranslations);
 
       return createReloadEvent(this);
     });
@@ -14,17 +14,23 @@ import static org.eclipse.scout.sdk.core.s.nls.TranslationValidator.isForbidden;
 import static org.eclipse.scout.sdk.core.s.nls.TranslationValidator.validateKey;
 import static org.eclipse.scout.sdk.core.util.Ensure.newFail;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.generator.properties.PropertiesGenerator;
+import org.eclipse.scout.sdk.core.generator.properties.PropertiesParser;
+import org.eclipse.scout.sdk.core.generator.properties.PropertiesParser.ParsedProperties;
+import org.eclipse.scout.sdk.core.generator.properties.PropertiesPatcher;
 import org.eclipse.scout.sdk.core.log.SdkLog;
 import org.eclipse.scout.sdk.core.s.environment.IEnvironment;
 import org.eclipse.scout.sdk.core.s.environment.IProgress;
@@ -46,11 +52,16 @@ public abstract class AbstractTranslationPropertiesFile implements ITranslationP
   private final Language m_language;
   private final Supplier<InputStream> m_inputSupplier;
 
+  private final Set<String> m_changedKeys;
+
   private PropertiesGenerator m_fileContent;
+  private String m_rawContent; // the content of the file as loaded or last written. Is null if unknown or if the file is not editable.
+  private Long m_contentHash; // hash of the content as loaded. Is null if unknown (e.g. after a flush).
 
   protected AbstractTranslationPropertiesFile(Language language, Supplier<InputStream> contentSupplier) {
     m_language = Ensure.notNull(language);
     m_inputSupplier = Ensure.notNull(contentSupplier);
+    m_changedKeys = new HashSet<>();
   }
 
   private Map<String, String> entries() {
@@ -82,7 +93,17 @@ public abstract class AbstractTranslationPropertiesFile implements ITranslationP
 
   @Override
   public boolean load(IProgress progress) {
-    var newContent = readEntries();
+    var bytes = readContent();
+    var parsed = parse(bytes);
+    var isUnchanged = m_fileContent != null && m_changedKeys.isEmpty() && m_contentHash != null && m_contentHash == parsed.contentHash();
+    m_rawContent = isEditable() ? new String(bytes, PropertiesGenerator.ENCODING) : null; // only required to patch the file on flush
+    m_contentHash = parsed.contentHash();
+    m_changedKeys.clear();
+    if (isUnchanged) {
+      return false; // same file content as loaded last time and not modified in the meantime
+    }
+
+    var newContent = PropertiesGenerator.create(parsed);
     if (Objects.equals(m_fileContent, newContent)) {
       return false;
     }
@@ -100,15 +121,25 @@ public abstract class AbstractTranslationPropertiesFile implements ITranslationP
         if (isEditable()) {
           // only log if you have the chance to fix it (skip logging for read-only files)
           SdkLog.warning("Skipping entry '{}={}' found in '{}' because the key is invalid.", entry.getKey(), entry.getValue(), source());
+          keyChanged(entry.getKey()); // the line is removed on the next flush
         }
         iterator.remove();
       }
     }
   }
 
-  private PropertiesGenerator readEntries() {
+  private byte[] readContent() {
     try (var in = Ensure.notNull(m_inputSupplier.get())) {
-      return PropertiesGenerator.create(in);
+      return in.readAllBytes();
+    }
+    catch (IOException e) {
+      throw new SdkException("Error reading properties file for language '{}'.", language(), e);
+    }
+  }
+
+  private ParsedProperties parse(byte[] rawContent) {
+    try (var in = new ByteArrayInputStream(rawContent)) {
+      return PropertiesParser.parse(in);
     }
     catch (IOException e) {
       throw new SdkException("Error reading properties file for language '{}'.", language(), e);
@@ -123,19 +154,58 @@ public abstract class AbstractTranslationPropertiesFile implements ITranslationP
       return removeTranslation(key);
     }
     var oldTranslation = entries().put(key, text);
-    return !text.equals(oldTranslation);
+    if (text.equals(oldTranslation)) {
+      return false;
+    }
+    keyChanged(key);
+    return true;
   }
 
   @Override
   public boolean removeTranslation(String key) {
     throwIfReadOnly();
-    return entries().remove(Ensure.notBlank(key)) != null;
+    if (entries().remove(Ensure.notBlank(key)) == null) {
+      return false;
+    }
+    keyChanged(key);
+    return true;
   }
 
   @Override
   public void flush(IEnvironment env, IProgress progress) {
     throwIfReadOnly();
     writeEntries(m_fileContent, env, progress);
+    m_changedKeys.clear();
+    m_contentHash = null; // the file content changed: the next load must compare the properties
+  }
+
+  /**
+   * Marks the translation with the given key as modified since the last load or flush.
+   *
+   * @param key
+   *          The key of the translation.
+   */
+  protected void keyChanged(String key) {
+    m_changedKeys.add(key);
+  }
+
+  /**
+   * Applies the translations modified since the last load or flush to the file content as it was loaded or last
+   * written. Only the lines of the modified keys are changed, all other lines (including comments and the order) are
+   * preserved.
+   *
+   * @param content
+   *          The {@link PropertiesGenerator} holding the current translations.
+   * @return The new file content or an empty {@link Optional} if the content is unknown or cannot be patched. Then the
+   *         file must be regenerated completely using the {@link PropertiesGenerator}.
+   */
+  protected Optional<String> patchedContent(PropertiesGenerator content) {
+    if (m_rawContent == null) {
+      return Optional.empty();
+    }
+    var patched = PropertiesPatcher.patch(m_rawContent, content.properties(), m_changedKeys);
+    m_rawContent = patched.orElse(null); // after a complete regeneration the content is unknown until the next load
+    return patched;
   }
 
   protected void throwIfReadOnly() {
@@ -64,17 +64,32 @@ public class EditableTranslationFile extends AbstractTranslationPropertiesFile {
     progress.init(100, "Write translation properties file");
 
     // remove empty texts
-    content.properties().entrySet().removeIf(entry -> isBlank(entry.getValue()) || isBlank(entry.getKey()));
+    var iterator = content.properties().entrySet().iterator();
+    while (iterator.hasNext()) {
+      var entry = iterator.next();
+      if (isBlank(entry.getValue()) || isBlank(entry.getKey())) {
+        keyChanged(entry.getKey());
+        iterator.remove();
+      }
+    }
     progress.worked(10);
 
     if (content.properties().isEmpty()) {
       // this file has no more texts: remove it
+      patchedContent(content); // keeps the header lines for the case new texts are added later
       env.deleteIfExists(path());
       progress.worked(90);
       return;
     }
 
-    env.writeResource(content, path(), progress.newChild(70));
+    var patchedContent = patchedContent(content);
+    if (patchedContent.isPresent()) {
+      // only the modified lines changed
+      env.writeResource(patchedContent.orElseThrow(), path(), progress.newChild(70));
+    }
+    else {
+      env.writeResource(content, path(), progress.newChild(70));
+    }
     progress.worked(90);
   }
 
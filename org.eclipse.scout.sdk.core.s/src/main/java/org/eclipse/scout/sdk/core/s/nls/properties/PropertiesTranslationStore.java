@@ -32,6 +32,7 @@ import org.eclipse.scout.sdk.core.s.nls.ITranslationEntry;
 import org.eclipse.scout.sdk.core.s.nls.ITranslationStore;
 import org.eclipse.scout.sdk.core.s.nls.Language;
 import org.eclipse.scout.sdk.core.s.nls.TranslationEntry;
+import org.eclipse.scout.sdk.core.s.nls.TranslationLoadExecutor;
 import org.eclipse.scout.sdk.core.util.Ensure;
 
 /**
@@ -60,7 +61,7 @@ public class PropertiesTranslationStore implements IEditableTranslationStore {
    *
    * @param translationFiles
    *          The {@link ITranslationPropertiesFile}s that belong to this store. The files must not be loaded already
-   *          but are loaded as part of this method call.
+   *          but are loaded concurrently as part of this method call.
    * @param progress
    *          The {@link IProgress} monitor.
    */
@@ -70,13 +71,13 @@ public class PropertiesTranslationStore implements IEditableTranslationStore {
     var ticksByFile = 100;
     progress.init(translationFiles.size() * ticksByFile, "Load translation files for service '{}'.", service().type().name());
 
+    // load data from the files concurrently
+    TranslationLoadExecutor.map(translationFiles, ITranslationPropertiesFile::load, progress, ticksByFile);
+
     var isEditable = !translationFiles.isEmpty();
     m_translations.clear();
     translationFiles().clear();
     for (var f : translationFiles) {
-      // load data from file
-      f.load(progress.newChild(ticksByFile));
-
       // create translation mapping by key
       loadFileContent(f);
 
@@ -12,13 +12,17 @@ package org.eclipse.scout.sdk.core.s.nls.query;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
 import static org.eclipse.scout.sdk.core.util.Ensure.newFail;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -41,6 +45,7 @@ import org.eclipse.scout.sdk.core.s.nls.Translation;
 import org.eclipse.scout.sdk.core.s.nls.Translations;
 import org.eclipse.scout.sdk.core.s.nls.Translations.DependencyScope;
 import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.AbstractTranslationPattern;
+import org.eclipse.scout.sdk.core.s.util.search.FileQueryCache;
 import org.eclipse.scout.sdk.core.s.util.search.FileQueryInput;
 import org.eclipse.scout.sdk.core.s.util.search.FileQueryMatch;
 import org.eclipse.scout.sdk.core.s.util.search.FileRange;
@@ -66,9 +71,11 @@ public class MissingTranslationQuery implements IFileQuery {
       .map(ITypeNameSupplier::simpleName)
       .map(name -> name + JavaTypes.JAVA_FILE_SUFFIX)
       .collect(toSet());
-  private final Map<String, List<AbstractTranslationPattern>> m_searchPatterns;
+  private final Map<String, TranslationPatternScanner> m_scanners;
   private final Map<CompositeObject, Optional<Set<String>>> m_keysByModuleCache;
+  private final Map<CompositeObject, String> m_fingerprintByModuleCache;
   private final Map<Path, Set<FileQueryMatch>> m_matches;
+  private final Map<FileQueryInput, Map<String, List<MatchResult>>> m_assignmentsByInput; // index of the constant assignments of the files currently searched
   private final BiFunction<Path, DependencyScope, List<ITranslationStore>> m_storeSupplier;
 
   public MissingTranslationQuery(IEnvironment env, IProgress progress) {
@@ -78,8 +85,11 @@ public class MissingTranslationQuery implements IFileQuery {
   public MissingTranslationQuery(BiFunction<Path, DependencyScope, List<ITranslationStore>> storeSupplier) {
     m_storeSupplier = Ensure.notNull(storeSupplier);
     m_keysByModuleCache = new ConcurrentHashMap<>();
+    m_fingerprintByModuleCache = new ConcurrentHashMap<>();
     m_matches = new ConcurrentHashMap<>();
-    m_searchPatterns = TranslationPatterns.all().collect(groupingBy(AbstractTranslationPattern::fileExtension));
+    m_assignmentsByInput = new ConcurrentHashMap<>();
+    m_scanners = TranslationPatterns.all()
+        .collect(groupingBy(AbstractTranslationPattern::fileExtension, collectingAndThen(toList(), TranslationPatternScanner::new)));
   }
 
   @Override
@@ -88,7 +98,7 @@ public class MissingTranslationQuery implements IFileQuery {
   }
 
   protected boolean acceptCandidate(FileQueryInput candidate) {
-    if (!m_searchPatterns.containsKey(candidate.fileExtension())) {
+    if (!m_scanners.containsKey(candidate.fileExtension())) {
       return false;
     }
 
@@ -126,16 +136,33 @@ public class MissingTranslationQuery implements IFileQuery {
     var fileExtension = input.fileExtension();
     var dependencyScope = DependencyScope.forFileExtension(fileExtension)
         .orElseThrow(() -> newFail("Unsupported file extension: {}.", fileExtension));
-    var patterns = m_searchPatterns.get(fileExtension);
-    var content = input.fileContent();
-    for (var search : patterns) {
-      var matcher = search.pattern().matcher(content);
-      while (matcher.find()) {
-        checkMatch(matcher, search, input, dependencyScope);
-      }
+    try {
+      m_scanners.get(fileExtension).scan(input.fileContent(), (search, match) -> checkMatch(match, search, input, dependencyScope));
+    }
+    finally {
+      m_assignmentsByInput.remove(input);
     }
   }
 
+  /**
+   * The result of a file depends on the translation keys accessible in its module. Therefore, the fingerprint is a hash
+   * of these keys.
+   */
+  @Override
+  public String dependencyFingerprint(FileQueryInput input) {
+    if (!acceptCandidate(input)) {
+      return "";
+    }
+    var scope = DependencyScope.forFileExtension(input.fileExtension()).orElse(null);
+    if (scope == null) {
+      return "";
+    }
+    var key = new CompositeObject(input.module(), scope);
+    return m_fingerprintByModuleCache.computeIfAbsent(key, k -> accessibleKeysForModule(input.module(), scope)
+        .map(keys -> FileQueryCache.hashOf(keys.stream().sorted().collect(joining("\n"))))
+        .orElse("-"));
+  }
+
   protected void checkMatch(MatchResult match, AbstractTranslationPattern search, FileQueryInput fileQueryInput, DependencyScope scope) {
     int keyGroup;
 
@@ -161,15 +188,27 @@ public class MissingTranslationQuery implements IFileQuery {
   }
 
   protected boolean tryToResolveConstant(String constantName, FileQueryInput fileQueryInput, DependencyScope scope) {
-    var findAssignment = new AssignmentPattern(constantName);
-    var content = fileQueryInput.fileContent();
-    var constantMatcher = findAssignment.pattern().matcher(content);
-    var constantFound = false;
-    while (constantMatcher.find()) {
-      registerMatchIfKeyIsMissing(constantMatcher, 1, Level.WARNING.intValue(), findAssignment, scope, fileQueryInput);
-      constantFound = true;
+    var assignments = constantAssignments(fileQueryInput).get(constantName);
+    if (assignments == null) {
+      return false;
+    }
+    for (var assignment : assignments) {
+      registerMatchIfKeyIsMissing(assignment, AssignmentPattern.KEY_GROUP, Level.WARNING.intValue(), AssignmentPattern.INSTANCE, scope, fileQueryInput);
     }
-    return constantFound;
+    return true;
+  }
+
+  /**
+   * Gets all assignments of a translation key literal to a variable (e.g. {@code NAME = "key";}) in the file given.
+   * <p>
+   * The assignments are searched only once per file (on first use) and kept while the file is searched.
+   *
+   * @param fileQueryInput
+   *          The {@link FileQueryInput} for which the assignments should be returned.
+   * @return A {@link Map} with the variable name as key and all assignments to this variable as value.
+   */
+  protected Map<String, List<MatchResult>> constantAssignments(FileQueryInput fileQueryInput) {
+    return m_assignmentsByInput.computeIfAbsent(fileQueryInput, input -> AssignmentPattern.INSTANCE.findAll(input.fileContent()));
   }
 
   protected void registerMatchIfKeyIsMissing(MatchResult match, int keyGroup, int severity, AbstractTranslationPattern pattern, DependencyScope scope, FileQueryInput queryInput) {
@@ -227,15 +266,24 @@ public class MissingTranslationQuery implements IFileQuery {
 
   private static final class AssignmentPattern extends AbstractTranslationPattern {
 
-    private final Pattern m_pattern;
+    private static final AssignmentPattern INSTANCE = new AssignmentPattern();
+    private static final int NAME_GROUP = 1;
+    private static final int KEY_GROUP = 2;
+    private static final Pattern REGEX = Pattern.compile("\\s+(" + NLS_KEY_PAT + ")\\s*=\\s*[\"`'](" + NLS_KEY_PAT + ")[\"`'];");
 
-    private AssignmentPattern(String constantName) {
-      m_pattern = Pattern.compile("\\s+" + constantName + "\\s*=\\s*[\"`'](" + NLS_KEY_PAT + ")[\"`'];");
+    private Map<String, List<MatchResult>> findAll(CharSequence content) {
+      var matcher = REGEX.matcher(content);
+      var result = new HashMap<String, List<MatchResult>>();
+      while (matcher.find()) {
+        var groups = new int[]{matcher.start(), matcher.end(), matcher.start(NAME_GROUP), matcher.end(NAME_GROUP), matcher.start(KEY_GROUP), matcher.end(KEY_GROUP)};
+        result.computeIfAbsent(matcher.group(NAME_GROUP), k -> new ArrayList<>(1)).add(new AssignmentMatch(content, groups));
+      }
+      return result;
     }
 
     @Override
     public Pattern pattern() {
-      return m_pattern;
+      return REGEX;
     }
 
     @Override
@@ -245,7 +293,57 @@ public class MissingTranslationQuery implements IFileQuery {
 
     @Override
     public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
-      return keyRangeIfInCode(match, fileQueryInput, 1);
+      return keyRangeIfInCode(match, fileQueryInput, KEY_GROUP);
+    }
+  }
+
+  /**
+   * {@link MatchResult} of an assignment which only holds the group offsets. In contrast to
+   * {@link java.util.regex.Matcher#toMatchResult()} the content is not copied.
+   */
+  private static final class AssignmentMatch implements MatchResult {
+
+    private final CharSequence m_content;
+    private final int[] m_groups; // start and end index of each group
+
+    private AssignmentMatch(CharSequence content, int[] groups) {
+      m_content = content;
+      m_groups = groups;
+    }
+
+    @Override
+    public int start() {
+      return start(0);
+    }
+
+    @Override
+    public int start(int group) {
+      return m_groups[group * 2];
+    }
+
+    @Override
+    public int end() {
+      return end(0);
+    }
+
+    @Override
+    public int end(int group) {
+      return m_groups[group * 2 + 1];
+    }
+
+    @Override
+    public String group() {
+      return group(0);
+    }
+
+    @Override
+    public String group(int group) {
+      return m_content.subSequence(start(group), end(group)).toString();
+    }
+
+    @Override
+    public int groupCount() {
+      return m_groups.length / 2 - 1;
     }
   }
 }
@@ -11,25 +11,29 @@ package org.eclipse.scout.sdk.core.s.nls.query;
 
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toSet;
 
 import java.nio.file.Path;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.s.nls.ITranslation;
 import org.eclipse.scout.sdk.core.s.nls.Translations.DependencyScope;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.AbstractTranslationPattern;
 import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.JsModelTextKeyPattern;
 import org.eclipse.scout.sdk.core.s.util.search.FileQueryInput;
 import org.eclipse.scout.sdk.core.s.util.search.FileQueryMatch;
+import org.eclipse.scout.sdk.core.s.util.search.FileRange;
 import org.eclipse.scout.sdk.core.s.util.search.IFileQuery;
 import org.eclipse.scout.sdk.core.util.Strings;
 
@@ -45,10 +49,11 @@ public class TranslationKeysQuery implements IFileQuery {
 
   private static final String LITERAL_DELIMITER = "['`\"]";
   private static final Pattern TRANSLATION_LITERAL_PATTERN = Pattern.compile(LITERAL_DELIMITER + '(' + ITranslation.KEY_REGEX.pattern() + ')' + LITERAL_DELIMITER);
+  private static final TranslationPatternScanner SCANNER = new TranslationPatternScanner(List.of(TranslationLiteralPattern.INSTANCE, JsModelTextKeyPattern.INSTANCE));
   @SuppressWarnings("StaticCollection")
   private static final Set<String> ACCEPTED_EXTENSIONS = DependencyScope.supportedFileExtensions().keySet();
 
-  private final Map<Path, Set<FileQueryMatch>> m_result = new HashMap<>();
+  private final Map<Path, Set<FileQueryMatch>> m_result = new ConcurrentHashMap<>();
   private final String m_name;
 
   public TranslationKeysQuery() {
@@ -69,11 +74,7 @@ public class TranslationKeysQuery implements IFileQuery {
       return;
     }
 
-    var fileContent = input.fileContent();
-    Stream.of(TRANSLATION_LITERAL_PATTERN, JsModelTextKeyPattern.REGEX)
-        .flatMap(pat -> pat.matcher(fileContent).results())
-        .map(r -> toMatch(input, r))
-        .forEach(m -> m_result.computeIfAbsent(input.file(), k -> new HashSet<>()).add(m));
+    SCANNER.scan(input.fileContent(), (pattern, r) -> m_result.computeIfAbsent(input.file(), k -> newKeySet()).add(toMatch(input, r)));
   }
 
   protected static FileQueryMatch toMatch(FileQueryInput input, MatchResult result) {
@@ -127,4 +128,29 @@ public class TranslationKeysQuery implements IFileQuery {
   public String name() {
     return m_name;
   }
+
+  private static final class TranslationLiteralPattern extends AbstractTranslationPattern {
+
+    private static final AbstractTranslationPattern INSTANCE = new TranslationLiteralPattern();
+
+    @Override
+    public Pattern pattern() {
+      return TRANSLATION_LITERAL_PATTERN;
+    }
+
+    @Override
+    public String fileExtension() {
+      return null;
+    }
+
+    @Override
+    public Stream<String> anchors() {
+      return Stream.of("'", "`", "\"");
+    }
+
+    @Override
+    public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
+      return Optional.of(toFileRange(match, fileQueryInput, 1));
+    }
+  }
 }
@@ -0,0 +1,297 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls.query;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.regex.MatchResult;
+
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.AbstractTranslationPattern;
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link TranslationPatternScanner}</h3>
+ * <p>
+ * Searches several {@link AbstractTranslationPattern patterns} in a content using a single pass over the characters.
+ * <p>
+ * All {@link AbstractTranslationPattern#anchors() anchors} of the patterns are searched at once using an Aho-Corasick
+ * automaton. The regex {@link AbstractTranslationPattern#pattern() pattern} is then only applied at the positions where
+ * an anchor of the pattern was found. The matches reported are the same as if
+ * {@link java.util.regex.Matcher#find()} would be executed for each pattern.
+ * <p>
+ * Patterns without anchors are searched using a full regex pass.
+ * <p>
+ * Instances are immutable and may be used by several threads concurrently.
+ *
+ * @since 13.0
+ */
+public class TranslationPatternScanner {
+
+  private static final int ROOT_TABLE_SIZE = 128;
+
+  private final List<AbstractTranslationPattern> m_patterns;
+  private final boolean[] m_hasAnchors;
+  private final Node m_root;
+  private final Node[] m_rootTable; // transitions of the root node for ASCII characters
+  private final boolean[] m_anchorStarts; // ASCII characters an anchor starts with
+
+  /**
+   * @param patterns
+   *          The {@link AbstractTranslationPattern patterns} to search. Must not be {@code null}.
+   */
+  public TranslationPatternScanner(Collection<? extends AbstractTranslationPattern> patterns) {
+    m_patterns = unmodifiableList(new ArrayList<>(Ensure.notNull(patterns)));
+    m_hasAnchors = new boolean[m_patterns.size()];
+    m_root = new Node();
+    for (var i = 0; i < m_patterns.size(); i++) {
+      var anchors = m_patterns.get(i).anchors().collect(toList());
+      for (var anchor : anchors) {
+        Ensure.isTrue(anchor != null && !anchor.isEmpty(), "Empty anchor in pattern {}.", m_patterns.get(i));
+        m_root.insert(anchor, i);
+      }
+      m_hasAnchors[i] = !anchors.isEmpty();
+    }
+    computeFailureLinks(m_root);
+    m_rootTable = new Node[ROOT_TABLE_SIZE];
+    m_anchorStarts = new boolean[ROOT_TABLE_SIZE];
+    for (var c = 0; c < ROOT_TABLE_SIZE; c++) {
+      var child = m_root.child((char) c);
+      m_rootTable[c] = child == null ? m_root : child;
+      m_anchorStarts[c] = child != null;
+    }
+  }
+
+  /**
+   * @return The {@link AbstractTranslationPattern patterns} of this scanner.
+   */
+  public List<AbstractTranslationPattern> patterns() {
+    return m_patterns;
+  }
+
+  /**
+   * Searches all {@link #patterns()} in the content given.
+   * <p>
+   * The matches are reported grouped by pattern (in the order of {@link #patterns()}) and within a pattern in the order
+   * of occurrence.
+   *
+   * @param content
+   *          The content to search in. Must not be {@code null}.
+   * @param matchConsumer
+   *          Is called for each match found with the pattern and the {@link MatchResult}. The {@link MatchResult} is
+   *          only valid during the callback. Must not be {@code null}.
+   */
+  public void scan(CharSequence content, BiConsumer<? super AbstractTranslationPattern, ? super MatchResult> matchConsumer) {
+    Ensure.notNull(matchConsumer);
+    var candidates = findAnchors(Ensure.notNull(content));
+    for (var i = 0; i < m_patterns.size(); i++) {
+      var pattern = m_patterns.get(i);
+      if (m_hasAnchors[i]) {
+        confirmCandidates(content, pattern, candidates[i], matchConsumer);
+      }
+      else {
+        var matcher = pattern.pattern().matcher(content);
+        while (matcher.find()) {
+          matchConsumer.accept(pattern, matcher);
+        }
+      }
+    }
+  }
+
+  /**
+   * Single pass over the content collecting the start indices of all anchors grouped by pattern.
+   */
+  private IntList[] findAnchors(CharSequence content) {
+    var candidates = new IntList[m_patterns.size()];
+    for (var i = 0; i < candidates.length; i++) {
+      candidates[i] = new IntList();
+    }
+
+    var node = m_root;
+    var len = content.length();
+    for (var i = 0; i < len; i++) {
+      var c = content.charAt(i);
+      if (node != m_root) {
+        node = next(node, c);
+      }
+      else if (c < ROOT_TABLE_SIZE && !m_anchorStarts[c]) {
+        continue; // fast path: most characters do not start an anchor
+      }
+      else {
+        node = rootChild(c);
+      }
+      var outputs = node.m_outputs;
+      for (var j = 0; j < outputs.length; j++) {
+        var output = outputs[j];
+        candidates[output.m_patternIndex].add(i - output.m_length + 1);
+      }
+    }
+    return candidates;
+  }
+
+  private Node next(Node current, char c) {
+    var node = current;
+    while (node != m_root) {
+      var child = node.child(c);
+      if (child != null) {
+        return child;
+      }
+      node = node.m_failure;
+    }
+    return rootChild(c);
+  }
+
+  private Node rootChild(char c) {
+    if (c < ROOT_TABLE_SIZE) {
+      return m_rootTable[c];
+    }
+    var child = m_root.child(c);
+    return child == null ? m_root : child;
+  }
+
+  private static void confirmCandidates(CharSequence content, AbstractTranslationPattern pattern, IntList anchorStarts, BiConsumer<? super AbstractTranslationPattern, ? super MatchResult> matchConsumer) {
+    if (anchorStarts.isEmpty()) {
+      return;
+    }
+
+    anchorStarts.sort(); // anchors of different length may be reported out of order
+    var matcher = pattern.pattern().matcher(content)
+        .useTransparentBounds(true)
+        .useAnchoringBounds(false);
+    var len = content.length();
+    var nextAllowedStart = 0; // matches must not overlap (same as Matcher.find)
+    var lastAnchorStart = -1;
+    for (var i = 0; i < anchorStarts.size(); i++) {
+      var anchorStart = anchorStarts.get(i);
+      if (anchorStart < nextAllowedStart || anchorStart == lastAnchorStart) {
+        continue;
+      }
+      lastAnchorStart = anchorStart;
+
+      var start = Math.max(pattern.matchStartOf(content, anchorStart), nextAllowedStart);
+      matcher.region(start, len);
+      if (matcher.lookingAt()) {
+        matchConsumer.accept(pattern, matcher);
+        nextAllowedStart = Math.max(matcher.end(), anchorStart + 1);
+      }
+    }
+  }
+
+  private static void computeFailureLinks(Node root) {
+    var queue = new ArrayDeque<Node>();
+    for (var child : root.m_children) {
+      child.m_failure = root;
+      queue.add(child);
+    }
+    while (!queue.isEmpty()) {
+      var node = queue.poll();
+      for (var i = 0; i < node.m_keys.length; i++) {
+        var c = node.m_keys[i];
+        var child = node.m_children[i];
+        var failure = node.m_failure;
+        while (failure != root && failure.child(c) == null) {
+          failure = failure.m_failure;
+        }
+        var target = failure.child(c);
+        child.m_failure = target == null || target == child ? root : target;
+        child.m_outputs = concat(child.m_outputs, child.m_failure.m_outputs);
+        queue.add(child);
+      }
+    }
+  }
+
+  private static Output[] concat(Output[] a, Output[] b) {
+    if (b.length == 0) {
+      return a;
+    }
+    var result = Arrays.copyOf(a, a.length + b.length);
+    System.arraycopy(b, 0, result, a.length, b.length);
+    return result;
+  }
+
+  private static final class Node {
+    private static final Output[] NO_OUTPUTS = new Output[0];
+
+    private char[] m_keys = new char[0];
+    private Node[] m_children = new Node[0];
+    private Output[] m_outputs = NO_OUTPUTS;
+    private Node m_failure;
+
+    private Node child(char c) {
+      for (var i = 0; i < m_keys.length; i++) {
+        if (m_keys[i] == c) {
+          return m_children[i];
+        }
+      }
+      return null;
+    }
+
+    private void insert(CharSequence anchor, int patternIndex) {
+      var node = this;
+      for (var i = 0; i < anchor.length(); i++) {
+        var c = anchor.charAt(i);
+        var child = node.child(c);
+        if (child == null) {
+          child = new Node();
+          node.m_keys = Arrays.copyOf(node.m_keys, node.m_keys.length + 1);
+          node.m_keys[node.m_keys.length - 1] = c;
+          node.m_children = Arrays.copyOf(node.m_children, node.m_children.length + 1);
+          node.m_children[node.m_children.length - 1] = child;
+        }
+        node = child;
+      }
+      node.m_outputs = concat(node.m_outputs, new Output[]{new Output(patternIndex, anchor.length())});
+    }
+  }
+
+  private static final class Output {
+    private final int m_patternIndex;
+    private final int m_length;
+
+    private Output(int patternIndex, int length) {
+      m_patternIndex = patternIndex;
+      m_length = length;
+    }
+  }
+
+  private static final class IntList {
+    private int[] m_values = new int[8];
+    private int m_size;
+
+    private void add(int value) {
+      if (m_size == m_values.length) {
+        m_values = Arrays.copyOf(m_values, m_size * 2);
+      }
+      m_values[m_size++] = value;
+    }
+
+    private int get(int index) {
+      return m_values[index];
+    }
+
+    private int size() {
+      return m_size;
+    }
+
+    private boolean isEmpty() {
+      return m_size == 0;
+    }
+
+    private void sort() {
+      Arrays.sort(m_values, 0, m_size);
+    }
+  }
+}
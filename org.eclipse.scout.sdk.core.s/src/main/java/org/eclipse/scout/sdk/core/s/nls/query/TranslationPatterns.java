@@ -87,6 +87,34 @@ public final class TranslationPatterns {
 
     public abstract Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput);
 
+    /**
+     * Gets the literal texts every match of this pattern contains. These anchors are used by the
+     * {@link TranslationPatternScanner} to find match candidates without running the full {@link #pattern()} over the
+     * content. The {@link #pattern()} is then only applied at the positions of the anchors found.
+     * <p>
+     * If a pattern does not provide anchors, the full {@link #pattern()} is searched in the content.
+     *
+     * @return A {@link Stream} with the non-empty literal anchors of this pattern. The default implementation returns an
+     *         empty {@link Stream}.
+     */
+    public Stream<String> anchors() {
+      return Stream.empty();
+    }
+
+    /**
+     * Gets the index at which a match of this pattern starts if the anchor was found at the given index.
+     *
+     * @param content
+     *          The content searched.
+     * @param anchorStart
+     *          The index in the content at which one of the {@link #anchors()} starts.
+     * @return The index at which the {@link #pattern()} must be applied. The default implementation returns the anchor
+     *         start which means the pattern starts with one of the anchors.
+     */
+    protected int matchStartOf(CharSequence content, int anchorStart) {
+      return anchorStart;
+    }
+
     protected static FileRange toFileRange(MatchResult match, FileQueryInput fileQueryInput, int keyGroup) {
       var startIndex = match.start(keyGroup);
       var endIndex = match.end(keyGroup);
@@ -127,7 +155,8 @@ public final class TranslationPatterns {
   public static class JsSessionTextPattern extends AbstractTranslationPattern {
 
     public static final AbstractTranslationPattern INSTANCE = new JsSessionTextPattern();
-    public static final Pattern REGEX = Pattern.compile("session\\.text\\((['`\"]?)(" + NLS_KEY_PAT + ")(['`\"]?)\\s*[,)]");
+    public static final String SESSION_TEXT_PREFIX = "session.text(";
+    public static final Pattern REGEX = Pattern.compile(Pattern.quote(SESSION_TEXT_PREFIX) + "(['`\"]?)(" + NLS_KEY_PAT + ")(['`\"]?)\\s*[,)]");
 
     protected JsSessionTextPattern() {
     }
@@ -142,6 +171,11 @@ public final class TranslationPatterns {
       return IWebConstants.JS_FILE_EXTENSION;
     }
 
+    @Override
+    public Stream<String> anchors() {
+      return Stream.of(SESSION_TEXT_PREFIX);
+    }
+
     @Override
     public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
       return keyRangeIfInCode(match, fileQueryInput, 2);
@@ -181,6 +215,11 @@ public final class TranslationPatterns {
       return IWebConstants.JS_FILE_EXTENSION;
     }
 
+    @Override
+    public Stream<String> anchors() {
+      return Stream.of(MODEL_TEXT_KEY_PREFIX);
+    }
+
     @Override
     public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
       var keyGroup = 1;
@@ -218,9 +257,13 @@ public final class TranslationPatterns {
           .collect(joining("|"));
     }
 
-    private static String toTextsGetRegex(IScoutVariousApi api) {
+    private static String toTextsGetPrefix(IScoutVariousApi api) {
       var texts = api.TEXTS();
-      return texts.simpleName() + "\\." + texts.getMethodName() + "\\((?:[a-zA-Z0-9_]+,\\s*)?(\")?(" + NLS_KEY_PAT + ")(\")?\\s*[,)]";
+      return texts.simpleName() + JavaTypes.C_DOT + texts.getMethodName() + '(';
+    }
+
+    private static String toTextsGetRegex(IScoutVariousApi api) {
+      return Pattern.quote(toTextsGetPrefix(api)) + "(?:[a-zA-Z0-9_]+,\\s*)?(\")?(" + NLS_KEY_PAT + ")(\")?\\s*[,)]";
     }
 
     protected JavaTextsGetPattern() {
@@ -236,6 +279,13 @@ public final class TranslationPatterns {
       return JavaTypes.JAVA_FILE_EXTENSION;
     }
 
+    @Override
+    public Stream<String> anchors() {
+      return ScoutApi.allKnown()
+          .map(JavaTextsGetPattern::toTextsGetPrefix)
+          .distinct();
+    }
+
     @Override
     public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
       return keyRangeIfInCode(match, fileQueryInput, 2);
@@ -247,7 +297,8 @@ public final class TranslationPatterns {
     public static final String ATTRIBUTE_NAME = "key";
     public static final String SCOUT_MESSAGE_TAG_NAME = "scout:message";
     public static final AbstractTranslationPattern INSTANCE = new HtmlScoutMessagePattern();
-    public static final Pattern REGEX = Pattern.compile("\\s+" + ATTRIBUTE_NAME + "=['\"](" + NLS_KEY_PAT + ")[\"']"); // there is no 'key' attribute in html. so no need to check for the scout:message tag
+    public static final String ATTRIBUTE_PREFIX = ATTRIBUTE_NAME + '=';
+    public static final Pattern REGEX = Pattern.compile("\\s+" + ATTRIBUTE_PREFIX + "['\"](" + NLS_KEY_PAT + ")[\"']"); // there is no 'key' attribute in html. so no need to check for the scout:message tag
 
     protected HtmlScoutMessagePattern() {
     }
@@ -262,6 +313,26 @@ public final class TranslationPatterns {
       return IWebConstants.HTML_FILE_EXTENSION;
     }
 
+    @Override
+    public Stream<String> anchors() {
+      return Stream.of(ATTRIBUTE_PREFIX);
+    }
+
+    @Override
+    protected int matchStartOf(CharSequence content, int anchorStart) {
+      // the pattern starts with whitespace before the anchor: move to the first whitespace character
+      var start = anchorStart;
+      while (start > 0 && isRegexWhitespace(content.charAt(start - 1))) {
+        start--;
+      }
+      return start;
+    }
+
+    private static boolean isRegexWhitespace(char c) {
+      // same as '\s' in a regex
+      return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
     @Override
     public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
       var keyGroup = 1;
@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.util.search;
+
+import static java.util.Collections.unmodifiableSet;
+import static org.eclipse.scout.sdk.core.log.SdkLog.onTrace;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.util.Ensure;
+import org.eclipse.scout.sdk.core.util.SdkException;
+
+/**
+ * <h3>{@link FileQueryCache}</h3>
+ * <p>
+ * Stores the {@link FileQueryMatch matches} of an {@link IFileQuery} per file together with a hash of the file content
+ * and the {@link IFileQuery#dependencyFingerprint(FileQueryInput) dependency fingerprint} of the query. It is used by
+ * {@link IncrementalFileQuery} to skip files which did not change since the last search.
+ * <p>
+ * The cache may be {@link #store(Path) stored} to a file and {@link #load(Path, String) loaded} again in a later
+ * session. This class is thread safe.
+ *
+ * @since 13.0
+ */
+public class FileQueryCache {
+
+  private static final int MAGIC = 0x53_44_4B_51; // "SDKQ"
+  private static final int FORMAT_VERSION = 1;
+  private static final int HASH_CHUNK_SIZE = 4096;
+
+  private final String m_queryName;
+  private final Map<Path, Entry> m_entries;
+
+  /**
+   * Creates a new empty cache.
+   *
+   * @param queryName
+   *          The {@link IFileQuery#name() name} of the query whose results are stored. Must not be {@code null}.
+   */
+  public FileQueryCache(String queryName) {
+    m_queryName = Ensure.notNull(queryName);
+    m_entries = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Loads a cache previously {@link #store(Path) stored}.
+   *
+   * @param cacheFile
+   *          The file to load. Must not be {@code null}.
+   * @param queryName
+   *          The {@link IFileQuery#name() name} of the query whose results are stored. Must not be {@code null}.
+   * @return The loaded {@link FileQueryCache}. If the file does not exist, is corrupt, was written by an other format
+   *         version or for an other query, an empty cache is returned.
+   */
+  public static FileQueryCache load(Path cacheFile, String queryName) {
+    var result = new FileQueryCache(queryName);
+    if (!Files.isRegularFile(Ensure.notNull(cacheFile))) {
+      return result;
+    }
+
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile)))) {
+      if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION || !queryName.equals(in.readUTF())) {
+        return result;
+      }
+      var numFiles = in.readInt();
+      for (var i = 0; i < numFiles; i++) {
+        var file = Paths.get(in.readUTF());
+        var contentHash = in.readUTF();
+        var dependencyFingerprint = in.readUTF();
+        var numMatches = in.readInt();
+        Set<FileQueryMatch> matches = new HashSet<>(numMatches);
+        for (var j = 0; j < numMatches; j++) {
+          var module = Paths.get(in.readUTF());
+          var text = in.readUTF();
+          var start = in.readInt();
+          var end = in.readInt();
+          var severity = in.readInt();
+          matches.add(new FileQueryMatch(file, module, text, start, end, severity));
+        }
+        result.m_entries.put(file, new Entry(contentHash, dependencyFingerprint, matches));
+      }
+      return result;
+    }
+    catch (IOException | RuntimeException e) {
+      SdkLog.debug("Unable to load file query cache '{}'. Starting with an empty cache.", cacheFile, onTrace(e));
+      return new FileQueryCache(queryName);
+    }
+  }
+
+  /**
+   * Stores the content of this cache to the file given. An existing file is replaced.
+   *
+   * @param cacheFile
+   *          The target file. Must not be {@code null}.
+   */
+  public void store(Path cacheFile) {
+    try {
+      var directory = cacheFile.toAbsolutePath().getParent();
+      Files.createDirectories(directory);
+      var tmp = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+      try {
+        try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+          out.writeInt(MAGIC);
+          out.writeInt(FORMAT_VERSION);
+          out.writeUTF(m_queryName);
+          var entries = Map.copyOf(m_entries);
+          out.writeInt(entries.size());
+          for (var e : entries.entrySet()) {
+            var entry = e.getValue();
+            out.writeUTF(e.getKey().toString());
+            out.writeUTF(entry.m_contentHash);
+            out.writeUTF(entry.m_dependencyFingerprint);
+            out.writeInt(entry.m_matches.size());
+            for (var match : entry.m_matches) {
+              out.writeUTF(match.module().toString());
+              out.writeUTF(match.text().toString());
+              out.writeInt(match.start());
+              out.writeInt(match.end());
+              out.writeInt(match.severity());
+            }
+          }
+        }
+        Files.move(tmp, cacheFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      }
+      finally {
+        Files.deleteIfExists(tmp);
+      }
+    }
+    catch (IOException e) {
+      throw new SdkException("Unable to store file query cache '{}'.", cacheFile, e);
+    }
+  }
+
+  /**
+   * Gets the cached matches of a file if they are still valid.
+   *
+   * @param file
+   *          The file. Must not be {@code null}.
+   * @param contentHash
+   *          The {@link #hashOf(CharSequence) hash} of the current file content.
+   * @param dependencyFingerprint
+   *          The current {@link IFileQuery#dependencyFingerprint(FileQueryInput) dependency fingerprint} of the file.
+   * @return The cached matches or an empty {@link Optional} if there is no entry for the file or the entry was created
+   *         for another content or fingerprint.
+   */
+  public Optional<Set<FileQueryMatch>> get(Path file, String contentHash, String dependencyFingerprint) {
+    var entry = m_entries.get(file);
+    if (entry == null || !entry.m_contentHash.equals(contentHash) || !entry.m_dependencyFingerprint.equals(dependencyFingerprint)) {
+      return Optional.empty();
+    }
+    return Optional.of(entry.m_matches);
+  }
+
+  /**
+   * Registers the matches of a file replacing any previous entry for the file.
+   *
+   * @param file
+   *          The file. Must not be {@code null}.
+   * @param contentHash
+   *          The {@link #hashOf(CharSequence) hash} of the file content that was searched. Must not be {@code null}.
+   * @param dependencyFingerprint
+   *          The {@link IFileQuery#dependencyFingerprint(FileQueryInput) dependency fingerprint} used for the search.
+   *          Must not be {@code null}.
+   * @param matches
+   *          The matches found in the file. Must not be {@code null}.
+   */
+  public void put(Path file, String contentHash, String dependencyFingerprint, Set<FileQueryMatch> matches) {
+    Set<FileQueryMatch> copy = new HashSet<>(matches.size());
+    for (var match : matches) {
+      // detach the text from the file content
+      copy.add(new FileQueryMatch(match.file(), match.module(), match.text().toString(), match.start(), match.end(), match.severity()));
+    }
+    m_entries.put(Ensure.notNull(file), new Entry(Ensure.notNull(contentHash), Ensure.notNull(dependencyFingerprint), copy));
+  }
+
+  /**
+   * Removes all entries whose file is not part of the given {@link Set}.
+   *
+   * @param files
+   *          The files to keep. Must not be {@code null}.
+   */
+  public void retainAll(Set<Path> files) {
+    m_entries.keySet().retainAll(files);
+  }
+
+  /**
+   * @return The number of files in this cache.
+   */
+  public int size() {
+    return m_entries.size();
+  }
+
+  /**
+   * @return The {@link IFileQuery#name() name} of the query whose results are stored.
+   */
+  public String queryName() {
+    return m_queryName;
+  }
+
+  /**
+   * Computes a SHA-256 hash of the characters given.
+   *
+   * @param content
+   *          The content to hash. Must not be {@code null}.
+   * @return The hash as hex {@link String}.
+   */
+  public static String hashOf(CharSequence content) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256");
+      var buffer = ByteBuffer.allocate(HASH_CHUNK_SIZE * Character.BYTES);
+      var length = content.length();
+      for (var i = 0; i < length; i++) {
+        if (!buffer.hasRemaining()) {
+          digest.update(buffer.array(), 0, buffer.position());
+          buffer.clear();
+        }
+        buffer.putChar(content.charAt(i));
+      }
+      digest.update(buffer.array(), 0, buffer.position());
+      var hash = digest.digest();
+      var result = new StringBuilder(hash.length * 2);
+      for (var b : hash) {
+        result.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+      }
+      return result.toString();
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new SdkException(e);
+    }
+  }
+
+  private static final class Entry {
+    private final String m_contentHash;
+    private final String m_dependencyFingerprint;
+    private final Set<FileQueryMatch> m_matches;
+
+    private Entry(String contentHash, String dependencyFingerprint, Set<FileQueryMatch> matches) {
+      m_contentHash = contentHash;
+      m_dependencyFingerprint = dependencyFingerprint;
+      m_matches = unmodifiableSet(matches);
+    }
+  }
+}
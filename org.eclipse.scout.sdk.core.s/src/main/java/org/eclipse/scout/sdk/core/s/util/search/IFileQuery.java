@@ -22,4 +22,18 @@ public interface IFileQuery extends IFileQueryResult {
    */
   void searchIn(FileQueryInput input);
 
+  /**
+   * Gets a fingerprint of all data besides the file content the result of {@link #searchIn(FileQueryInput)} depends on
+   * (e.g. the translation keys visible to the module of the file). It is used by {@link IncrementalFileQuery} to decide
+   * if the cached result of a file may be reused. The fingerprint should be short (e.g. a hash).
+   *
+   * @param input
+   *          The {@link FileQueryInput} for which the fingerprint should be returned. Must not be {@code null}.
+   * @return The fingerprint. The default implementation returns an empty {@link String} which means the result only
+   *         depends on the file content.
+   */
+  default String dependencyFingerprint(FileQueryInput input) {
+    return "";
+  }
+
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.util.search;
+
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link IncrementalFileQuery}</h3>
+ * <p>
+ * {@link IFileQuery} which only executes the wrapped query on files whose content or
+ * {@link IFileQuery#dependencyFingerprint(FileQueryInput) dependency fingerprint} changed since the matches were stored
+ * in the {@link FileQueryCache}. For all other files the cached matches are returned. The results of the files searched
+ * are registered in the cache so that the cache can be {@link FileQueryCache#store(Path) stored} afterwards.
+ * <p>
+ * This class is thread safe if the wrapped query is.
+ *
+ * @since 13.0
+ */
+public class IncrementalFileQuery implements IFileQuery {
+
+  private final IFileQuery m_delegate;
+  private final FileQueryCache m_cache;
+  private final Map<Path, Set<FileQueryMatch>> m_cachedMatches;
+  private final Set<Path> m_searchedFiles;
+  private final AtomicInteger m_numExecuted;
+
+  /**
+   * @param delegate
+   *          The {@link IFileQuery} to execute for changed files. Must not be {@code null}.
+   * @param cache
+   *          The {@link FileQueryCache} holding the matches of previous searches. Must not be {@code null}.
+   */
+  public IncrementalFileQuery(IFileQuery delegate, FileQueryCache cache) {
+    m_delegate = Ensure.notNull(delegate);
+    m_cache = Ensure.notNull(cache);
+    m_cachedMatches = new ConcurrentHashMap<>();
+    m_searchedFiles = newKeySet();
+    m_numExecuted = new AtomicInteger();
+  }
+
+  @Override
+  public void searchIn(FileQueryInput input) {
+    var file = input.file();
+    m_searchedFiles.add(file);
+
+    var contentHash = FileQueryCache.hashOf(input.fileContent());
+    var dependencyFingerprint = m_delegate.dependencyFingerprint(input);
+    var cached = m_cache.get(file, contentHash, dependencyFingerprint);
+    if (cached.isPresent()) {
+      m_cachedMatches.put(file, cached.orElseThrow());
+      return;
+    }
+
+    m_cachedMatches.remove(file);
+    m_delegate.searchIn(input);
+    m_numExecuted.incrementAndGet();
+    m_cache.put(file, contentHash, dependencyFingerprint, m_delegate.result(file));
+  }
+
+  @Override
+  public String dependencyFingerprint(FileQueryInput input) {
+    return m_delegate.dependencyFingerprint(input);
+  }
+
+  /**
+   * Removes the entries of all files from the {@link FileQueryCache} which have not been searched by this query (e.g.
+   * because they have been deleted). Should only be called if this query has been executed on all files of the scope
+   * the cache is used for.
+   */
+  public void removeFilesNotSearchedFromCache() {
+    m_cache.retainAll(m_searchedFiles);
+  }
+
+  /**
+   * @return The number of files for which the wrapped query has been executed because no valid cache entry existed.
+   */
+  public int numExecuted() {
+    return m_numExecuted.get();
+  }
+
+  /**
+   * @return The wrapped {@link IFileQuery}.
+   */
+  public IFileQuery delegate() {
+    return m_delegate;
+  }
+
+  /**
+   * @return The {@link FileQueryCache} of this query.
+   */
+  public FileQueryCache cache() {
+    return m_cache;
+  }
+
+  @Override
+  public Set<FileQueryMatch> result(Path file) {
+    var cached = m_cachedMatches.get(file);
+    if (cached != null) {
+      return cached;
+    }
+    return m_delegate.result(file);
+  }
+
+  @Override
+  public Stream<FileQueryMatch> result() {
+    return Stream.concat(
+        m_delegate.result().filter(match -> !m_cachedMatches.containsKey(match.file())),
+        m_cachedMatches.values().stream().flatMap(Set::stream));
+  }
+
+  @Override
+  public String name() {
+    return m_delegate.name();
+  }
+}
@@ -0,0 +1,600 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.util.search;
+
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toSet;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
+
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.s.environment.IProgress;
+import org.eclipse.scout.sdk.core.util.Ensure;
+import org.eclipse.scout.sdk.core.util.SdkException;
+import org.eclipse.scout.sdk.core.util.Strings;
+
+/**
+ * <h3>{@link WorkspaceWalker}</h3>
+ * <p>
+ * Headless walker visiting all files of a set of module root directories. It does not require an IDE and can therefore
+ * be used to execute {@link IFileQuery queries} in a build or on the command line.
+ * <p>
+ * The directories are visited in parallel using a {@link ForkJoinPool}. Therefore, the visitor (or the
+ * {@link IFileQuery} executed) must be thread safe if the {@link #parallelism()} is greater than one.
+ * <p>
+ * By default, output directories ({@link #DEFAULT_OUTPUT_FOLDERS}), hidden paths and node_modules folders are skipped.
+ * If module roots are nested, the files of the inner module are only visited once (as part of the inner module).
+ * Directories which cannot be read are logged and skipped.
+ *
+ * @since 13.0
+ */
+public class WorkspaceWalker {
+
+  /**
+   * The names of the module subdirectories which are considered to be output directories if no explicit output
+   * directories are specified for a module.
+   */
+  public static final List<String> DEFAULT_OUTPUT_FOLDERS = List.of("target", "bin");
+
+  private final String m_taskName;
+  private final List<WorkspaceModule> m_modules;
+  private final Collection<String> m_fileExtensions;
+
+  private boolean m_skipOutputLocation;
+  private boolean m_skipHiddenPaths;
+  private boolean m_skipNodeModules;
+  private BiPredicate<Path, BasicFileAttributes> m_fileFilter;
+  private int m_parallelism;
+
+  /**
+   * @param taskName
+   *          The task name of this walker. This name is used in the progress while visiting the modules.
+   */
+  public WorkspaceWalker(String taskName) {
+    m_taskName = Ensure.notNull(taskName);
+    m_modules = new ArrayList<>();
+    m_fileExtensions = new ArrayList<>();
+    m_skipOutputLocation = true;
+    m_skipHiddenPaths = true;
+    m_skipNodeModules = true;
+    m_parallelism = Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Executes the query specified in all {@link #modules()} of this walker.
+   *
+   * @param query
+   *          The {@link IFileQuery} to execute. Must be thread safe if the {@link #parallelism()} is greater than one.
+   *          Must not be {@code null}.
+   * @param progress
+   *          The {@link IProgress} to report the visited modules. Must not be {@code null}.
+   * @return The query given.
+   */
+  public <Q extends IFileQuery> Q executeQuery(Q query, IProgress progress) {
+    Ensure.notNull(query);
+    walk(file -> query.searchIn(file.toQueryInput()), progress);
+    return query;
+  }
+
+  /**
+   * Visits all files of the {@link #modules()} of this walker which are accepted by the filters.
+   * <p>
+   * The visitor is called concurrently from several threads if the {@link #parallelism()} is greater than one. This
+   * method returns as soon as all files have been visited.
+   *
+   * @param visitor
+   *          The visitor to call for each file. Must not be {@code null}.
+   * @param progress
+   *          The {@link IProgress} to report the visited modules. Must not be {@code null}.
+   */
+  public void walk(Consumer<WorkspaceFile> visitor, IProgress progress) {
+    Ensure.notNull(visitor);
+    Ensure.notNull(progress);
+    progress.init(m_modules.size(), taskName());
+
+    var moduleRoots = m_modules.stream()
+        .map(WorkspaceModule::root)
+        .collect(toSet());
+    var pool = new ForkJoinPool(parallelism());
+    try {
+      var completionService = new ExecutorCompletionService<Void>(pool);
+      for (var module : m_modules) {
+        completionService.submit(() -> new DirectoryTask(module.root(), module, moduleRoots, visitor).invoke(), null);
+      }
+      for (var i = 0; i < m_modules.size(); i++) {
+        awaitResult(completionService);
+        progress.worked(1); // progress is reported by the calling thread only, as soon as a module is completed
+      }
+    }
+    finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static void awaitResult(ExecutorCompletionService<Void> completionService) {
+    try {
+      completionService.take().get();
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new SdkException("Interrupted while visiting the modules.", e);
+    }
+    catch (ExecutionException e) {
+      var cause = e.getCause();
+      if (cause instanceof RuntimeException re) {
+        throw re;
+      }
+      if (cause instanceof Error err) {
+        throw err;
+      }
+      throw new SdkException(cause);
+    }
+  }
+
+  protected boolean directoryAccepted(Path dir, BasicFileAttributes attrs, WorkspaceModule module, Set<Path> moduleRoots) {
+    if (!dir.equals(module.root()) && moduleRoots.contains(dir)) {
+      return false; // nested module: is visited as part of its own module
+    }
+    if (isSkipOutputLocation() && module.outputFolders().contains(dir)) {
+      return false;
+    }
+    return directoryFiltersAccepted(dir, attrs);
+  }
+
+  protected boolean directoryFiltersAccepted(Path file, BasicFileAttributes attrs) {
+    if (isSkipHiddenPaths() && isHidden(file)) {
+      return false;
+    }
+
+    var fileName = file.getFileName();
+    if (isSkipNodeModules() && fileName != null && "node_modules".equals(fileName.toString())) {
+      return false;
+    }
+
+    return fileFilter()
+        .map(filter -> filter.test(file, attrs))
+        .orElse(Boolean.TRUE);
+  }
+
+  protected boolean allFiltersAccepted(Path file, BasicFileAttributes attrs) {
+    if (!acceptFileExtension(file)) {
+      return false;
+    }
+    return directoryFiltersAccepted(file, attrs);
+  }
+
+  protected boolean acceptFileExtension(Path file) {
+    if (m_fileExtensions.isEmpty()) {
+      return true; // no filter
+    }
+    var path = file.getFileName();
+    if (path == null) {
+      return false;
+    }
+    var fileName = path.toString().toLowerCase(Locale.US);
+    return m_fileExtensions.stream().anyMatch(fileName::endsWith);
+  }
+
+  protected static boolean isHidden(Path path) {
+    var fileName = path.getFileName();
+    return fileName != null && fileName.toString().startsWith(".");
+  }
+
+  /**
+   * Reads the content of the file given.
+   *
+   * @param file
+   *          The file to read. Must not be {@code null}.
+   * @param charset
+   *          The {@link Charset} of the file. Must not be {@code null}.
+   * @return The content of the file.
+   * @throws IOException
+   *           if the file cannot be read.
+   */
+  public static CharSequence readContent(Path file, Charset charset) throws IOException {
+    return charset.decode(ByteBuffer.wrap(Files.readAllBytes(file)));
+  }
+
+  /**
+   * @return The task name of this walker. This string is used in the progress.
+   */
+  public String taskName() {
+    return m_taskName;
+  }
+
+  /**
+   * Adds a module with UTF-8 encoding and the {@link #DEFAULT_OUTPUT_FOLDERS}.
+   *
+   * @param root
+   *          The root directory of the module. Must not be {@code null}.
+   * @return this instance
+   */
+  public WorkspaceWalker withModule(Path root) {
+    return withModule(root, StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Adds a module with the {@link #DEFAULT_OUTPUT_FOLDERS}.
+   *
+   * @param root
+   *          The root directory of the module. Must not be {@code null}.
+   * @param charset
+   *          The encoding of the files in the module. Must not be {@code null}.
+   * @return this instance
+   */
+  public WorkspaceWalker withModule(Path root, Charset charset) {
+    var outputFolders = DEFAULT_OUTPUT_FOLDERS.stream()
+        .map(Ensure.notNull(root)::resolve)
+        .collect(toSet());
+    return withModule(root, charset, outputFolders);
+  }
+
+  /**
+   * Adds a module.
+   *
+   * @param root
+   *          The root directory of the module. Must not be {@code null}.
+   * @param charset
+   *          The encoding of the files in the module. Must not be {@code null}.
+   * @param outputFolders
+   *          The output directories of the module (absolute or relative to the module root). May be {@code null}.
+   * @return this instance
+   */
+  public WorkspaceWalker withModule(Path root, Charset charset, Collection<Path> outputFolders) {
+    m_modules.add(new WorkspaceModule(root, charset, outputFolders));
+    return this;
+  }
+
+  /**
+   * @return An unmodifiable {@link List} holding all modules visited by this walker.
+   */
+  public List<WorkspaceModule> modules() {
+    return unmodifiableList(m_modules);
+  }
+
+  /**
+   * @return The maximal number of threads visiting the modules.
+   */
+  public int parallelism() {
+    return m_parallelism;
+  }
+
+  /**
+   * @param parallelism
+   *          The maximal number of threads visiting the modules. Must be > 0. Use 1 to visit all files in a single
+   *          thread.
+   * @return this instance
+   */
+  public WorkspaceWalker withParallelism(int parallelism) {
+    Ensure.isTrue(parallelism > 0, "Invalid parallelism: {}.", parallelism);
+    m_parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if module output directories (like target or bin) should e skipped when visiting.
+   */
+  public boolean isSkipOutputLocation() {
+    return m_skipOutputLocation;
+  }
+
+  /**
+   * @param skipOutputLocation
+   *          {@code true} if module output directories (like target or bin) should e skipped when visiting.
+   * @return this instance
+   */
+  public WorkspaceWalker withSkipOutputLocation(boolean skipOutputLocation) {
+    m_skipOutputLocation = skipOutputLocation;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if hidden paths (file or folder names with leading dot) should be skipped when visiting.
+   */
+  public boolean isSkipHiddenPaths() {
+    return m_skipHiddenPaths;
+  }
+
+  /**
+   * @param skipHiddenPaths
+   *          {@code true} if hidden paths (file or folder names with leading dot) should be skipped when visiting.
+   * @return this instance
+   */
+  public WorkspaceWalker withSkipHiddenPaths(boolean skipHiddenPaths) {
+    m_skipHiddenPaths = skipHiddenPaths;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if "node_modules" folders should be skipped when visiting.
+   */
+  public boolean isSkipNodeModules() {
+    return m_skipNodeModules;
+  }
+
+  /**
+   * @param skipNodeModules
+   *          {@code true} if "node_modules" folders should be skipped when visiting.
+   * @return this instance
+   */
+  public WorkspaceWalker withSkipNodeModules(boolean skipNodeModules) {
+    m_skipNodeModules = skipNodeModules;
+    return this;
+  }
+
+  /**
+   * @return A custom file filter if available.
+   */
+  public Optional<BiPredicate<Path, BasicFileAttributes>> fileFilter() {
+    return Optional.ofNullable(m_fileFilter);
+  }
+
+  /**
+   * @param fileFilter
+   *          A custom file filter if available. Must be thread safe.
+   * @return this instance
+   */
+  public WorkspaceWalker withFilter(BiPredicate<Path, BasicFileAttributes> fileFilter) {
+    m_fileFilter = fileFilter;
+    return this;
+  }
+
+  /**
+   * @return An unmodifiable collection holding the file extensions (with or without extension separator dot) which are
+   *         visited or an empty collection if all files should be visited.
+   */
+  public Collection<String> extensionsAccepted() {
+    return unmodifiableCollection(m_fileExtensions);
+  }
+
+  /**
+   * @param extensions
+   *          Sets all file extensions (with or without extension separator dot) which should be visited. May be
+   *          {@code null}.
+   * @return this instance
+   */
+  public WorkspaceWalker withExtensionsAccepted(String... extensions) {
+    Collection<String> l = extensions == null ? null : Arrays.asList(extensions);
+    return withExtensionsAccepted(l);
+  }
+
+  /**
+   * @param extensions
+   *          Sets all file extensions (with or without extension separator dot) which should be visited. May be
+   *          {@code null}.
+   * @return this instance
+   */
+  public WorkspaceWalker withExtensionsAccepted(Collection<String> extensions) {
+    m_fileExtensions.clear();
+    if (extensions != null && !extensions.isEmpty()) {
+      for (var e : extensions) {
+        if (Strings.hasText(e)) {
+          m_fileExtensions.add(e.toLowerCase(Locale.US));
+        }
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Visits the files of a directory and forks a new task for each subdirectory.
+   */
+  private final class DirectoryTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+    private final Path m_dir;
+    private final WorkspaceModule m_module;
+    private final Set<Path> m_moduleRoots;
+    private final Consumer<WorkspaceFile> m_visitor;
+
+    private DirectoryTask(Path dir, WorkspaceModule module, Set<Path> moduleRoots, Consumer<WorkspaceFile> visitor) {
+      m_dir = dir;
+      m_module = module;
+      m_moduleRoots = moduleRoots;
+      m_visitor = visitor;
+    }
+
+    @Override
+    protected void compute() {
+      try {
+        if (m_dir.equals(m_module.root()) && !isRootAccepted()) {
+          return;
+        }
+        visitDirectory();
+      }
+      catch (IOException e) {
+        SdkLog.warning("Unable to visit directory '{}'. Skipping it.", m_dir, e);
+      }
+    }
+
+    private boolean isRootAccepted() throws IOException {
+      if (!Files.isDirectory(m_dir)) {
+        return false; // module root does not exist
+      }
+      var attrs = Files.readAttributes(m_dir, BasicFileAttributes.class);
+      return directoryAccepted(m_dir, attrs, m_module, m_moduleRoots);
+    }
+
+    private void visitDirectory() throws IOException {
+      var subTasks = new ArrayList<DirectoryTask>();
+      try (var children = Files.newDirectoryStream(m_dir)) {
+        for (var child : children) {
+          var attrs = readAttributes(child);
+          if (attrs == null) {
+            continue;
+          }
+          if (attrs.isDirectory()) {
+            if (directoryAccepted(child, attrs, m_module, m_moduleRoots)) {
+              subTasks.add(new DirectoryTask(child, m_module, m_moduleRoots, m_visitor));
+            }
+          }
+          else if (allFiltersAccepted(child, attrs)) {
+            m_visitor.accept(new WorkspaceFile(child, m_module.root(), m_module.charset()));
+          }
+        }
+      }
+      invokeAll(subTasks);
+    }
+
+    private static BasicFileAttributes readAttributes(Path path) {
+      try {
+        return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+      }
+      catch (IOException e) {
+        SdkLog.warning("Unable to read attributes of '{}'. Skipping it.", path, e);
+        return null;
+      }
+    }
+  }
+
+  /**
+   * Represents a module root directory visited by a {@link WorkspaceWalker}.
+   */
+  public static class WorkspaceModule {
+    private final Path m_root;
+    private final Charset m_charset;
+    private final Set<Path> m_outputFolders;
+
+    public WorkspaceModule(Path root, Charset charset, Collection<Path> outputFolders) {
+      m_root = Ensure.notNull(root).toAbsolutePath().normalize();
+      m_charset = Ensure.notNull(charset);
+      m_outputFolders = outputFolders == null ? Set.of() : outputFolders.stream()
+          .map(m_root::resolve)
+          .map(Path::normalize)
+          .collect(toSet());
+    }
+
+    /**
+     * @return The absolute path to the root directory of the module.
+     */
+    public Path root() {
+      return m_root;
+    }
+
+    /**
+     * @return The encoding of the files in the module.
+     */
+    public Charset charset() {
+      return m_charset;
+    }
+
+    /**
+     * @return The absolute paths of the output directories of the module.
+     */
+    public Set<Path> outputFolders() {
+      return m_outputFolders;
+    }
+
+    @Override
+    public String toString() {
+      return WorkspaceModule.class.getSimpleName() + ": " + root();
+    }
+  }
+
+  /**
+   * Represents a file visited by a {@link WorkspaceWalker}.
+   */
+  public static class WorkspaceFile {
+    private final Path m_file;
+    private final Path m_modulePath;
+    private final Charset m_charset;
+
+    public WorkspaceFile(Path file, Path modulePath, Charset charset) {
+      m_file = Ensure.notNull(file);
+      m_modulePath = Ensure.notNull(modulePath);
+      m_charset = Ensure.notNull(charset);
+    }
+
+    /**
+     * @return The file encoding
+     */
+    public Charset charset() {
+      return m_charset;
+    }
+
+    /**
+     * @return The absolute path to the file on the file-system
+     */
+    public Path path() {
+      return m_file;
+    }
+
+    /**
+     * @return The absolute path to the root of the module that contains the file.
+     */
+    public Path modulePath() {
+      return m_modulePath;
+    }
+
+    /**
+     * Reads the content of the file. The content is not cached.
+     *
+     * @return The content of the file
+     */
+    public CharSequence content() {
+      try {
+        return readContent(path(), charset());
+      }
+      catch (IOException e) {
+        throw new SdkException("Unable to read content of file '{}'.", path(), e);
+      }
+    }
+
+    /**
+     * @return A new {@link FileQueryInput} for this file. The content is loaded lazily once requested by a query.
+     */
+    public FileQueryInput toQueryInput() {
+      return new FileQueryInput(path(), modulePath(), this::content);
+    }
+
+    @Override
+    public String toString() {
+      return WorkspaceFile.class.getSimpleName() + ": " + path();
+    }
+
+    @Override
+    public int hashCode() {
+      return m_file.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (obj == null || getClass() != obj.getClass()) {
+        return false;
+      }
+
+      var other = (WorkspaceFile) obj;
+      return m_file.equals(other.m_file);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.builder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>{@link MemorySourceBuilderTest}</h3>
+ *
+ * @since 13.0
+ */
+public class MemorySourceBuilderTest {
+
+  @Test
+  public void testSlots() {
+    var builder = MemorySourceBuilder.create();
+    builder.append("a");
+    var first = builder.reserveSlot();
+    var second = builder.reserveSlot(); // same offset, reserved later
+    builder.append("b");
+    var third = builder.reserveSlot();
+    builder.append("c");
+    assertEquals("abc", builder.toString());
+
+    second.fill("2");
+    assertEquals("a2bc", builder.toString());
+    assertEquals(1, first.offset()); // reserved before the second: stays in front
+    assertEquals(3, third.offset());
+    third.fill("33");
+    assertEquals("a2b33c", builder.toString());
+    first.fill("111");
+    assertEquals("a1112b33c", builder.toString());
+
+    assertThrows(IllegalArgumentException.class, () -> first.fill("x"));
+  }
+
+  @Test
+  public void testEmptySlot() {
+    var builder = MemorySourceBuilder.create();
+    var slot = builder.reserveSlot();
+    builder.append("body");
+    slot.fill("");
+    assertEquals("body", builder.toString());
+  }
+}
@@ -18,10 +18,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -45,6 +47,25 @@ public class PropertiesGeneratorTest {
     var generator = PropertiesGenerator.create(values);
     var generatedSource = generator.toSource(identity(), new BuilderContext()).toString();
     assertEquals("key=\\u00F6\\n\\u00E4\\r\\n\\u00FC\n", generatedSource);
+    assertEquals("key=\\u00F6\\n\\u00E4\\r\\n\\u00FC", PropertiesGenerator.encodeLine(key, value));
+  }
+
+  @Test
+  public void testEncodeLineLikeJavaUtilProperties() throws IOException {
+    var samples = new String[]{"", "a", " lead and inner space ", "a=b:c#d!e", "back\\slash", "tab\tff\f", "\u0001\u007f\u00ff\u20ac", "{x}[y]~"};
+    for (var key : samples) {
+      for (var value : samples) {
+        var properties = new Properties();
+        properties.setProperty(key, value);
+        var out = new ByteArrayOutputStream();
+        properties.store(out, null);
+        var expected = out.toString(PropertiesGenerator.ENCODING).lines()
+            .filter(line -> !line.startsWith("#"))
+            .findAny()
+            .orElseThrow();
+        assertEquals(expected, PropertiesGenerator.encodeLine(key, value));
+      }
+    }
   }
 
   @Test
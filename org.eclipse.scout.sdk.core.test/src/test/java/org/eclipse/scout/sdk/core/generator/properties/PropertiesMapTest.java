@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.generator.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+public class PropertiesMapTest {
+
+  @Test
+  public void testSameAsHashMap() {
+    var map = new PropertiesMap();
+    Map<String, String> expected = new HashMap<>();
+    for (var i = 0; i < 2000; i++) {
+      var key = "key" + (i % 700);
+      if (i % 3 == 0) {
+        assertEquals(expected.remove(key), map.remove(key));
+      }
+      else {
+        assertEquals(expected.put(key, "value" + i), map.put(key, "value" + i));
+      }
+      assertEquals(expected.size(), map.size());
+    }
+    assertEquals(expected, map);
+    assertEquals(map, expected);
+    assertEquals(expected.hashCode(), map.hashCode());
+    for (var i = 0; i < 700; i++) {
+      var key = "key" + i;
+      assertEquals(expected.get(key), map.get(key));
+      assertEquals(expected.containsKey(key), map.containsKey(key));
+    }
+    assertNull(map.get(null));
+    assertNull(map.get(1));
+    assertThrows(NullPointerException.class, () -> map.put(null, "a"));
+  }
+
+  @Test
+  public void testIterator() {
+    var map = new PropertiesMap(2);
+    for (var i = 0; i < 100; i++) {
+      map.put("key" + i, Integer.toString(i));
+    }
+
+    // remove all odd entries and modify the even ones
+    var iterator = map.entrySet().iterator();
+    while (iterator.hasNext()) {
+      var entry = iterator.next();
+      if (Integer.parseInt(entry.getValue()) % 2 == 1) {
+        iterator.remove();
+      }
+      else {
+        entry.setValue("even");
+      }
+    }
+    assertEquals(50, map.size());
+    assertTrue(map.values().stream().allMatch("even"::equals));
+    assertFalse(map.containsKey("key1"));
+
+    map.entrySet().removeIf(e -> true);
+    assertTrue(map.isEmpty());
+    map.put("a", "b");
+    assertEquals(Map.of("a", "b"), map);
+
+    var keyIterator = map.keySet().iterator();
+    keyIterator.next();
+    map.put("c", "d");
+    assertThrows(ConcurrentModificationException.class, keyIterator::next);
+  }
+
+  @Test
+  public void testClear() {
+    var map = new PropertiesMap();
+    map.put("a", "1");
+    map.put("b", null);
+    assertTrue(map.containsKey("b"));
+    assertEquals(2, map.size());
+    map.clear();
+    assertTrue(map.isEmpty());
+    assertFalse(map.entrySet().iterator().hasNext());
+  }
+}
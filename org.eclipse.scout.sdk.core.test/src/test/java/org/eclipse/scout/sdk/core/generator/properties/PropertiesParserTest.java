@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.generator.properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.junit.jupiter.api.Test;
+
+public class PropertiesParserTest {
+
+  private static final String[] CONTENTS = {
+      "",
+      "a=1",
+      "a=1\nb=2\n",
+      "a=1\r\nb=2\r\n",
+      "a=1\rb=2\r",
+      "  a = 1  \n\tb:2\n\fc 3\nd\ne=\nf:\n",
+      "a==1\nb::2\nc = = 3\nd : : 4\ne \t =5\n",
+      "# comment\n! comment\n  # indented comment\na=1 # no comment\n",
+      "a=multi \\\n   line \\\n\tvalue\nb=2",
+      "a=not continued \\\\\nb=2",
+      "a=continued \\\\\\\nb=2",
+      "a=ends with continuation \\",
+      "a=continued \\\n\nb=2",
+      "\\\n#not a key=1\nb=2",
+      "\\\n\nb=2",
+      "a=1\\\n# no comment\n",
+      "k\\ e\\=y\\:=v\\ta\\nl\\ru\\fe\\\\\\x",
+      "\\u0041\\u00e4=\\u00FC\\u20AC",
+      "a=\u00e4\u00f6\u00fc",
+      "a=1\na=2\n",
+      "\n\n  \n# header\n\na=1\n# no header\nb=2",
+  };
+
+  @Test
+  public void testSameAsProperties() throws IOException {
+    for (var content : CONTENTS) {
+      var expected = load(content);
+      assertEquals(expected, PropertiesParser.parse(content).properties(), content);
+      assertEquals(expected, PropertiesParser.parse(new StringReader(content)).properties(), content);
+      assertEquals(expected, PropertiesParser.parse(new ByteArrayInputStream(content.getBytes(PropertiesGenerator.ENCODING))).properties(), content);
+    }
+  }
+
+  @Test
+  public void testLargeContent() throws IOException {
+    var content = new StringBuilder();
+    for (var i = 0; i < 5000; i++) {
+      content.append("key").append(i).append("=value \\\n  ").append(i).append(" \\u00e4\n");
+    }
+    content.append("long=").append("x".repeat(20000));
+    var expected = load(content.toString());
+    var parsed = PropertiesParser.parse(new ByteArrayInputStream(content.toString().getBytes(PropertiesGenerator.ENCODING)));
+    assertEquals(5001, parsed.properties().size());
+    assertEquals(expected, parsed.properties());
+    assertEquals(PropertiesParser.parse(content).contentHash(), parsed.contentHash());
+  }
+
+  @Test
+  public void testHeaderLines() {
+    assertEquals(List.of("", "", "  ", "# header", ""), PropertiesParser.parse(CONTENTS[CONTENTS.length - 1]).headerLines());
+    assertEquals(List.of("# comment", "! comment", "  # indented comment"), PropertiesParser.parse(CONTENTS[7]).headerLines());
+    assertEquals(List.of(), PropertiesParser.parse("a=1\n#b").headerLines());
+    assertEquals(List.of("#a", ""), PropertiesParser.parse("#a\r\n\r\n").headerLines());
+  }
+
+  @Test
+  public void testContentHash() {
+    var hash = PropertiesParser.parse("a=1\nb=2").contentHash();
+    assertEquals(hash, PropertiesParser.parse("a=1\nb=2").contentHash());
+    assertNotEquals(hash, PropertiesParser.parse("a=1\nb=3").contentHash());
+    assertNotEquals(hash, PropertiesParser.parse("a=1\r\nb=2").contentHash());
+    assertNotEquals(PropertiesParser.parse("").contentHash(), PropertiesParser.parse("\n").contentHash());
+  }
+
+  @Test
+  public void testMalformedUnicodeEscape() {
+    assertThrows(IllegalArgumentException.class, () -> PropertiesParser.parse("a=\\u00"));
+    assertThrows(IllegalArgumentException.class, () -> PropertiesParser.parse("a=\\u00x1"));
+  }
+
+  @Test
+  public void testGeneratorUsesParser() throws IOException {
+    var content = "# header\n\nb=2\na=\\u00e4\n";
+    var generator = PropertiesGenerator.create(content);
+    assertEquals(List.of("# header", ""), generator.headerLines());
+    assertEquals(Map.of("a", "\u00e4", "b", "2"), generator.properties());
+    assertEquals(generator, PropertiesGenerator.create(new ByteArrayInputStream(content.getBytes(PropertiesGenerator.ENCODING))));
+    assertEquals(generator, PropertiesGenerator.create(PropertiesParser.parse(content)));
+  }
+
+  private static Map<String, String> load(String content) {
+    var properties = new Properties();
+    try {
+      properties.load(new StringReader(content));
+    }
+    catch (IOException e) {
+      throw new IllegalStateException(e);
+    }
+    var result = new HashMap<String, String>();
+    properties.forEach((k, v) -> result.put((String) k, (String) v));
+    return result;
+  }
+}
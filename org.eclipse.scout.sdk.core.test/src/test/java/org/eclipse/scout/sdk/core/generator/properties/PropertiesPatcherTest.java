@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.generator.properties;
+
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.scout.sdk.core.builder.BuilderContext;
+import org.eclipse.scout.sdk.core.generator.properties.PropertiesPatcher.PropertyEntry;
+import org.junit.jupiter.api.Test;
+
+public class PropertiesPatcherTest {
+
+  private static final String CONTENT = "# header\n"
+      + "\n"
+      + "b=2\n"
+      + "  d = 4\n"
+      + "# comment of f\n"
+      + "f:multi \\\n"
+      + "   line\n"
+      + "h\\u0041\\=x=escaped key\n"
+      + "j";
+
+  @Test
+  public void testParseEntries() {
+    assertEquals(List.of("b", "d", "f", "hA=x", "j"), keys(CONTENT));
+    assertEquals(List.of("a", "b"), keys("a=1\r\nb=2\r\n"));
+    assertEquals(List.of("a", "b"), keys("a=1\\\\\nb=2"));
+    assertEquals(List.of("a"), keys("a=1\\\n"));
+    assertTrue(keys("  \n#a=1\n!b=2\n\n").isEmpty());
+  }
+
+  @Test
+  public void testChange() {
+    var properties = new HashMap<>(Map.of("b", "2", "d", "changed", "f", "multi line", "hA=x", "escaped key", "j", ""));
+    assertEquals(CONTENT.replace("  d = 4", "d=changed"), patch(CONTENT, properties, "d"));
+    assertEquals(CONTENT.replace("f:multi \\\n   line", "f=new"), patch(CONTENT, Map.of("f", "new"), "f"));
+    assertEquals("a=\\u00E4\r\nb=2\r\n", patch("a=1\r\nb=2\r\n", Map.of("a", "\u00e4"), "a"));
+    assertEquals(CONTENT, patch(CONTENT, properties));
+  }
+
+  @Test
+  public void testRemove() {
+    assertEquals(CONTENT.replace("  d = 4\n", ""), patch(CONTENT, Map.of(), "d"));
+    assertEquals(CONTENT.replace("\nj", "\n"), patch(CONTENT, Map.of(), "j"));
+    assertEquals("# header\n\n# comment of f\nj", patch(CONTENT, Map.of("j", ""), "b", "d", "f", "hA=x"));
+    assertEquals(CONTENT, patch(CONTENT, Map.of(), "notExisting"));
+  }
+
+  @Test
+  public void testAdd() {
+    var properties = Map.of("a", "1", "c", "3", "e", "5", "z", "26");
+    assertEquals("# header\n"
+        + "\n"
+        + "a=1\n"
+        + "b=2\n"
+        + "c=3\n"
+        + "  d = 4\n"
+        + "e=5\n"
+        + "# comment of f\n"
+        + "f:multi \\\n"
+        + "   line\n"
+        + "h\\u0041\\=x=escaped key\n"
+        + "j\n"
+        + "z=26\n", patch(CONTENT, properties, "a", "c", "e", "z"));
+    assertEquals("a=1\r\nb=2\r\n", patch("b=2\r\n", Map.of("a", "1", "b", "2"), "a"));
+    assertEquals("a=1" + System.lineSeparator(), patch("", Map.of("a", "1"), "a"));
+  }
+
+  @Test
+  public void testDuplicateKey() {
+    assertTrue(PropertiesPatcher.patch("a=1\nb=2\na=3\n", Map.of("b", "4"), Set.of("b")).isEmpty());
+  }
+
+  @Test
+  public void testSameAsGenerator() throws IOException {
+    Map<String, String> properties = new HashMap<>();
+    for (var i = 0; i < 100; i++) {
+      properties.put("key" + i, "value " + i + " \u00fc\n:=#");
+    }
+    var generator = PropertiesGenerator.create(properties, List.of("# header"));
+    var content = generator.toSource(identity(), new BuilderContext()).toString();
+
+    generator.properties().put("key50", "changed");
+    generator.properties().put("key500", "added");
+    generator.properties().put("a", "added first");
+    generator.properties().remove("key7");
+    var expected = generator.toSource(identity(), new BuilderContext()).toString();
+    assertEquals(expected, patch(content, generator.properties(), "key50", "key500", "a", "key7"));
+    assertEquals(generator, PropertiesGenerator.create(expected));
+  }
+
+  private static String patch(CharSequence content, Map<String, String> properties, String... changedKeys) {
+    return PropertiesPatcher.patch(content, properties, Set.of(changedKeys)).orElseThrow();
+  }
+
+  private static List<String> keys(CharSequence content) {
+    return PropertiesPatcher.parseEntries(content).stream()
+        .map(PropertyEntry::key)
+        .collect(toList());
+  }
+}
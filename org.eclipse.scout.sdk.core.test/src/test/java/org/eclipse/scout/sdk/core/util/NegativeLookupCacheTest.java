@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class NegativeLookupCacheTest {
+
+  @Test
+  public void testAddAndRemove() {
+    var cache = new NegativeLookupCache<String>();
+    assertFalse(cache.contains("a"));
+    cache.add("a");
+    cache.add("a.b");
+    cache.add("c");
+    assertTrue(cache.contains("a"));
+    assertEquals(3, cache.size());
+
+    assertTrue(cache.remove("c"));
+    assertFalse(cache.remove("c"));
+    assertTrue(cache.removeIf(k -> k.startsWith("a")));
+    assertEquals(0, cache.size());
+
+    cache.add("d");
+    cache.clear();
+    assertFalse(cache.contains("d"));
+    assertThrows(IllegalArgumentException.class, () -> new NegativeLookupCache<String>(0));
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsRemoved() {
+    var cache = new NegativeLookupCache<String>(2);
+    cache.add("a");
+    cache.add("b");
+    assertTrue(cache.contains("a")); // b is now the least recently used
+    cache.add("c");
+    assertEquals(2, cache.size());
+    assertTrue(cache.contains("a"));
+    assertTrue(cache.contains("c"));
+    assertFalse(cache.contains("b"));
+    assertEquals(2, cache.maxSize());
+  }
+
+  @Test
+  public void testEvictionOfLargeCache() {
+    var cache = new NegativeLookupCache<Integer>(64);
+    for (var i = 0; i < 64; i++) {
+      cache.add(i);
+    }
+    assertTrue(cache.contains(0)); // 1 is now the least recently used
+    cache.add(64);
+    assertEquals(56, cache.size()); // more than one key is removed to not scan the keys on every add
+    assertTrue(cache.contains(0));
+    assertTrue(cache.contains(64));
+    assertFalse(cache.contains(1));
+    assertFalse(cache.contains(9));
+    assertTrue(cache.contains(10));
+
+    cache.add(null);
+    assertFalse(cache.contains(null));
+    assertEquals(56, cache.size());
+  }
+
+  @Test
+  public void testStatistics() {
+    var cache = new NegativeLookupCache<String>();
+    assertEquals(0.0, cache.hitRate());
+    cache.add("a");
+    assertTrue(cache.contains("a"));
+    assertTrue(cache.contains("a"));
+    assertTrue(cache.contains("a"));
+    assertFalse(cache.contains("b"));
+    assertEquals(3, cache.hitCount());
+    assertEquals(1, cache.missCount());
+    assertEquals(0.75, cache.hitRate());
+
+    cache.resetStatistics();
+    assertEquals(0, cache.hitCount());
+    assertEquals(0, cache.missCount());
+  }
+}
@@ -11,10 +11,15 @@ package org.eclipse.scout.sdk.core.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -130,4 +135,105 @@ public class TtlCacheTest {
 
     assertEquals(1, cleanupCounter.get());
   }
+
+  @Test
+  public void testComputeIfAbsentDoesNotBlockOtherKeys() throws Exception {
+    var cache = new TtlCache<String, Long>(1, TimeUnit.DAYS);
+    var executor = Executors.newFixedThreadPool(3);
+    try {
+      var computationStarted = new CountDownLatch(1);
+      var releaseComputation = new CountDownLatch(1);
+      var counter = new AtomicInteger();
+      Future<Long> slow = executor.submit(() -> cache.computeIfAbsent("slow", k -> {
+        counter.incrementAndGet();
+        computationStarted.countDown();
+        try {
+          releaseComputation.await(1, TimeUnit.MINUTES);
+        }
+        catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+        return 1L;
+      }));
+      assertTrue(computationStarted.await(1, TimeUnit.MINUTES));
+
+      // the same key waits for the running computation
+      Future<Long> sameKey = executor.submit(() -> cache.computeIfAbsent("slow", k -> {
+        counter.incrementAndGet();
+        return 2L;
+      }));
+
+      // other keys are not blocked
+      assertEquals(3L, cache.computeIfAbsent("fast", k -> 3L));
+      assertEquals(3L, cache.get("fast"));
+
+      releaseComputation.countDown();
+      assertEquals(1L, slow.get(1, TimeUnit.MINUTES));
+      assertEquals(1L, sameKey.get(1, TimeUnit.MINUTES));
+      assertEquals(1, counter.get());
+    }
+    finally {
+      executor.shutdownNow();
+      executor.awaitTermination(1, TimeUnit.MINUTES);
+    }
+  }
+
+  @Test
+  public void testComputeIfAbsentWithException() {
+    var cache = new TtlCache<String, Long>(1, TimeUnit.DAYS);
+    var exception = new IllegalStateException();
+    assertSame(exception, assertThrows(IllegalStateException.class, () -> cache.computeIfAbsent("a", k -> {
+      throw exception;
+    })));
+    assertNull(cache.get("a"));
+    assertEquals(0, cache.size());
+    assertEquals(2L, cache.computeIfAbsent("a", k -> 2L));
+  }
+
+  @Test
+  public void testComputeIfAbsentWithSneakyCheckedException() {
+    var cache = new TtlCache<String, Long>(1, TimeUnit.DAYS);
+    var exception = new IOException();
+    var thrown = assertThrows(Throwable.class, () -> cache.computeIfAbsent("a", k -> sneakyThrow(exception)));
+    assertSame(exception, thrown);
+    assertNull(cache.get("a")); // the failed computation is not waited for
+    assertEquals(0, cache.size());
+    assertEquals(2L, cache.computeIfAbsent("a", k -> 2L));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <R, E extends Throwable> R sneakyThrow(Throwable t) throws E {
+    throw (E) t;
+  }
+
+  @Test
+  public void testRecursiveComputation() {
+    var cache = new TtlCache<String, Long>(1, TimeUnit.DAYS);
+    assertThrows(IllegalStateException.class, () -> cache.computeIfAbsent("a", k -> cache.computeIfAbsent("a", k2 -> 1L)));
+    assertEquals(2L, cache.computeIfAbsent("b", k -> cache.computeIfAbsent("c", k2 -> 2L)));
+  }
+
+  @Test
+  public void testMaxSizeAndStatistics() {
+    var cache = new TtlCache<String, Long>(-1, TimeUnit.DAYS, null, 2);
+    cache.computeIfAbsent("a", k -> 1L);
+    cache.computeIfAbsent("b", k -> 2L);
+    cache.computeIfAbsent("a", k -> 3L); // hit: "a" is now the most recently used
+    cache.computeIfAbsent("c", k -> 4L); // evicts "b"
+
+    assertEquals(2, cache.size());
+    assertEquals(1L, cache.get("a"));
+    assertNull(cache.get("b"));
+    assertEquals(4L, cache.get("c"));
+    assertEquals(1, cache.hitCount());
+    assertEquals(3, cache.missCount());
+    assertEquals(1, cache.evictionCount());
+    assertEquals(0.25, cache.hitRate());
+
+    cache.resetStatistics();
+    assertEquals(0, cache.hitCount());
+    assertEquals(0, cache.missCount());
+    assertEquals(0, cache.evictionCount());
+    assertEquals(0.0, cache.hitRate());
+  }
 }
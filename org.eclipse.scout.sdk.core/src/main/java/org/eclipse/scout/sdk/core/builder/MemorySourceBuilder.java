@@ -9,18 +9,25 @@
  */
 package org.eclipse.scout.sdk.core.builder;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.eclipse.scout.sdk.core.util.Ensure;
 
 /**
  * <h3>{@link MemorySourceBuilder}</h3>
  * <p>
  * A {@link ISourceBuilder} that collects the source in memory using a {@link StringBuilder}.
+ * <p>
+ * Content that is only known after subsequent source has been appended (e.g. import declarations) can be written into
+ * a {@link Slot} reserved at the current position (see {@link #reserveSlot()}).
  *
  * @since 6.1.0
  */
 public class MemorySourceBuilder extends AbstractSourceBuilder<MemorySourceBuilder> {
 
   private final StringBuilder m_builder;
+  private List<Slot> m_openSlots; // created on first use
 
   protected MemorySourceBuilder(IBuilderContext context) {
     super(context);
@@ -109,8 +116,79 @@ public class MemorySourceBuilder extends AbstractSourceBuilder<MemorySourceBuild
     return thisInstance();
   }
 
+  /**
+   * Reserves a {@link Slot} at the current end of the source. The content of the slot can be provided later using
+   * {@link Slot#fill(CharSequence)} after more source has been appended to this builder.
+   * <p>
+   * The slot is empty until it is filled. Therefore, the content of the slot is not part of the {@link #source()} before.
+   * The source must not be modified directly before the position of the slot while it is open.
+   *
+   * @return The new {@link Slot}.
+   * @since 13.0
+   */
+  public Slot reserveSlot() {
+    if (m_openSlots == null) {
+      m_openSlots = new ArrayList<>(2);
+    }
+    var slot = new Slot(this, source().length());
+    m_openSlots.add(slot);
+    return slot;
+  }
+
+  protected void fill(Slot slot, CharSequence content) {
+    var index = m_openSlots == null ? -1 : m_openSlots.indexOf(slot);
+    Ensure.isTrue(index >= 0, "Slot has already been filled.");
+    m_openSlots.remove(index);
+    if (content.length() < 1) {
+      return;
+    }
+    source().insert(slot.m_offset, content);
+
+    // move the slots behind the inserted content. Slots at the same offset reserved later are behind as well.
+    for (var i = 0; i < m_openSlots.size(); i++) {
+      var other = m_openSlots.get(i);
+      if (other.m_offset > slot.m_offset || (other.m_offset == slot.m_offset && i >= index)) {
+        other.m_offset += content.length();
+      }
+    }
+  }
+
   @Override
   public String toString() {
     return source().toString();
   }
+
+  /**
+   * A position in the source of a {@link MemorySourceBuilder} whose content is provided later.
+   *
+   * @since 13.0
+   */
+  public static final class Slot {
+    private final MemorySourceBuilder m_owner;
+    private int m_offset;
+
+    private Slot(MemorySourceBuilder owner, int offset) {
+      m_owner = owner;
+      m_offset = offset;
+    }
+
+    /**
+     * @return The current position of this {@link Slot} in the source of the owning {@link MemorySourceBuilder}.
+     */
+    public int offset() {
+      return m_offset;
+    }
+
+    /**
+     * Inserts the given content at the position of this {@link Slot}. A slot can only be filled once.
+     *
+     * @param content
+     *          The content to insert. Must not be {@code null}.
+     * @throws IllegalArgumentException
+     *           if the content is {@code null} or this slot has already been filled.
+     */
+    public void fill(CharSequence content) {
+      m_owner.fill(this, Ensure.notNull(content));
+    }
+  }
 }
@@ -9,32 +9,20 @@
  */
 package org.eclipse.scout.sdk.core.generator.properties;
 
-import static java.lang.System.lineSeparator;
-import static org.eclipse.scout.sdk.core.util.Strings.fromInputStream;
-import static org.eclipse.scout.sdk.core.util.Strings.toCharArray;
-
-import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
-import java.io.CharArrayReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Properties;
-import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.builder.ISourceBuilder;
 import org.eclipse.scout.sdk.core.generator.ISourceGenerator;
-import org.eclipse.scout.sdk.core.util.SdkException;
-import org.eclipse.scout.sdk.core.util.Strings;
+import org.eclipse.scout.sdk.core.generator.properties.PropertiesParser.ParsedProperties;
 
 /**
  * Generator to create .properties files. It supports header comments.
@@ -46,9 +34,9 @@ public class PropertiesGenerator implements ISourceGenerator<ISourceBuilder<?>>
    * format.
    */
   public static final Charset ENCODING = StandardCharsets.ISO_8859_1;
-  private static final Pattern LINE_SEPARATOR_REGEX = Pattern.compile(lineSeparator());
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
 
-  private final Map<String, String> m_properties = new HashMap<>();
+  private Map<String, String> m_properties;
   private final List<String> m_headerLines = new ArrayList<>();
 
   /**
@@ -94,7 +82,31 @@ public class PropertiesGenerator implements ISourceGenerator<ISourceBuilder<?>>
     return result;
   }
 
+  /**
+   * Creates a new {@link PropertiesGenerator} pre-filled with the properties and header lines from the content given.
+   *
+   * @param content
+   *          The content in the .properties file format. Must not be {@code null}.
+   * @return A new {@link PropertiesGenerator} with the given content.
+   */
+  public static PropertiesGenerator create(CharSequence content) {
+    return create(PropertiesParser.parse(content));
+  }
+
+  /**
+   * Creates a new {@link PropertiesGenerator} pre-filled with the properties and header lines of the
+   * {@link ParsedProperties} given. The property map is not copied but used directly by the new generator.
+   *
+   * @param parsed
+   *          The {@link ParsedProperties} as returned by the {@link PropertiesParser}. Must not be {@code null}.
+   * @return A new {@link PropertiesGenerator} with the given content.
+   */
+  public static PropertiesGenerator create(ParsedProperties parsed) {
+    return new PropertiesGenerator(null, null).load(parsed);
+  }
+
   protected PropertiesGenerator(Map<String, String> properties, Collection<String> headerLines) {
+    m_properties = new PropertiesMap(properties == null ? 0 : properties.size());
     if (properties != null) {
       m_properties.putAll(properties);
     }
@@ -113,13 +125,21 @@ public class PropertiesGenerator implements ISourceGenerator<ISourceBuilder<?>>
    * @throws IOException
    */
   public PropertiesGenerator load(InputStream input) throws IOException {
-    var content = toCharArray(fromInputStream(input, ENCODING));
-    try (var reader = new BufferedReader(new CharArrayReader(content))) {
-      readHeaderLines(reader);
-    }
-    try (var reader = new CharArrayReader(content)) {
-      readProperties(reader);
-    }
+    return load(PropertiesParser.parse(input));
+  }
+
+  /**
+   * Loads this generator with the properties and header lines of the {@link ParsedProperties} given.<br>
+   * All existing content is replaced. The property map is not copied but used directly by this generator.
+   *
+   * @param parsed
+   *          The {@link ParsedProperties} as returned by the {@link PropertiesParser}. Must not be {@code null}.
+   * @return This generator.
+   */
+  protected PropertiesGenerator load(ParsedProperties parsed) {
+    m_properties = parsed.properties();
+    m_headerLines.clear();
+    m_headerLines.addAll(parsed.headerLines());
     return this;
   }
 
@@ -146,52 +166,81 @@ public class PropertiesGenerator implements ISourceGenerator<ISourceBuilder<?>>
   }
 
   protected Stream<String> getAsPropertiesEncodedLines() {
-    var prop = new Properties();
-    prop.putAll(m_properties);
-
-    String content;
-    try (var out = new ByteArrayOutputStream()) {
-      prop.store(out, null);
-      content = out.toString(ENCODING);
-    }
-    catch (IOException e) {
-      throw new SdkException("Error encoding properties", e);
-    }
-
-    return LINE_SEPARATOR_REGEX.splitAsStream(content)
-        .filter(line -> !isComment(line));
+    return toPropertiesEncodedLines(m_properties);
   }
 
-  private static boolean isComment(CharSequence line) {
-    return line.charAt(0) == '#' || line.charAt(0) == '!';
+  /**
+   * Encodes a single property as it would be written by this generator.
+   *
+   * @param key
+   *          The key of the property. Must not be {@code null}.
+   * @param value
+   *          The value of the property. Must not be {@code null}.
+   * @return The encoded line without line separator.
+   */
+  public static String encodeLine(String key, String value) {
+    var result = new StringBuilder(key.length() + value.length() + 16);
+    encode(key, true, result);
+    result.append('=');
+    encode(value, false, result);
+    return result.toString();
   }
 
-  private void readHeaderLines(BufferedReader reader) throws IOException {
-    String line;
-    m_headerLines.clear();
-    while ((line = reader.readLine()) != null) {
-      var lineTrimmed = Strings.trim(line);
-      if (Strings.isEmpty(lineTrimmed)) {
-        m_headerLines.add(line);
-      }
-      else if (isComment(lineTrimmed)) {
-        m_headerLines.add(line);
-      }
-      else {
-        return;
-      }
-    }
+  private static Stream<String> toPropertiesEncodedLines(Map<String, String> properties) {
+    return properties.entrySet().stream()
+        .map(entry -> encodeLine(entry.getKey(), entry.getValue()));
   }
 
-  private void readProperties(Reader reader) throws IOException {
-    var props = new Properties();
-    props.load(reader);
-    m_properties.clear();
-    for (var entry : props.entrySet()) {
-      var key = entry.getKey();
-      var value = entry.getValue();
-      if (key instanceof String && value instanceof String) {
-        m_properties.put((String) key, (String) value);
+  /**
+   * Escapes the given key or value in the same way as {@link java.util.Properties#store(java.io.OutputStream, String)}
+   * does.
+   */
+  private static void encode(CharSequence s, boolean escapeSpace, StringBuilder out) {
+    for (var i = 0; i < s.length(); i++) {
+      var c = s.charAt(i);
+      if (c > 61 && c < 127) {
+        if (c == '\\') {
+          out.append('\\');
+        }
+        out.append(c);
+        continue;
+      }
+      switch (c) {
+        case ' ':
+          if (i == 0 || escapeSpace) {
+            out.append('\\');
+          }
+          out.append(' ');
+          break;
+        case '\t':
+          out.append("\\t");
+          break;
+        case '\n':
+          out.append("\\n");
+          break;
+        case '\r':
+          out.append("\\r");
+          break;
+        case '\f':
+          out.append("\\f");
+          break;
+        case '=':
+        case ':':
+        case '#':
+        case '!':
+          out.append('\\').append(c);
+          break;
+        default:
+          if (c < 0x0020 || c > 0x007e) {
+            out.append("\\u")
+                .append(HEX_DIGITS[(c >> 12) & 0xF])
+                .append(HEX_DIGITS[(c >> 8) & 0xF])
+                .append(HEX_DIGITS[(c >> 4) & 0xF])
+                .append(HEX_DIGITS[c & 0xF]);
+          }
+          else {
+            out.append(c);
+          }
       }
     }
   }
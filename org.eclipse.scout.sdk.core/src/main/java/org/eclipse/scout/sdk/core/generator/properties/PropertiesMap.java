@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.generator.properties;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * <h3>{@link PropertiesMap}</h3>
+ * <p>
+ * Compact {@link Map} for the key-value pairs of a .properties file. The keys and values are stored in two arrays using
+ * open addressing with linear probing. Compared to a {@link java.util.HashMap} no node object is allocated per entry.
+ * <p>
+ * {@code null} keys are not supported. This class is not thread safe.
+ *
+ * @since 13.0
+ */
+public class PropertiesMap extends AbstractMap<String, String> {
+
+  @SuppressWarnings("StringOperationCanBeSimplified")
+  private static final String REMOVED = new String("<removed>"); // marker of removed slots. compared by identity.
+  private static final int MIN_CAPACITY = 16;
+
+  private String[] m_keys;
+  private String[] m_values;
+  private int m_size;
+  private int m_used; // number of slots in use (including the removed ones)
+  private int m_modCount;
+  private EntrySet m_entrySet;
+
+  public PropertiesMap() {
+    this(0);
+  }
+
+  /**
+   * @param expectedSize
+   *          The number of entries expected. The map is sized so that this number of entries can be added without
+   *          growing.
+   */
+  public PropertiesMap(int expectedSize) {
+    allocate(capacityFor(expectedSize));
+  }
+
+  private static int capacityFor(int size) {
+    var capacity = MIN_CAPACITY;
+    while (capacity * 3L / 4 <= size) { // max load factor of 0.75
+      capacity <<= 1;
+    }
+    return capacity;
+  }
+
+  private void allocate(int capacity) {
+    m_keys = new String[capacity];
+    m_values = new String[capacity];
+    m_used = 0;
+    m_size = 0;
+  }
+
+  private static int spread(int h) {
+    return h ^ (h >>> 16);
+  }
+
+  private int indexOf(Object key) {
+    if (!(key instanceof String)) {
+      return -1;
+    }
+    var keys = m_keys;
+    var mask = keys.length - 1;
+    var i = spread(key.hashCode()) & mask;
+    while (true) {
+      var candidate = keys[i];
+      if (candidate == null) {
+        return -1;
+      }
+      if (candidate != REMOVED && candidate.equals(key)) {
+        return i;
+      }
+      i = (i + 1) & mask;
+    }
+  }
+
+  @Override
+  public int size() {
+    return m_size;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public String get(Object key) {
+    var index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    return m_values[index];
+  }
+
+  @Override
+  public String put(String key, String value) {
+    Objects.requireNonNull(key);
+    var keys = m_keys;
+    var mask = keys.length - 1;
+    var i = spread(key.hashCode()) & mask;
+    var firstRemoved = -1;
+    while (true) {
+      var candidate = keys[i];
+      if (candidate == null) {
+        break;
+      }
+      if (candidate == REMOVED) {
+        if (firstRemoved < 0) {
+          firstRemoved = i;
+        }
+      }
+      else if (candidate.equals(key)) {
+        var old = m_values[i];
+        m_values[i] = value;
+        return old;
+      }
+      i = (i + 1) & mask;
+    }
+
+    if (firstRemoved >= 0) {
+      i = firstRemoved; // reuse the removed slot
+    }
+    else {
+      if ((m_used + 1) * 4L > keys.length * 3L) {
+        rehash(capacityFor(m_size + 1));
+        return put(key, value);
+      }
+      m_used++;
+    }
+    keys[i] = key;
+    m_values[i] = value;
+    m_size++;
+    m_modCount++;
+    return null;
+  }
+
+  private void rehash(int newCapacity) {
+    var oldKeys = m_keys;
+    var oldValues = m_values;
+    allocate(newCapacity);
+    var mask = newCapacity - 1;
+    for (var i = 0; i < oldKeys.length; i++) {
+      var key = oldKeys[i];
+      if (key == null || key == REMOVED) {
+        continue;
+      }
+      var j = spread(key.hashCode()) & mask;
+      while (m_keys[j] != null) {
+        j = (j + 1) & mask;
+      }
+      m_keys[j] = key;
+      m_values[j] = oldValues[i];
+    }
+    m_size = m_used = count(m_keys);
+    m_modCount++;
+  }
+
+  private static int count(String[] keys) {
+    var result = 0;
+    for (var key : keys) {
+      if (key != null) {
+        result++;
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public String remove(Object key) {
+    var index = indexOf(key);
+    if (index < 0) {
+      return null;
+    }
+    return removeAt(index);
+  }
+
+  private String removeAt(int index) {
+    var old = m_values[index];
+    m_keys[index] = REMOVED;
+    m_values[index] = null;
+    m_size--;
+    m_modCount++;
+    if (m_size == 0) {
+      // no more entries: all slots can be reused
+      Arrays.fill(m_keys, null);
+      m_used = 0;
+    }
+    return old;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(m_keys, null);
+    Arrays.fill(m_values, null);
+    m_size = 0;
+    m_used = 0;
+    m_modCount++;
+  }
+
+  @Override
+  public Set<Entry<String, String>> entrySet() {
+    var entrySet = m_entrySet;
+    if (entrySet == null) {
+      entrySet = new EntrySet();
+      m_entrySet = entrySet;
+    }
+    return entrySet;
+  }
+
+  private final class EntrySet extends AbstractSet<Entry<String, String>> {
+    @Override
+    public Iterator<Entry<String, String>> iterator() {
+      return new EntryIterator();
+    }
+
+    @Override
+    public int size() {
+      return m_size;
+    }
+
+    @Override
+    public void clear() {
+      PropertiesMap.this.clear();
+    }
+  }
+
+  private final class EntryIterator implements Iterator<Entry<String, String>> {
+    private int m_next;
+    private int m_current = -1;
+    private int m_expectedModCount = m_modCount;
+
+    private EntryIterator() {
+      m_next = advance(0);
+    }
+
+    private int advance(int from) {
+      var keys = m_keys;
+      var i = from;
+      while (i < keys.length && (keys[i] == null || keys[i] == REMOVED)) {
+        i++;
+      }
+      return i;
+    }
+
+    @Override
+    public boolean hasNext() {
+      return m_next < m_keys.length;
+    }
+
+    @Override
+    public Entry<String, String> next() {
+      if (m_modCount != m_expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      m_current = m_next;
+      m_next = advance(m_next + 1);
+      return new MapEntry(m_current);
+    }
+
+    @Override
+    public void remove() {
+      if (m_current < 0) {
+        throw new IllegalStateException();
+      }
+      if (m_modCount != m_expectedModCount) {
+        throw new ConcurrentModificationException();
+      }
+      var wasLast = m_size == 1;
+      removeAt(m_current);
+      m_current = -1;
+      m_expectedModCount = m_modCount;
+      if (wasLast) {
+        m_next = m_keys.length;
+      }
+    }
+  }
+
+  private final class MapEntry implements Entry<String, String> {
+    private final int m_index;
+    private final String m_key;
+
+    private MapEntry(int index) {
+      m_index = index;
+      m_key = m_keys[index];
+    }
+
+    @Override
+    public String getKey() {
+      return m_key;
+    }
+
+    @Override
+    public String getValue() {
+      if (m_keys[m_index] == m_key) {
+        return m_values[m_index];
+      }
+      return get(m_key); // the map has been modified in the meantime
+    }
+
+    @Override
+    public String setValue(String value) {
+      if (m_keys[m_index] == m_key) {
+        var old = m_values[m_index];
+        m_values[m_index] = value;
+        return old;
+      }
+      return put(m_key, value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof Entry)) {
+        return false;
+      }
+      var e = (Entry<?, ?>) o;
+      return Objects.equals(m_key, e.getKey()) && Objects.equals(getValue(), e.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hashCode(m_key) ^ Objects.hashCode(getValue());
+    }
+
+    @Override
+    public String toString() {
+      return m_key + '=' + getValue();
+    }
+  }
+}
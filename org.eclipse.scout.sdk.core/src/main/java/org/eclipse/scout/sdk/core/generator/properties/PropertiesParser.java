@@ -0,0 +1,437 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.generator.properties;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.scout.sdk.core.util.Ensure;
+import org.eclipse.scout.sdk.core.util.Strings;
+
+/**
+ * <h3>{@link PropertiesParser}</h3>
+ * <p>
+ * Streaming parser for the .properties file format as specified by {@link java.util.Properties#load(Reader)}. In
+ * contrast to {@link java.util.Properties} the content is read in a single pass without synchronization and the
+ * key-value pairs are directly stored in a compact {@link PropertiesMap}. While reading, the header lines (as used by
+ * the {@link PropertiesGenerator}) are collected and a hash of the raw content is computed which can be used to detect
+ * changes of the file without comparing the properties.
+ * <p>
+ * The parse methods may be called concurrently from several threads (e.g. to read all language files of a translation
+ * store in parallel). Each call uses its own buffers.
+ *
+ * @since 13.0
+ */
+public final class PropertiesParser {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+  private static final int BUFFER_SIZE = 8192;
+
+  private final InputStream m_in;
+  private final Reader m_reader;
+  private final byte[] m_bytes;
+  private final char[] m_buf;
+  private final PropertiesMap m_properties;
+  private final List<String> m_headerLines;
+
+  private int m_pos;
+  private int m_limit;
+  private boolean m_skipLf;
+  private long m_hash;
+
+  private char[] m_physicalLine; // the current physical line (without line separator)
+  private int m_physicalLineLength;
+  private char[] m_line; // the current logical line (continuations joined)
+  private int m_lineLength;
+  private char[] m_convertBuffer;
+
+  private PropertiesParser(InputStream in, Reader reader, char[] content, int length) {
+    m_in = in;
+    m_reader = reader;
+    m_bytes = in == null ? null : new byte[BUFFER_SIZE];
+    m_buf = content == null ? new char[BUFFER_SIZE] : content;
+    m_limit = content == null ? 0 : length;
+    m_hash = hash(FNV_OFFSET_BASIS, m_buf, 0, m_limit);
+    m_properties = new PropertiesMap();
+    m_headerLines = new ArrayList<>();
+    m_physicalLine = new char[128];
+    m_line = new char[128];
+    m_convertBuffer = new char[128];
+  }
+
+  /**
+   * Parses the {@link InputStream} given. The bytes are decoded using {@link PropertiesGenerator#ENCODING}.
+   *
+   * @param in
+   *          The {@link InputStream} in the .properties file format. Must not be {@code null}. The stream is not
+   *          closed.
+   * @return The {@link ParsedProperties} holding the content of the stream.
+   * @throws IOException
+   *           if there is an error reading from the stream.
+   * @throws IllegalArgumentException
+   *           if the content contains a malformed unicode escape sequence.
+   */
+  public static ParsedProperties parse(InputStream in) throws IOException {
+    return new PropertiesParser(Ensure.notNull(in), null, null, 0).parse();
+  }
+
+  /**
+   * Parses the {@link Reader} given.
+   *
+   * @param reader
+   *          The {@link Reader} providing the content in the .properties file format. Must not be {@code null}. The
+   *          reader is not closed.
+   * @return The {@link ParsedProperties} holding the content of the reader.
+   * @throws IOException
+   *           if there is an error reading from the reader.
+   * @throws IllegalArgumentException
+   *           if the content contains a malformed unicode escape sequence.
+   */
+  public static ParsedProperties parse(Reader reader) throws IOException {
+    return new PropertiesParser(null, Ensure.notNull(reader), null, 0).parse();
+  }
+
+  /**
+   * Parses the content given.
+   *
+   * @param content
+   *          The content in the .properties file format. Must not be {@code null}.
+   * @return The {@link ParsedProperties} of the content.
+   * @throws IllegalArgumentException
+   *           if the content contains a malformed unicode escape sequence.
+   */
+  public static ParsedProperties parse(CharSequence content) {
+    var chars = Strings.toCharArray(Ensure.notNull(content));
+    try {
+      return new PropertiesParser(null, null, chars, chars.length).parse();
+    }
+    catch (IOException e) {
+      throw new IllegalStateException(e); // cannot happen: no I/O involved
+    }
+  }
+
+  private ParsedProperties parse() throws IOException {
+    var isHeader = true;
+    while (readPhysicalLine()) {
+      if (isHeader) {
+        isHeader = isHeaderLine(m_physicalLine, m_physicalLineLength);
+        if (isHeader) {
+          m_headerLines.add(new String(m_physicalLine, 0, m_physicalLineLength));
+        }
+      }
+
+      var start = skipWhitespace(m_physicalLine, 0, m_physicalLineLength);
+      if (m_lineLength == 0) {
+        // start of a new logical line
+        if (start >= m_physicalLineLength) {
+          continue; // blank line
+        }
+        var first = m_physicalLine[start];
+        if (first == '#' || first == '!') {
+          continue; // comments cannot be continued
+        }
+      }
+
+      appendToLine(start);
+      if (endsWithContinuation()) {
+        m_lineLength--; // remove the backslash and append the next line
+        continue;
+      }
+      if (m_lineLength > 0) {
+        parseKeyValue();
+      }
+      m_lineLength = 0;
+    }
+    if (m_lineLength > 0) {
+      parseKeyValue(); // last line ends with a continuation
+    }
+    return new ParsedProperties(m_properties, unmodifiableList(m_headerLines), m_hash);
+  }
+
+  private void parseKeyValue() {
+    var line = m_line;
+    var limit = m_lineLength;
+    var keyLength = 0;
+    var valueStart = limit;
+    var hasSeparator = false;
+    var precedingBackslash = false;
+    while (keyLength < limit) {
+      var c = line[keyLength];
+      if (!precedingBackslash) {
+        if (c == '=' || c == ':') {
+          valueStart = keyLength + 1;
+          hasSeparator = true;
+          break;
+        }
+        if (isWhitespace(c)) {
+          valueStart = keyLength + 1;
+          break;
+        }
+      }
+      precedingBackslash = c == '\\' && !precedingBackslash;
+      keyLength++;
+    }
+    while (valueStart < limit) {
+      var c = line[valueStart];
+      if (!isWhitespace(c)) {
+        if (!hasSeparator && (c == '=' || c == ':')) {
+          hasSeparator = true;
+        }
+        else {
+          break;
+        }
+      }
+      valueStart++;
+    }
+
+    var key = convert(line, 0, keyLength);
+    var value = convert(line, valueStart, limit - valueStart);
+    m_properties.put(key, value);
+  }
+
+  /**
+   * Resolves the escape sequences in the given range (as done by {@link java.util.Properties}).
+   */
+  private String convert(char[] in, int offset, int length) {
+    var end = offset + length;
+    var firstBackslash = -1;
+    for (var i = offset; i < end; i++) {
+      if (in[i] == '\\') {
+        firstBackslash = i;
+        break;
+      }
+    }
+    if (firstBackslash < 0) {
+      return new String(in, offset, length); // fast path: nothing to convert
+    }
+
+    if (m_convertBuffer.length < length) {
+      m_convertBuffer = new char[length];
+    }
+    var out = m_convertBuffer;
+    var outLength = firstBackslash - offset;
+    System.arraycopy(in, offset, out, 0, outLength);
+    var i = firstBackslash;
+    while (i < end) {
+      var c = in[i++];
+      if (c == '\\' && i < end) {
+        c = in[i++];
+        switch (c) {
+          case 'u':
+            if (i > end - 4) {
+              throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+            }
+            var value = 0;
+            for (var j = 0; j < 4; j++) {
+              var digit = Character.digit(in[i++], 16);
+              if (digit < 0) {
+                throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+              }
+              value = (value << 4) | digit;
+            }
+            c = (char) value;
+            break;
+          case 't':
+            c = '\t';
+            break;
+          case 'r':
+            c = '\r';
+            break;
+          case 'n':
+            c = '\n';
+            break;
+          case 'f':
+            c = '\f';
+            break;
+          default:
+            break;
+        }
+      }
+      out[outLength++] = c;
+    }
+    return new String(out, 0, outLength);
+  }
+
+  private boolean endsWithContinuation() {
+    var numBackslashes = 0;
+    for (var i = m_lineLength - 1; i >= 0 && m_line[i] == '\\'; i--) {
+      numBackslashes++;
+    }
+    return numBackslashes % 2 == 1;
+  }
+
+  private void appendToLine(int start) {
+    var length = m_physicalLineLength - start;
+    var required = m_lineLength + length;
+    if (required > m_line.length) {
+      m_line = Arrays.copyOf(m_line, Math.max(required, m_line.length * 2));
+    }
+    System.arraycopy(m_physicalLine, start, m_line, m_lineLength, length);
+    m_lineLength = required;
+  }
+
+  /**
+   * Reads the next physical line into {@link #m_physicalLine}. Lines are terminated by {@code \n}, {@code \r} or
+   * {@code \r\n}.
+   *
+   * @return {@code false} if the end of the input has been reached.
+   */
+  private boolean readPhysicalLine() throws IOException {
+    m_physicalLineLength = 0;
+    while (true) {
+      if (m_pos >= m_limit && !fill()) {
+        return m_physicalLineLength > 0;
+      }
+
+      var buf = m_buf;
+      var limit = m_limit;
+      var pos = m_pos;
+      if (m_skipLf) {
+        m_skipLf = false;
+        if (buf[pos] == '\n') {
+          pos++;
+        }
+      }
+
+      var start = pos;
+      while (pos < limit) {
+        var c = buf[pos];
+        if (c == '\n' || c == '\r') {
+          appendToPhysicalLine(start, pos);
+          m_skipLf = c == '\r';
+          m_pos = pos + 1;
+          return true;
+        }
+        pos++;
+      }
+      appendToPhysicalLine(start, pos);
+      m_pos = pos;
+    }
+  }
+
+  private void appendToPhysicalLine(int start, int end) {
+    var length = end - start;
+    var required = m_physicalLineLength + length;
+    if (required > m_physicalLine.length) {
+      m_physicalLine = Arrays.copyOf(m_physicalLine, Math.max(required, m_physicalLine.length * 2));
+    }
+    System.arraycopy(m_buf, start, m_physicalLine, m_physicalLineLength, length);
+    m_physicalLineLength = required;
+  }
+
+  /**
+   * Reads the next chunk of the input into {@link #m_buf} and updates the content hash.
+   *
+   * @return {@code false} if the end of the input has been reached.
+   */
+  private boolean fill() throws IOException {
+    int numRead;
+    if (m_in != null) {
+      numRead = m_in.read(m_bytes);
+      for (var i = 0; i < numRead; i++) {
+        m_buf[i] = (char) (m_bytes[i] & 0xff); // ISO-8859-1
+      }
+    }
+    else if (m_reader != null) {
+      numRead = m_reader.read(m_buf);
+    }
+    else {
+      numRead = -1; // content already completely in the buffer
+    }
+
+    m_pos = 0;
+    if (numRead <= 0) {
+      m_limit = 0;
+      return false;
+    }
+    m_limit = numRead;
+    m_hash = hash(m_hash, m_buf, 0, numRead);
+    return true;
+  }
+
+  private static long hash(long seed, char[] chars, int start, int end) {
+    var h = seed;
+    for (var i = start; i < end; i++) {
+      h ^= chars[i];
+      h *= FNV_PRIME;
+    }
+    return h;
+  }
+
+  /**
+   * Same as the {@link PropertiesGenerator}: blank lines and comments at the beginning of the content.
+   */
+  private static boolean isHeaderLine(char[] line, int length) {
+    for (var i = 0; i < length; i++) {
+      var c = line[i];
+      //noinspection CharacterComparison
+      if (c > ' ' && !Character.isWhitespace(c)) {
+        return c == '#' || c == '!';
+      }
+    }
+    return true;
+  }
+
+  private static int skipWhitespace(char[] line, int start, int end) {
+    var i = start;
+    while (i < end && isWhitespace(line[i])) {
+      i++;
+    }
+    return i;
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\f';
+  }
+
+  /**
+   * The result of a {@link PropertiesParser} run.
+   */
+  public static final class ParsedProperties {
+    private final Map<String, String> m_properties;
+    private final List<String> m_headerLines;
+    private final long m_contentHash;
+
+    private ParsedProperties(Map<String, String> properties, List<String> headerLines, long contentHash) {
+      m_properties = properties;
+      m_headerLines = headerLines;
+      m_contentHash = contentHash;
+    }
+
+    /**
+     * @return The key-value pairs read. The resulting {@link Map} may be modified.
+     */
+    public Map<String, String> properties() {
+      return m_properties;
+    }
+
+    /**
+     * @return The leading blank and comment lines of the content. The resulting {@link List} is unmodifiable.
+     */
+    public List<String> headerLines() {
+      return m_headerLines;
+    }
+
+    /**
+     * @return A 64-bit hash (FNV-1a) of all characters read. Equal contents always have the same hash.
+     */
+    public long contentHash() {
+      return m_contentHash;
+    }
+  }
+}
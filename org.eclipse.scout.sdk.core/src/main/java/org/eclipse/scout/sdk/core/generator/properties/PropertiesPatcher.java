@@ -0,0 +1,302 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.generator.properties;
+
+import static java.lang.System.lineSeparator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link PropertiesPatcher}</h3>
+ * <p>
+ * Applies changes of single properties to the existing content of a .properties file. In contrast to a complete
+ * regeneration using the {@link PropertiesGenerator} only the lines of the changed keys are touched. All other lines
+ * including comments, blank lines and the order of the properties are preserved.
+ * <p>
+ * New properties are inserted before the first existing property with a greater key (in the order used by the
+ * {@link PropertiesGenerator}). Therefore, sorted files remain sorted.
+ *
+ * @since 13.0
+ */
+public final class PropertiesPatcher {
+
+  private PropertiesPatcher() {
+  }
+
+  /**
+   * Applies the changed properties to the content given.
+   *
+   * @param content
+   *          The current content of the .properties file (decoded using {@link PropertiesGenerator#ENCODING}). Must not
+   *          be {@code null}.
+   * @param properties
+   *          The new properties. Keys that are not part of the changed keys are ignored. Must not be {@code null}.
+   * @param changedKeys
+   *          The keys whose value changed. If a key is not part of the properties given, its line is removed. Must not
+   *          be {@code null}.
+   * @return The patched content or an empty {@link Optional} if the content cannot be patched reliably (e.g. because
+   *         a key is present multiple times). In that case the file should be regenerated completely.
+   */
+  public static Optional<String> patch(CharSequence content, Map<String, String> properties, Set<String> changedKeys) {
+    Ensure.notNull(properties);
+    var entries = parseEntries(Ensure.notNull(content));
+
+    var keysInFile = new HashSet<String>(entries.size());
+    for (var entry : entries) {
+      if (!keysInFile.add(entry.m_key)) {
+        return Optional.empty(); // duplicate key
+      }
+    }
+
+    var added = new TreeSet<String>(PropertiesPatcher::compareKeys);
+    for (var key : changedKeys) {
+      if (!keysInFile.contains(key) && properties.get(key) != null) {
+        added.add(key);
+      }
+    }
+
+    var lineSeparator = detectLineSeparator(content);
+    var result = new StringBuilder(content.length() + added.size() * 64);
+    var pos = 0; // the position in the content up to which it has been copied to the result
+    var insertPos = -1; // end of the previous property
+    for (var entry : entries) {
+      if (!added.isEmpty() && compareKeys(added.first(), entry.m_key) < 0) {
+        var insertAt = insertPos < 0 ? entry.m_start : insertPos;
+        result.append(content, pos, insertAt);
+        pos = insertAt;
+        while (!added.isEmpty() && compareKeys(added.first(), entry.m_key) < 0) {
+          var key = added.pollFirst();
+          result.append(PropertiesGenerator.encodeLine(key, properties.get(key))).append(lineSeparator);
+        }
+      }
+
+      if (changedKeys.contains(entry.m_key)) {
+        result.append(content, pos, entry.m_start);
+        var newValue = properties.get(entry.m_key);
+        if (newValue != null) {
+          result.append(PropertiesGenerator.encodeLine(entry.m_key, newValue))
+              .append(content, entry.m_lineEnd, entry.m_end); // keep the original line separator
+        }
+        pos = entry.m_end;
+      }
+      insertPos = entry.m_end;
+    }
+    result.append(content, pos, content.length());
+
+    if (!added.isEmpty()) {
+      var length = result.length();
+      if (length > 0 && result.charAt(length - 1) != '\n' && result.charAt(length - 1) != '\r') {
+        result.append(lineSeparator);
+      }
+      for (var key : added) {
+        result.append(PropertiesGenerator.encodeLine(key, properties.get(key))).append(lineSeparator);
+      }
+    }
+    return Optional.of(result.toString());
+  }
+
+  /**
+   * Compares two keys in the same order as the {@link PropertiesGenerator} sorts the lines ({@code key=value}).
+   */
+  static int compareKeys(String a, String b) {
+    var length = Math.min(a.length(), b.length());
+    for (var i = 0; i < length; i++) {
+      var diff = a.charAt(i) - b.charAt(i);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    if (a.length() == b.length()) {
+      return 0;
+    }
+    // the shorter key is followed by the '=' delimiter
+    return a.length() < b.length() ? '=' - b.charAt(length) : a.charAt(length) - '=';
+  }
+
+  static String detectLineSeparator(CharSequence content) {
+    var length = content.length();
+    for (var i = 0; i < length; i++) {
+      var c = content.charAt(i);
+      if (c == '\n') {
+        return "\n";
+      }
+      if (c == '\r') {
+        return i + 1 < length && content.charAt(i + 1) == '\n' ? "\r\n" : "\r";
+      }
+    }
+    return lineSeparator();
+  }
+
+  /**
+   * Parses the logical lines of the content given (as specified by {@link java.util.Properties#load(java.io.Reader)})
+   * and returns the key and range of each property.
+   */
+  static List<PropertyEntry> parseEntries(CharSequence content) {
+    var result = new ArrayList<PropertyEntry>();
+    var length = content.length();
+    var pos = 0;
+    while (pos < length) {
+      var start = pos;
+      var i = skipWhitespace(content, pos);
+      if (i >= length) {
+        break;
+      }
+      var c = content.charAt(i);
+      if (c == '\n' || c == '\r' || c == '#' || c == '!') {
+        // blank line or comment: comments cannot be continued
+        pos = nextLine(content, lineEnd(content, i));
+        continue;
+      }
+
+      // property: find the end of the logical line
+      var key = new StringBuilder();
+      var keyDone = false;
+      var lineEnd = i;
+      while (true) {
+        lineEnd = lineEnd(content, i);
+        var j = i;
+        while (!keyDone && j < lineEnd) {
+          var ch = content.charAt(j);
+          if (ch == '\\') {
+            if (j + 1 >= lineEnd) {
+              break; // line continuation
+            }
+            j = unescape(content, j + 1, lineEnd, key);
+          }
+          else if (ch == '=' || ch == ':' || isWhitespace(ch)) {
+            keyDone = true;
+          }
+          else {
+            key.append(ch);
+            j++;
+          }
+        }
+        if (!endsWithContinuation(content, i, lineEnd)) {
+          break;
+        }
+        i = nextLine(content, lineEnd);
+        if (i >= length) {
+          break;
+        }
+        i = skipWhitespace(content, i);
+      }
+      pos = nextLine(content, lineEnd);
+      result.add(new PropertyEntry(key.toString(), start, lineEnd, pos));
+    }
+    return result;
+  }
+
+  private static int unescape(CharSequence content, int pos, int lineEnd, StringBuilder key) {
+    var c = content.charAt(pos);
+    switch (c) {
+      case 'u':
+        if (pos + 4 < lineEnd) {
+          try {
+            key.append((char) Integer.parseInt(content.subSequence(pos + 1, pos + 5).toString(), 16));
+            return pos + 5;
+          }
+          catch (NumberFormatException e) {
+            // malformed: use as is
+          }
+        }
+        key.append(c);
+        return pos + 1;
+      case 't':
+        key.append('\t');
+        return pos + 1;
+      case 'n':
+        key.append('\n');
+        return pos + 1;
+      case 'r':
+        key.append('\r');
+        return pos + 1;
+      case 'f':
+        key.append('\f');
+        return pos + 1;
+      default:
+        key.append(c);
+        return pos + 1;
+    }
+  }
+
+  private static boolean endsWithContinuation(CharSequence content, int lineStart, int lineEnd) {
+    var numBackslashes = 0;
+    for (var i = lineEnd - 1; i >= lineStart && content.charAt(i) == '\\'; i--) {
+      numBackslashes++;
+    }
+    return numBackslashes % 2 == 1;
+  }
+
+  private static int skipWhitespace(CharSequence content, int pos) {
+    var length = content.length();
+    while (pos < length && isWhitespace(content.charAt(pos))) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\f';
+  }
+
+  private static int lineEnd(CharSequence content, int pos) {
+    var length = content.length();
+    while (pos < length) {
+      var c = content.charAt(pos);
+      if (c == '\n' || c == '\r') {
+        return pos;
+      }
+      pos++;
+    }
+    return length;
+  }
+
+  private static int nextLine(CharSequence content, int lineEnd) {
+    var length = content.length();
+    if (lineEnd >= length) {
+      return length;
+    }
+    if (content.charAt(lineEnd) == '\r' && lineEnd + 1 < length && content.charAt(lineEnd + 1) == '\n') {
+      return lineEnd + 2;
+    }
+    return lineEnd + 1;
+  }
+
+  static final class PropertyEntry {
+    private final String m_key;
+    private final int m_start; // start of the first line
+    private final int m_lineEnd; // end of the last line (excluding the line separator)
+    private final int m_end; // end of the last line (including the line separator)
+
+    private PropertyEntry(String key, int start, int lineEnd, int end) {
+      m_key = key;
+      m_start = start;
+      m_lineEnd = lineEnd;
+      m_end = end;
+    }
+
+    String key() {
+      return m_key;
+    }
+
+    @Override
+    public String toString() {
+      return m_key + '[' + m_start + '-' + m_end + ']';
+    }
+  }
+}
@@ -28,7 +28,7 @@ public abstract class AbstractQuery<TYPE> implements IQuery<TYPE> {
 
   @Override
   public Optional<TYPE> first() {
-    return stream().findAny();
+    return stream().findFirst();
   }
 
   @Override
@@ -38,7 +38,7 @@ public abstract class AbstractQuery<TYPE> implements IQuery<TYPE> {
 
   @Override
   public Optional<TYPE> item(int index) {
-    return stream().skip(index).findAny();
+    return stream().skip(index).findFirst();
   }
 
   @Override
@@ -13,6 +13,7 @@ import java.awt.*;
 import java.awt.datatransfer.ClipboardOwner;
 import java.awt.datatransfer.StringSelection;
 import java.io.IOException;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
@@ -408,6 +409,31 @@ public final class CoreUtils {
     }
   }
 
+  /**
+   * Gets a {@link MethodHandle} to call the given default method of an interface without virtual dispatch (like
+   * {@code Interface.super.method()}).
+   * <p>
+   * The first parameter of the handle is the receiver. The handle can be bound to an instance using
+   * {@link MethodHandle#bindTo(Object)}.
+   *
+   * @param method
+   *          The default method in the interface. Must not be {@code null}.
+   * @return The {@link MethodHandle} for the default method.
+   * @throws SdkException
+   *           if the method cannot be accessed.
+   * @since 13.0
+   */
+  public static MethodHandle defaultMethodHandle(Method method) {
+    var ifcClass = method.getDeclaringClass();
+    try {
+      return MethodHandles.lookup()
+          .findSpecial(ifcClass, method.getName(), MethodType.methodType(method.getReturnType(), method.getParameterTypes()), ifcClass);
+    }
+    catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new SdkException("Cannot access default method '{}'.", method, e);
+    }
+  }
+
   /**
    * Invokes a default method of an interface.
    * 
@@ -425,9 +451,7 @@ public final class CoreUtils {
    */
   public static Object invokeDefaultMethod(Object instance, Method method, Object[] args) {
     try {
-      var ifcClass = method.getDeclaringClass();
-      return MethodHandles.lookup()
-          .findSpecial(ifcClass, method.getName(), MethodType.methodType(method.getReturnType(), method.getParameterTypes()), ifcClass)
+      return defaultMethodHandle(method)
           .bindTo(instance)
           .invokeWithArguments(args);
     }
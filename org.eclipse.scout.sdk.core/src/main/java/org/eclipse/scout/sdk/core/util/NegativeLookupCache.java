@@ -0,0 +1,222 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * <h3>{@link NegativeLookupCache}</h3>
+ * <p>
+ * Bounded cache remembering the keys for which a lookup had no result. If the maximum size is reached, the least
+ * recently used keys are removed. The recency is approximated: all hits between two adds are treated as equally
+ * recent.
+ * <p>
+ * The hits and misses of {@link #contains(Object)} are counted so that the efficiency of the cache can be monitored.
+ * <p>
+ * This class is thread safe. Lookups do not acquire a lock so that the cache can be used from lock-free code paths.
+ *
+ * @param <K>
+ *          The key type
+ * @since 13.0
+ */
+public class NegativeLookupCache<K> {
+
+  /**
+   * The default maximum number of keys
+   */
+  public static final int DEFAULT_MAX_SIZE = 4096;
+
+  private final int m_maxSize;
+  private final Map<K, AccessTime> m_entries;
+  private final AtomicLong m_clock;
+  private final LongAdder m_hits;
+  private final LongAdder m_misses;
+
+  /**
+   * Creates a new cache with {@link #DEFAULT_MAX_SIZE}.
+   */
+  public NegativeLookupCache() {
+    this(DEFAULT_MAX_SIZE);
+  }
+
+  /**
+   * Creates a new cache.
+   *
+   * @param maxSize
+   *          The maximum number of keys in the cache. Must be > 0.
+   */
+  public NegativeLookupCache(int maxSize) {
+    Ensure.isTrue(maxSize > 0, "Invalid maximum size: {}.", maxSize);
+    m_maxSize = maxSize;
+    m_entries = new ConcurrentHashMap<>();
+    m_clock = new AtomicLong();
+    m_hits = new LongAdder();
+    m_misses = new LongAdder();
+  }
+
+  /**
+   * Checks if the given key is known to have no result.
+   *
+   * @param key
+   *          The key to check. May be {@code null}.
+   * @return {@code true} if the key has been added to this cache before (a hit). {@code false} otherwise (a miss).
+   */
+  public boolean contains(K key) {
+    var accessTime = key == null ? null : m_entries.get(key);
+    if (accessTime == null) {
+      m_misses.increment();
+      return false;
+    }
+    // approximate recency: a hit is stamped as newer than the latest add. Only read the shared clock and only write the stamp if it changed
+    var stamp = m_clock.get() + 1;
+    if (accessTime.m_value != stamp) {
+      accessTime.m_value = stamp;
+    }
+    m_hits.increment();
+    return true;
+  }
+
+  /**
+   * Remembers that the lookup for the given key had no result.
+   *
+   * @param key
+   *          The key to add. {@code null} keys are ignored.
+   */
+  public void add(K key) {
+    if (key == null) {
+      return;
+    }
+    m_entries.put(key, new AccessTime(m_clock.incrementAndGet()));
+    if (m_entries.size() > m_maxSize) {
+      evict();
+    }
+  }
+
+  /**
+   * Removes the least recently used keys so that there is space for new keys. To not scan all keys on every add, more
+   * than one key is removed for large caches.
+   * <p>
+   * The access times are copied before sorting because they are modified concurrently by {@link #contains(Object)}.
+   * Sorting on values that change during the sort violates the contract of the {@link Comparator}.
+   */
+  private synchronized void evict() {
+    var numToRemove = m_entries.size() - (m_maxSize - m_maxSize / 8);
+    if (numToRemove < 1) {
+      return; // already evicted by another thread
+    }
+    List<Map.Entry<K, Long>> snapshot = new ArrayList<>(m_entries.size());
+    m_entries.forEach((key, accessTime) -> snapshot.add(Map.entry(key, accessTime.m_value)));
+    snapshot.sort(Map.Entry.comparingByValue());
+    snapshot.stream()
+        .limit(numToRemove)
+        .map(Map.Entry::getKey)
+        .toList()
+        .forEach(m_entries::remove);
+  }
+
+  /**
+   * Removes the given key from this cache.
+   *
+   * @param key
+   *          The key to remove. May be {@code null}.
+   * @return {@code true} if the key was part of this cache.
+   */
+  public boolean remove(K key) {
+    return key != null && m_entries.remove(key) != null;
+  }
+
+  /**
+   * Removes all keys matching the given filter.
+   *
+   * @param filter
+   *          The {@link Predicate} returning {@code true} for the keys to remove. Must not be {@code null}.
+   * @return {@code true} if any key was removed.
+   */
+  public boolean removeIf(Predicate<? super K> filter) {
+    Ensure.notNull(filter);
+    return m_entries.keySet().removeIf(filter);
+  }
+
+  /**
+   * Removes all keys from the cache. The statistics are kept.
+   */
+  public void clear() {
+    m_entries.clear();
+  }
+
+  /**
+   * @return The number of keys currently in the cache.
+   */
+  public int size() {
+    return m_entries.size();
+  }
+
+  /**
+   * @return The maximum number of keys in the cache.
+   */
+  public int maxSize() {
+    return m_maxSize;
+  }
+
+  /**
+   * @return The number of calls to {@link #contains(Object)} that found the key.
+   */
+  public long hitCount() {
+    return m_hits.sum();
+  }
+
+  /**
+   * @return The number of calls to {@link #contains(Object)} that did not find the key.
+   */
+  public long missCount() {
+    return m_misses.sum();
+  }
+
+  /**
+   * @return The ratio of hits to all calls of {@link #contains(Object)} (0.0 - 1.0). If there was no call yet, 0.0 is
+   *         returned.
+   */
+  public double hitRate() {
+    var hits = hitCount();
+    var total = hits + missCount();
+    if (total == 0) {
+      return 0.0;
+    }
+    return (double) hits / total;
+  }
+
+  /**
+   * Resets the hit and miss counters.
+   */
+  public void resetStatistics() {
+    m_hits.reset();
+    m_misses.reset();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " [size=" + size() + ", hits=" + hitCount() + ", misses=" + missCount() + ']';
+  }
+
+  private static final class AccessTime {
+    private volatile long m_value;
+
+    private AccessTime(long value) {
+      m_value = value;
+    }
+  }
+}
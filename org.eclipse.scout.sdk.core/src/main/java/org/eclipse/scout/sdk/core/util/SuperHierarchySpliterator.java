@@ -10,11 +10,14 @@
 package org.eclipse.scout.sdk.core.util;
 
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Deque;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -133,7 +136,18 @@ public class SuperHierarchySpliterator<T extends ISuperHierarchyElement<T>> impl
 
   @Override
   public Spliterator<T> trySplit() {
-    return null; // no split support needed
+    if (hasCharacteristics(SIZED)) {
+      return null; // at most the start type
+    }
+    // the hierarchy can only be traversed sequentially: hand out all remaining elements as batch which can be split further
+    Collection<T> batch = new ArrayList<>();
+    //noinspection StatementWithEmptyBody
+    while (tryAdvance(batch::add)) {
+    }
+    if (batch.isEmpty()) {
+      return null;
+    }
+    return Spliterators.spliterator(batch.toArray(), DEFAULT_CHARACTERISTICS);
   }
 
   @Override
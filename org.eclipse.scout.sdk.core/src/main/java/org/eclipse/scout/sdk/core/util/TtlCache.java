@@ -9,12 +9,16 @@
  */
 package org.eclipse.scout.sdk.core.util;
 
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.eclipse.scout.sdk.core.log.SdkLog;
@@ -24,10 +28,19 @@ import org.eclipse.scout.sdk.core.log.SdkLog;
  * <p>
  * It optionally allows to asynchronously remove old items from the cache even if the cache is not accessed.
  * <p>
+ * The cache may be limited to a maximum number of items. If this size is exceeded, the least recently used item is
+ * removed.
+ * <p>
+ * Values are computed outside the lock of the cache (see {@link #computeIfAbsent(Object, Function)}). Therefore, a long
+ * running computation only blocks the callers requesting the same key.
+ * <p>
+ * The hits and misses of {@link #computeIfAbsent(Object, Function)} and the number of evicted items are counted so
+ * that the efficiency of the cache can be monitored.
+ * <p>
  * The cache allows {@code null} for keys and values.
  * <p>
  * This class is thread safe.
- * 
+ *
  * @param <K>
  *          The key type
  * @param <V>
@@ -38,7 +51,11 @@ public class TtlCache<K, V> {
   private final long m_ttl;
   private final TimeUnit m_timeUnit;
   private final ScheduledExecutorService m_executorService; // may be null
-  private final Map<K, TtlCacheEntry<V>> m_cache;
+  private final int m_maxSize; // <= 0 means unlimited
+  private final Map<K, TtlCacheEntry<V>> m_cache; // in access order. all access is synchronized
+  private final AtomicLong m_hits;
+  private final AtomicLong m_misses;
+  private final AtomicLong m_evictions;
   private ScheduledFuture<?> m_cleanupFuture; // may be null
 
   /**
@@ -56,7 +73,7 @@ public class TtlCache<K, V> {
 
   /**
    * Creates a new cache instance.
-   * 
+   *
    * @param ttl
    *          The ttl (time-to-live) for cached items. A ttl <= 0 means the items will stay in the cache forever (no
    *          ttl).
@@ -67,10 +84,34 @@ public class TtlCache<K, V> {
    *          ttl has elapsed. May be {@code null}. In that case old items are only removed on next cache access.
    */
   public TtlCache(long ttl, TimeUnit timeUnit, ScheduledExecutorService executorService) {
+    this(ttl, timeUnit, executorService, 0);
+  }
+
+  /**
+   * Creates a new cache instance.
+   *
+   * @param ttl
+   *          The ttl (time-to-live) for cached items. A ttl <= 0 means the items will stay in the cache forever (no
+   *          ttl).
+   * @param timeUnit
+   *          The {@link TimeUnit} of the ttl. Must not be {@code null}.
+   * @param executorService
+   *          An optional {@link ScheduledExecutorService}. If provided it is used to asynchronously remove items whose
+   *          ttl has elapsed. May be {@code null}. In that case old items are only removed on next cache access.
+   * @param maxSize
+   *          The maximum number of items in the cache. If exceeded, the least recently used item is removed. A value <=
+   *          0 means the size is not limited.
+   * @since 13.0
+   */
+  public TtlCache(long ttl, TimeUnit timeUnit, ScheduledExecutorService executorService, int maxSize) {
     m_timeUnit = Ensure.notNull(timeUnit);
     m_executorService = executorService;
     m_ttl = ttl;
-    m_cache = new HashMap<>();
+    m_maxSize = maxSize;
+    m_cache = new LinkedHashMap<>(16, 0.75f, true);
+    m_hits = new AtomicLong();
+    m_misses = new AtomicLong();
+    m_evictions = new AtomicLong();
   }
 
   protected static void removeInvalidEntriesOf(Map<?, ? extends TtlCacheEntry<?>> cache) {
@@ -79,6 +120,9 @@ public class TtlCache<K, V> {
 
   /**
    * Gets the item with given key from the cache.
+   * <p>
+   * If the value for the key is currently computed by {@link #computeIfAbsent(Object, Function)} in another thread,
+   * this method waits until the computation completes.
    *
    * @param key
    *          The key of the item to retrieve. May be {@code null}.
@@ -87,19 +131,30 @@ public class TtlCache<K, V> {
    */
   public V get(K key) {
     var element = withCacheExec(it -> it.get(key));
-    if (element == null) {
+    if (element == null || element.isComputedByCurrentThread()) {
       return null;
     }
-    return element.m_element;
+    try {
+      return element.value();
+    }
+    catch (RuntimeException e) {
+      SdkLog.debug("Computation of cache value for key '{}' failed.", key, e);
+      return null; // the computation failed: there is no value
+    }
   }
 
   /**
    * If the specified key is not already associated with a value, computes its value using the given mapping function
    * and enters it into this cache.
    * <p>
-   * If the mapping function throws an exception, the exception is rethrown, and no mapping is recorded.
+   * The mapping function is executed in the calling thread without holding the lock of the cache. Other threads
+   * requesting the same key wait for the computation to complete and get the same result. Requests for other keys are
+   * not blocked.
+   * <p>
+   * If the mapping function throws an exception, the exception is rethrown (also in the threads waiting for the same
+   * key), and no mapping is recorded.
    * <p>
-   * The mapping function should not modify this cache during computation.
+   * The mapping function must not compute the value of the same key recursively.
    *
    * @param key
    *          The key of the item to retrieve. May be {@code null}.
@@ -109,10 +164,42 @@ public class TtlCache<K, V> {
    *         value is {@code null}.
    * @throws IllegalArgumentException
    *           if the mappingFunction is {@code null}.
+   * @throws IllegalStateException
+   *           if the mapping function requests the value of the same key recursively.
    */
   public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
     Ensure.notNull(mappingFunction);
-    return withCacheExec(cache -> cache.computeIfAbsent(key, k -> new TtlCacheEntry<>(mappingFunction.apply(k), getTtl(), getTimeUnit())).m_element);
+    var newEntry = new TtlCacheEntry<V>(getTtl(), getTimeUnit());
+    var entry = withCacheExec(cache -> {
+      var existing = cache.get(key);
+      if (existing != null) {
+        return existing;
+      }
+      cache.put(key, newEntry);
+      evictIfNecessary(cache);
+      return newEntry;
+    });
+
+    if (entry != newEntry) {
+      m_hits.incrementAndGet();
+      if (entry.isComputedByCurrentThread()) {
+        throw new IllegalStateException("Recursive computation of cache value for key '" + key + "'.");
+      }
+      return entry.value();
+    }
+
+    m_misses.incrementAndGet();
+    try {
+      V value = mappingFunction.apply(key);
+      newEntry.complete(value);
+      return value;
+    }
+    catch (Throwable e) {
+      // also checked exceptions thrown sneakily (e.g. from Kotlin): otherwise the entry would never complete
+      withCacheExec(cache -> cache.remove(key, newEntry));
+      newEntry.completeExceptionally(e);
+      throw e;
+    }
   }
 
   /**
@@ -126,15 +213,21 @@ public class TtlCache<K, V> {
    * @return the previous value associated with key, or {@code null} if there was no mapping for key.
    */
   public V put(K key, V value) {
-    var previous = withCacheExec(it -> it.put(key, new TtlCacheEntry<>(value, getTtl(), getTimeUnit())));
-    if (previous == null) {
-      return null;
+    var entry = new TtlCacheEntry<V>(getTtl(), getTimeUnit());
+    entry.complete(value);
+    var previous = withCacheExec(cache -> {
+      var prev = cache.put(key, entry);
+      evictIfNecessary(cache);
+      return prev;
+    });
+    if (previous == null || !previous.isCompletedNormally()) {
+      return null; // computations still running or failed are not waited for
     }
-    return previous.m_element;
+    return previous.value();
   }
 
   /**
-   * Removes all elements from the cache.
+   * Removes all elements from the cache. The statistics are kept.
    */
   public void clear() {
     synchronized (m_cache) {
@@ -142,6 +235,16 @@ public class TtlCache<K, V> {
     }
   }
 
+  /**
+   * @return The number of items currently in the cache (including the ones currently computed).
+   * @since 13.0
+   */
+  public int size() {
+    synchronized (m_cache) {
+      return m_cache.size();
+    }
+  }
+
   /**
    * @return The time-to-live of this cache.
    */
@@ -156,11 +259,71 @@ public class TtlCache<K, V> {
     return m_timeUnit;
   }
 
+  /**
+   * @return The maximum number of items in the cache. A value <= 0 means the size is not limited.
+   * @since 13.0
+   */
+  public int getMaxSize() {
+    return m_maxSize;
+  }
+
+  /**
+   * @return The number of calls to {@link #computeIfAbsent(Object, Function)} that found an existing (or currently
+   *         computed) value.
+   * @since 13.0
+   */
+  public long hitCount() {
+    return m_hits.get();
+  }
+
+  /**
+   * @return The number of calls to {@link #computeIfAbsent(Object, Function)} that executed the mapping function.
+   * @since 13.0
+   */
+  public long missCount() {
+    return m_misses.get();
+  }
+
+  /**
+   * @return The number of items removed because the ttl elapsed or the maximum size was exceeded.
+   * @since 13.0
+   */
+  public long evictionCount() {
+    return m_evictions.get();
+  }
+
+  /**
+   * @return The ratio of hits to all calls of {@link #computeIfAbsent(Object, Function)} (0.0 - 1.0). If there was no
+   *         call yet, 0.0 is returned.
+   * @since 13.0
+   */
+  public double hitRate() {
+    var hits = hitCount();
+    var total = hits + missCount();
+    if (total == 0) {
+      return 0.0;
+    }
+    return (double) hits / total;
+  }
+
+  /**
+   * Resets the hit, miss and eviction counters.
+   *
+   * @since 13.0
+   */
+  public void resetStatistics() {
+    m_hits.set(0);
+    m_misses.set(0);
+    m_evictions.set(0);
+  }
+
   protected <R> R withCacheExec(Function<Map<K, TtlCacheEntry<V>>, R> function) {
     synchronized (m_cache) {
       var cacheHasTtl = getTtl() > 0;
       if (cacheHasTtl) {
+        var sizeBefore = m_cache.size();
         removeInvalidEntriesOf(m_cache); // ensure cache is up-to-date
+        m_evictions.addAndGet(sizeBefore - m_cache.size());
       }
       var result = function.apply(m_cache);
       if (cacheHasTtl && !m_cache.isEmpty()) {
@@ -170,6 +333,18 @@ public class TtlCache<K, V> {
     }
   }
 
+  protected void evictIfNecessary(Map<K, TtlCacheEntry<V>> cache) {
+    if (m_maxSize <= 0) {
+      return;
+    }
+    var iterator = cache.values().iterator(); // least recently used first
+    while (cache.size() > m_maxSize && iterator.hasNext()) {
+      iterator.next();
+      iterator.remove();
+      m_evictions.incrementAndGet();
+    }
+  }
+
   protected void scheduleCacheCleanup() {
     if (m_executorService == null) {
       return;
@@ -189,17 +364,63 @@ public class TtlCache<K, V> {
     return null;
   }
 
+  @Override
+  public String toString() {
+    return getClass().getSimpleName() + " [size=" + size() + ", hits=" + hitCount() + ", misses=" + missCount() + ", evictions=" + evictionCount() + ']';
+  }
+
   protected static final class TtlCacheEntry<T> {
-    private final T m_element;
-    private final long m_validUntil;
+    private final CompletableFuture<T> m_element;
+    private final long m_ttlMillis;
+    private volatile Thread m_computingThread; // only set while the value is computed
+    private volatile long m_validUntil; // only set as soon as the value is available
+
+    private TtlCacheEntry(long ttl, TimeUnit timeUnit) {
+      m_element = new CompletableFuture<>();
+      m_ttlMillis = timeUnit.toMillis(ttl);
+      m_computingThread = Thread.currentThread();
+    }
+
+    private void complete(T element) {
+      m_validUntil = System.currentTimeMillis() + m_ttlMillis;
+      m_computingThread = null;
+      m_element.complete(element);
+    }
+
+    private void completeExceptionally(Throwable t) {
+      m_computingThread = null;
+      m_element.completeExceptionally(t);
+    }
+
+    private boolean isCompletedNormally() {
+      return m_element.isDone() && !m_element.isCompletedExceptionally();
+    }
 
-    private TtlCacheEntry(T element, long ttl, TimeUnit timeUnit) {
-      m_element = element;
-      m_validUntil = System.currentTimeMillis() + timeUnit.toMillis(ttl);
+    private boolean isComputedByCurrentThread() {
+      return m_computingThread == Thread.currentThread();
+    }
+
+    private T value() {
+      try {
+        return m_element.join();
+      }
+      catch (CompletionException e) {
+        var cause = e.getCause();
+        if (cause instanceof RuntimeException re) {
+          throw re;
+        }
+        if (cause instanceof Error err) {
+          throw err;
+        }
+        throw new SdkException(cause);
+      }
+      catch (CancellationException e) {
+        throw new SdkException(e);
+      }
     }
 
     boolean elapsed() {
-      return System.currentTimeMillis() > m_validUntil;
+      return m_element.isDone() && System.currentTimeMillis() > m_validUntil; // values currently computed never elapse
     }
   }
 }
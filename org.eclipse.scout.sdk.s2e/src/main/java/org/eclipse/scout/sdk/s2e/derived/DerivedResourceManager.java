@@ -84,7 +84,7 @@ public class DerivedResourceManager implements IDerivedResourceManager {
     m_javaChangeEventsToCheck = new ArrayBlockingQueue<>(500, true);
     m_triggerHandlers = new ArrayBlockingQueue<>(200, true);
 
-    m_runQueuedTriggerHandlersJob = new P_RunQueuedTriggerHandlersJob(m_triggerHandlers);
+    m_runQueuedTriggerHandlersJob = new P_RunQueuedTriggerHandlersJob(m_triggerHandlers, m_updateHandlerFactories);
     //noinspection ThisEscapedInObjectConstruction
     m_javaDeltaCheckJob = new P_ResourceChangeEventCheckJob(this, m_javaChangeEventsToCheck);
   }
@@ -402,14 +402,16 @@ public class DerivedResourceManager implements IDerivedResourceManager {
   private static final class P_RunQueuedTriggerHandlersJob extends AbstractJob {
 
     private final BlockingQueue<IDerivedResourceHandler> m_queueToConsume;
+    private final Collection<IDerivedResourceHandlerFactory> m_updateHandlerFactories;
     private boolean m_isAborted;
 
-    private P_RunQueuedTriggerHandlersJob(BlockingQueue<IDerivedResourceHandler> queueToConsume) {
+    private P_RunQueuedTriggerHandlersJob(BlockingQueue<IDerivedResourceHandler> queueToConsume, Collection<IDerivedResourceHandlerFactory> updateHandlerFactories) {
       super("Auto-updating derived resources");
       setRule(RunTriggerHandlersJobRule.INSTANCE);
       setPriority(Job.DECORATE);
       m_isAborted = false;
       m_queueToConsume = queueToConsume;
+      m_updateHandlerFactories = updateHandlerFactories;
     }
 
     @Override
@@ -460,7 +462,19 @@ public class DerivedResourceManager implements IDerivedResourceManager {
         return;
       }
 
-      runInEclipseEnvironment((env, progress) -> execute(env, progress, numOperations));
+      runInEclipseEnvironment((env, progress) -> execute(env, progress, numOperations))
+          .whenComplete((result, error) -> {
+            if (error != null) {
+              resetDtoGenerationCaches(); // the writes of the transaction might have been discarded
+            }
+          });
+    }
+
+    private void resetDtoGenerationCaches() {
+      m_updateHandlerFactories.stream()
+          .filter(DtoDerivedResourceHandlerFactory.class::isInstance)
+          .map(DtoDerivedResourceHandlerFactory.class::cast)
+          .forEach(factory -> factory.cache().clear());
     }
 
     private void execute(IEnvironment env, EclipseProgress progress, int numOperations) {
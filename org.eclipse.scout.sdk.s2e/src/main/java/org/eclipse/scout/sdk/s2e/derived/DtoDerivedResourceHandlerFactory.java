@@ -26,6 +26,7 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.scout.sdk.core.s.derived.DtoGenerationCache;
 import org.eclipse.scout.sdk.core.s.derived.DtoUpdateHandler;
 import org.eclipse.scout.sdk.core.s.derived.IDerivedResourceHandler;
 import org.eclipse.scout.sdk.core.s.java.apidef.IScoutAnnotationApi;
@@ -36,6 +37,8 @@ import org.eclipse.scout.sdk.s2e.util.JdtUtils;
 
 public class DtoDerivedResourceHandlerFactory implements IDerivedResourceHandlerFactory {
 
+  private final DtoGenerationCache m_cache = new DtoGenerationCache();
+
   @Override
   public List<IDerivedResourceHandler> createHandlersFor(Set<IResource> resources, IJavaSearchScope searchScope) throws JavaModelException {
     Collection<IType> baseTypes = new HashSet<>();
@@ -47,10 +50,18 @@ public class DtoDerivedResourceHandlerFactory implements IDerivedResourceHandler
 
     return baseTypes.stream()
         .map(DerivedResourceInputWithJdt::new)
-        .map(DtoUpdateHandler::new)
+        .map(input -> new DtoUpdateHandler(input, m_cache))
         .collect(toList());
   }
 
+  /**
+   * @return The {@link DtoGenerationCache} shared by all {@link DtoUpdateHandler}s created by this factory.
+   * @since 13.0
+   */
+  public DtoGenerationCache cache() {
+    return m_cache;
+  }
+
   protected static void findResourceCandidates(Iterable<IResource> resources, Collection<IType> collector) throws JavaModelException {
     for (var r : resources) {
       var javaElement = JavaCore.create(r);
@@ -45,6 +45,7 @@ import org.eclipse.scout.sdk.core.s.environment.IProgress;
 import org.eclipse.scout.sdk.core.s.java.apidef.IScoutApi;
 import org.eclipse.scout.sdk.core.s.nls.ITranslationStore;
 import org.eclipse.scout.sdk.core.s.nls.ITranslationStoreSupplier;
+import org.eclipse.scout.sdk.core.s.nls.TranslationLoadExecutor;
 import org.eclipse.scout.sdk.core.s.nls.properties.EditableTranslationFile;
 import org.eclipse.scout.sdk.core.s.nls.properties.ITranslationPropertiesFile;
 import org.eclipse.scout.sdk.core.s.nls.properties.PropertiesTextProviderService;
@@ -81,8 +82,7 @@ public class EclipseTranslationStoreSupplier implements ITranslationStoreSupplie
         .newChild(10)
         .setWorkRemaining(dynamicNlsTextProviderServices.size());
 
-    return dynamicNlsTextProviderServices.stream()
-        .map(svc -> createTranslationStore(svc, loopProgress))
+    return TranslationLoadExecutor.map(dynamicNlsTextProviderServices, EclipseTranslationStoreSupplier::createTranslationStore, loopProgress, 1).stream()
         .flatMap(Optional::stream);
   }
 
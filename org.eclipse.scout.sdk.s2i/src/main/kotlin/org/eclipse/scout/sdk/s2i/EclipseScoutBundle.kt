@@ -54,6 +54,9 @@ object EclipseScoutBundle : AbstractBundle(RESOURCE_BUNDLE) {
     fun translationStoreManagerCache(project: Project): TranslationManagerCache =
         project.getService(TranslationManagerCache::class.java)
 
+    fun javaEnvironmentPool(project: Project): JavaEnvironmentPool =
+        project.getService(JavaEnvironmentPool::class.java)
+
     fun elementCreationManager(): ElementCreationManager =
         ApplicationManager.getApplication().getService(ElementCreationManager::class.java)
 
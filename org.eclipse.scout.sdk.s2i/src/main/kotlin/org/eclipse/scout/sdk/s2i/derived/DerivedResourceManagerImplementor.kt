@@ -126,8 +126,23 @@ class DerivedResourceManagerImplementor(val project: Project) : DerivedResourceM
         if (handlers.isNotEmpty() && !progress.indicator.isCanceled) {
             executeAllHandlersAndWait(handlers, env, progress)
         }
+        logAndResetDtoGenerationCaches(progress.indicator.isCanceled)
     }
 
+    private fun logAndResetDtoGenerationCaches(canceled: Boolean) = m_updateHandlerFactories.values
+        .filterIsInstance<DtoUpdateHandlerFactory>()
+        .map { it.cache }
+        .forEach {
+            val numChecked = it.hitCount() + it.missCount()
+            if (numChecked > 0) {
+                SdkLog.info("{} of {} DTOs were up to date and have not been generated again.", it.hitCount(), numChecked)
+            }
+            if (canceled) {
+                it.clear() // the writes of the transaction might have been discarded
+            }
+            it.resetStatistics()
+        }
+
     private fun executeDerivedResourceHandlerFactory(factory: DerivedResourceHandlerFactory, scope: SearchScope) = computeInReadAction(project) {
         factory.createHandlersFor(scope, project).toList().stream() // create a list first (terminal operation) so that the factory is executed here!
     }
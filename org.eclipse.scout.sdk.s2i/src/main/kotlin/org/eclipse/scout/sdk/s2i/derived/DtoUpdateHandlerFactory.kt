@@ -14,6 +14,7 @@ import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiJavaFile
 import com.intellij.psi.PsiModifier
 import com.intellij.psi.search.SearchScope
+import org.eclipse.scout.sdk.core.s.derived.DtoGenerationCache
 import org.eclipse.scout.sdk.core.s.derived.DtoUpdateHandler
 import org.eclipse.scout.sdk.core.s.derived.IDerivedResourceHandler
 import org.eclipse.scout.sdk.core.s.java.apidef.IScoutApi
@@ -23,6 +24,12 @@ import kotlin.streams.asSequence
 
 
 open class DtoUpdateHandlerFactory : DerivedResourceHandlerFactory {
+
+    /**
+     * The [DtoGenerationCache] shared by all [DtoUpdateHandler]s created by this factory.
+     */
+    val cache = DtoGenerationCache()
+
     override fun createHandlersFor(scope: SearchScope, project: Project) =
             ScoutApi.allKnown().asSequence()
                     .flatMap { dtoMarkerAnnotationNames(it) }
@@ -33,7 +40,7 @@ open class DtoUpdateHandlerFactory : DerivedResourceHandlerFactory {
 
     protected fun dtoMarkerAnnotationNames(scoutApi: IScoutApi) = sequenceOf(scoutApi.FormData().fqn(), scoutApi.PageData().fqn(), scoutApi.Data().fqn())
 
-    fun typeToHandlers(type: PsiClass): Sequence<IDerivedResourceHandler> = sequenceOf(DtoUpdateHandler(DerivedResourceInputWithIdea(type)))
+    fun typeToHandlers(type: PsiClass): Sequence<IDerivedResourceHandler> = sequenceOf(DtoUpdateHandler(DerivedResourceInputWithIdea(type), cache))
 
     protected fun acceptClass(type: PsiClass): Boolean = type.isValid
             && type.isPhysical
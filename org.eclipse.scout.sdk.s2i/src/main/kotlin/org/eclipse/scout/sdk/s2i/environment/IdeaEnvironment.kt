@@ -30,7 +30,6 @@ import org.eclipse.scout.sdk.core.java.model.api.IClasspathEntry
 import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment
 import org.eclipse.scout.sdk.core.java.model.api.IType
 import org.eclipse.scout.sdk.core.java.model.spi.JavaEnvironmentSpi
-import org.eclipse.scout.sdk.core.log.SdkLog
 import org.eclipse.scout.sdk.core.s.environment.AbstractEnvironment
 import org.eclipse.scout.sdk.core.s.environment.IFuture
 import org.eclipse.scout.sdk.core.s.environment.IProgress
@@ -122,18 +121,11 @@ open class IdeaEnvironment private constructor(val project: Project) : AbstractE
 
     override fun close() {
         super.close()
-        m_envs.values.forEach(this::closeSafe)
+        val pool = EclipseScoutBundle.javaEnvironmentPool(project)
+        m_envs.values.forEach(pool::release)
         m_envs.clear()
     }
 
-    private fun closeSafe(closable: AutoCloseable) {
-        try {
-            closable.close()
-        } catch (e: Exception) {
-            SdkLog.info("Unable to close java environment.", e)
-        }
-    }
-
     override fun findType(fqn: String) = project
             .findTypesByName(Ensure.notBlank(fqn), allScope(project))
             .mapNotNull { it.toScoutType(this) }
@@ -176,7 +168,7 @@ open class IdeaEnvironment private constructor(val project: Project) : AbstractE
 
     protected fun getOrCreateEnv(module: Module): JavaEnvironmentWithIdea = m_envs.computeIfAbsent(module.name) { createNewJavaEnvironmentFor(module) }
 
-    protected fun createNewJavaEnvironmentFor(module: Module): JavaEnvironmentWithIdea = initNewJavaEnvironment(JavaEnvironmentWithIdea(module))
+    protected fun createNewJavaEnvironmentFor(module: Module): JavaEnvironmentWithIdea = initNewJavaEnvironment(EclipseScoutBundle.javaEnvironmentPool(project).acquire(module))
 
     override fun runGenerator(generator: ISourceGenerator<ISourceBuilder<*>>, context: IJavaEnvironment, filePath: Path): StringBuilder {
         val env = context.unwrap() as JavaEnvironmentWithIdea
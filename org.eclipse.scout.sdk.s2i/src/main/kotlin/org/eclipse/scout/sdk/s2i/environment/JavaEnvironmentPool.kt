@@ -0,0 +1,265 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.s2i.environment
+
+import com.intellij.ProjectTopics
+import com.intellij.openapi.Disposable
+import com.intellij.openapi.module.Module
+import com.intellij.openapi.project.Project
+import com.intellij.openapi.roots.ModuleRootEvent
+import com.intellij.openapi.roots.ModuleRootListener
+import com.intellij.openapi.vfs.VirtualFileManager
+import com.intellij.openapi.vfs.newvfs.BulkFileListener
+import com.intellij.openapi.vfs.newvfs.events.VFileContentChangeEvent
+import com.intellij.openapi.vfs.newvfs.events.VFileCreateEvent
+import com.intellij.openapi.vfs.newvfs.events.VFileDeleteEvent
+import com.intellij.openapi.vfs.newvfs.events.VFileEvent
+import com.intellij.openapi.vfs.newvfs.events.VFileMoveEvent
+import com.intellij.openapi.vfs.newvfs.events.VFilePropertyChangeEvent
+import com.intellij.util.messages.MessageBusConnection
+import org.eclipse.scout.sdk.core.java.JavaTypes
+import org.eclipse.scout.sdk.core.java.model.CompilationUnitInfo
+import org.eclipse.scout.sdk.core.log.SdkLog
+import org.eclipse.scout.sdk.s2i.environment.model.ClasspathKey
+import org.eclipse.scout.sdk.s2i.environment.model.JavaEnvironmentWithIdea
+import java.io.IOException
+import java.nio.charset.Charset
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.Paths
+
+/**
+ * Project level pool of warm [JavaEnvironmentWithIdea] instances.
+ *
+ * Creating a [JavaEnvironmentWithIdea] is expensive. Therefore, environments are not closed after an operation but given back to this pool.
+ * A pooled environment is reused for the same module as long as its classpath did not change.
+ * Compilation unit overrides registered while an environment is in use are removed when it is given back, so that they are not visible to the next user.
+ * At most [maxIdle] environments are kept idle. If there are more, the least recently released ones are closed.
+ * Changes to Java files reported by the VFS are applied incrementally to the pooled environments using compilation unit overrides.
+ * Changes which cannot be applied incrementally (deleted or moved files, changed binaries, changed roots) discard the environments.
+ */
+class JavaEnvironmentPool(val project: Project, val maxIdle: Int) : Disposable {
+
+    constructor(project: Project) : this(project, DEFAULT_MAX_IDLE)
+
+    companion object {
+        /**
+         * The default maximum number of idle environments kept by a pool.
+         */
+        const val DEFAULT_MAX_IDLE = 8
+    }
+
+    private val m_lock = Any()
+    private val m_entries = HashMap<JavaEnvironmentWithIdea, PoolEntry>() // all environments created by this pool (idle and in use)
+    private val m_idle = LinkedHashMap<String /* module name */, PoolEntry>() // environments available for reuse. The least recently released first.
+    private var m_disposed = false
+    private var m_busConnection: MessageBusConnection? = null
+
+    init {
+        m_busConnection = project.messageBus.connect()
+        m_busConnection?.subscribe(VirtualFileManager.VFS_CHANGES, FileChangeListener())
+        m_busConnection?.subscribe(ProjectTopics.PROJECT_ROOTS, RootChangeListener())
+    }
+
+    /**
+     * Gets a [JavaEnvironmentWithIdea] for the [Module] given. If there is a warm environment for the module in the pool, it is reused.
+     * Otherwise, a new one is created.
+     *
+     * The environment returned is exclusively used by the caller until it is given back using [release].
+     */
+    fun acquire(module: Module): JavaEnvironmentWithIdea {
+        val classpath = JavaEnvironmentWithIdea.classpathKeyOf(module)
+        val pooled = synchronized(m_lock) { m_idle.remove(module.name) }
+        if (pooled != null) {
+            if (pooled.module == module && pooled.classpath == classpath && applyChanges(pooled)) {
+                SdkLog.debug("Reusing pooled Java environment for module '{}'.", module.name)
+                return pooled.env
+            }
+            discard(pooled)
+        }
+
+        val env = JavaEnvironmentWithIdea(module)
+        synchronized(m_lock) {
+            m_entries[env] = PoolEntry(env, module, classpath)
+        }
+        return env
+    }
+
+    /**
+     * Gives the [JavaEnvironmentWithIdea] back to the pool so that it can be reused for subsequent operations.
+     * All compilation unit overrides registered while the environment was in use are removed.
+     * If the environment can not be reused, it is closed.
+     */
+    fun release(env: JavaEnvironmentWithIdea) {
+        val entry = synchronized(m_lock) { m_entries[env] }
+        if (entry == null) {
+            closeSafe(env) // not created by this pool
+            return
+        }
+        if (!isReusable(entry) || !removeOverrides(entry)) {
+            discard(entry)
+            return
+        }
+
+        val toClose = synchronized(m_lock) {
+            if (!isReusable(entry) || m_idle.containsKey(entry.module.name)) {
+                listOf(entry)
+            } else {
+                m_idle[entry.module.name] = entry
+                removeExceedingIdle()
+            }
+        }
+        toClose.forEach { discard(it) }
+    }
+
+    /**
+     * @return The number of idle environments.
+     */
+    fun idleCount() = synchronized(m_lock) { m_idle.size }
+
+    private fun isReusable(entry: PoolEntry) = synchronized(m_lock) { !m_disposed && !entry.invalid && !entry.module.isDisposed }
+
+    private fun removeExceedingIdle(): List<PoolEntry> {
+        val removed = ArrayList<PoolEntry>()
+        val iterator = m_idle.values.iterator()
+        while (m_idle.size > maxIdle && iterator.hasNext()) {
+            removed.add(iterator.next())
+            iterator.remove()
+        }
+        return removed
+    }
+
+    /**
+     * Removes the compilation unit overrides of the last user (e.g. the compilation units created in a cancelled or rolled back transaction).
+     * Changed files are read from the disk again.
+     * @return true if the environment may be reused.
+     */
+    private fun removeOverrides(entry: PoolEntry): Boolean {
+        try {
+            if (entry.env.removeCompilationUnitOverrides()) {
+                entry.env.wrap().reload()
+            }
+            return true
+        } catch (e: RuntimeException) {
+            SdkLog.debug("Unable to reset Java environment of module '{}'. It is discarded.", entry.module.name, e)
+            return false
+        }
+    }
+
+    /**
+     * Closes all idle environments and marks the ones currently in use as invalid, so that they are closed when released.
+     */
+    fun clear() {
+        val toClose = synchronized(m_lock) {
+            m_entries.values.forEach { it.invalid = true }
+            val idle = m_idle.values.toList()
+            m_idle.clear()
+            idle
+        }
+        toClose.forEach { discard(it) }
+    }
+
+    override fun dispose() {
+        m_busConnection?.disconnect()
+        m_busConnection = null
+        synchronized(m_lock) {
+            m_disposed = true
+        }
+        clear()
+    }
+
+    private fun discard(entry: PoolEntry) {
+        synchronized(m_lock) {
+            m_entries.remove(entry.env)
+        }
+        closeSafe(entry.env)
+    }
+
+    private fun closeSafe(env: JavaEnvironmentWithIdea) {
+        try {
+            env.close()
+        } catch (e: Exception) {
+            SdkLog.info("Unable to close java environment.", e)
+        }
+    }
+
+    /**
+     * Registers the Java files changed since the environment was used the last time as compilation unit overrides.
+     * @return true if the environment is up-to-date and may be reused. false if the environment must be discarded.
+     */
+    private fun applyChanges(entry: PoolEntry): Boolean {
+        val changedFiles = synchronized(m_lock) {
+            if (entry.invalid) return false
+            val files = entry.changedFiles.toList()
+            entry.changedFiles.clear()
+            files
+        }
+        if (changedFiles.isEmpty()) return true
+
+        val javaEnv = entry.env.wrap()
+        var reloadRequired = false
+        for (file in changedFiles) {
+            val sourceFolder = javaEnv.sourceFolders()
+                .filter { file.startsWith(it.path()) }
+                .findAny()
+                .orElse(null) ?: continue // file is not part of this environment
+            try {
+                val source = Files.readString(file, Charset.forName(sourceFolder.encoding()))
+                val cuInfo = CompilationUnitInfo(sourceFolder.path(), sourceFolder.path().relativize(file))
+                reloadRequired = javaEnv.registerCompilationUnitOverride(source, cuInfo) || reloadRequired
+            } catch (e: IOException) {
+                SdkLog.debug("Unable to read changed file '{}'. Pooled Java environment is discarded.", file, e)
+                return false
+            }
+        }
+        if (reloadRequired) {
+            javaEnv.reload()
+        }
+        return true
+    }
+
+    private fun onFilesChanged(events: List<VFileEvent>) {
+        val changedJavaFiles = ArrayList<Path>()
+        for (event in events) {
+            val filePath = event.path
+            val isJavaFile = filePath.endsWith(JavaTypes.JAVA_FILE_SUFFIX)
+            if (isJavaFile && (event is VFileContentChangeEvent || event is VFileCreateEvent)) {
+                changedJavaFiles.add(Paths.get(filePath))
+                continue
+            }
+
+            val isStructuralChange = event is VFileDeleteEvent || event is VFileMoveEvent || (event is VFilePropertyChangeEvent && event.isRename)
+            val isBinaryChange = filePath.endsWith(".jar") || filePath.endsWith(".zip")
+            if (isBinaryChange || (isStructuralChange && (isJavaFile || event.file?.isDirectory == true))) {
+                // cannot be applied incrementally
+                clear()
+                return
+            }
+        }
+
+        if (changedJavaFiles.isEmpty()) return
+        synchronized(m_lock) {
+            m_entries.values.forEach { it.changedFiles.addAll(changedJavaFiles) }
+        }
+    }
+
+    private inner class FileChangeListener : BulkFileListener {
+        override fun after(events: List<VFileEvent>) = onFilesChanged(events)
+    }
+
+    private inner class RootChangeListener : ModuleRootListener {
+        override fun rootsChanged(event: ModuleRootEvent) = clear()
+    }
+
+    private class PoolEntry(val env: JavaEnvironmentWithIdea, val module: Module, val classpath: ClasspathKey) {
+        val changedFiles = LinkedHashSet<Path>() // guarded by the pool lock
+        var invalid = false // guarded by the pool lock
+    }
+}
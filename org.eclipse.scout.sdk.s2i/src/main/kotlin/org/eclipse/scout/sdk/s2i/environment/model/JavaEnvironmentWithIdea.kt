@@ -24,6 +24,11 @@ import java.nio.file.Paths
 open class JavaEnvironmentWithIdea(val module: Module) : JavaEnvironmentWithEcj(javaHomeOf(module), classpathOf(module), null) {
 
     companion object Factory {
+        /**
+         * @return The JRE and classpath of the [Module] given. Environments with equal keys use the same classpath.
+         */
+        fun classpathKeyOf(module: Module) = ClasspathKey(javaHomeOf(module), classpathOf(module).map { ClasspathKey.Entry(it.path(), it.mode(), it.encoding()) })
+
         protected fun javaHomeOf(module: Module): Path {
             val moduleRootManager = module.rootManager
             val sdkPath = moduleRootManager.sdk?.homePath
@@ -50,3 +55,10 @@ open class JavaEnvironmentWithIdea(val module: Module) : JavaEnvironmentWithEcj(
         }
     }
 }
+
+/**
+ * The JRE and the ordered classpath entries (including mode and encoding) of a [JavaEnvironmentWithIdea].
+ */
+data class ClasspathKey(val javaHome: Path, val classpath: List<Entry>) {
+    data class Entry(val path: Path, val mode: Int, val encoding: String?)
+}
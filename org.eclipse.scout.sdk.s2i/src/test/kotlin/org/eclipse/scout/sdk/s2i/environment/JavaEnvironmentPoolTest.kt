@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2010, 2023 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.s2i.environment
+
+import com.intellij.openapi.util.Disposer
+import org.eclipse.scout.sdk.s2i.AbstractTestCaseWithRunningClasspathModule
+import org.eclipse.scout.sdk.s2i.environment.model.JavaEnvironmentWithIdea
+
+class JavaEnvironmentPoolTest : AbstractTestCaseWithRunningClasspathModule() {
+
+    fun testReuse() = withPool { pool ->
+        val env = pool.acquire(module)
+        pool.release(env)
+        assertEquals(1, pool.idleCount())
+
+        val reused = pool.acquire(module)
+        assertSame(env, reused)
+        assertEquals(0, pool.idleCount())
+        pool.release(reused)
+    }
+
+    fun testAcquireWhileInUse() = withPool { pool ->
+        val first = pool.acquire(module)
+        val second = pool.acquire(module)
+        assertNotSame(first, second) // an environment in use is never shared
+
+        pool.release(first)
+        pool.release(second) // only one idle environment per module: the second is closed
+        assertEquals(1, pool.idleCount())
+        assertSame(first, pool.acquire(module))
+    }
+
+    fun testReleaseRemovesOverrides() = withPool { pool ->
+        val env = pool.acquire(module)
+        env.wrap().registerCompilationUnitOverride("package a.b;\npublic class PoolTest {}\n", "a.b", "PoolTest.java")
+        assertTrue(env.wrap().findType("a.b.PoolTest").isPresent)
+        pool.release(env)
+
+        val reused = pool.acquire(module)
+        assertSame(env, reused)
+        assertFalse(reused.wrap().findType("a.b.PoolTest").isPresent) // the override of the last user is not visible anymore
+        pool.release(reused)
+    }
+
+    fun testInvalidation() = withPool { pool ->
+        val idle = pool.acquire(module)
+        pool.release(idle)
+        val inUse = pool.acquire(module)
+        pool.clear() // marks the environment in use as invalid
+        assertEquals(0, pool.idleCount())
+
+        pool.release(inUse) // invalid: closed
+        assertEquals(0, pool.idleCount())
+        assertNotSame(inUse, releaseAndAcquireNew(pool))
+    }
+
+    fun testMaxIdle() = withPool(0) { pool ->
+        val env = pool.acquire(module)
+        pool.release(env)
+        assertEquals(0, pool.idleCount())
+        assertNotSame(env, releaseAndAcquireNew(pool))
+    }
+
+    private fun releaseAndAcquireNew(pool: JavaEnvironmentPool): JavaEnvironmentWithIdea {
+        val env = pool.acquire(module)
+        pool.release(env)
+        return env
+    }
+
+    private fun withPool(maxIdle: Int = JavaEnvironmentPool.DEFAULT_MAX_IDLE, test: (JavaEnvironmentPool) -> Unit) {
+        val pool = JavaEnvironmentPool(project, maxIdle)
+        try {
+            test(pool)
+        } finally {
+            Disposer.dispose(pool)
+        }
+    }
+}